@@ -51,6 +51,7 @@ dependencies {
     testImplementation("org.testcontainers:mysql:1.19.3")
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("com.icegreen:greenmail-junit5:2.1.2") // 인증번호 메일 발송 테스트용 SMTP 서버
 
     // OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.6")
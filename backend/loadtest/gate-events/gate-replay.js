@@ -0,0 +1,99 @@
+// 게이트 번호판 인식 트래픽 재생 부하 테스트 (k6)
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8090 -e GATE_KEY=... \
+//          -e TRAFFIC=./sample-traffic.ndjson -e SPEEDUP=10 gate-replay.js
+//
+// TRAFFIC 파일은 한 줄에 이벤트 하나(JSON)인 게이트 기록입니다.
+//   {"gateId":"B1-IN-01","vehicleNum":"12가3456","direction":"ENTRY","capturedAt":"2025-05-12T08:01:02"}
+// 기록된 인식 시각 간격을 SPEEDUP 배 빠르게 재생하며, 게이트 장비처럼 FLUSH_MS 동안 모은 이벤트를
+// 한 요청으로 보냅니다. capturedAt 은 재생 시점 기준으로 다시 계산해 중복 판정 창이 실제와 같게 동작합니다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8090';
+const GATE_KEY = __ENV.GATE_KEY || '';
+const SPEEDUP = Number(__ENV.SPEEDUP || 1);
+const FLUSH_MS = Number(__ENV.FLUSH_MS || 500);
+const MAX_BATCH = Number(__ENV.MAX_BATCH || 200);
+
+const traffic = open(__ENV.TRAFFIC || './sample-traffic.ndjson')
+    .split('\n')
+    .filter((line) => line.trim().length > 0)
+    .map((line) => JSON.parse(line))
+    .sort((a, b) => Date.parse(a.capturedAt) - Date.parse(b.capturedAt));
+
+const batchLatency = new Trend('gate_batch_latency', true);
+const outcomes = new Counter('gate_event_outcomes');
+
+export const options = {
+    scenarios: {
+        replay: {
+            executor: 'per-vu-iterations',
+            vus: Number(__ENV.GATES || 1),
+            iterations: 1,
+            maxDuration: __ENV.MAX_DURATION || '30m',
+        },
+    },
+    thresholds: {
+        gate_batch_latency: ['p(95)<500'],
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+function pad(n) {
+    return String(n).padStart(2, '0');
+}
+
+// 서버는 LocalDateTime(초 단위 로컬 시각)을 받음
+function toLocalDateTime(ms) {
+    const d = new Date(ms);
+    return `${d.getFullYear()}-${pad(d.getMonth() + 1)}-${pad(d.getDate())}T`
+        + `${pad(d.getHours())}:${pad(d.getMinutes())}:${pad(d.getSeconds())}`;
+}
+
+function send(batch) {
+    const res = http.post(`${BASE_URL}/api/v1/entry-records/gate-events`,
+        JSON.stringify({ events: batch }),
+        { headers: { 'Content-Type': 'application/json', 'X-Gate-Key': GATE_KEY } });
+    batchLatency.add(res.timings.duration);
+    check(res, { 'status is 200': (r) => r.status === 200 });
+    if (res.status === 200) {
+        const summary = res.json('summary') || {};
+        Object.keys(summary).forEach((outcome) => outcomes.add(summary[outcome], { outcome }));
+    }
+}
+
+export default function () {
+    // VU 가 여러 개면 게이트를 나눠 맡음 (VU 번호 기준 라운드 로빈)
+    const gates = [...new Set(traffic.map((e) => e.gateId))].sort();
+    const myGates = new Set(gates.filter((_, i) => i % Number(__ENV.GATES || 1) === (__VU - 1)));
+    const events = traffic.filter((e) => myGates.has(e.gateId));
+    if (events.length === 0) {
+        return;
+    }
+
+    const recordedStart = Date.parse(events[0].capturedAt);
+    const replayStart = Date.now();
+    let batch = [];
+    let batchStartedAt = Date.now();
+
+    for (const event of events) {
+        const offset = (Date.parse(event.capturedAt) - recordedStart) / SPEEDUP;
+        const waitMs = replayStart + offset - Date.now();
+        if (waitMs > 0) {
+            sleep(waitMs / 1000);
+        }
+        batch.push({ ...event, capturedAt: toLocalDateTime(Date.now()) });
+
+        if (batch.length >= MAX_BATCH || Date.now() - batchStartedAt >= FLUSH_MS) {
+            send(batch);
+            batch = [];
+            batchStartedAt = Date.now();
+        }
+    }
+    if (batch.length > 0) {
+        send(batch);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ohammer.apartner.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+//요청 스레드와 분리해서 처리할 후속 작업(@Async)용 실행기 설정
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 소셜 로그인 후 프로필 이미지 동기화 (외부 다운로드 + S3 업로드)
+    @Bean(name = "profileSyncExecutor")
+    public Executor profileSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("profile-sync-");
+        // 큐가 가득 차면 이번 동기화는 버림 (다음 로그인 때 다시 시도됨)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
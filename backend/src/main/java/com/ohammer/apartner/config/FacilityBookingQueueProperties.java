@@ -0,0 +1,32 @@
+package com.ohammer.apartner.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 인기 시간대 예약 대기열 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "facility.booking-queue")
+public class FacilityBookingQueueProperties {
+
+    // 대기열 확인 주기 (밀리초)
+    private long pollIntervalMs = 500;
+
+    // 슬롯별로 한 번(한 트랜잭션)에 처리할 신청 수
+    private int batchSize = 50;
+
+    // 슬롯별 최대 대기 인원 (넘으면 신청 거절)
+    private int maxQueueLength = 5000;
+
+    // 슬롯 처리 잠금 유지 시간 (밀리초). 처리 중 서버가 죽어도 이 시간이 지나면 다른 인스턴스가 이어서 처리
+    private long lockTtlMs = 10_000;
+
+    // 신청 결과 보관 시간 (분)
+    private long ticketTtlMinutes = 60;
+
+    // 슬롯 대기열 여부/소속 아파트 캐시 시간 (초)
+    private long slotCacheSeconds = 30;
+}
@@ -0,0 +1,38 @@
+package com.ohammer.apartner.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 시설 예약 시작 전 알림 / 노쇼 처리 / 노쇼 패널티 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "facility.reminder")
+public class FacilityReminderProperties {
+
+    // 예약 큐 확인 주기 (밀리초)
+    private long pollIntervalMs = 10_000;
+
+    // 한 번에 꺼내 처리할 예약 작업 수
+    private int batchSize = 200;
+
+    // 시작 몇 분 전에 알림을 보낼지
+    private long remindBeforeMinutes = 60;
+
+    // 노쇼 처리 여부 (이용 확인을 쓰지 않으면 모든 승인 예약이 노쇼가 되므로 기본은 끔)
+    private boolean noShowEnabled = false;
+
+    // 종료 후 몇 분 안에 이용 확인이 없으면 노쇼로 처리할지
+    private long noShowGraceMinutes = 30;
+
+    // 노쇼 패널티 집계 기간 (일)
+    private int penaltyWindowDays = 30;
+
+    // 집계 기간 내 노쇼가 이 횟수 이상이면 새 예약 제한 (0 이면 제한 없음)
+    private int penaltyThreshold = 0;
+
+    // 사용자별 노쇼 횟수 캐시 시간 (초)
+    private long penaltyCacheSeconds = 600;
+}
@@ -0,0 +1,37 @@
+package com.ohammer.apartner.config;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 시설 타임슬롯 일괄 생성 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "facility.time-slot")
+public class FacilityTimeSlotProperties {
+
+    // 한 번의 JDBC 배치로 INSERT 할 슬롯 수
+    private int insertBatchSize = 500;
+
+    // 한 번에 생성할 수 있는 최대 슬롯 수 (잘못된 기간/단위로 과도하게 생성되는 것 방지)
+    private int maxSlotsPerRequest = 20_000;
+
+    // 월간 캘린더 캐시 시간 (초). 예약 변경 시 해당 월 캐시를 지우므로 다른 경로의 변경만 이 시간만큼 늦게 보임
+    private long calendarCacheSeconds = 30;
+
+    // 공휴일 (yyyy-MM-dd). 스케줄 등록 시 제외 옵션을 켜면 슬롯을 만들지 않음
+    private List<String> holidays = new ArrayList<>();
+
+    public Set<LocalDate> getHolidayDates() {
+        return holidays.stream()
+                .map(LocalDate::parse)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ohammer.apartner.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 정원 마감 타임슬롯 예약 대기 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "facility.waitlist")
+public class FacilityWaitlistProperties {
+
+    // 슬롯별 최대 대기 인원 (넘으면 대기 등록 거절)
+    private int maxWaitersPerSlot = 100;
+
+    // 자리가 났을 때 한 번에 확인할 대기자 수 (같은 시간대 다른 예약이 있는 대기자는 건너뜀)
+    private int promotionScanSize = 20;
+}
@@ -0,0 +1,23 @@
+package com.ohammer.apartner.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 멱등 키(Idempotency-Key) 응답 캐시 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    // 완료된 요청의 응답을 보관하는 시간 (초)
+    private long ttlSeconds = 600;
+
+    // 처리 중 표시를 유지하는 최대 시간 (초). 서버가 처리 중 죽어도 이 시간이 지나면 다시 시도 가능
+    private long inProgressTtlSeconds = 30;
+
+    // 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간 (밀리초)
+    private long waitMillis = 2000;
+}
@@ -0,0 +1,10 @@
+package com.ohammer.apartner.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//@Scheduled 작업(알림 만료 처리, SSE 하트비트, 주차 점유 카운터 보정 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
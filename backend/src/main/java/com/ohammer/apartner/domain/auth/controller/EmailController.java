@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -46,6 +47,11 @@ public class EmailController {
     @PostMapping("/send-verification-code")
     public ResponseEntity<VerificationCodeResponseDto> sendVerificationCode(@Valid @RequestBody VerificationCodeRequestDto request) {
         VerificationCodeResponseDto response = emailService.sendVerificationCode(request.getEmail());
+        if (response.getRetryAfterSeconds() != null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(response.getRetryAfterSeconds()))
+                    .body(response);
+        }
         return ResponseEntity.ok(response);
     }
 
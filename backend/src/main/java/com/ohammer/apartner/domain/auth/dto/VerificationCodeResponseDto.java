@@ -20,4 +20,7 @@ public class VerificationCodeResponseDto {
     
     @Schema(description = "인증번호 발송 성공 여부", example = "true")
     private boolean success;
+
+    @Schema(description = "재발송 제한 시 다시 요청할 수 있을 때까지 남은 시간(초)", example = "42")
+    private Long retryAfterSeconds;
 } 
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.ohammer.apartner.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 발송 큐.
+ * 요청 스레드는 메시지를 큐에 넣고 바로 반환하며, 전용 워커 스레드가 큐를 비우면서 발송합니다.
+ * 한 번에 꺼낸 메시지들은 JavaMailSender#send(SimpleMailMessage...) 로 보내 SMTP 연결 하나를 재사용합니다.
+ * 묶음 발송이 실패하면 메시지별로 한 번 더 보내고, 그래도 실패한 메시지는 등록된 실패 콜백을 호출합니다.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+
+    // 발송할 메일과 최종 실패 시 호출할 콜백 (없으면 null)
+    private record Pending(SimpleMailMessage message, Runnable onFailure) {
+    }
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public EmailDispatcher(JavaMailSender mailSender,
+                           @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                           @Value("${mail.dispatch.batch-size:20}") int batchSize) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "mail-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        // 종료 전 남은 메일은 최대한 발송
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            sendBatch(remaining);
+        }
+    }
+
+    /**
+     * 메일을 발송 큐에 넣습니다. 큐가 가득 찬 경우 false 를 반환합니다.
+     */
+    public boolean enqueue(SimpleMailMessage message) {
+        return enqueue(message, null);
+    }
+
+    /**
+     * 메일을 발송 큐에 넣습니다. 큐가 가득 찬 경우 false 를 반환하며 콜백은 호출하지 않습니다.
+     * 큐에 들어간 메일이 재시도 후에도 발송되지 못하면 워커 스레드에서 onFailure 를 호출합니다.
+     */
+    public boolean enqueue(SimpleMailMessage message, Runnable onFailure) {
+        boolean accepted = queue.offer(new Pending(message, onFailure));
+        if (!accepted) {
+            log.warn("[EmailDispatcher] 발송 큐가 가득 차 메일을 거절했습니다: to={}", (Object) message.getTo());
+        }
+        return accepted;
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<Pending> batch) {
+        try {
+            mailSender.send(batch.stream().map(Pending::message).toArray(SimpleMailMessage[]::new));
+            log.debug("[EmailDispatcher] 메일 {}건 발송 완료", batch.size());
+        } catch (MailException e) {
+            // 어떤 메일이 실패했는지 알 수 없으므로 한 건씩 다시 발송 (SMTP 는 중복 발송보다 누락이 더 문제)
+            log.warn("[EmailDispatcher] 묶음 발송 실패, 한 건씩 재시도: count={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(this::sendOne);
+        }
+    }
+
+    private void sendOne(Pending pending) {
+        try {
+            mailSender.send(pending.message());
+        } catch (MailException e) {
+            log.error("[EmailDispatcher] 메일 발송 실패: to={}, error={}", (Object) pending.message().getTo(), e.getMessage());
+            if (pending.onFailure() != null) {
+                try {
+                    pending.onFailure().run();
+                } catch (RuntimeException callbackError) {
+                    log.warn("[EmailDispatcher] 발송 실패 처리 중 오류: {}", callbackError.getMessage());
+                }
+            }
+        }
+    }
+}
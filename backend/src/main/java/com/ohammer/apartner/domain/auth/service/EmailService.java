@@ -6,20 +6,77 @@ import com.ohammer.apartner.domain.auth.dto.VerificationCodeResponseDto;
 import com.ohammer.apartner.domain.auth.dto.VerifyCodeResponseDto;
 import com.ohammer.apartner.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
+    private static final String CODE_KEY_PREFIX = "verification:";
+    private static final String VERIFIED_KEY_PREFIX = "verified:";
+    private static final String COOLDOWN_KEY_PREFIX = "verification:cooldown:";
+    private static final String SEND_COUNT_KEY_PREFIX = "verification:count:";
+    private static final String ATTEMPT_KEY_PREFIX = "verification:attempts:";
+
+    private static final long CODE_TTL_SECONDS = 5 * 60;        // 인증번호 유효시간 5분
+    private static final long VERIFIED_TTL_SECONDS = 30 * 60;   // 인증 완료 상태 유효시간 30분
+    private static final long RESEND_COOLDOWN_SECONDS = 60;     // 같은 주소 재발송 간격
+    private static final long MAX_SENDS_PER_HOUR = 5;           // 같은 주소 시간당 최대 발송 횟수
+    private static final long MAX_VERIFY_ATTEMPTS = 5;          // 인증번호 하나당 최대 입력 실패 횟수
+
+    // KEYS[1]=cooldown, KEYS[2]=hourly count, KEYS[3]=code, KEYS[4]=attempts
+    // ARGV[1]=cooldownSec, ARGV[2]=maxPerHour, ARGV[3]=code, ARGV[4]=codeTtlSec
+    // 발송 가능하면 인증번호를 저장(입력 실패 횟수 초기화)하고 0, 제한에 걸리면 재시도까지 남은 초 반환
+    private static final RedisScript<Long> ISSUE_CODE_SCRIPT = RedisScript.of(
+            "local cooldown = redis.call('TTL', KEYS[1]) " +
+            "if cooldown > 0 then return cooldown end " +
+            "local count = redis.call('INCR', KEYS[2]) " +
+            "if count == 1 then redis.call('EXPIRE', KEYS[2], 3600) end " +
+            "if count > tonumber(ARGV[2]) then return math.max(redis.call('TTL', KEYS[2]), 1) end " +
+            "redis.call('SET', KEYS[1], '1', 'EX', ARGV[1]) " +
+            "redis.call('SET', KEYS[3], ARGV[3], 'EX', ARGV[4]) " +
+            "redis.call('DEL', KEYS[4]) " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=code, KEYS[2]=verified, KEYS[3]=attempts, ARGV[1]=입력 코드, ARGV[2]=verifiedTtlSec, ARGV[3]=maxAttempts
+    // 틀린 입력은 인증번호별로 세고, 한도에 이르면 인증번호를 폐기 (6자리 코드 무차별 대입 방지)
+    private static final RedisScript<String> VERIFY_CODE_SCRIPT = RedisScript.of(
+            "local stored = redis.call('GET', KEYS[1]) " +
+            "if not stored then return 'EXPIRED' end " +
+            "if stored ~= ARGV[1] then " +
+            "  local attempts = redis.call('INCR', KEYS[3]) " +
+            "  if attempts == 1 then redis.call('EXPIRE', KEYS[3], math.max(redis.call('TTL', KEYS[1]), 1)) end " +
+            "  if attempts >= tonumber(ARGV[3]) then " +
+            "    redis.call('DEL', KEYS[1], KEYS[3]) " +
+            "    return 'LOCKED' " +
+            "  end " +
+            "  return 'MISMATCH' " +
+            "end " +
+            "redis.call('DEL', KEYS[1], KEYS[3]) " +
+            "redis.call('SET', KEYS[2], 'true', 'EX', ARGV[2]) " +
+            "return 'VERIFIED'",
+            String.class);
+
+    // KEYS[1]=code, KEYS[2]=cooldown, KEYS[3]=hourly count, ARGV[1]=발송하지 못한 코드
+    // 그사이 새 인증번호가 발급되지 않았으면 인증번호와 재발송 제한을 되돌리고 시간당 발송 횟수도 돌려줌
+    private static final RedisScript<Long> RELEASE_CODE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "if tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then redis.call('DECR', KEYS[3]) end " +
+            "return 1",
+            Long.class);
+
     private final UserRepository userRepository;
-    private final JavaMailSender mailSender;
+    private final EmailDispatcher emailDispatcher;
     private final RedisTemplate<String, String> redisTemplate;
 
     // 이메일 중복 체크
@@ -46,49 +103,69 @@ public class EmailService {
     public VerificationCodeResponseDto sendVerificationCode(String email) {
         // 인증번호 생성 (6자리 숫자)
         String code = generateRandomCode(6);
-        
-        // 인증번호 Redis에 저장 (5분 유효)
-        redisTemplate.opsForValue().set("verification:" + email, code, 5, TimeUnit.MINUTES);
-        
-        // 이메일 발송
+
+        // 재발송 제한 확인 + 인증번호 Redis 저장(5분 유효)을 한 번에 처리
+        Long retryAfter = redisTemplate.execute(ISSUE_CODE_SCRIPT,
+                List.of(COOLDOWN_KEY_PREFIX + email, SEND_COUNT_KEY_PREFIX + email, CODE_KEY_PREFIX + email,
+                        ATTEMPT_KEY_PREFIX + email),
+                String.valueOf(RESEND_COOLDOWN_SECONDS),
+                String.valueOf(MAX_SENDS_PER_HOUR),
+                code,
+                String.valueOf(CODE_TTL_SECONDS));
+
+        if (retryAfter != null && retryAfter > 0) {
+            return VerificationCodeResponseDto.builder()
+                    .success(false)
+                    .retryAfterSeconds(retryAfter)
+                    .message("인증번호 재발송은 " + retryAfter + "초 후에 가능합니다.")
+                    .build();
+        }
+
+        // 이메일 발송 (요청 스레드에서 SMTP를 기다리지 않도록 발송 큐에 적재)
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom("아파트너 <tt6311242@gmail.com>"); 
         message.setTo(email);
         message.setSubject("[아파트너] 회원가입 인증번호");
         message.setText("회원가입 인증번호: " + code + "\n\n인증번호는 5분간 유효합니다.");
-        
-        try {
-            mailSender.send(message);
-            return VerificationCodeResponseDto.builder()
-                    .success(true)
-                    .message("인증번호가 발송되었습니다. 이메일을 확인해주세요.")
-                    .build();
-        } catch (Exception e) {
+
+        // 큐에 넣지 못했거나 재시도 후에도 SMTP 발송에 실패하면 인증번호, 재발송 제한, 발송 횟수를 되돌림
+        if (!emailDispatcher.enqueue(message, () -> releaseCode(email, code))) {
+            releaseCode(email, code);
             return VerificationCodeResponseDto.builder()
                     .success(false)
                     .message("인증번호 발송에 실패했습니다. 다시 시도해주세요.")
                     .build();
         }
+
+        return VerificationCodeResponseDto.builder()
+                .success(true)
+                .message("인증번호가 발송되었습니다. 이메일을 확인해주세요.")
+                .build();
     }
     
-    // 인증번호 확인
+    // 인증번호 확인 (조회/삭제/인증완료 저장을 원자적으로 처리)
     public VerifyCodeResponseDto verifyCode(String email, String code) {
-        String storedCode = redisTemplate.opsForValue().get("verification:" + email);
-        
-        if (storedCode == null) {
+        String result = redisTemplate.execute(VERIFY_CODE_SCRIPT,
+                List.of(CODE_KEY_PREFIX + email, VERIFIED_KEY_PREFIX + email, ATTEMPT_KEY_PREFIX + email),
+                code,
+                String.valueOf(VERIFIED_TTL_SECONDS),
+                String.valueOf(MAX_VERIFY_ATTEMPTS));
+
+        if ("EXPIRED".equals(result) || result == null) {
             return VerifyCodeResponseDto.builder()
                     .verified(false)
                     .message("인증번호가 만료되었습니다. 다시 인증번호를 발송해주세요.")
                     .build();
         }
         
-        if (storedCode.equals(code)) {
-            // 인증 성공 시 Redis에서 해당 인증번호 삭제
-            redisTemplate.delete("verification:" + email);
-            
-            // 인증 완료 상태 저장 (30분 유효)
-            redisTemplate.opsForValue().set("verified:" + email, "true", 30, TimeUnit.MINUTES);
-            
+        if ("LOCKED".equals(result)) {
+            return VerifyCodeResponseDto.builder()
+                    .verified(false)
+                    .message("인증번호 입력 횟수를 초과했습니다. 인증번호를 다시 발송해주세요.")
+                    .build();
+        }
+
+        if ("VERIFIED".equals(result)) {
             return VerifyCodeResponseDto.builder()
                     .verified(true)
                     .message("인증이 완료되었습니다.")
@@ -101,9 +178,19 @@ public class EmailService {
         }
     }
     
+    // 발송하지 못한 인증번호 폐기 (바로 다시 요청할 수 있도록 재발송 제한을 해제하고 발송 횟수에서도 뺌)
+    private void releaseCode(String email, String code) {
+        try {
+            redisTemplate.execute(RELEASE_CODE_SCRIPT,
+                    List.of(CODE_KEY_PREFIX + email, COOLDOWN_KEY_PREFIX + email, SEND_COUNT_KEY_PREFIX + email), code);
+        } catch (Exception e) {
+            log.warn("[EmailService] 발송 실패한 인증번호 정리 실패: email={}, error={}", email, e.getMessage());
+        }
+    }
+
     // 이메일 인증 여부 확인
     public boolean isEmailVerified(String email) {
-        String verified = redisTemplate.opsForValue().get("verified:" + email);
+        String verified = redisTemplate.opsForValue().get(VERIFIED_KEY_PREFIX + email);
         return "true".equals(verified);
     }
     
@@ -24,6 +24,7 @@ import com.ohammer.apartner.domain.chat.dto.ChatroomDto;
 import com.ohammer.apartner.domain.chat.dto.ChatMessageDto;
 import com.ohammer.apartner.domain.chat.exception.ChatException;
 import com.ohammer.apartner.domain.user.repository.UserRepository;
+import com.ohammer.apartner.security.CurrentPrincipal;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import com.ohammer.apartner.domain.user.entity.Role;
@@ -261,19 +262,19 @@ public List<ChatMessageDto> getMessageList(Long chatroomId){
 
 @Transactional(readOnly = true)
 public List<ChatroomDto> getAllChatrooms() {
-    User currentUser = securityUtil.getCurrentUser();
+    CurrentPrincipal currentUser = SecurityUtil.getCurrentPrincipal();
     if (currentUser == null) {
         throw new BadRequestException("인증된 사용자만 채팅방 목록을 조회할 수 있습니다.");
     }
 
     // ADMIN이면 전체 채팅방 반환
-    if (isAdminOrManager(currentUser) && currentUser.getRoles().contains(Role.ADMIN)) {
+    if (currentUser.isAdmin()) {
         List<Chatroom> allRooms = chatroomRepository.findAllByOrderByCreatedAtDesc();
         return allRooms.stream()
         .map(chatroom -> {
             // 매니저-채팅방 매핑 조회 (참여한 적 없으면 null)
             UserChatroomMapping mapping = userChatroomMappingRepository
-                .findByUserIdAndChatroomId(currentUser.getId(), chatroom.getId())
+                .findByUserIdAndChatroomId(currentUser.id(), chatroom.getId())
                 .orElse(null);
 
             boolean hasNewMessage;
@@ -296,18 +297,18 @@ public List<ChatroomDto> getAllChatrooms() {
     }
 
     // MANAGER는 본인 아파트 소속 전체 채팅방 반환
-    if (currentUser.getRoles().contains(Role.MANAGER) && !currentUser.getRoles().contains(Role.ADMIN)) {
-        if (currentUser.getApartment() == null) {
+    if (currentUser.hasRole(Role.MANAGER)) {
+        if (currentUser.apartmentId() == null) {
             throw new ForbiddenAccessException("아파트 정보가 없는 매니저입니다.");
         }
-        Long managerApartmentId = currentUser.getApartment().getId();
+        Long managerApartmentId = currentUser.apartmentId();
         List<Chatroom> apartmentRooms = chatroomRepository.findByApartmentIdOrderByCreatedAtDesc(managerApartmentId);
     
         return apartmentRooms.stream()
             .map(chatroom -> {
                 // 매니저-채팅방 매핑 조회 (참여한 적 없으면 null)
                 UserChatroomMapping mapping = userChatroomMappingRepository
-                    .findByUserIdAndChatroomId(currentUser.getId(), chatroom.getId())
+                    .findByUserIdAndChatroomId(currentUser.id(), chatroom.getId())
                     .orElse(null);
     
                 boolean hasNewMessage;
@@ -330,7 +331,7 @@ public List<ChatroomDto> getAllChatrooms() {
     }
 
     // 일반 유저는 기존대로 본인 참여 채팅방만 반환
-    List<UserChatroomMapping> userChatroomMappingList = userChatroomMappingRepository.findAllByUserId(currentUser.getId());
+    List<UserChatroomMapping> userChatroomMappingList = userChatroomMappingRepository.findAllByUserId(currentUser.id());
     return userChatroomMappingList.stream()
         .map(userChatroomMapping -> {
             Chatroom chatroom = userChatroomMapping.getChatroom();
@@ -352,10 +353,10 @@ public ChatroomDto getChatroomById(Long chatroomId){
     Chatroom chatroom = chatroomRepository.findById(chatroomId)
             .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 채팅방입니다. ID: " + chatroomId));
     
-    User currentUser = securityUtil.getCurrentUser();
-    if (currentUser != null) {
+    Long currentUserId = SecurityUtil.getCurrentUserId();
+    if (currentUserId != null) {
         UserChatroomMapping mapping = userChatroomMappingRepository
-                .findByUserIdAndChatroomId(currentUser.getId(), chatroomId)
+                .findByUserIdAndChatroomId(currentUserId, chatroomId)
                 .orElse(null);
         
         if (mapping != null) {
@@ -9,8 +9,10 @@ import com.ohammer.apartner.domain.complaint.entity.Complaint;
 import com.ohammer.apartner.domain.complaint.repository.ComplaintRepository;
 import com.ohammer.apartner.domain.user.entity.Role;
 import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
 import com.ohammer.apartner.global.Status;
 import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.security.CurrentPrincipal;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +24,6 @@ import java.nio.file.AccessDeniedException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,21 +33,22 @@ public class ComplaintService {
 
     private final ComplaintRepository complaintRepository;
     private final AlarmService alarmService;
+    private final UserRepository userRepository;
 
 
     // Read
     // 로그인한 유저의 민원들을 가져오는 기능
     public List<AllComplaintResponseDto> getAllMyComplaints() throws AccessDeniedException {
 
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
-        if (user == null) {
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
-        Long userId = user.getId();
+        Long userId = principal.id();
 
-        log.info("userId : " + user.getId());
+        log.info("userId : {}", userId);
 
         List<Complaint> complaints = complaintRepository.findByUserId(userId);
 
@@ -68,16 +70,13 @@ public class ComplaintService {
     public List<AllComplaintResponseDto> getAllComplaints() throws AccessDeniedException {
 
         // 로그인한 유저의 권한 확인 로직
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
-        if (user == null) {
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
-        Set<Role> userRoles = user.getRoles();
-
-        boolean hasRequiredRole = userRoles.stream()
-                .anyMatch(role -> role == Role.ADMIN || role == Role.MANAGER);
+        boolean hasRequiredRole = principal.isAdminOrManager();
 
         if (!hasRequiredRole) {
             throw new AccessDeniedException("전체 민원 목록을 조회할 권한이 없습니다.");
@@ -116,16 +115,13 @@ public class ComplaintService {
 
     // Read
     public List<AllComplaintResponseDto> getAllComplaintsByStatus(Long status) throws AccessDeniedException {
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
-        if (user == null) {
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
-        Set<Role> userRoles = user.getRoles();
-
-        boolean hasRequiredRole = userRoles.stream()
-                .anyMatch(role -> role == Role.ADMIN || role == Role.MANAGER);
+        boolean hasRequiredRole = principal.isAdminOrManager();
 
         if (!hasRequiredRole) {
             throw new AccessDeniedException("전체 민원 목록을 조회할 권한이 없습니다.");
@@ -154,8 +150,9 @@ public class ComplaintService {
     // Create
     public CreateComplaintResponseDto createComplaint(CreateComplaintRequestDto requestDto) {
 
-        // 유저 찾는 로직
-        User user = SecurityUtil.getCurrentUser();
+        // 유저 찾는 로직 (연관관계 설정용 프록시만 사용, 조회 쿼리 없음)
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        User user = userRepository.getReferenceById(principal.id());
 
         Complaint complaint = Complaint.builder()
                 .title(requestDto.getTitle())
@@ -166,20 +163,20 @@ public class ComplaintService {
                 .status(Status.ACTIVE)
                 .build();
 
-        log.info("user Id : {}", user.getId());
+        log.info("user Id : {}", principal.id());
 
         complaintRepository.save(complaint);
         
         // 관리자에게 새 민원 알림 전송
-        if (user.getApartment() != null) {
+        if (principal.apartmentId() != null) {
             alarmService.notifyApartmentAdmins(
-                user.getApartment().getId(),
+                principal.apartmentId(),
                 "새 민원 등록",
                 "info",
                 "COMPLAINT",
-                user.getUserName() + "님이 새 민원을 등록했습니다: " + complaint.getTitle(),
+                principal.userName() + "님이 새 민원을 등록했습니다: " + complaint.getTitle(),
                  null,
-                user.getId(),
+                principal.id(),
                 complaint.getId(),
                 null
             );
@@ -190,7 +187,7 @@ public class ComplaintService {
                 .title(complaint.getTitle())
                 .content(complaint.getContent())
                 .category(complaint.getCategory())
-                .userId(user.getId())
+                .userId(principal.id())
                 .createdAt(complaint.getCreatedAt())
                 .build();
     }
@@ -201,12 +198,12 @@ public class ComplaintService {
     public CreateComplaintResponseDto updateComplaint(CreateComplaintRequestDto requestDto, Long complaintId) throws AccessDeniedException {
 
         // 유저 찾기
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 민원을 찾을 수 없습니다: " + complaintId));
 
-        if (!user.getId().equals(complaint.getUser().getId())) {
+        if (!principal.id().equals(complaint.getUser().getId())) {
             throw new AccessDeniedException("해당 민원을 수정할 권한이 없습니다.");
         }
 
@@ -217,15 +214,15 @@ public class ComplaintService {
         complaintRepository.save(complaint);
         
         // 관리자에게 민원 수정 알림 전송
-        if (user.getApartment() != null) {
+        if (principal.apartmentId() != null) {
             alarmService.notifyApartmentAdmins(
-                user.getApartment().getId(),
+                principal.apartmentId(),
                 "민원 수정",
                 "info",
                 "COMPLAINT",
-                user.getUserName() + "님이 민원을 수정했습니다: " + complaint.getTitle(),
+                principal.userName() + "님이 민원을 수정했습니다: " + complaint.getTitle(),
                 null,
-                user.getId(),
+                principal.id(),
                 complaint.getId(),
                 null
             );
@@ -236,7 +233,7 @@ public class ComplaintService {
                 .title(complaint.getTitle())
                 .content(complaint.getContent())
                 .category(complaint.getCategory())
-                .userId(user.getId())
+                .userId(principal.id())
                 .createdAt(complaint.getCreatedAt())
                 .build();
     }
@@ -247,16 +244,13 @@ public class ComplaintService {
 
         Complaint complaint = complaintRepository.findById(complaintId).orElseThrow(()->new Exception("컴플레인을 찾을 수 없습니다."));
 
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
-        if (user == null) {
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
-        Set<Role> userRoles = user.getRoles();
-
-        boolean hasRequiredRole = userRoles.stream()
-                .anyMatch(role -> role == Role.ADMIN);
+        boolean hasRequiredRole = principal.isAdmin();
 
         if (!hasRequiredRole) {
             throw new AccessDeniedException("민원 상태를 변경할 권한이 없습니다.");
@@ -296,15 +290,13 @@ public class ComplaintService {
 
         Complaint complaint = complaintRepository.findById(complaintId).orElseThrow(()->new Exception("컴플레인을 찾을 수 없습니다."));
 
-        User user = SecurityUtil.getCurrentUser();
-        if (user == null) {
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
-        Set<Role> userRoles = user.getRoles();
-
-        boolean hasRequiredRole = userRoles.stream()
-                .anyMatch(role -> role == Role.ADMIN);
+        boolean hasRequiredRole = principal.isAdmin();
 
         if (!hasRequiredRole) {
             throw new AccessDeniedException("민원 상태를 변경할 권한이 없습니다.");
@@ -336,9 +328,9 @@ public class ComplaintService {
     public void deleteComplaint(Long complaintId) throws AccessDeniedException {
 
         Optional<Complaint> complaint = complaintRepository.findById(complaintId);
-        User user = SecurityUtil.getCurrentUser();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
 
-        if (user == null) {
+        if (principal == null) {
             throw new AccessDeniedException("로그인되지 않은 사용자입니다.");
         }
 
@@ -350,21 +342,21 @@ public class ComplaintService {
         Complaint complaint2 = complaint.get();
 
         // 작성자와 id 비교 예외 처리 or 관리자라면 삭제 가능하게
-        if(!complaint2.getUser().getId().equals(user.getId())) {
+        if(!complaint2.getUser().getId().equals(principal.id())) {
             throw new RuntimeException("User is not authorized to delete this complaint");
         }
         
         // 민원 삭제 전 알림 발송 (작성자와 관리자에게)
-        if (user.getApartment() != null) {
+        if (principal.apartmentId() != null) {
             // 관리자에게 알림
             alarmService.notifyApartmentAdmins(
-                user.getApartment().getId(),
+                principal.apartmentId(),
                 "민원 삭제",
                 "info",
                 "COMPLAINT",
-                user.getUserName() + "님이 민원을 삭제했습니다: " + complaint2.getTitle(),
+                principal.userName() + "님이 민원을 삭제했습니다: " + complaint2.getTitle(),
                 null,
-                user.getId(),
+                principal.id(),
                 complaint2.getId(),
                 null
             );
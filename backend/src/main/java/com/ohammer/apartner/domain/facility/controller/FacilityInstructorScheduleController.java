@@ -2,6 +2,7 @@ package com.ohammer.apartner.domain.facility.controller;
 
 import com.ohammer.apartner.domain.facility.dto.request.InstructorScheduleCreateRequestDto;
 import com.ohammer.apartner.domain.facility.dto.response.InstructorScheduleSimpleResponseDto;
+import com.ohammer.apartner.domain.facility.dto.response.ScheduleBulkCreateResponseDto;
 import com.ohammer.apartner.domain.facility.dto.response.TimeSlotSimpleResponseDto;
 import com.ohammer.apartner.domain.facility.service.FacilityInstructorScheduleService;
 import com.ohammer.apartner.domain.facility.service.FacilityTimeSlotService;
@@ -17,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -46,6 +48,20 @@ public class FacilityInstructorScheduleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(scheduleId);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "강사 스케줄(타임슬롯) 일괄 등록",
+            description = "여러 요일을 한 번에 등록하고, 제외일/공휴일을 빼고 타임슬롯을 생성. 생성/건너뛴 슬롯 수 반환")
+    public ResponseEntity<ScheduleBulkCreateResponseDto> createSchedulesBulk(
+            @PathVariable(name = "facilityId") Long facilityId,
+            @PathVariable(name = "instructorId") Long instructorId,
+            @RequestBody @Valid InstructorScheduleCreateRequestDto instructorScheduleCreateRequestDto
+    ) {
+        Long apartmentId = SecurityUtil.getCurrentUser().getApartment().getId();
+        ScheduleBulkCreateResponseDto result = facilityInstructorScheduleService.createSchedulesBulk(facilityId,
+                instructorId, apartmentId, instructorScheduleCreateRequestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @DeleteMapping("/{scheduleId}")
     @Operation(summary = "공용시설 강사 스케줄 삭제 (한 건씩 삭제)")
     public ResponseEntity<Void> deleteSchedule(
@@ -84,6 +100,20 @@ public class FacilityInstructorScheduleController {
         return ResponseEntity.ok(result);
     }
 
+    @PatchMapping("/timeslots/{timeSlotId}/booking-queue")
+    @Operation(summary = "스케쥴 타임슬롯 대기열 예약 설정",
+            description = "인기 시간대를 대기열 예약으로 지정하면 신청 순서대로 일괄 처리")
+    public ResponseEntity<Void> updateQueueBooking(
+            @PathVariable(name = "facilityId") Long facilityId,
+            @PathVariable(name = "instructorId") Long instructorId,
+            @PathVariable(name = "timeSlotId") Long timeSlotId,
+            @RequestParam("enabled") boolean enabled
+    ) {
+        Long apartmentId = SecurityUtil.getCurrentUser().getApartment().getId();
+        facilityTimeSlotService.updateQueueBooking(timeSlotId, facilityId, instructorId, apartmentId, enabled);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/timeslots/{timeSlotId}")
     @Operation(summary = "스케쥴 타임슬롯 단건 삭제")
     public ResponseEntity<Void> deleteTimeSlot(
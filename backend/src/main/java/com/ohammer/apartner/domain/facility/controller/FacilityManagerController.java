@@ -4,16 +4,20 @@ import com.ohammer.apartner.domain.facility.dto.request.FacilityCreateRequestDto
 import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationStatusUpdateDto;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityUpdateRequestDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationManagerDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationPageDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationSimpleManagerDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilitySimpleResponseDto;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import com.ohammer.apartner.domain.facility.service.FacilityManagerService;
 import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -94,13 +99,20 @@ public class FacilityManagerController {
     // ----- 예약 관리
     // 예약 목록 조회
     @GetMapping("/reservations")
-    @Operation(summary = "유저들의 예약 목록 조회")
-    public ResponseEntity<List<FacilityReservationSimpleManagerDto>> getReservationsByApartment(
+    @Operation(summary = "유저들의 예약 목록 조회",
+            description = "시작 시각 역순, 시설/상태 필터 선택. "
+                    + "다음 페이지는 응답의 nextCursorStartTime/nextCursorId 를 cursorStartTime/cursorId 로 전달")
+    public ResponseEntity<FacilityReservationPageDto<FacilityReservationSimpleManagerDto>> getReservationsByApartment(
+            @RequestParam(value = "facilityId", required = false) Long facilityId,
+            @RequestParam(value = "status", required = false) FacilityReservation.Status status,
+            @RequestParam(value = "cursorStartTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorStartTime,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size
     ) {
         User user = SecurityUtil.getCurrentUser();
         Long apartmentId = user.getApartment().getId();
-        List<FacilityReservationSimpleManagerDto> list = facilityManagerService.getReservationsByApartment(apartmentId);
-        return ResponseEntity.ok(list);
+        return ResponseEntity.ok(facilityManagerService.getReservationsByApartment(
+                apartmentId, facilityId, status, cursorStartTime, cursorId, size));
     }
 
     // 예약 상세 조회
@@ -127,4 +139,17 @@ public class FacilityManagerController {
         return ResponseEntity.ok().build();
     }
 
-}
\ No newline at end of file
+    // 예약 이용 확인 (출석)
+    @PatchMapping("/reservations/{reservationId}/check-in")
+    @Operation(
+            summary = "유저 예약 이용 확인",
+            description = "승인된 예약의 이용(출석)을 확인합니다. 이용 확인 없이 종료된 승인 예약은 노쇼로 처리되며, 노쇼로 처리된 예약을 확인하면 노쇼가 취소됩니다."
+    )
+    public ResponseEntity<Void> checkInReservation(
+            @PathVariable(name = "reservationId") Long reservationId
+    ) {
+        User user = SecurityUtil.getCurrentUser();
+        facilityManagerService.checkInReservation(reservationId, user.getApartment().getId());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -8,12 +8,17 @@ import com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCoun
 import com.ohammer.apartner.domain.facility.dto.statistics.TimePeriodUsageDto;
 import com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto;
 import com.ohammer.apartner.domain.facility.service.FacilityStatisticsService;
+import com.ohammer.apartner.security.CurrentPrincipal;
+import com.ohammer.apartner.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,8 +34,11 @@ public class FacilityStatisticsController {
             summary = "시설별 이용 횟수 통계",
             description = "가장 많이 이용된 시설부터 순위대로 반환합니다."
     )
-    public List<FacilityUsageCountDto> getFacilityUsageCount() {
-        return facilityStatisticsService.getTopFacilityUsage();
+    public List<FacilityUsageCountDto> getFacilityUsageCount(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getTopFacilityUsage(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/user-usage")
@@ -38,8 +46,11 @@ public class FacilityStatisticsController {
             summary = "사용자별 이용 횟수 통계",
             description = "사용자 기준으로 이용 횟수를 집계하여 순위별로 제공합니다."
     )
-    public List<UserUsageCountDto> getUserUsageCount() {
-        return facilityStatisticsService.getUserUsageCounts();
+    public List<UserUsageCountDto> getUserUsageCount(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getUserUsageCounts(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/building-usage")
@@ -47,33 +58,57 @@ public class FacilityStatisticsController {
             summary = "동별 이용 횟수 통계",
             description = "동(건물번호) 기준으로 이용 횟수를 집계하여 제공합니다."
     )
-    public List<BuildingUsageCountDto> getBuildingUsageCount() {
-        return facilityStatisticsService.getBuildingUsageCounts();
+    public List<BuildingUsageCountDto> getBuildingUsageCount(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getBuildingUsageCounts(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/day-of-week")
     @Operation(summary = "요일별 이용 통계", description = "요일 기준으로 이용 건수를 분석합니다.")
-    public List<DayOfWeekUsageDto> getDayOfWeekCount() {
-        return facilityStatisticsService.getDayOfWeekUsageCounts();
+    public List<DayOfWeekUsageDto> getDayOfWeekCount(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getDayOfWeekUsageCounts(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/time-period")
     @Operation(summary = "시간대별 이용 통계",
             description = "시간대(오전/오후/저녁/야간) 기준으로 이용 건수를 분석합니다. "
                     + "시간대 기준::: 오전: 05~12시, 오후: 12~17시, 저녁: 17~23시, 야간: 23~05시")
-    public List<TimePeriodUsageDto> getTimePeriodCount() {
-        return facilityStatisticsService.getTimePeriodUsageCounts();
+    public List<TimePeriodUsageDto> getTimePeriodCount(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getTimePeriodUsageCounts(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/reservation-status")
     @Operation(summary = "예약 상태별 현황", description = "AGREE, REJECT, CANCEL, PENDING 상태별 예약 건수를 조회합니다.")
-    public List<ReservationStatusCountDto> getReservationStatusCounts() {
-        return facilityStatisticsService.getReservationStatusCounts();
+    public List<ReservationStatusCountDto> getReservationStatusCounts(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getReservationStatusCounts(scopedApartmentId(apartmentId), startDate, endDate);
     }
 
     @GetMapping("/cancellation-ratio")
     @Operation(summary = "예약 취소율", description = "status=CANCEL / 전체 예약 (%)")
-    public CancellationRatioDto getCancellationRatio() {
-        return facilityStatisticsService.getCancellationRatio();
+    public CancellationRatioDto getCancellationRatio(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return facilityStatisticsService.getCancellationRatio(scopedApartmentId(apartmentId), startDate, endDate);
+    }
+
+    // 전체 관리자(ADMIN)만 다른 아파트/전체(null) 통계를 볼 수 있고, 그 외에는 본인 아파트로 고정
+    private Long scopedApartmentId(Long apartmentId) {
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        if (principal == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        return principal.isAdmin() ? apartmentId : principal.apartmentId();
     }
 }
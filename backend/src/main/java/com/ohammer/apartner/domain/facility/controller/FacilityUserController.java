@@ -2,21 +2,35 @@ package com.ohammer.apartner.domain.facility.controller;
 
 import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationCancelDto;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.request.RecurringReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityAvailabilityCalendarDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityMonthlyCalendarDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityBookingTicketDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationPageDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationSimpleUserDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationUserDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilitySimpleResponseDto;
 import com.ohammer.apartner.domain.facility.dto.response.InstructorSimpleResponseDto;
+import com.ohammer.apartner.domain.facility.dto.response.RecurringReservationResultDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityWaitlistEntryDto;
 import com.ohammer.apartner.domain.facility.dto.response.TimeSlotSimpleResponseDto;
+import com.ohammer.apartner.domain.facility.service.FacilityBookingQueueService;
+import com.ohammer.apartner.domain.facility.service.FacilityCalendarService;
+import com.ohammer.apartner.domain.facility.service.FacilityRecurringReservationService;
 import com.ohammer.apartner.domain.facility.service.FacilityUserService;
+import com.ohammer.apartner.domain.facility.service.FacilityWaitlistService;
 import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,6 +48,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class FacilityUserController {
 
     private final FacilityUserService facilityUserService;
+    private final FacilityBookingQueueService facilityBookingQueueService;
+    private final FacilityCalendarService facilityCalendarService;
+    private final FacilityWaitlistService facilityWaitlistService;
+    private final FacilityRecurringReservationService facilityRecurringReservationService;
 
     // 시설 목록 보기
     @GetMapping
@@ -56,6 +74,33 @@ public class FacilityUserController {
         return ResponseEntity.ok(dto);
     }
 
+    // 시설 가용 캘린더
+    @GetMapping("/{facilityId}/availability")
+    @Operation(summary = "공용시설 가용 캘린더 조회",
+            description = "기간 내 날짜별 타임슬롯 남은 정원과 내 예약/시간 겹침 여부 조회 (최대 62일)")
+    public ResponseEntity<FacilityAvailabilityCalendarDto> getAvailabilityCalendar(
+            @PathVariable(name = "facilityId") Long facilityId,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        User user = SecurityUtil.getCurrentUser();
+        FacilityAvailabilityCalendarDto calendar = facilityUserService.getAvailabilityCalendar(
+                facilityId, user.getApartment().getId(), user.getId(), startDate, endDate);
+        return ResponseEntity.ok(calendar);
+    }
+
+    // 시설 월간 예약 현황 캘린더 (모든 강사/슬롯을 한 번에)
+    @GetMapping("/{facilityId}/calendar")
+    @Operation(summary = "공용시설 월간 예약 현황 캘린더 조회",
+            description = "해당 월 날짜별 정원/남은 자리/혼잡도와 슬롯별 남은 정원 조회 (예약 화면 히트맵용)")
+    public ResponseEntity<FacilityMonthlyCalendarDto> getMonthlyCalendar(
+            @PathVariable(name = "facilityId") Long facilityId,
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        Long apartmentId = SecurityUtil.getCurrentUser().getApartment().getId();
+        return ResponseEntity.ok(facilityCalendarService.getMonthlyCalendar(facilityId, apartmentId, month));
+    }
+
     // 강사 목록 보기
     @GetMapping("/{facilityId}/instructors")
     @Operation(summary = "시설별 강사 목록 조회")
@@ -90,6 +135,72 @@ public class FacilityUserController {
         return ResponseEntity.ok(reservationId);
     }
 
+    // 정기 예약 신청 (매주 같은 시간)
+    @PostMapping("/reservations/recurring")
+    @Operation(summary = "유저 공용시설 정기 예약하기",
+            description = "선택한 시간대와 같은 요일/시간의 시간대를 종료일까지 한 번에 예약 신청. "
+                    + "마감/중복 등으로 실패한 회차는 사유와 함께 반환되고 나머지는 신청됨")
+    public ResponseEntity<RecurringReservationResultDto> reserveRecurring(
+            @RequestBody @Valid RecurringReservationRequestDto requestDto
+    ) {
+        User user = SecurityUtil.getCurrentUser();
+        return ResponseEntity.ok(facilityRecurringReservationService.reserveRecurring(
+                user.getId(), user.getApartment().getId(), requestDto));
+    }
+
+    // 대기열 예약 신청 (인기 시간대)
+    @PostMapping("/reservations/queue")
+    @Operation(summary = "유저 공용시설 대기열 예약 신청",
+            description = "대기열 예약 시간대는 신청 순서대로 처리되며, 결과는 알림 또는 신청 조회로 확인")
+    public ResponseEntity<FacilityBookingTicketDto> enqueueReservation(
+            @RequestBody @Valid FacilityReservationRequestDto requestDto
+    ) {
+        User user = SecurityUtil.getCurrentUser();
+        FacilityBookingTicketDto ticket = facilityBookingQueueService.enqueue(
+                user.getId(), user.getApartment().getId(), requestDto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    // 대기열 예약 신청 결과 조회
+    @GetMapping("/reservations/queue/{ticketId}")
+    @Operation(summary = "유저 대기열 예약 신청 결과 조회")
+    public ResponseEntity<FacilityBookingTicketDto> getQueueTicket(
+            @PathVariable(name = "ticketId") String ticketId
+    ) {
+        Long userId = SecurityUtil.getCurrentUser().getId();
+        return ResponseEntity.ok(facilityBookingQueueService.getTicket(userId, ticketId));
+    }
+
+    // 예약 대기 등록 (정원이 찬 시간대)
+    @PostMapping("/reservations/waitlist")
+    @Operation(summary = "유저 공용시설 예약 대기 등록",
+            description = "정원이 찬 시간대에 대기를 등록하면, 취소/거절로 자리가 날 때 등록순으로 예약이 신청되고 알림이 발송됨")
+    public ResponseEntity<FacilityWaitlistEntryDto> joinWaitlist(
+            @RequestBody @Valid FacilityReservationRequestDto requestDto
+    ) {
+        User user = SecurityUtil.getCurrentUser();
+        return ResponseEntity.ok(facilityWaitlistService.join(user.getId(), user.getApartment().getId(), requestDto));
+    }
+
+    // 본인 예약 대기 목록
+    @GetMapping("/reservations/waitlist")
+    @Operation(summary = "유저 예약 대기 목록 조회", description = "대기 중인 시간대와 대기 순번")
+    public ResponseEntity<List<FacilityWaitlistEntryDto>> getMyWaitlist() {
+        Long userId = SecurityUtil.getCurrentUser().getId();
+        return ResponseEntity.ok(facilityWaitlistService.getMyWaitlist(userId));
+    }
+
+    // 예약 대기 취소
+    @DeleteMapping("/reservations/waitlist/{waitlistId}")
+    @Operation(summary = "유저 예약 대기 취소")
+    public ResponseEntity<Void> cancelWaitlist(
+            @PathVariable(name = "waitlistId") Long waitlistId
+    ) {
+        Long userId = SecurityUtil.getCurrentUser().getId();
+        facilityWaitlistService.cancel(userId, waitlistId);
+        return ResponseEntity.ok().build();
+    }
+
     // 내 예약 취소
     @DeleteMapping("/reservations/{facilityReservationId}")
     @Operation(summary = "유저 예약 취소", description = "유저가 예약한 공용시설을 예약 취소하기")
@@ -104,11 +215,16 @@ public class FacilityUserController {
 
     // 본인 예약 목록 조회
     @GetMapping("/reservations")
-    @Operation(summary = "유저 예약 조회", description = "유저가 예약한 공용시설 예약 목록 조회")
-    public ResponseEntity<List<FacilityReservationSimpleUserDto>> getMyReservations() {
+    @Operation(summary = "유저 예약 조회",
+            description = "유저가 예약한 공용시설 예약 목록 조회 (시작 시각 역순). "
+                    + "다음 페이지는 응답의 nextCursorStartTime/nextCursorId 를 cursorStartTime/cursorId 로 전달")
+    public ResponseEntity<FacilityReservationPageDto<FacilityReservationSimpleUserDto>> getMyReservations(
+            @RequestParam(value = "cursorStartTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorStartTime,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
         User user = SecurityUtil.getCurrentUser();
-        List<FacilityReservationSimpleUserDto> reservationsList = facilityUserService.getMyReservations(user.getId());
-        return ResponseEntity.ok(reservationsList);
+        return ResponseEntity.ok(facilityUserService.getMyReservations(user.getId(), cursorStartTime, cursorId, size));
     }
 
     // 본인 예약 단건 상세 조회
@@ -0,0 +1,26 @@
+package com.ohammer.apartner.domain.facility.dto.projection;
+
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import java.time.LocalDateTime;
+
+// 예약 목록 조회용 프로젝션 (시설/강사/프로그램/신청자 정보를 한 번의 조인 쿼리로 가져옴)
+public record FacilityReservationRow(
+        Long reservationId,
+        FacilityReservation.Status status,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String facilityName,
+        String instructorName,
+        String programName,
+        String applicantName,
+        String buildingNumber,
+        String unitNumber
+) {
+
+    // 예: 2025-05-28 14:00~15:00
+    public String reservationDateTime() {
+        return startTime.toLocalDate().toString() + " " +
+                startTime.toLocalTime().toString() + "~" +
+                endTime.toLocalTime().toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.ohammer.apartner.domain.facility.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +24,9 @@ public class InstructorScheduleCreateRequestDto {
     @Schema(description = "근무 요일", example = "TUESDAY")
     private String dayOfWeek;
 
+    @Schema(description = "근무 요일 여러 개 (일괄 등록 시, 요일별로 스케줄 생성)", example = "[\"MONDAY\", \"WEDNESDAY\"]")
+    private List<String> daysOfWeek;
+
     @Schema(description = "근무 시작 시간", example = "15:00")
     private LocalTime startTime;
 
@@ -41,4 +45,10 @@ public class InstructorScheduleCreateRequestDto {
     @Schema(description = "적용 종료일", example = "2025-06-30")
     private LocalDate periodEnd;
 
+    @Schema(description = "슬롯을 만들지 않을 날짜 (휴강일 등)", example = "[\"2025-06-06\"]")
+    private List<LocalDate> excludedDates;
+
+    @Schema(description = "공휴일 제외 여부 (기본 true)", example = "true")
+    private Boolean excludeHolidays;
+
 }
@@ -0,0 +1,21 @@
+package com.ohammer.apartner.domain.facility.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "공용시설 정기 예약 요청 DTO (첫 회차 타임슬롯과 같은 스케줄/시작 시간의 슬롯을 종료일까지 예약)")
+public class RecurringReservationRequestDto {
+
+    @Schema(description = "첫 회차 타임슬롯 ID", example = "1001")
+    private Long timeSlotId;
+
+    @Schema(description = "마지막 회차 날짜 (포함)", example = "2025-08-25")
+    private LocalDate endDate;
+
+    @Schema(description = "사용자 요청사항 (모든 회차에 동일하게 적용)", example = "(선택) 요청사항 입력")
+    private String requestMessage;
+}
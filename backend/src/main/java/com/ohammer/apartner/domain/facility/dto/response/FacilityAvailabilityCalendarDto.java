@@ -0,0 +1,80 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "공용시설 가용 캘린더 응답 DTO")
+public class FacilityAvailabilityCalendarDto {
+
+    @Schema(description = "시설 ID", example = "1")
+    private Long facilityId;
+
+    @Schema(description = "조회 시작일", example = "2025-06-01")
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료일", example = "2025-06-14")
+    private LocalDate endDate;
+
+    @Schema(description = "날짜별 가용 현황 (슬롯이 있는 날짜만)")
+    private List<Day> days;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Day {
+
+        @Schema(description = "날짜", example = "2025-06-02")
+        private LocalDate date;
+
+        @Schema(description = "남은 정원 합계", example = "35")
+        private long freeCapacity;
+
+        @Schema(description = "슬롯 목록 (시작 시간순)")
+        private List<Slot> slots;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Slot {
+
+        @Schema(description = "타임슬롯 ID", example = "1001")
+        private Long timeSlotId;
+
+        @Schema(description = "강사 ID", example = "3")
+        private Long instructorId;
+
+        @Schema(description = "시작 시간", example = "10:00")
+        private LocalTime startTime;
+
+        @Schema(description = "종료 시간", example = "11:00")
+        private LocalTime endTime;
+
+        @Schema(description = "최대 예약 인원", example = "20")
+        private long maxCapacity;
+
+        @Schema(description = "예약 인원 (대기+승인)", example = "12")
+        private long reservedCount;
+
+        @Schema(description = "남은 정원", example = "8")
+        private long remaining;
+
+        @Schema(description = "내가 예약한 슬롯인지", example = "false")
+        private boolean reservedByMe;
+
+        @Schema(description = "내 다른 예약과 시간이 겹치는지", example = "false")
+        private boolean conflict;
+    }
+}
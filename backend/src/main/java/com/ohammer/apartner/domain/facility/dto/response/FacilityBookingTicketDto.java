@@ -0,0 +1,35 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "예약 대기열 신청 응답 DTO")
+public class FacilityBookingTicketDto {
+
+    public enum TicketStatus {
+        QUEUED,     // 대기 중
+        RESERVED,   // 예약 신청 완료 (승인 대기)
+        FAILED      // 예약 실패 (마감, 시간 중복 등)
+    }
+
+    @Schema(description = "대기열 신청 ID")
+    private String ticketId;
+
+    @Schema(description = "타임슬롯 ID", example = "1001")
+    private Long timeSlotId;
+
+    @Schema(description = "신청 상태")
+    private TicketStatus status;
+
+    @Schema(description = "신청 시점의 대기 순번 (대기 중일 때만)", example = "12")
+    private Long position;
+
+    @Schema(description = "생성된 예약 ID (예약 완료 시)")
+    private Long reservationId;
+
+    @Schema(description = "결과 메시지")
+    private String message;
+}
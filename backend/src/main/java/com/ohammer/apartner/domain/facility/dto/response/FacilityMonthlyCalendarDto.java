@@ -0,0 +1,93 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "공용시설 월간 예약 현황 캘린더 응답 DTO")
+public class FacilityMonthlyCalendarDto {
+
+    public enum Level {
+        NONE,       // 슬롯 없음
+        AVAILABLE,  // 여유 (예약률 70% 미만)
+        BUSY,       // 혼잡 (예약률 70% 이상)
+        FULL        // 마감
+    }
+
+    @Schema(description = "시설 ID", example = "1")
+    private Long facilityId;
+
+    @Schema(description = "조회 월", example = "2025-06")
+    private String month;
+
+    @Schema(description = "날짜별 현황 (해당 월 전체 날짜)")
+    private List<Day> days;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Day {
+
+        @Schema(description = "날짜", example = "2025-06-02")
+        private LocalDate date;
+
+        @Schema(description = "전체 정원 합계", example = "60")
+        private long totalCapacity;
+
+        @Schema(description = "예약 인원 합계 (대기+승인)", example = "45")
+        private long reservedCount;
+
+        @Schema(description = "남은 정원 합계", example = "15")
+        private long remaining;
+
+        @Schema(description = "예약률 (%)", example = "75")
+        private int occupancyRate;
+
+        @Schema(description = "혼잡도 (히트맵 색상용)", example = "BUSY")
+        private Level level;
+
+        @Schema(description = "슬롯 목록 (시작 시간순)")
+        private List<Slot> slots;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Slot {
+
+        @Schema(description = "타임슬롯 ID", example = "1001")
+        private Long timeSlotId;
+
+        @Schema(description = "강사 ID", example = "3")
+        private Long instructorId;
+
+        @Schema(description = "강사 이름", example = "김코치")
+        private String instructorName;
+
+        @Schema(description = "시작 시간", example = "10:00")
+        private LocalTime startTime;
+
+        @Schema(description = "종료 시간", example = "11:00")
+        private LocalTime endTime;
+
+        @Schema(description = "최대 예약 인원", example = "20")
+        private long maxCapacity;
+
+        @Schema(description = "예약 인원 (대기+승인)", example = "15")
+        private long reservedCount;
+
+        @Schema(description = "남은 정원", example = "5")
+        private long remaining;
+    }
+}
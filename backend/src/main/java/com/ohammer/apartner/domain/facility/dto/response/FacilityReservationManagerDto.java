@@ -43,6 +43,12 @@ public class FacilityReservationManagerDto {
     @Schema(description = "예약 상태", example = "PENDING")
     private FacilityReservation.Status status;
 
+    @Schema(description = "이용 확인 시각", example = "2025-05-28T13:55:00")
+    private LocalDateTime checkedInAt;
+
+    @Schema(description = "노쇼 여부", example = "false")
+    private boolean noShow;
+
     public static FacilityReservationManagerDto from(FacilityReservation r) {
         return FacilityReservationManagerDto.builder()
                 .reservationId(r.getId())
@@ -61,6 +67,8 @@ public class FacilityReservationManagerDto {
                 )
                 .createdAt(r.getCreatedAt())
                 .status(r.getStatus())
+                .checkedInAt(r.getCheckedInAt())
+                .noShow(r.isNoShow())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "공용시설 예약 목록 페이지 응답 DTO (시작 시각 역순, 커서 기반)")
+public class FacilityReservationPageDto<T> {
+
+    @Schema(description = "예약 목록")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 cursorStartTime 으로 전달할 값", example = "2025-05-28T14:00:00")
+    private LocalDateTime nextCursorStartTime;
+
+    @Schema(description = "다음 페이지 요청 시 cursorId 로 전달할 값", example = "120")
+    private Long nextCursorId;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 다음 페이지 여부 확인을 위해 한 건 더 조회
+    public static Pageable fetchLimit(LocalDateTime cursorStartTime, Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if ((cursorStartTime == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorStartTime 과 cursorId 는 함께 전달해야 합니다.");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <T> FacilityReservationPageDto<T> of(List<FacilityReservationRow> rows, int size,
+                                                       Function<FacilityReservationRow, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<FacilityReservationRow> page = hasNext ? rows.subList(0, size) : rows;
+        FacilityReservationRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return FacilityReservationPageDto.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .hasNext(hasNext)
+                .nextCursorStartTime(hasNext ? last.startTime() : null)
+                .nextCursorId(hasNext ? last.reservationId() : null)
+                .build();
+    }
+}
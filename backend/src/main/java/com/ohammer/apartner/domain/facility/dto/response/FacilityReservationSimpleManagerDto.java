@@ -1,5 +1,6 @@
 package com.ohammer.apartner.domain.facility.dto.response;
 
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
 import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -36,21 +37,16 @@ public class FacilityReservationSimpleManagerDto {
     @Schema(description = "예약 상태", example = "PENDING")
     private FacilityReservation.Status status;
 
-    public static FacilityReservationSimpleManagerDto from(FacilityReservation r) {
+    public static FacilityReservationSimpleManagerDto from(FacilityReservationRow r) {
         return FacilityReservationSimpleManagerDto.builder()
-                .reservationId(r.getId())
-                .applicantName(r.getUser().getUserName())
-                .building(r.getUser().getBuilding() != null ? r.getUser().getBuilding().getBuildingNumber() : null)
-                .unit(r.getUser().getUnit().getUnitNumber())
-                .facilityName(r.getFacility().getName())
-                .instructorName(
-                        r.getTimeSlot().getInstructor() != null ? r.getTimeSlot().getInstructor().getName() : null)
-                .reservationDateTime(
-                        r.getStartTime().toLocalDate().toString() + " " +
-                                r.getStartTime().toLocalTime().toString() + "~" +
-                                r.getEndTime().toLocalTime().toString()
-                )
-                .status(r.getStatus())
+                .reservationId(r.reservationId())
+                .applicantName(r.applicantName())
+                .building(r.buildingNumber())
+                .unit(r.unitNumber())
+                .facilityName(r.facilityName())
+                .instructorName(r.instructorName())
+                .reservationDateTime(r.reservationDateTime())
+                .status(r.status())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.ohammer.apartner.domain.facility.dto.response;
 
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
 import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -29,4 +30,15 @@ public class FacilityReservationSimpleUserDto {
 
     @Schema(description = "예약 상태", example = "PENDING")
     private FacilityReservation.Status status;
+
+    public static FacilityReservationSimpleUserDto from(FacilityReservationRow r) {
+        return FacilityReservationSimpleUserDto.builder()
+                .reservationId(r.reservationId())
+                .facilityName(r.facilityName())
+                .instructorName(r.instructorName())
+                .programName(r.programName())
+                .reservationDateTime(r.reservationDateTime())
+                .status(r.status())
+                .build();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "공용시설 예약 대기 응답 DTO")
+public class FacilityWaitlistEntryDto {
+
+    @Schema(description = "대기 ID", example = "1")
+    private Long waitlistId;
+
+    @Schema(description = "타임슬롯 ID", example = "1001")
+    private Long timeSlotId;
+
+    @Schema(description = "공용시설 이름", example = "수영장")
+    private String facilityName;
+
+    @Schema(description = "강사 이름", example = "박태환")
+    private String instructorName;
+
+    @Schema(description = "예약 일시", example = "2025-05-28 14:00~15:00")
+    private String reservationDateTime;
+
+    @Schema(description = "대기 순번 (1부터)", example = "3")
+    private long position;
+
+    @Schema(description = "대기 상태", example = "WAITING")
+    private FacilityWaitlistEntry.Status status;
+}
@@ -0,0 +1,55 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "공용시설 정기 예약 결과 DTO (회차별 성공/실패)")
+public class RecurringReservationResultDto {
+
+    @Schema(description = "요청 회차 수", example = "12")
+    private int requestedCount;
+
+    @Schema(description = "예약된 회차 수", example = "10")
+    private int reservedCount;
+
+    @Schema(description = "실패한 회차 수", example = "2")
+    private int failedCount;
+
+    @Schema(description = "회차별 결과 (날짜순)")
+    private List<Occurrence> occurrences;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Occurrence {
+
+        @Schema(description = "타임슬롯 ID", example = "1001")
+        private Long timeSlotId;
+
+        @Schema(description = "날짜", example = "2025-06-02")
+        private LocalDate date;
+
+        @Schema(description = "시작 시간", example = "10:00")
+        private LocalTime startTime;
+
+        @Schema(description = "종료 시간", example = "11:00")
+        private LocalTime endTime;
+
+        @Schema(description = "예약 성공 여부", example = "true")
+        private boolean reserved;
+
+        @Schema(description = "예약 ID (성공 시)", example = "501")
+        private Long reservationId;
+
+        @Schema(description = "실패 사유 (실패 시)", example = "예약이 마감되었습니다.")
+        private String failureReason;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ohammer.apartner.domain.facility.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "강사 스케줄 일괄 등록 응답 DTO")
+public class ScheduleBulkCreateResponseDto {
+
+    @Schema(description = "생성된 스케쥴 ID 목록 (요일별 1건)", example = "[1, 2, 3]")
+    private List<Long> scheduleIds;
+
+    @Schema(description = "생성된 타임슬롯 수", example = "120")
+    private int createdCount;
+
+    @Schema(description = "제외일/공휴일/기존 슬롯으로 건너뛴 타임슬롯 수", example = "6")
+    private int skippedCount;
+
+    @Schema(description = "제외일/공휴일로 건너뛴 날짜", example = "[\"2025-06-06\"]")
+    private List<LocalDate> skippedDates;
+}
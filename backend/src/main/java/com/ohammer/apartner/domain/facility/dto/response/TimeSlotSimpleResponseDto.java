@@ -38,6 +38,9 @@ public class TimeSlotSimpleResponseDto {
     @Schema(description = "마감 여부", example = "false")
     private Boolean isFull;
 
+    @Schema(description = "예약 대기열로만 신청 가능한 시간대 여부", example = "false")
+    private Boolean queueBooking;
+
     public static TimeSlotSimpleResponseDto from(FacilityTimeSlot slot) {
         boolean full = (slot.getReservedCount() != null) && (slot.getMaxCapacity() != null)
                 && (slot.getReservedCount() >= slot.getMaxCapacity());
@@ -50,6 +53,7 @@ public class TimeSlotSimpleResponseDto {
                 .maxCapacity(slot.getMaxCapacity())
                 .reservedCount(slot.getReservedCount())
                 .isFull(full)
+                .queueBooking(slot.isQueueBooking())
                 .build();
     }
 }
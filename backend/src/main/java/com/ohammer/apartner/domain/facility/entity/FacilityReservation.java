@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "facility_reservations")
+@Table(name = "facility_reservations", indexes = {
+        // 본인 예약 목록 (시작 시각 역순 키셋 페이지)
+        @Index(name = "idx_facility_reservations_user_start", columnList = "user_id, start_time"),
+        // 시설별 예약 목록 (관리자 예약 목록 키셋 페이지, 아파트 전체 목록도 시설별로 읽어 합침)
+        @Index(name = "idx_facility_reservations_facility_start_id", columnList = "facility_id, start_time, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,10 +68,28 @@ public class FacilityReservation extends BaseEntity {
     @Column(name = "status", nullable = false)
     private Status status;
 
+    @Column(name = "checked_in_at")
+    private LocalDateTime checkedInAt; // 이용 확인(출석) 시각
+
+    @Column(name = "no_show")
+    private Boolean noShow; // 승인 예약을 이용 확인 없이 종료 시각이 지남
+
+    @Column(name = "booking_ticket_id", unique = true, length = 36)
+    private String bookingTicketId; // 대기열 신청 ID (대기열로 만든 예약만, 같은 신청을 다시 처리해도 한 건만 생성)
+
+    public boolean isNoShow() {
+        return Boolean.TRUE.equals(noShow);
+    }
+
     // Enum for status
     public enum Status {
-        AGREE, PENDING, REJECT, CANCEL
+        AGREE, PENDING, REJECT, CANCEL;
         // 승인 완료, 승인 대기, 승인 거절, 예약 취소
+
+        // 슬롯 정원을 차지하는 상태 (신청 시점부터 자리를 잡고, 거절/취소되면 반납)
+        public boolean holdsSeat() {
+            return this == AGREE || this == PENDING;
+        }
     }
 
     public enum CancelReasonType {
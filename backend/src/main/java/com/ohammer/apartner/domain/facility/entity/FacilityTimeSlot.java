@@ -50,4 +50,11 @@ public class FacilityTimeSlot extends BaseEntity {
 
     @Column(name = "reserved_count", nullable = false)
     private Long reservedCount; // 예약된 인원
+
+    @Column(name = "queue_booking")
+    private Boolean queueBooking; // true 면 예약 대기열로만 신청 가능 (인기 시간대)
+
+    public boolean isQueueBooking() {
+        return Boolean.TRUE.equals(queueBooking);
+    }
 }
\ No newline at end of file
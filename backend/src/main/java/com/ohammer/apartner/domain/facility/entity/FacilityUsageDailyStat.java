@@ -0,0 +1,55 @@
+package com.ohammer.apartner.domain.facility.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 시설 예약 일별 집계 (이용일/아파트/시설/동/시작 시각/상태별 예약 수). 예약 생성/상태 변경 시 같은 트랜잭션에서 증감
+@Entity
+@Table(name = "facility_usage_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_facility_usage_daily_stats",
+                columnNames = {"stat_date", "apartment_id", "facility_id", "building_id", "hour_of_day", "status"}),
+        indexes = @Index(name = "idx_facility_usage_daily_stats_apartment_date", columnList = "apartment_id, stat_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilityUsageDailyStat extends BaseEntity {
+
+    // 동 정보가 없는 사용자 (유니크 키에 NULL 을 쓰지 않기 위함)
+    public static final long NO_BUILDING = 0L;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate; // 이용일
+
+    @Column(name = "apartment_id", nullable = false)
+    private Long apartmentId;
+
+    @Column(name = "facility_id", nullable = false)
+    private Long facilityId;
+
+    @Column(name = "building_id", nullable = false)
+    private Long buildingId;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private int hourOfDay; // 이용 시작 시각 (0~23)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private FacilityReservation.Status status;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long reservationCount;
+}
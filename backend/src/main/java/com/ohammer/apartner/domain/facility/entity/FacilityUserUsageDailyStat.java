@@ -0,0 +1,40 @@
+package com.ohammer.apartner.domain.facility.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 사용자별 일별 승인 예약 수 (사용자별 이용 통계용). 예약이 승인되거나 승인이 풀릴 때 같은 트랜잭션에서 증감
+@Entity
+@Table(name = "facility_user_usage_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_facility_user_usage_daily_stats",
+                columnNames = {"stat_date", "apartment_id", "user_id"}),
+        indexes = @Index(name = "idx_facility_user_usage_daily_stats_apartment_date", columnList = "apartment_id, stat_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilityUserUsageDailyStat extends BaseEntity {
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate; // 이용일
+
+    @Column(name = "apartment_id", nullable = false)
+    private Long apartmentId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+}
@@ -0,0 +1,66 @@
+package com.ohammer.apartner.domain.facility.entity;
+
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 정원이 찬 타임슬롯의 예약 대기자. 자리가 나면 먼저 등록한 순서대로 예약(PENDING)으로 승격
+@Entity
+@Table(name = "facility_waitlist_entries", indexes = {
+        // 슬롯별 다음 대기자 조회 (등록순)
+        @Index(name = "idx_facility_waitlist_slot_status", columnList = "facility_time_slot_id, status, id"),
+        // 본인 대기 목록
+        @Index(name = "idx_facility_waitlist_user_status", columnList = "user_id, status"),
+        // 지난 슬롯 대기 만료 처리
+        @Index(name = "idx_facility_waitlist_status_start", columnList = "status, start_time")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilityWaitlistEntry extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "facility_time_slot_id", nullable = false)
+    private FacilityTimeSlot timeSlot;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime; // 슬롯 시작 일시 (만료 처리용)
+
+    @Column(name = "request_message")
+    private String requestMessage; // 승격 시 예약 요청사항으로 사용
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "reservation_id")
+    private Long reservationId; // 승격되어 만들어진 예약
+
+    public enum Status {
+        WAITING,    // 대기 중
+        PROMOTED,   // 예약으로 승격
+        CANCELLED,  // 본인 취소
+        SKIPPED,    // 승격 시점에 같은 시간대 다른 예약이 있어 건너뜀
+        EXPIRED     // 슬롯 시작 시각이 지남
+    }
+}
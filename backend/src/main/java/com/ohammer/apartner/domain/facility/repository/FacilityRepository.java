@@ -5,6 +5,8 @@ import com.ohammer.apartner.global.Status;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FacilityRepository extends JpaRepository<Facility, Long> {
 
@@ -21,4 +23,8 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
 
     // 시설 단건 조회
     Optional<Facility> findByIdAndApartmentId(Long id, Long apartmentId);
+
+    // 아파트의 시설 ID (비활성 시설 포함, 시설별 예약 목록 조회용)
+    @Query("SELECT f.id FROM Facility f WHERE f.apartment.id = :apartmentId")
+    List<Long> findIdsByApartmentId(@Param("apartmentId") Long apartmentId);
 }
@@ -1,16 +1,15 @@
 package com.ohammer.apartner.domain.facility.repository;
 
-import com.ohammer.apartner.domain.facility.dto.statistics.BuildingUsageCountDto;
-import com.ohammer.apartner.domain.facility.dto.statistics.FacilityUsageCountDto;
-import com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCountDto;
-import com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto;
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
 import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -31,6 +30,10 @@ public interface FacilityReservationRepository extends JpaRepository<FacilityRes
             Pageable pageable
     );
 
+    // 대기열 신청으로 이미 만든 예약: [bookingTicketId, reservationId] (처리 중 멈춘 신청을 다시 처리할 때)
+    @Query("SELECT r.bookingTicketId, r.id FROM FacilityReservation r WHERE r.bookingTicketId IN :ticketIds")
+    List<Object[]> findIdsByBookingTicketIds(@Param("ticketIds") Collection<String> ticketIds);
+
     // 시간대 중복 예약 체크
     @Query("""
                 SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
@@ -46,75 +49,77 @@ public interface FacilityReservationRepository extends JpaRepository<FacilityRes
                                @Param("startTime") LocalDateTime startTime,
                                @Param("endTime") LocalDateTime endTime);
 
-    // 같은 아파트 사용자 예약 전체 조회 (최신순)
-    List<FacilityReservation> findByFacility_Apartment_IdOrderByStartTimeDesc(Long apartmentId);
-
-    List<FacilityReservation> findByUserIdOrderByStartTimeDesc(Long userId);
-
-    // 시설별 이용 횟수
-    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.FacilityUsageCountDto(fr.facility.name, COUNT(fr)) "
-            +
-            "FROM FacilityReservation fr " +
-            "WHERE fr.status = 'AGREE' " +
-            "GROUP BY fr.facility.name " +
-            "ORDER BY COUNT(fr) DESC")
-    List<FacilityUsageCountDto> findFacilityUsageCountTop();
-
-    // 사용자별 이용 횟수
-    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto(" +
-            "u.userName, u.building.buildingNumber, u.unit.unitNumber, COUNT(fr)) " +
-            "FROM FacilityReservation fr " +
-            "JOIN fr.user u " +
-            "WHERE fr.status = 'AGREE' " +
-            "GROUP BY u.userName, u.building.buildingNumber, u.unit.unitNumber " +
-            "ORDER BY COUNT(fr) DESC")
-    List<UserUsageCountDto> findUserUsageCounts();
-
-    // 동별 이용 횟수
-    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.BuildingUsageCountDto(" +
-            "u.building.buildingNumber, COUNT(fr)) " +
-            "FROM FacilityReservation fr " +
-            "JOIN fr.user u " +
-            "WHERE fr.status = 'AGREE' " +
-            "GROUP BY u.building.buildingNumber " +
-            "ORDER BY COUNT(fr) DESC")
-    List<BuildingUsageCountDto> findBuildingUsageCounts();
-
-    // 요일별 이용 횟수 (1:일요일, 7:토요일)
-    @Query("SELECT FUNCTION('DAYOFWEEK', fr.date) AS dow, COUNT(fr) " +
-            "FROM FacilityReservation fr " +
-            "WHERE fr.status = 'AGREE' " +
-            "GROUP BY FUNCTION('DAYOFWEEK', fr.date)")
-    List<Object[]> findUsageCountGroupedByDayOfWeek();
-
-    // 시간대별 이용 횟수
-    @Query(value = """
-            SELECT 
-                CASE 
-                    WHEN HOUR(start_time) BETWEEN 05 AND 11 THEN '오전'
-                    WHEN HOUR(start_time) BETWEEN 12 AND 16 THEN '오후'
-                    WHEN HOUR(start_time) BETWEEN 17 AND 22 THEN '저녁'
-                    ELSE '야간'
-                END AS time_period,
-                COUNT(*) AS cnt
-            FROM facility_reservations
-            WHERE status = 'AGREE'
-            GROUP BY time_period
-            ORDER BY cnt DESC
-            """, nativeQuery = true)
-    List<Object[]> findUsageCountGroupedByTimePeriod();
-
-    // 예약 상태 현황
-    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCountDto(fr.status, COUNT(fr)) "
-            +
-            "FROM FacilityReservation fr GROUP BY fr.status")
-    List<ReservationStatusCountDto> findReservationStatusCounts();
-
-    // 취소율
-    @Query("SELECT COUNT(fr) FROM FacilityReservation fr")
-    Long countTotalReservations();
-
-    @Query("SELECT COUNT(fr) FROM FacilityReservation fr WHERE fr.status = 'CANCEL'")
-    Long countCancelledReservations();
-
-}
\ No newline at end of file
+    // 기간과 겹치는 사용자의 대기/승인 예약: [startTime, endTime] (정기 예약 회차별 시간 중복 확인을 한 번에)
+    @Query("SELECT r.startTime, r.endTime FROM FacilityReservation r " +
+            "WHERE r.user.id = :userId " +
+            "AND r.status IN (com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE, " +
+            "com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.PENDING) " +
+            "AND r.startTime < :to AND r.endTime > :from")
+    List<Object[]> findUserActiveIntervals(@Param("userId") Long userId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // 가용 인덱스 적재용: [reservationId, userId, slotId, startTime, endTime] (from 이후에 끝나는 예약)
+    @Query("SELECT r.id, r.user.id, r.timeSlot.id, r.startTime, r.endTime FROM FacilityReservation r " +
+            "WHERE r.endTime > :from AND r.status IN :statuses")
+    List<Object[]> findActiveIntervals(@Param("from") LocalDateTime from,
+                                       @Param("statuses") Collection<FacilityReservation.Status> statuses);
+
+    // 본인 예약 목록 (시작 시각 역순 키셋 페이지). cursorStartTime/cursorId 는 직전 페이지 마지막 행, 첫 페이지는 null
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow(" +
+            "r.id, r.status, r.startTime, r.endTime, f.name, i.name, s.scheduleName, u.userName, b.buildingNumber, un.unitNumber) " +
+            "FROM FacilityReservation r JOIN r.facility f JOIN r.user u " +
+            "LEFT JOIN r.timeSlot ts LEFT JOIN ts.instructor i LEFT JOIN ts.schedule s " +
+            "LEFT JOIN u.building b LEFT JOIN u.unit un " +
+            "WHERE u.id = :userId " +
+            "AND (:cursorStartTime IS NULL OR r.startTime < :cursorStartTime " +
+            "OR (r.startTime = :cursorStartTime AND r.id < :cursorId)) " +
+            "ORDER BY r.startTime DESC, r.id DESC")
+    List<FacilityReservationRow> findUserReservationRows(@Param("userId") Long userId,
+                                                         @Param("cursorStartTime") LocalDateTime cursorStartTime,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
+
+    // 시설별 예약 목록 (시작 시각 역순 키셋 페이지, 상태 필터는 선택). (facility_id, start_time, id) 인덱스를 역순으로 읽음
+    // 아파트 전체 목록은 시설마다 이 쿼리로 한 페이지씩 가져와 합침
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow(" +
+            "r.id, r.status, r.startTime, r.endTime, f.name, i.name, s.scheduleName, u.userName, b.buildingNumber, un.unitNumber) " +
+            "FROM FacilityReservation r JOIN r.facility f JOIN r.user u " +
+            "LEFT JOIN r.timeSlot ts LEFT JOIN ts.instructor i LEFT JOIN ts.schedule s " +
+            "LEFT JOIN u.building b LEFT JOIN u.unit un " +
+            "WHERE r.facility.id = :facilityId " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:cursorStartTime IS NULL OR r.startTime < :cursorStartTime " +
+            "OR (r.startTime = :cursorStartTime AND r.id < :cursorId)) " +
+            "ORDER BY r.startTime DESC, r.id DESC")
+    List<FacilityReservationRow> findFacilityReservationRows(@Param("facilityId") Long facilityId,
+                                                             @Param("status") FacilityReservation.Status status,
+                                                             @Param("cursorStartTime") LocalDateTime cursorStartTime,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    // 알림/노쇼 예약 큐 재적재용: [reservationId, startTime, endTime] (from 이후에 끝나고 이용 확인/노쇼 처리 전인 승인 예약)
+    @Query("SELECT r.id, r.startTime, r.endTime FROM FacilityReservation r " +
+            "WHERE r.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND r.endTime > :from AND r.checkedInAt IS NULL AND (r.noShow IS NULL OR r.noShow = false)")
+    List<Object[]> findReminderTargets(@Param("from") LocalDateTime from);
+
+    // 승인 상태이고 이용 확인/노쇼 처리 전일 때만 노쇼로 표시 (여러 인스턴스가 같은 예약을 처리해도 한 번만 반영)
+    @Modifying
+    @Query("UPDATE FacilityReservation r SET r.noShow = true, r.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id " +
+            "AND r.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND r.checkedInAt IS NULL AND (r.noShow IS NULL OR r.noShow = false)")
+    int markNoShow(@Param("id") Long id);
+
+    // 시설이 이용 확인을 쓰는지 (이용 확인 기록이 한 번이라도 있는지)
+    @Query("SELECT COUNT(r) > 0 FROM FacilityReservation r " +
+            "WHERE r.facility.id = (SELECT t.facility.id FROM FacilityReservation t WHERE t.id = :id) " +
+            "AND r.checkedInAt IS NOT NULL")
+    boolean facilityUsesCheckIn(@Param("id") Long id);
+
+    // 기간 내 노쇼 횟수 (노쇼 패널티 계산)
+    @Query("SELECT COUNT(r) FROM FacilityReservation r " +
+            "WHERE r.user.id = :userId AND r.noShow = true AND r.startTime >= :since")
+    long countNoShows(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+}
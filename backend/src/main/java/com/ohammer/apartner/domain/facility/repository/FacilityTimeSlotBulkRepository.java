@@ -0,0 +1,62 @@
+package com.ohammer.apartner.domain.facility.repository;
+
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 타임슬롯 일괄 INSERT.
+ * 슬롯 ID 가 IDENTITY 라 JPA save 는 한 건씩 INSERT 되므로, 스케줄 등록처럼 수천 건을 만드는 경우 JDBC 배치로 넣습니다.
+ * (MySQL 은 rewriteBatchedStatements 옵션으로 여러 행 INSERT 한 번으로 전송)
+ * 호출하는 쪽 트랜잭션에서 실행되며, 넣은 슬롯은 영속성 컨텍스트에 올라가지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacilityTimeSlotBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO facility_time_slots " +
+            "(facility_id, instructor_id, schedule_id, date, start_time, end_time, max_capacity, reserved_count, " +
+            "queue_booking, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(List<FacilityTimeSlot> slots, int batchSize) {
+        if (slots.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, slots, Math.max(1, batchSize), (ps, slot) -> {
+            ps.setLong(1, slot.getFacility().getId());
+            if (slot.getInstructor() != null) {
+                ps.setLong(2, slot.getInstructor().getId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setLong(3, slot.getSchedule().getId());
+            ps.setDate(4, Date.valueOf(slot.getDate()));
+            ps.setTime(5, Time.valueOf(slot.getStartTime()));
+            ps.setTime(6, Time.valueOf(slot.getEndTime()));
+            ps.setLong(7, slot.getMaxCapacity());
+            ps.setLong(8, slot.getReservedCount() != null ? slot.getReservedCount() : 0L);
+            ps.setBoolean(9, slot.isQueueBooking());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+        // 배치 재작성 시 드라이버가 건수 대신 SUCCESS_NO_INFO(-2)를 줄 수 있어 요청 건수로 계산
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,9 +1,13 @@
 package com.ohammer.apartner.domain.facility.repository;
 
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,4 +25,75 @@ public interface FacilityTimeSlotRepository extends JpaRepository<FacilityTimeSl
             @Param("endDate") LocalDate endDate
     );
 
+    // 강사의 기간 내 기존 슬롯 시작 시각: [date, startTime] (슬롯 일괄 생성 시 중복 제외용)
+    @Query("SELECT t.date, t.startTime FROM FacilityTimeSlot t " +
+            "WHERE t.instructor.id = :instructorId AND t.date BETWEEN :startDate AND :endDate")
+    List<Object[]> findSlotStartsByInstructorAndDateRange(
+            @Param("instructorId") Long instructorId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 가용 인덱스 적재용: [slotId, facilityId, instructorId, date, startTime, endTime, maxCapacity]
+    @Query("SELECT t.id, t.facility.id, i.id, t.date, t.startTime, t.endTime, t.maxCapacity " +
+            "FROM FacilityTimeSlot t LEFT JOIN t.instructor i " +
+            "WHERE t.date >= :from AND (:facilityId IS NULL OR t.facility.id = :facilityId)")
+    List<Object[]> findAvailabilityRows(@Param("from") LocalDate from, @Param("facilityId") Long facilityId);
+
+    // 월간 캘린더용: [date, slotId, instructorId, instructorName, startTime, endTime, maxCapacity, reservedCount]
+    // 예약 인원은 슬롯에 유지되는 카운터(reservedCount)를 사용해 예약 테이블 집계 없이 한 번에 조회
+    @Query("SELECT t.date, t.id, i.id, i.name, t.startTime, t.endTime, t.maxCapacity, t.reservedCount " +
+            "FROM FacilityTimeSlot t LEFT JOIN t.instructor i " +
+            "WHERE t.facility.id = :facilityId AND t.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.date, t.startTime, t.id")
+    List<Object[]> findCalendarRows(@Param("facilityId") Long facilityId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    // 예약 대기열 신청 검증용: [slotId, apartmentId, queueBooking, date, startTime]
+    @Query("SELECT t.id, a.id, t.queueBooking, t.date, t.startTime FROM FacilityTimeSlot t " +
+            "JOIN t.facility f JOIN f.apartment a WHERE t.id = :slotId")
+    List<Object[]> findBookingInfoById(@Param("slotId") Long slotId);
+
+    // 정원이 남아 있을 때만 예약 인원 +1 (조건부 UPDATE 한 번으로 처리해 동시 예약에도 정원을 넘지 않음)
+    @Modifying
+    @Query("UPDATE FacilityTimeSlot t SET t.reservedCount = t.reservedCount + 1 " +
+            "WHERE t.id = :slotId AND t.reservedCount < t.maxCapacity")
+    int increaseReservedCount(@Param("slotId") Long slotId);
+
+    @Modifying
+    @Query("UPDATE FacilityTimeSlot t SET t.reservedCount = t.reservedCount - 1 " +
+            "WHERE t.id = :slotId AND t.reservedCount > 0")
+    int decreaseReservedCount(@Param("slotId") Long slotId);
+
+    // 예약 인원이 0으로 남아 있는 from 이후 슬롯을 예약 기록 기준으로 채움
+    // (예약 인원을 관리하기 전에 들어온 예약 보정용, 이미 인원이 반영된 슬롯은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE FacilityTimeSlot t SET t.reservedCount = " +
+            "(SELECT COUNT(r) FROM FacilityReservation r WHERE r.timeSlot = t AND r.status IN :statuses) " +
+            "WHERE t.date >= :from AND t.reservedCount = 0")
+    int syncReservedCounts(@Param("from") LocalDate from,
+                           @Param("statuses") Collection<FacilityReservation.Status> statuses);
+
+    // 정기 예약 회차: 같은 스케줄, 같은 시작 시간의 기간 내 슬롯 (날짜순)
+    @Query("SELECT t FROM FacilityTimeSlot t " +
+            "WHERE t.schedule.id = :scheduleId AND t.startTime = :startTime " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.date")
+    List<FacilityTimeSlot> findRecurringSlots(@Param("scheduleId") Long scheduleId,
+                                              @Param("startTime") LocalTime startTime,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    // 정기 예약 정원 확인용: [slotId, reservedCount, maxCapacity]
+    // 여러 슬롯을 한 번에 잠가(ID 순) 확인과 증가 사이에 다른 예약이 끼어들지 않게 함
+    @Query(value = "SELECT id, reserved_count, max_capacity FROM facility_time_slots " +
+            "WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockCapacities(@Param("ids") Collection<Long> ids);
+
+    // 여러 슬롯 예약 인원 한 번에 +1 (lockCapacities 로 잠근 뒤 정원이 남은 슬롯만 전달)
+    @Modifying
+    @Query("UPDATE FacilityTimeSlot t SET t.reservedCount = t.reservedCount + 1 " +
+            "WHERE t.id IN :ids AND t.reservedCount < t.maxCapacity")
+    int increaseReservedCounts(@Param("ids") Collection<Long> ids);
 }
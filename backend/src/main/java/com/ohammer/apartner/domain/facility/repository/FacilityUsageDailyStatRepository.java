@@ -0,0 +1,104 @@
+package com.ohammer.apartner.domain.facility.repository;
+
+import com.ohammer.apartner.domain.facility.dto.statistics.BuildingUsageCountDto;
+import com.ohammer.apartner.domain.facility.dto.statistics.FacilityUsageCountDto;
+import com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCountDto;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.entity.FacilityUsageDailyStat;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 조회 조건: apartmentId 가 null 이면 전체 아파트, from/to 가 null 이면 기간 제한 없음 (이용일 기준)
+public interface FacilityUsageDailyStatRepository extends JpaRepository<FacilityUsageDailyStat, Long> {
+
+    // 집계 행이 없으면 만들고 있으면 delta 만큼 증감 (MySQL upsert)
+    @Modifying
+    @Query(value = "INSERT INTO facility_usage_daily_stats " +
+            "(stat_date, apartment_id, facility_id, building_id, hour_of_day, status, reservation_count, created_at, modified_at) " +
+            "VALUES (:statDate, :apartmentId, :facilityId, :buildingId, :hourOfDay, :status, GREATEST(:delta, 0), NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE reservation_count = GREATEST(reservation_count + :delta, 0), modified_at = NOW()",
+            nativeQuery = true)
+    int addCount(@Param("statDate") LocalDate statDate,
+                 @Param("apartmentId") Long apartmentId,
+                 @Param("facilityId") Long facilityId,
+                 @Param("buildingId") Long buildingId,
+                 @Param("hourOfDay") int hourOfDay,
+                 @Param("status") String status,
+                 @Param("delta") long delta);
+
+    // 예약 테이블 전체를 다시 집계해 덮어씀 (최초 적재/보정용)
+    @Modifying
+    @Query(value = "INSERT INTO facility_usage_daily_stats " +
+            "(stat_date, apartment_id, facility_id, building_id, hour_of_day, status, reservation_count, created_at, modified_at) " +
+            "SELECT r.date, f.apartment_id, r.facility_id, COALESCE(u.building_id, 0), HOUR(r.start_time), r.status, " +
+            "COUNT(*), NOW(), NOW() " +
+            "FROM facility_reservations r JOIN facilities f ON f.id = r.facility_id JOIN users u ON u.id = r.user_id " +
+            "GROUP BY r.date, f.apartment_id, r.facility_id, COALESCE(u.building_id, 0), HOUR(r.start_time), r.status " +
+            "ON DUPLICATE KEY UPDATE reservation_count = VALUES(reservation_count), modified_at = NOW()",
+            nativeQuery = true)
+    int rebuildFromReservations();
+
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.FacilityUsageCountDto(f.name, SUM(s.reservationCount)) " +
+            "FROM FacilityUsageDailyStat s JOIN Facility f ON f.id = s.facilityId " +
+            "WHERE s.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY f.name HAVING SUM(s.reservationCount) > 0 " +
+            "ORDER BY SUM(s.reservationCount) DESC")
+    List<FacilityUsageCountDto> sumFacilityUsage(@Param("apartmentId") Long apartmentId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.BuildingUsageCountDto(b.buildingNumber, SUM(s.reservationCount)) " +
+            "FROM FacilityUsageDailyStat s JOIN Building b ON b.id = s.buildingId " +
+            "WHERE s.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY b.buildingNumber HAVING SUM(s.reservationCount) > 0 " +
+            "ORDER BY SUM(s.reservationCount) DESC")
+    List<BuildingUsageCountDto> sumBuildingUsage(@Param("apartmentId") Long apartmentId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    // 이용일별 승인 예약 수: [statDate, count] (요일별 통계용)
+    @Query("SELECT s.statDate, SUM(s.reservationCount) FROM FacilityUsageDailyStat s " +
+            "WHERE s.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY s.statDate")
+    List<Object[]> sumUsageByDate(@Param("apartmentId") Long apartmentId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    // 시작 시각별 승인 예약 수: [hourOfDay, count] (시간대별 통계용)
+    @Query("SELECT s.hourOfDay, SUM(s.reservationCount) FROM FacilityUsageDailyStat s " +
+            "WHERE s.status = com.ohammer.apartner.domain.facility.entity.FacilityReservation.Status.AGREE " +
+            "AND (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY s.hourOfDay")
+    List<Object[]> sumUsageByHour(@Param("apartmentId") Long apartmentId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCountDto(s.status, SUM(s.reservationCount)) " +
+            "FROM FacilityUsageDailyStat s " +
+            "WHERE (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY s.status HAVING SUM(s.reservationCount) > 0")
+    List<ReservationStatusCountDto> sumByStatus(@Param("apartmentId") Long apartmentId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+
+    @Query("SELECT COALESCE(SUM(s.reservationCount), 0) FROM FacilityUsageDailyStat s " +
+            "WHERE (:status IS NULL OR s.status = :status) " +
+            "AND (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to)")
+    Long sumCount(@Param("status") FacilityReservation.Status status,
+                  @Param("apartmentId") Long apartmentId,
+                  @Param("from") LocalDate from,
+                  @Param("to") LocalDate to);
+}
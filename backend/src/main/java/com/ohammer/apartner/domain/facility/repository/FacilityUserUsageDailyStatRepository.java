@@ -0,0 +1,50 @@
+package com.ohammer.apartner.domain.facility.repository;
+
+import com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto;
+import com.ohammer.apartner.domain.facility.entity.FacilityUserUsageDailyStat;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FacilityUserUsageDailyStatRepository extends JpaRepository<FacilityUserUsageDailyStat, Long> {
+
+    // 집계 행이 없으면 만들고 있으면 delta 만큼 증감 (MySQL upsert)
+    @Modifying
+    @Query(value = "INSERT INTO facility_user_usage_daily_stats " +
+            "(stat_date, apartment_id, user_id, usage_count, created_at, modified_at) " +
+            "VALUES (:statDate, :apartmentId, :userId, GREATEST(:delta, 0), NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE usage_count = GREATEST(usage_count + :delta, 0), modified_at = NOW()",
+            nativeQuery = true)
+    int addCount(@Param("statDate") LocalDate statDate,
+                 @Param("apartmentId") Long apartmentId,
+                 @Param("userId") Long userId,
+                 @Param("delta") long delta);
+
+    // 승인 예약 전체를 다시 집계해 덮어씀 (최초 적재/보정용)
+    @Modifying
+    @Query(value = "INSERT INTO facility_user_usage_daily_stats " +
+            "(stat_date, apartment_id, user_id, usage_count, created_at, modified_at) " +
+            "SELECT r.date, f.apartment_id, r.user_id, COUNT(*), NOW(), NOW() " +
+            "FROM facility_reservations r JOIN facilities f ON f.id = r.facility_id " +
+            "WHERE r.status = 'AGREE' " +
+            "GROUP BY r.date, f.apartment_id, r.user_id " +
+            "ON DUPLICATE KEY UPDATE usage_count = VALUES(usage_count), modified_at = NOW()",
+            nativeQuery = true)
+    int rebuildFromReservations();
+
+    // apartmentId 가 null 이면 전체 아파트, from/to 가 null 이면 기간 제한 없음 (이용일 기준)
+    @Query("SELECT new com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto(" +
+            "u.userName, u.building.buildingNumber, u.unit.unitNumber, SUM(s.usageCount)) " +
+            "FROM FacilityUserUsageDailyStat s JOIN User u ON u.id = s.userId " +
+            "WHERE (:apartmentId IS NULL OR s.apartmentId = :apartmentId) " +
+            "AND (:from IS NULL OR s.statDate >= :from) AND (:to IS NULL OR s.statDate <= :to) " +
+            "GROUP BY u.id, u.userName, u.building.buildingNumber, u.unit.unitNumber " +
+            "HAVING SUM(s.usageCount) > 0 " +
+            "ORDER BY SUM(s.usageCount) DESC")
+    List<UserUsageCountDto> sumUserUsage(@Param("apartmentId") Long apartmentId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+}
@@ -0,0 +1,59 @@
+package com.ohammer.apartner.domain.facility.repository;
+
+import com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FacilityWaitlistEntryRepository extends JpaRepository<FacilityWaitlistEntry, Long> {
+
+    boolean existsByTimeSlotIdAndUserIdAndStatus(Long timeSlotId, Long userId, FacilityWaitlistEntry.Status status);
+
+    long countByTimeSlotIdAndStatus(Long timeSlotId, FacilityWaitlistEntry.Status status);
+
+    // 내 앞의 대기 인원
+    long countByTimeSlotIdAndStatusAndIdLessThan(Long timeSlotId, FacilityWaitlistEntry.Status status, Long id);
+
+    // 다음 승격 후보 (등록순)
+    // 잠금 읽기라 스냅숏이 아닌 최신 상태를 보고, 다른 트랜잭션이 승격/취소 중인 대기는 건너뜀
+    @Query(value = "SELECT * FROM facility_waitlist_entries " +
+            "WHERE facility_time_slot_id = :slotId AND status = 'WAITING' " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<FacilityWaitlistEntry> lockWaiting(@Param("slotId") Long slotId, @Param("limit") int limit);
+
+    // 본인 대기 목록 (시작 임박순)
+    @Query("SELECT w FROM FacilityWaitlistEntry w " +
+            "JOIN FETCH w.timeSlot ts JOIN FETCH ts.facility LEFT JOIN FETCH ts.instructor " +
+            "WHERE w.user.id = :userId " +
+            "AND w.status = com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry.Status.WAITING " +
+            "ORDER BY w.startTime")
+    List<FacilityWaitlistEntry> findWaitingByUserId(@Param("userId") Long userId);
+
+    // 대기 상태일 때만 상태 변경 (동시에 자리가 두 번 나도 한 대기자는 한 번만 승격)
+    @Modifying
+    @Query("UPDATE FacilityWaitlistEntry w SET w.status = :status, w.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.id = :id " +
+            "AND w.status = com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry.Status.WAITING")
+    int updateStatusIfWaiting(@Param("id") Long id, @Param("status") FacilityWaitlistEntry.Status status);
+
+    @Modifying
+    @Query("UPDATE FacilityWaitlistEntry w " +
+            "SET w.status = com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry.Status.EXPIRED, " +
+            "w.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.status = com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry.Status.WAITING " +
+            "AND w.startTime <= :now")
+    int expireStarted(@Param("now") LocalDateTime now);
+
+    // 슬롯 삭제 시 대기 정리
+    @Modifying
+    @Query("DELETE FROM FacilityWaitlistEntry w WHERE w.timeSlot.id = :slotId")
+    int deleteByTimeSlotId(@Param("slotId") Long slotId);
+
+    @Modifying
+    @Query("DELETE FROM FacilityWaitlistEntry w WHERE w.timeSlot.id IN " +
+            "(SELECT t.id FROM FacilityTimeSlot t WHERE t.schedule.id = :scheduleId)")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
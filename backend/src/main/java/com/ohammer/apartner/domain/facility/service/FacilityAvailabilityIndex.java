@@ -0,0 +1,345 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.domain.facility.entity.Facility;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.facility.util.IntervalTree;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시설 가용 현황 인메모리 인덱스.
+ * 시설별 타임슬롯과 사용자별 예약(대기/승인)을 {@link IntervalTree} 로 보관해
+ * "기간 내 남은 정원"과 "사용자 예약 시간 겹침"을 DB 범위 조회 없이 O(log n) 으로 답합니다.
+ * 오늘 이후 슬롯과 오늘 이후 끝나는 예약만 적재하고, 슬롯 예약 인원은 인덱스의 예약 수로 계산합니다.
+ * 예약 변경은 트랜잭션 커밋 후 이벤트로 반영하고, 다른 인스턴스의 변경은 주기적 재적재로 맞춥니다.
+ * 조회용 인덱스이므로 예약 시 정원/중복 확인은 계속 DB(조건부 UPDATE, existsTimeConflict)가 기준입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FacilityAvailabilityIndex {
+
+    private static final Set<FacilityReservation.Status> SEAT_STATUSES =
+            EnumSet.of(FacilityReservation.Status.PENDING, FacilityReservation.Status.AGREE);
+
+    public record SlotAvailability(Long slotId, Long facilityId, Long instructorId, LocalDate date,
+                                   LocalTime startTime, LocalTime endTime, long maxCapacity, long reservedCount) {
+
+        public long remaining() {
+            return Math.max(0, maxCapacity - reservedCount);
+        }
+    }
+
+    public record ReservationEntry(Long reservationId, Long userId, Long slotId,
+                                   LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    // 예약 생성/상태 변경 이벤트 (previousStatus 가 null 이면 새 예약)
+    // 인덱스/캘린더 캐시는 커밋 이후, 이용 통계는 같은 트랜잭션에서 반영
+    public record ReservationChange(Long reservationId, Long userId, Long apartmentId, Long buildingId,
+                                    Long facilityId, Long slotId, LocalDate date,
+                                    LocalDateTime startTime, LocalDateTime endTime,
+                                    FacilityReservation.Status previousStatus, FacilityReservation.Status status) {
+
+        // 상태를 바꾼 뒤 호출
+        public static ReservationChange of(FacilityReservation reservation, FacilityReservation.Status previousStatus) {
+            Facility facility = reservation.getFacility();
+            User user = reservation.getUser();
+            return new ReservationChange(reservation.getId(), user.getId(),
+                    facility.getApartment().getId(),
+                    user.getBuilding() != null ? user.getBuilding().getId() : null,
+                    facility.getId(),
+                    reservation.getTimeSlot() != null ? reservation.getTimeSlot().getId() : null,
+                    reservation.getDate(), reservation.getStartTime(), reservation.getEndTime(),
+                    previousStatus, reservation.getStatus());
+        }
+    }
+
+    private record SlotEntry(Long slotId, Long facilityId, Long instructorId, LocalDate date,
+                             LocalTime startTime, LocalTime endTime, long maxCapacity) {
+
+        LocalDateTime startAt() {
+            return date.atTime(startTime);
+        }
+
+        // 자정을 넘기는 슬롯은 다음 날 종료
+        LocalDateTime endAt() {
+            return endTime.isAfter(startTime) ? date.atTime(endTime) : date.plusDays(1).atTime(endTime);
+        }
+    }
+
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot(LocalDate.now());
+
+    // 재적재 중 들어온 예약 변경 (새 인덱스에 다시 반영, 예약 ID 기준이라 두 번 반영돼도 결과가 같음)
+    private List<ReservationChange> changesDuringReload;
+
+    private static final class Snapshot {
+        final LocalDate coveredFrom;
+        final Map<Long, IntervalTree<SlotEntry>> slotsByFacility = new HashMap<>();
+        final Map<Long, SlotEntry> slotById = new HashMap<>();
+        final Map<Long, IntervalTree<ReservationEntry>> reservationsByUser = new HashMap<>();
+        final Map<Long, ReservationEntry> reservationById = new HashMap<>();
+        final Map<Long, Set<Long>> reservationIdsBySlot = new HashMap<>();
+
+        Snapshot(LocalDate coveredFrom) {
+            this.coveredFrom = coveredFrom;
+        }
+
+        void putSlot(SlotEntry slot) {
+            removeSlot(slot.slotId());
+            slotById.put(slot.slotId(), slot);
+            slotsByFacility.computeIfAbsent(slot.facilityId(), f -> new IntervalTree<>())
+                    .put(minutes(slot.startAt()), minutes(slot.endAt()), slot.slotId(), slot);
+        }
+
+        void removeSlot(Long slotId) {
+            SlotEntry slot = slotById.remove(slotId);
+            if (slot == null) {
+                return;
+            }
+            IntervalTree<SlotEntry> tree = slotsByFacility.get(slot.facilityId());
+            if (tree != null) {
+                tree.remove(minutes(slot.startAt()), slotId);
+                if (tree.isEmpty()) {
+                    slotsByFacility.remove(slot.facilityId());
+                }
+            }
+        }
+
+        void putReservation(ReservationEntry reservation) {
+            if (!reservation.endTime().isAfter(reservation.startTime())) {
+                return;
+            }
+            removeReservation(reservation.reservationId());
+            reservationById.put(reservation.reservationId(), reservation);
+            reservationsByUser.computeIfAbsent(reservation.userId(), u -> new IntervalTree<>())
+                    .put(minutes(reservation.startTime()), minutes(reservation.endTime()),
+                            reservation.reservationId(), reservation);
+            if (reservation.slotId() != null) {
+                reservationIdsBySlot.computeIfAbsent(reservation.slotId(), s -> new HashSet<>())
+                        .add(reservation.reservationId());
+            }
+        }
+
+        void removeReservation(Long reservationId) {
+            ReservationEntry reservation = reservationById.remove(reservationId);
+            if (reservation == null) {
+                return;
+            }
+            IntervalTree<ReservationEntry> tree = reservationsByUser.get(reservation.userId());
+            if (tree != null) {
+                tree.remove(minutes(reservation.startTime()), reservationId);
+                if (tree.isEmpty()) {
+                    reservationsByUser.remove(reservation.userId());
+                }
+            }
+            Set<Long> ids = reservationIdsBySlot.get(reservation.slotId());
+            if (ids != null) {
+                ids.remove(reservationId);
+                if (ids.isEmpty()) {
+                    reservationIdsBySlot.remove(reservation.slotId());
+                }
+            }
+        }
+
+        void apply(ReservationChange change) {
+            if (change.status() != null && SEAT_STATUSES.contains(change.status())) {
+                if (change.startTime() != null && change.endTime() != null
+                        && change.endTime().isAfter(coveredFrom.atStartOfDay())) {
+                    putReservation(new ReservationEntry(change.reservationId(), change.userId(), change.slotId(),
+                            change.startTime(), change.endTime()));
+                }
+            } else {
+                removeReservation(change.reservationId());
+            }
+        }
+
+        SlotAvailability toAvailability(SlotEntry slot) {
+            Set<Long> ids = reservationIdsBySlot.get(slot.slotId());
+            return new SlotAvailability(slot.slotId(), slot.facilityId(), slot.instructorId(), slot.date(),
+                    slot.startTime(), slot.endTime(), slot.maxCapacity(), ids != null ? ids.size() : 0);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 날짜가 바뀐 범위와 다른 인스턴스의 변경 반영
+    @Scheduled(fixedDelayString = "${facility.availability.refresh-ms:300000}",
+            initialDelayString = "${facility.availability.refresh-ms:300000}")
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now();
+        withWriteLock(() -> changesDuringReload = new ArrayList<>());
+        Snapshot fresh = new Snapshot(today);
+        try {
+            for (Object[] row : facilityTimeSlotRepository.findAvailabilityRows(today, null)) {
+                fresh.putSlot(toSlot(row));
+            }
+            for (Object[] row : facilityReservationRepository.findActiveIntervals(today.atStartOfDay(), SEAT_STATUSES)) {
+                fresh.putReservation(new ReservationEntry((Long) row[0], (Long) row[1], (Long) row[2],
+                        (LocalDateTime) row[3], (LocalDateTime) row[4]));
+            }
+        } catch (RuntimeException e) {
+            withWriteLock(() -> changesDuringReload = null);
+            throw e;
+        }
+        withWriteLock(() -> {
+            changesDuringReload.forEach(fresh::apply);
+            changesDuringReload = null;
+            snapshot = fresh;
+        });
+        log.info("[FacilityAvailability] 가용 인덱스 적재 완료: slots={}, reservations={}",
+                fresh.slotById.size(), fresh.reservationById.size());
+    }
+
+    /**
+     * 시설의 [from, to) 와 겹치는 슬롯과 남은 정원 (시작 시각 순).
+     */
+    public List<SlotAvailability> findSlots(Long facilityId, LocalDateTime from, LocalDateTime to) {
+        return withReadLock(current -> {
+            IntervalTree<SlotEntry> tree = current.slotsByFacility.get(facilityId);
+            if (tree == null) {
+                return List.of();
+            }
+            return tree.overlapping(minutes(from), minutes(to)).stream()
+                    .map(current::toAvailability)
+                    .toList();
+        });
+    }
+
+    /**
+     * 시설의 [from, to) 와 겹치는 슬롯의 남은 정원 합계.
+     */
+    public long freeCapacity(Long facilityId, LocalDateTime from, LocalDateTime to) {
+        return findSlots(facilityId, from, to).stream()
+                .mapToLong(SlotAvailability::remaining)
+                .sum();
+    }
+
+    /**
+     * 사용자에게 [from, to) 와 겹치는 대기/승인 예약이 있는지 확인합니다.
+     */
+    public boolean hasUserOverlap(Long userId, LocalDateTime from, LocalDateTime to) {
+        return withReadLock(current -> {
+            IntervalTree<ReservationEntry> tree = current.reservationsByUser.get(userId);
+            return tree != null && tree.overlaps(minutes(from), minutes(to));
+        });
+    }
+
+    /**
+     * 사용자의 [from, to) 와 겹치는 대기/승인 예약 (시작 시각 순).
+     */
+    public List<ReservationEntry> findUserReservations(Long userId, LocalDateTime from, LocalDateTime to) {
+        return withReadLock(current -> {
+            IntervalTree<ReservationEntry> tree = current.reservationsByUser.get(userId);
+            return tree != null ? tree.overlapping(minutes(from), minutes(to)) : List.<ReservationEntry>of();
+        });
+    }
+
+    // 인덱스가 담고 있는 첫 날짜 (그 이전 슬롯은 없음)
+    public LocalDate getCoveredFrom() {
+        return withReadLock(current -> current.coveredFrom);
+    }
+
+    public void publish(ReservationChange change) {
+        if (change.reservationId() == null || change.userId() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(change);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChange(ReservationChange change) {
+        withWriteLock(() -> {
+            snapshot.apply(change);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        });
+    }
+
+    // 슬롯 생성/스케줄 삭제 후 시설 슬롯을 DB 기준으로 다시 적재
+    public void reloadFacilityAfterCommit(Long facilityId) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                List<SlotEntry> slots = facilityTimeSlotRepository.findAvailabilityRows(getCoveredFrom(), facilityId)
+                        .stream()
+                        .map(FacilityAvailabilityIndex::toSlot)
+                        .toList();
+                withWriteLock(() -> {
+                    List<Long> stale = snapshot.slotById.values().stream()
+                            .filter(slot -> slot.facilityId().equals(facilityId))
+                            .map(SlotEntry::slotId)
+                            .toList();
+                    stale.forEach(snapshot::removeSlot);
+                    slots.forEach(snapshot::putSlot);
+                });
+            } catch (Exception e) {
+                // 다음 재적재 주기에 반영
+                log.warn("[FacilityAvailability] 시설 슬롯 재적재 실패: facilityId={}, error={}", facilityId, e.getMessage());
+            }
+        });
+    }
+
+    public void removeSlotAfterCommit(Long slotId) {
+        TransactionUtils.afterCommit(() -> withWriteLock(() -> snapshot.removeSlot(slotId)));
+    }
+
+    private <R> R withReadLock(Function<Snapshot, R> action) {
+        lock.readLock().lock();
+        try {
+            return action.apply(snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static SlotEntry toSlot(Object[] row) {
+        return new SlotEntry((Long) row[0], (Long) row[1], (Long) row[2], (LocalDate) row[3],
+                (LocalTime) row[4], (LocalTime) row[5], (Long) row[6]);
+    }
+
+    private static long minutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
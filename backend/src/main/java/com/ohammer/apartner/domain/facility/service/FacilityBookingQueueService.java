@@ -0,0 +1,557 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.config.FacilityBookingQueueProperties;
+import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityBookingTicketDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityBookingTicketDto.TicketStatus;
+import com.ohammer.apartner.domain.facility.entity.Facility;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
+import com.ohammer.apartner.global.exception.DuplicateResourceException;
+import com.ohammer.apartner.global.service.AlarmService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기 시간대 예약 대기열.
+ * 대기열 예약으로 지정된 슬롯(queueBooking)은 신청을 바로 처리하지 않고 슬롯별 Redis 목록에 도착 순서대로 넣은 뒤,
+ * 슬롯마다 한 인스턴스만(Redis 잠금) batchSize 건씩 한 트랜잭션에서 처리합니다.
+ * 꺼낸 신청은 슬롯별 처리 중 목록으로 옮겨(LMOVE) 두고 커밋과 결과 저장이 끝난 뒤에 지우므로,
+ * 처리 중 서버가 죽어도 잠금이 풀린 뒤 다음 처리자가 처리 중 목록부터 이어서 처리합니다.
+ * 예약에 신청 ID를 함께 저장하므로 이미 커밋된 신청을 다시 처리하면 새로 예약하지 않고 그 예약을 결과로 돌려줍니다.
+ * 커밋과 확인 직전에 잠금을 연장하면서 아직 이 인스턴스의 잠금인지 확인하고, 잠금을 잃었으면 롤백하고 손대지 않습니다.
+ * 예약이 열리는 순간 몰리는 요청은 대기열에 넣고 바로 응답하므로 DB 부하가 처리 속도만큼으로 고르게 퍼집니다.
+ * 처리 결과는 신청자에게 알림(SSE)으로 보내고 신청 ID로도 조회할 수 있습니다. 관리자 알림은 배치마다 한 건으로 묶습니다.
+ * 같은 사용자는 한 슬롯에 한 번만 대기할 수 있으며, Redis 장애 시에는 신청을 바로 처리합니다.
+ */
+@Slf4j
+@Service
+public class FacilityBookingQueueService {
+
+    private static final String KEY_PREFIX = "facility:booking-queue:";
+    private static final String ACTIVE_SLOTS_KEY = KEY_PREFIX + "slots";
+    private static final String TICKET_KEY_PREFIX = "facility:booking-ticket:";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String SOLD_OUT_MESSAGE = "예약이 마감되었습니다.";
+
+    // KEYS[1]=슬롯 대기자 집합, KEYS[2]=슬롯 대기열, KEYS[3]=대기열 있는 슬롯 집합, KEYS[4]=신청 정보
+    // ARGV[1]=userId, ARGV[2]=ticketId, ARGV[3]=slotId, ARGV[4]=최대 대기 인원, ARGV[5]=요청사항, ARGV[6]=보관 시간(초)
+    // 이미 대기 중 -1, 대기열 가득 참 -2, 성공 시 대기 순번
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = RedisScript.of(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return -1 end " +
+            "if redis.call('LLEN', KEYS[2]) >= tonumber(ARGV[4]) then return -2 end " +
+            "redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[6]) " +
+            "redis.call('HSET', KEYS[4], 'userId', ARGV[1], 'slotId', ARGV[3], 'message', ARGV[5], 'status', 'QUEUED') " +
+            "redis.call('EXPIRE', KEYS[4], ARGV[6]) " +
+            "local position = redis.call('RPUSH', KEYS[2], ARGV[2]) " +
+            "redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "return position",
+            Long.class);
+
+    // KEYS[1]=슬롯 대기열, KEYS[2]=처리 중 목록, ARGV[1]=최대 건수
+    // 대기열 앞에서부터 처리 중 목록으로 옮기고 옮긴 신청 ID 반환
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of(
+            "local claimed = {} " +
+            "for i = 1, tonumber(ARGV[1]) do " +
+            "  local ticketId = redis.call('LMOVE', KEYS[1], KEYS[2], 'LEFT', 'RIGHT') " +
+            "  if not ticketId then break end " +
+            "  claimed[#claimed + 1] = ticketId " +
+            "end " +
+            "return claimed",
+            List.class);
+
+    // KEYS[1]=처리 중 목록, ARGV=처리를 마친 신청 ID
+    private static final RedisScript<Long> ACK_SCRIPT = RedisScript.of(
+            "local removed = 0 " +
+            "for i = 1, #ARGV do removed = removed + redis.call('LREM', KEYS[1], 1, ARGV[i]) end " +
+            "return removed",
+            Long.class);
+
+    // KEYS[1]=슬롯 대기열, KEYS[2]=처리 중 목록, KEYS[3]=대기열 있는 슬롯 집합, ARGV[1]=slotId
+    // 둘 다 비어 있을 때만 목록에서 제거 (그사이 들어온 신청이 처리되지 않는 일이 없도록)
+    private static final RedisScript<Long> DEACTIVATE_SCRIPT = RedisScript.of(
+            "if redis.call('LLEN', KEYS[1]) > 0 or redis.call('LLEN', KEYS[2]) > 0 then return 0 end " +
+            "return redis.call('SREM', KEYS[3], ARGV[1])",
+            Long.class);
+
+    // KEYS[1]=잠금, ARGV[1]=잠금 토큰, ARGV[2]=유지 시간(밀리초)
+    // 아직 내 잠금이면 유지 시간을 다시 늘림
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=잠금, ARGV[1]=잠금 토큰
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private record BookingTicket(String ticketId, Long userId, Long slotId, String requestMessage) {
+    }
+
+    private record BookingResult(BookingTicket ticket, TicketStatus status, Long reservationId, String message) {
+    }
+
+    // 알림에 쓰는 슬롯 요약
+    private record SlotSummary(Long apartmentId, String facilityName, String timeText) {
+    }
+
+    private record SlotInfo(Long apartmentId, boolean queueBooking, LocalDateTime startAt, long loadedAt) {
+    }
+
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final UserRepository userRepository;
+    private final AlarmService alarmService;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FacilityBookingQueueProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 슬롯 ID -> 대기열 여부/소속 아파트 (신청이 몰릴 때 슬롯 조회를 줄이기 위함)
+    private final Map<Long, SlotInfo> slotCache = new ConcurrentHashMap<>();
+
+    public FacilityBookingQueueService(FacilityTimeSlotRepository facilityTimeSlotRepository,
+                                       FacilityReservationRepository facilityReservationRepository,
+                                       UserRepository userRepository,
+                                       AlarmService alarmService,
+                                       FacilityAvailabilityIndex facilityAvailabilityIndex,
+                                       FacilityNoShowPenaltyService facilityNoShowPenaltyService,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       FacilityBookingQueueProperties properties,
+                                       PlatformTransactionManager transactionManager) {
+        this.facilityTimeSlotRepository = facilityTimeSlotRepository;
+        this.facilityReservationRepository = facilityReservationRepository;
+        this.userRepository = userRepository;
+        this.alarmService = alarmService;
+        this.facilityAvailabilityIndex = facilityAvailabilityIndex;
+        this.facilityNoShowPenaltyService = facilityNoShowPenaltyService;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대기열 예약 슬롯에 예약을 신청합니다. 신청은 대기열에 들어가고 결과는 알림과 신청 조회로 확인합니다.
+     */
+    public FacilityBookingTicketDto enqueue(Long userId, Long apartmentId, FacilityReservationRequestDto dto) {
+        if (dto == null || dto.getTimeSlotId() == null) {
+            throw new IllegalArgumentException("타임슬롯 ID가 없습니다.");
+        }
+        Long slotId = dto.getTimeSlotId();
+        SlotInfo slot = slotInfo(slotId);
+        if (slot == null || !slot.apartmentId().equals(apartmentId)) {
+            throw new IllegalArgumentException("타임슬롯 없음");
+        }
+        if (!slot.queueBooking()) {
+            throw new IllegalArgumentException("대기열 예약 시간대가 아닙니다.");
+        }
+        if (slot.startAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalStateException("이미 시작된 시간대입니다.");
+        }
+        facilityNoShowPenaltyService.checkReservable(userId);
+
+        String requestMessage = dto.getRequestMessage() != null ? dto.getRequestMessage() : "";
+        BookingTicket ticket = new BookingTicket(UUID.randomUUID().toString(), userId, slotId, requestMessage);
+        Long position;
+        try {
+            position = redisTemplate.execute(ENQUEUE_SCRIPT,
+                    List.of(usersKey(slotId), queueKey(slotId), ACTIVE_SLOTS_KEY, ticketKey(ticket.ticketId())),
+                    String.valueOf(userId), ticket.ticketId(), String.valueOf(slotId),
+                    String.valueOf(properties.getMaxQueueLength()), requestMessage,
+                    String.valueOf(Duration.ofMinutes(properties.getTicketTtlMinutes()).toSeconds()));
+        } catch (Exception e) {
+            // 대기열을 쓸 수 없으면 바로 처리
+            log.warn("[BookingQueue] Redis 대기열 등록 실패, 바로 처리: slotId={}, userId={}, error={}", slotId, userId, e.getMessage());
+            BookingResult result = process(slotId, List.of(ticket), () -> true).get(0);
+            publish(slotId, List.of(result));
+            return toDto(result);
+        }
+
+        if (position == null) {
+            throw new IllegalStateException("예약 대기열 등록에 실패했습니다.");
+        }
+        if (position == -1L) {
+            throw new DuplicateResourceException("이미 이 시간대 예약 대기열에 신청했습니다.");
+        }
+        if (position == -2L) {
+            throw new IllegalStateException("예약 대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return FacilityBookingTicketDto.builder()
+                .ticketId(ticket.ticketId())
+                .timeSlotId(slotId)
+                .status(TicketStatus.QUEUED)
+                .position(position)
+                .build();
+    }
+
+    /**
+     * 대기열 신청 결과를 조회합니다. 본인 신청만 조회할 수 있습니다.
+     */
+    public FacilityBookingTicketDto getTicket(Long userId, String ticketId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(ticketKey(ticketId));
+        if (fields.isEmpty() || !String.valueOf(userId).equals(fields.get("userId"))) {
+            throw new IllegalArgumentException("예약 대기열 신청 정보가 없습니다.");
+        }
+        Object reservationId = fields.get("reservationId");
+        Object message = fields.get("result");
+        return FacilityBookingTicketDto.builder()
+                .ticketId(ticketId)
+                .timeSlotId(Long.valueOf((String) fields.get("slotId")))
+                .status(TicketStatus.valueOf((String) fields.get("status")))
+                .reservationId(reservationId != null ? Long.valueOf((String) reservationId) : null)
+                .message(message != null ? (String) message : null)
+                .build();
+    }
+
+    /**
+     * 슬롯 설정이 바뀌면 캐시를 비웁니다.
+     */
+    public void evictSlot(Long slotId) {
+        slotCache.remove(slotId);
+    }
+
+    @Scheduled(fixedDelayString = "${facility.booking-queue.poll-interval-ms:500}")
+    public void drain() {
+        Set<String> slotIds;
+        try {
+            slotIds = redisTemplate.opsForSet().members(ACTIVE_SLOTS_KEY);
+        } catch (Exception e) {
+            log.warn("[BookingQueue] 대기열 목록 조회 실패: error={}", e.getMessage());
+            return;
+        }
+        if (slotIds == null) {
+            return;
+        }
+        // 슬롯마다 한 배치씩 돌아가며 처리
+        for (String slotId : slotIds) {
+            drainSlot(Long.valueOf(slotId));
+        }
+    }
+
+    private void drainSlot(Long slotId) {
+        String lockKey = queueKey(slotId) + ":lock";
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofMillis(properties.getLockTtlMs()));
+            if (!Boolean.TRUE.equals(locked)) {
+                // 다른 인스턴스가 이 슬롯을 처리 중
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[BookingQueue] 슬롯 잠금 실패: slotId={}, error={}", slotId, e.getMessage());
+            return;
+        }
+
+        try {
+            List<String> ticketIds = claim(slotId);
+            if (ticketIds.isEmpty()) {
+                redisTemplate.execute(DEACTIVATE_SCRIPT, List.of(queueKey(slotId), processingKey(slotId), ACTIVE_SLOTS_KEY),
+                        String.valueOf(slotId));
+                return;
+            }
+            List<BookingTicket> tickets = new ArrayList<>();
+            for (String ticketId : ticketIds) {
+                Map<Object, Object> fields = redisTemplate.opsForHash().entries(ticketKey(ticketId));
+                if (fields.isEmpty() || !TicketStatus.QUEUED.name().equals(fields.get("status"))) {
+                    // 보관 시간이 지나 신청 정보가 사라졌거나, 결과까지 저장한 뒤 확인 전에 멈춘 경우
+                    continue;
+                }
+                tickets.add(new BookingTicket(ticketId, Long.valueOf((String) fields.get("userId")), slotId,
+                        (String) fields.get("message")));
+            }
+            BooleanSupplier ownsLock = () -> renewLock(lockKey, token);
+            if (!tickets.isEmpty()) {
+                List<BookingResult> results = process(slotId, tickets, ownsLock);
+                if (results == null) {
+                    log.warn("[BookingQueue] 처리 중 슬롯 잠금을 잃어 배치를 되돌림: slotId={}, tickets={}", slotId, tickets.size());
+                    return;
+                }
+                publish(slotId, results);
+            }
+            // 커밋과 결과 저장이 끝난 신청만 처리 중 목록에서 제거 (잠금을 잃었으면 새 처리자에게 맡김)
+            if (ownsLock.getAsBoolean()) {
+                redisTemplate.execute(ACK_SCRIPT, List.of(processingKey(slotId)), ticketIds.toArray());
+            }
+        } catch (Exception e) {
+            log.error("[BookingQueue] 대기열 처리 실패: slotId={}, error={}", slotId, e.getMessage());
+        } finally {
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            } catch (Exception e) {
+                // 잠금 유지 시간이 지나면 풀림
+                log.warn("[BookingQueue] 슬롯 잠금 해제 실패: slotId={}, error={}", slotId, e.getMessage());
+            }
+        }
+    }
+
+    // 이전 처리자가 확인하지 못하고 멈춘 신청이 있으면 그것부터, 없으면 대기열에서 batchSize 건을 처리 중 목록으로 옮김
+    @SuppressWarnings("unchecked")
+    private List<String> claim(Long slotId) {
+        List<String> pending = redisTemplate.opsForList().range(processingKey(slotId), 0, -1);
+        if (pending != null && !pending.isEmpty()) {
+            log.warn("[BookingQueue] 처리 중 목록 복구: slotId={}, tickets={}", slotId, pending.size());
+            return pending;
+        }
+        List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(queueKey(slotId), processingKey(slotId)),
+                String.valueOf(Math.max(1, properties.getBatchSize())));
+        return claimed != null ? claimed : List.of();
+    }
+
+    // 아직 내 잠금이면 유지 시간을 늘리고 true
+    private boolean renewLock(String lockKey, String token) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), token,
+                    String.valueOf(properties.getLockTtlMs()));
+            return renewed != null && renewed == 1L;
+        } catch (Exception e) {
+            log.warn("[BookingQueue] 슬롯 잠금 연장 실패: lockKey={}, error={}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    // 한 슬롯의 신청들을 도착 순서대로 한 트랜잭션에서 처리
+    // 커밋 직전에 잠금을 잃었으면(다른 처리자가 같은 신청을 처리 중) 롤백하고 null 반환
+    private List<BookingResult> process(Long slotId, List<BookingTicket> tickets, BooleanSupplier ownsLock) {
+        List<BookingResult> results = new ArrayList<>();
+        AtomicBoolean lockLost = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                results.clear();
+                // 이미 커밋된 신청(결과 저장 전에 멈춘 배치)은 만든 예약을 그대로 결과로 사용
+                Map<String, Long> booked = new HashMap<>();
+                facilityReservationRepository.findIdsByBookingTicketIds(
+                                tickets.stream().map(BookingTicket::ticketId).toList())
+                        .forEach(row -> booked.put((String) row[0], (Long) row[1]));
+                FacilityTimeSlot slot = facilityTimeSlotRepository.findById(slotId).orElse(null);
+                Map<Long, User> users = userRepository.findAllById(
+                                tickets.stream().map(BookingTicket::userId).collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+                boolean full = false;
+                for (BookingTicket ticket : tickets) {
+                    Long reservationId = booked.get(ticket.ticketId());
+                    if (reservationId != null) {
+                        results.add(new BookingResult(ticket, TicketStatus.RESERVED, reservationId, "예약이 신청되었습니다."));
+                        continue;
+                    }
+                    BookingResult result = book(slot, users.get(ticket.userId()), ticket, full);
+                    // 마감 이후 신청은 슬롯을 다시 갱신하지 않고 바로 실패 처리
+                    full = full || SOLD_OUT_MESSAGE.equals(result.message());
+                    results.add(result);
+                }
+                if (!ownsLock.getAsBoolean()) {
+                    lockLost.set(true);
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (RuntimeException e) {
+            if (!ownsLock.getAsBoolean()) {
+                // 다른 처리자가 같은 신청을 이어서 처리하므로 실패로 알리지 않음
+                return null;
+            }
+            log.error("[BookingQueue] 예약 처리 실패: slotId={}, tickets={}, error={}", slotId, tickets.size(), e.getMessage());
+            results.clear();
+            tickets.forEach(ticket -> results.add(new BookingResult(ticket, TicketStatus.FAILED, null,
+                    "일시적인 오류로 예약하지 못했습니다. 다시 신청해주세요.")));
+        }
+        return lockLost.get() ? null : results;
+    }
+
+    // 예외 대신 결과로 돌려줘 한 건의 실패가 배치 전체를 롤백하지 않도록 함
+    private BookingResult book(FacilityTimeSlot slot, User user, BookingTicket ticket, boolean full) {
+        if (slot == null) {
+            return failed(ticket, "타임슬롯 없음");
+        }
+        if (user == null) {
+            return failed(ticket, "유저 없음");
+        }
+        Facility facility = slot.getFacility();
+        if (user.getApartment() == null || !user.getApartment().getId().equals(facility.getApartment().getId())) {
+            return failed(ticket, "잘못된 접근");
+        }
+        LocalDateTime startTime = slot.getStartTime().atDate(slot.getDate());
+        LocalDateTime endTime = slot.getEndTime().atDate(slot.getDate());
+        if (startTime.isBefore(LocalDateTime.now())) {
+            return failed(ticket, "이미 시작된 시간대입니다.");
+        }
+        if (full) {
+            return failed(ticket, SOLD_OUT_MESSAGE);
+        }
+        if (facilityReservationRepository.existsTimeConflict(user.getId(), startTime, endTime)) {
+            return failed(ticket, "동일 시간대에 이미 예약이 있습니다.");
+        }
+        // 신청(PENDING)부터 정원 한 자리를 잡음
+        if (facilityTimeSlotRepository.increaseReservedCount(slot.getId()) == 0) {
+            return failed(ticket, SOLD_OUT_MESSAGE);
+        }
+
+        FacilityReservation reservation = facilityReservationRepository.save(FacilityReservation.builder()
+                .facility(facility)
+                .user(user)
+                .timeSlot(slot)
+                .date(slot.getDate())
+                .startTime(startTime)
+                .endTime(endTime)
+                .requestMessage(ticket.requestMessage() == null || ticket.requestMessage().isEmpty()
+                        ? null : ticket.requestMessage())
+                .status(FacilityReservation.Status.PENDING)
+                .bookingTicketId(ticket.ticketId())
+                .build());
+        facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(reservation, null));
+        return new BookingResult(ticket, TicketStatus.RESERVED, reservation.getId(), "예약이 신청되었습니다.");
+    }
+
+    // 결과 저장 + 신청자별 알림 + 관리자 알림 한 건
+    private void publish(Long slotId, List<BookingResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        SlotSummary summary = transactionTemplate.execute(status -> facilityTimeSlotRepository.findById(slotId)
+                .map(slot -> new SlotSummary(
+                        slot.getFacility().getApartment().getId(),
+                        slot.getFacility().getName(),
+                        formatTime(slot.getDate(), slot.getStartTime(), slot.getEndTime())))
+                .orElse(null));
+
+        long ttlSeconds = Duration.ofMinutes(properties.getTicketTtlMinutes()).toSeconds();
+        int reserved = 0;
+        for (BookingResult result : results) {
+            saveResult(result, ttlSeconds);
+            if (result.status() == TicketStatus.RESERVED) {
+                reserved++;
+            }
+            if (summary != null) {
+                notifyResult(result, summary);
+            }
+        }
+        if (reserved > 0 && summary != null) {
+            try {
+                alarmService.notifyApartmentAdmins(summary.apartmentId(), "새로운 시설 예약 신청", "info",
+                        "FACILITY_RESERVATION_REQUEST",
+                        summary.facilityName() + " " + summary.timeText() + " 예약 대기열에서 " + reserved + "건이 신청되었습니다.",
+                        "/admin/facilities/reservations", null, null, null);
+            } catch (Exception e) {
+                log.warn("[BookingQueue] 관리자 알림 실패: slotId={}, error={}", slotId, e.getMessage());
+            }
+        }
+    }
+
+    private void saveResult(BookingResult result, long ttlSeconds) {
+        BookingTicket ticket = result.ticket();
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("status", result.status().name());
+            fields.put("result", result.message());
+            if (result.reservationId() != null) {
+                fields.put("reservationId", String.valueOf(result.reservationId()));
+            }
+            redisTemplate.opsForHash().putAll(ticketKey(ticket.ticketId()), fields);
+            redisTemplate.expire(ticketKey(ticket.ticketId()), Duration.ofSeconds(ttlSeconds));
+            // 처리가 끝났으므로 같은 슬롯에 다시 신청할 수 있음 (실패한 경우 재신청)
+            redisTemplate.opsForSet().remove(usersKey(ticket.slotId()), String.valueOf(ticket.userId()));
+        } catch (Exception e) {
+            log.warn("[BookingQueue] 신청 결과 저장 실패: ticketId={}, error={}", ticket.ticketId(), e.getMessage());
+        }
+    }
+
+    private void notifyResult(BookingResult result, SlotSummary summary) {
+        BookingTicket ticket = result.ticket();
+        boolean reserved = result.status() == TicketStatus.RESERVED;
+        Map<String, Object> extra = new HashMap<>();
+        extra.put("ticketId", ticket.ticketId());
+        extra.put("status", result.status().name());
+        try {
+            String message = reserved
+                    ? summary.facilityName() + " " + summary.timeText() + " 예약이 신청되었습니다."
+                    : summary.facilityName() + " " + summary.timeText() + " 예약에 실패했습니다. (" + result.message() + ")";
+            alarmService.notifyUser(ticket.userId(), summary.apartmentId(),
+                    reserved ? "시설 예약 신청 완료" : "시설 예약 실패", reserved ? "info" : "warning",
+                    "FACILITY_RESERVATION", message, "/udash/facilities", ticket.userId(), result.reservationId(), extra);
+        } catch (Exception e) {
+            log.warn("[BookingQueue] 신청자 알림 실패: ticketId={}, error={}", ticket.ticketId(), e.getMessage());
+        }
+    }
+
+    private SlotInfo slotInfo(Long slotId) {
+        SlotInfo cached = slotCache.get(slotId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt() < properties.getSlotCacheSeconds() * 1000L) {
+            return cached;
+        }
+        List<Object[]> rows = facilityTimeSlotRepository.findBookingInfoById(slotId);
+        if (rows.isEmpty()) {
+            slotCache.remove(slotId);
+            return null;
+        }
+        Object[] row = rows.get(0);
+        SlotInfo info = new SlotInfo((Long) row[1], Boolean.TRUE.equals(row[2]),
+                ((LocalTime) row[4]).atDate((LocalDate) row[3]), now);
+        slotCache.put(slotId, info);
+        return info;
+    }
+
+    private static BookingResult failed(BookingTicket ticket, String message) {
+        return new BookingResult(ticket, TicketStatus.FAILED, null, message);
+    }
+
+    private static FacilityBookingTicketDto toDto(BookingResult result) {
+        return FacilityBookingTicketDto.builder()
+                .ticketId(result.ticket().ticketId())
+                .timeSlotId(result.ticket().slotId())
+                .status(result.status())
+                .reservationId(result.reservationId())
+                .message(result.message())
+                .build();
+    }
+
+    private static String formatTime(LocalDate date, LocalTime start, LocalTime end) {
+        return start.atDate(date).format(DATE_TIME_FORMAT) + " ~ " + end.format(TIME_FORMAT);
+    }
+
+    private static String queueKey(Long slotId) {
+        return KEY_PREFIX + slotId;
+    }
+
+    private static String processingKey(Long slotId) {
+        return KEY_PREFIX + slotId + ":processing";
+    }
+
+    private static String usersKey(Long slotId) {
+        return KEY_PREFIX + slotId + ":users";
+    }
+
+    private static String ticketKey(String ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohammer.apartner.config.FacilityTimeSlotProperties;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityMonthlyCalendarDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityMonthlyCalendarDto.Level;
+import com.ohammer.apartner.domain.facility.repository.FacilityRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시설 월간 예약 현황 캘린더.
+ * 한 달 치 슬롯을 슬롯별 예약 인원 카운터(reservedCount)와 함께 한 번에 조회해 날짜별 정원/남은 자리/혼잡도를 계산하고,
+ * 결과를 시설+월 단위로 Redis 에 짧게 캐시합니다. 예약/슬롯이 바뀌면 커밋 후 해당 월 캐시를 지웁니다.
+ * Redis 장애 시에는 캐시 없이 DB 에서 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FacilityCalendarService {
+
+    private static final String CACHE_KEY_PREFIX = "facility:calendar:";
+    // 예약률이 이 값 이상이면 혼잡
+    private static final int BUSY_RATE = 70;
+
+    private final FacilityRepository facilityRepository;
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FacilityTimeSlotProperties timeSlotProperties;
+
+    // 월간 캘린더 조회
+    public FacilityMonthlyCalendarDto getMonthlyCalendar(Long facilityId, Long apartmentId, YearMonth month) {
+        facilityRepository.findByIdAndApartmentId(facilityId, apartmentId)
+                .orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
+
+        String key = cacheKey(facilityId, month);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return objectMapper.readValue(cached, FacilityMonthlyCalendarDto.class);
+            }
+        } catch (Exception e) {
+            log.warn("[FacilityCalendar] 캐시 조회 실패: key={}, error={}", key, e.getMessage());
+        }
+
+        FacilityMonthlyCalendarDto calendar = build(facilityId, month);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(calendar),
+                    Duration.ofSeconds(timeSlotProperties.getCalendarCacheSeconds()));
+        } catch (Exception e) {
+            log.warn("[FacilityCalendar] 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+        return calendar;
+    }
+
+    // 예약 변경 커밋 후 해당 월 캐시 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChange(FacilityAvailabilityIndex.ReservationChange change) {
+        if (change.facilityId() == null || change.startTime() == null) {
+            return;
+        }
+        evictNow(change.facilityId(), List.of(YearMonth.from(change.startTime())));
+    }
+
+    /**
+     * 슬롯 생성/삭제 등으로 바뀐 기간의 월 캐시를 커밋 후 지웁니다.
+     */
+    public void evictAfterCommit(Long facilityId, LocalDate from, LocalDate to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth m = YearMonth.from(from); !m.isAfter(YearMonth.from(to)); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        TransactionUtils.afterCommit(() -> evictNow(facilityId, months));
+    }
+
+    private void evictNow(Long facilityId, List<YearMonth> months) {
+        try {
+            redisTemplate.delete(months.stream().map(m -> cacheKey(facilityId, m)).toList());
+        } catch (Exception e) {
+            // 캐시 시간이 지나면 갱신됨
+            log.warn("[FacilityCalendar] 캐시 삭제 실패: facilityId={}, error={}", facilityId, e.getMessage());
+        }
+    }
+
+    private FacilityMonthlyCalendarDto build(Long facilityId, YearMonth month) {
+        Map<LocalDate, List<FacilityMonthlyCalendarDto.Slot>> slotsByDate = new HashMap<>();
+        for (Object[] row : facilityTimeSlotRepository.findCalendarRows(facilityId, month.atDay(1), month.atEndOfMonth())) {
+            long maxCapacity = (Long) row[6];
+            long reserved = (Long) row[7];
+            slotsByDate.computeIfAbsent((LocalDate) row[0], d -> new ArrayList<>())
+                    .add(FacilityMonthlyCalendarDto.Slot.builder()
+                            .timeSlotId((Long) row[1])
+                            .instructorId((Long) row[2])
+                            .instructorName((String) row[3])
+                            .startTime((LocalTime) row[4])
+                            .endTime((LocalTime) row[5])
+                            .maxCapacity(maxCapacity)
+                            .reservedCount(reserved)
+                            .remaining(Math.max(0, maxCapacity - reserved))
+                            .build());
+        }
+
+        List<FacilityMonthlyCalendarDto.Day> days = new ArrayList<>();
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            List<FacilityMonthlyCalendarDto.Slot> slots = slotsByDate.getOrDefault(date, List.of());
+            long capacity = 0;
+            long reserved = 0;
+            long remaining = 0;
+            for (FacilityMonthlyCalendarDto.Slot slot : slots) {
+                capacity += slot.getMaxCapacity();
+                reserved += Math.min(slot.getReservedCount(), slot.getMaxCapacity());
+                remaining += slot.getRemaining();
+            }
+            int rate = capacity > 0 ? (int) (reserved * 100 / capacity) : 0;
+            days.add(FacilityMonthlyCalendarDto.Day.builder()
+                    .date(date)
+                    .totalCapacity(capacity)
+                    .reservedCount(reserved)
+                    .remaining(remaining)
+                    .occupancyRate(rate)
+                    .level(level(slots.isEmpty(), remaining, rate))
+                    .slots(slots)
+                    .build());
+        }
+
+        return FacilityMonthlyCalendarDto.builder()
+                .facilityId(facilityId)
+                .month(month.toString())
+                .days(days)
+                .build();
+    }
+
+    private static Level level(boolean noSlots, long remaining, int rate) {
+        if (noSlots) {
+            return Level.NONE;
+        }
+        if (remaining == 0) {
+            return Level.FULL;
+        }
+        return rate >= BUSY_RATE ? Level.BUSY : Level.AVAILABLE;
+    }
+
+    private static String cacheKey(Long facilityId, YearMonth month) {
+        return CACHE_KEY_PREFIX + facilityId + ":" + month;
+    }
+}
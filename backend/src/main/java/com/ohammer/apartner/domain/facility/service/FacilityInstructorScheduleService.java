@@ -1,17 +1,25 @@
 package com.ohammer.apartner.domain.facility.service;
 
+import com.ohammer.apartner.config.FacilityTimeSlotProperties;
 import com.ohammer.apartner.domain.facility.dto.request.InstructorScheduleCreateRequestDto;
 import com.ohammer.apartner.domain.facility.dto.response.InstructorScheduleSimpleResponseDto;
+import com.ohammer.apartner.domain.facility.dto.response.ScheduleBulkCreateResponseDto;
 import com.ohammer.apartner.domain.facility.entity.Facility;
 import com.ohammer.apartner.domain.facility.entity.FacilityInstructor;
 import com.ohammer.apartner.domain.facility.entity.FacilityInstructorSchedule;
 import com.ohammer.apartner.domain.facility.repository.FacilityInstructorRepository;
 import com.ohammer.apartner.domain.facility.repository.FacilityInstructorScheduleRepository;
 import com.ohammer.apartner.domain.facility.repository.FacilityRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityWaitlistEntryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,12 +34,42 @@ public class FacilityInstructorScheduleService {
     private final FacilityInstructorRepository facilityInstructorRepository;
     private final FacilityInstructorScheduleRepository facilityInstructorScheduleRepository;
     private final FacilityTimeSlotService facilityTimeSlotService;
+    private final FacilityTimeSlotProperties timeSlotProperties;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityWaitlistEntryRepository facilityWaitlistEntryRepository;
 
     // 스케쥴 등록
     @Transactional
     public Long createSchedulesAndSlots(
             Long facilityId, Long instructorId, Long apartmentId,
             InstructorScheduleCreateRequestDto dto
+    ) {
+        if (dto.getDayOfWeek() == null) {
+            throw new IllegalArgumentException("근무 요일을 입력해주세요.");
+        }
+        ScheduleBulkCreateResponseDto result = createSchedules(facilityId, instructorId, apartmentId, dto,
+                List.of(dto.getDayOfWeek()));
+        return result.getScheduleIds().get(0);
+    }
+
+    // 스케쥴 일괄 등록 (여러 요일, 요일별로 스케줄 1건 + 타임슬롯)
+    @Transactional
+    public ScheduleBulkCreateResponseDto createSchedulesBulk(
+            Long facilityId, Long instructorId, Long apartmentId,
+            InstructorScheduleCreateRequestDto dto
+    ) {
+        List<String> days = dto.getDaysOfWeek() != null && !dto.getDaysOfWeek().isEmpty()
+                ? dto.getDaysOfWeek()
+                : dto.getDayOfWeek() != null ? List.of(dto.getDayOfWeek()) : List.of();
+        if (days.isEmpty()) {
+            throw new IllegalArgumentException("근무 요일을 입력해주세요.");
+        }
+        return createSchedules(facilityId, instructorId, apartmentId, dto, days);
+    }
+
+    private ScheduleBulkCreateResponseDto createSchedules(
+            Long facilityId, Long instructorId, Long apartmentId,
+            InstructorScheduleCreateRequestDto dto, List<String> days
     ) {
         Facility facility = facilityRepository.findById(facilityId)
                 .orElseThrow(() -> new EntityNotFoundException("시설을 찾을 수 없습니다."));
@@ -65,40 +103,64 @@ public class FacilityInstructorScheduleService {
                     "스케줄 시간은 시설 운영시간(" + open + "~" + close + ") 내에서만 등록할 수 있습니다.");
         }
 
-        DayOfWeek dayOfWeek = DayOfWeek.valueOf(dto.getDayOfWeek());
-        List<FacilityInstructorSchedule> schedules = facilityInstructorScheduleRepository.findByInstructorIdAndDayOfWeek(
-                instructorId, dayOfWeek);
-        for (FacilityInstructorSchedule s : schedules) {
-            if (dto.getStartTime().isBefore(s.getEndTime()) && dto.getEndTime().isAfter(s.getStartTime())) {
-                throw new IllegalArgumentException("해당 요일 시간대가 겹치는 스케줄이 이미 존재합니다.");
+        // 제외일 + (옵션) 공휴일
+        Set<LocalDate> excludedDates = new HashSet<>();
+        if (dto.getExcludedDates() != null) {
+            excludedDates.addAll(dto.getExcludedDates());
+        }
+        if (!Boolean.FALSE.equals(dto.getExcludeHolidays())) {
+            excludedDates.addAll(timeSlotProperties.getHolidayDates());
+        }
+
+        List<Long> scheduleIds = new ArrayList<>();
+        Set<LocalDate> skippedDates = new TreeSet<>();
+        int created = 0;
+        int skipped = 0;
+        for (DayOfWeek dayOfWeek : days.stream().map(DayOfWeek::valueOf).distinct().toList()) {
+            List<FacilityInstructorSchedule> schedules = facilityInstructorScheduleRepository
+                    .findByInstructorIdAndDayOfWeek(instructorId, dayOfWeek);
+            for (FacilityInstructorSchedule s : schedules) {
+                if (dto.getStartTime().isBefore(s.getEndTime()) && dto.getEndTime().isAfter(s.getStartTime())) {
+                    throw new IllegalArgumentException("해당 요일 시간대가 겹치는 스케줄이 이미 존재합니다. (" + dayOfWeek + ")");
+                }
             }
+
+            FacilityInstructorSchedule schedule = FacilityInstructorSchedule.builder()
+                    .instructor(instructor)
+                    .scheduleName(dto.getScheduleName())
+                    .dayOfWeek(dayOfWeek)
+                    .startTime(dto.getStartTime())
+                    .endTime(dto.getEndTime())
+                    .capacity(dto.getCapacity())
+                    .slotMinutes(dto.getSlotMinutes())
+                    .build();
+            facilityInstructorScheduleRepository.save(schedule);
+            scheduleIds.add(schedule.getId());
+
+            // 타임슬롯 row 자동 생성
+            FacilityTimeSlotService.SlotGenerationResult result = facilityTimeSlotService.createTimeSlots(
+                    facility,
+                    instructor,
+                    schedule,
+                    dto.getStartTime(),
+                    dto.getEndTime(),
+                    dto.getSlotMinutes(),
+                    dto.getCapacity(),
+                    dto.getPeriodStart(),
+                    dto.getPeriodEnd(),
+                    excludedDates
+            );
+            created += result.created();
+            skipped += result.skipped();
+            skippedDates.addAll(result.skippedDates());
         }
 
-        FacilityInstructorSchedule schedule = FacilityInstructorSchedule.builder()
-                .instructor(instructor)
-                .scheduleName(dto.getScheduleName())
-                .dayOfWeek(dayOfWeek)
-                .startTime(dto.getStartTime())
-                .endTime(dto.getEndTime())
-                .capacity(dto.getCapacity())
-                .slotMinutes(dto.getSlotMinutes())
+        return ScheduleBulkCreateResponseDto.builder()
+                .scheduleIds(scheduleIds)
+                .createdCount(created)
+                .skippedCount(skipped)
+                .skippedDates(new ArrayList<>(skippedDates))
                 .build();
-        facilityInstructorScheduleRepository.save(schedule);
-
-        // 타임슬롯 row 자동 생성
-        facilityTimeSlotService.createTimeSlots(
-                facility,
-                instructor,
-                schedule,
-                dto.getDayOfWeek(),
-                dto.getStartTime(),
-                dto.getEndTime(),
-                dto.getSlotMinutes(),
-                dto.getCapacity(),
-                dto.getPeriodStart(),
-                dto.getPeriodEnd()
-        );
-        return schedule.getId();
     }
 
     // 스케쥴 삭제
@@ -111,7 +173,10 @@ public class FacilityInstructorScheduleService {
                 || !schedule.getInstructor().getFacility().getApartment().getId().equals(apartmentId)) {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
+        // 슬롯은 스케줄과 함께 삭제되므로 슬롯의 대기부터 정리
+        facilityWaitlistEntryRepository.deleteByScheduleId(scheduleId);
         facilityInstructorScheduleRepository.delete(schedule);
+        facilityAvailabilityIndex.reloadFacilityAfterCommit(facilityId);
     }
 
     // 스케쥴 목록 조회
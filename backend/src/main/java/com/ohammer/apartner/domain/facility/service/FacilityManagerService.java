@@ -2,9 +2,11 @@ package com.ohammer.apartner.domain.facility.service;
 
 import com.ohammer.apartner.domain.apartment.entity.Apartment;
 import com.ohammer.apartner.domain.apartment.repository.ApartmentRepository;
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityCreateRequestDto;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityUpdateRequestDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationManagerDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationPageDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationSimpleManagerDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilitySimpleResponseDto;
 import com.ohammer.apartner.domain.facility.entity.Facility;
@@ -19,11 +21,13 @@ import com.ohammer.apartner.global.service.AlarmService;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,11 +36,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FacilityManagerService {
 
+    // 이용 시작 몇 분 전부터 이용 확인 가능
+    private static final long CHECK_IN_OPEN_MINUTES = 30;
+    // 예약 목록 정렬 (시작 시각 역순, 같으면 ID 역순 - 키셋 커서와 같은 순서)
+    private static final Comparator<FacilityReservationRow> RESERVATION_ROW_ORDER =
+            Comparator.comparing(FacilityReservationRow::startTime)
+                    .thenComparing(FacilityReservationRow::reservationId)
+                    .reversed();
+
     private final ApartmentRepository apartmentRepository;
     private final FacilityRepository facilityRepository;
     private final FacilityReservationRepository facilityReservationRepository;
     private final FacilityInstructorRepository facilityInstructorRepository;
+    private final FacilityTimeSlotService facilityTimeSlotService;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
     private final AlarmService alarmService;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
 
     // 공용시설 등록
     @Transactional
@@ -137,13 +152,23 @@ public class FacilityManagerService {
     }
 
     // ---예약 관련
-    // 예약 목록 조회
-    public List<FacilityReservationSimpleManagerDto> getReservationsByApartment(Long apartmentId) {
-        List<FacilityReservation> list = facilityReservationRepository.findByFacility_Apartment_IdOrderByStartTimeDesc(
-                apartmentId);
-        return list.stream()
-                .map(FacilityReservationSimpleManagerDto::from)
-                .collect(Collectors.toList());
+    // 예약 목록 조회 (시작 시각 역순, 커서 기반)
+    public FacilityReservationPageDto<FacilityReservationSimpleManagerDto> getReservationsByApartment(
+            Long apartmentId, Long facilityId, FacilityReservation.Status status,
+            LocalDateTime cursorStartTime, Long cursorId, int size) {
+        Pageable limit = FacilityReservationPageDto.fetchLimit(cursorStartTime, cursorId, size);
+        List<Long> facilityIds = facilityRepository.findIdsByApartmentId(apartmentId);
+        if (facilityId != null) {
+            facilityIds = facilityIds.contains(facilityId) ? List.of(facilityId) : List.of();
+        }
+        // 시설마다 인덱스 순서대로 한 페이지씩 읽은 뒤 같은 정렬로 합쳐 앞에서부터 자름
+        List<FacilityReservationRow> rows = facilityIds.stream()
+                .flatMap(id -> facilityReservationRepository.findFacilityReservationRows(
+                        id, status, cursorStartTime, cursorId, limit).stream())
+                .sorted(RESERVATION_ROW_ORDER)
+                .limit(limit.getPageSize())
+                .toList();
+        return FacilityReservationPageDto.of(rows, size, FacilityReservationSimpleManagerDto::from);
     }
 
     // 예약 상세 조회
@@ -171,15 +196,43 @@ public class FacilityManagerService {
 
         // 이전 상태 저장
         FacilityReservation.Status oldStatus = reservation.getStatus();
+
+        // 거절/취소하면 정원 반납, 거절했던 예약을 다시 받으면 정원 확보 (마감이면 예외)
+        facilityTimeSlotService.applySeatChange(reservation.getTimeSlot(), oldStatus, newStatus);
         
         // 상태 변경
         reservation.setStatus(newStatus);
         reservation.setModifiedAt(LocalDateTime.now());
+        facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(reservation, oldStatus));
         
         // 상태 변경 알림 전송
         sendStatusChangeNotification(reservation, oldStatus, newStatus);
     }
     
+    // 이용 확인 (출석). 노쇼로 처리된 예약이면 노쇼 취소
+    @Transactional
+    public void checkInReservation(Long reservationId, Long apartmentId) {
+        FacilityReservation reservation = facilityReservationRepository.findById(reservationId)
+                .filter(r -> r.getFacility().getApartment().getId().equals(apartmentId))
+                .orElseThrow(() -> new IllegalArgumentException("예약 정보 없음"));
+        if (reservation.getStatus() != FacilityReservation.Status.AGREE) {
+            throw new IllegalStateException("승인된 예약만 이용 확인할 수 있습니다.");
+        }
+        if (reservation.getCheckedInAt() != null) {
+            throw new IllegalStateException("이미 이용 확인된 예약입니다.");
+        }
+        if (LocalDateTime.now().isBefore(reservation.getStartTime().minusMinutes(CHECK_IN_OPEN_MINUTES))) {
+            throw new IllegalStateException("이용 시작 " + CHECK_IN_OPEN_MINUTES + "분 전부터 이용 확인할 수 있습니다.");
+        }
+
+        reservation.setCheckedInAt(LocalDateTime.now());
+        if (reservation.isNoShow()) {
+            reservation.setNoShow(false);
+            facilityNoShowPenaltyService.evictAfterCommit(reservation.getUser().getId());
+        }
+        reservation.setModifiedAt(LocalDateTime.now());
+    }
+
     // 예약 상태 변경 알림 전송
     private void sendStatusChangeNotification(FacilityReservation reservation, 
                                              FacilityReservation.Status oldStatus,
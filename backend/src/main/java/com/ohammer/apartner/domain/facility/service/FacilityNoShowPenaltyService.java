@@ -0,0 +1,88 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.config.FacilityReminderProperties;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 노쇼 패널티.
+ * 최근 집계 기간의 노쇼 횟수를 사용자 단위로 Redis 에 캐시해 예약 신청 때마다 집계 쿼리를 돌리지 않고,
+ * 노쇼 처리/이용 확인으로 횟수가 바뀌면 커밋 후 캐시를 지웁니다. Redis 장애 시에는 DB 에서 바로 셉니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityNoShowPenaltyService {
+
+    private static final String CACHE_KEY_PREFIX = "facility:no-show:";
+
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FacilityReminderProperties properties;
+
+    // 패널티 대상이면 예외 (예약 신청 시 확인)
+    public void checkReservable(Long userId) {
+        String message = restrictionMessage(userId);
+        if (message != null) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    // 패널티 대상이면 안내 문구, 아니면 null
+    public String restrictionMessage(Long userId) {
+        int threshold = properties.getPenaltyThreshold();
+        if (threshold <= 0) {
+            return null;
+        }
+        long count = getNoShowCount(userId);
+        if (count < threshold) {
+            return null;
+        }
+        return "최근 " + properties.getPenaltyWindowDays() + "일간 노쇼 " + count + "회로 시설 예약이 제한됩니다.";
+    }
+
+    // 최근 집계 기간의 노쇼 횟수
+    public long getNoShowCount(Long userId) {
+        String key = CACHE_KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[NoShowPenalty] 캐시 조회 실패: userId={}, error={}", userId, e.getMessage());
+        }
+
+        long count = facilityReservationRepository.countNoShows(userId,
+                LocalDateTime.now().minusDays(properties.getPenaltyWindowDays()));
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(count),
+                    Duration.ofSeconds(properties.getPenaltyCacheSeconds()));
+        } catch (Exception e) {
+            log.warn("[NoShowPenalty] 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 노쇼 횟수가 바뀐 사용자의 캐시를 커밋 후 지웁니다.
+     */
+    public void evictAfterCommit(Long userId) {
+        TransactionUtils.afterCommit(() -> evictNow(userId));
+    }
+
+    private void evictNow(Long userId) {
+        try {
+            redisTemplate.delete(CACHE_KEY_PREFIX + userId);
+        } catch (Exception e) {
+            // 캐시 시간이 지나면 갱신됨
+            log.warn("[NoShowPenalty] 캐시 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.domain.facility.dto.request.RecurringReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.RecurringReservationResultDto;
+import com.ohammer.apartner.domain.facility.entity.Facility;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
+import com.ohammer.apartner.global.service.AlarmService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정기(매주 같은 시간) 시설 예약.
+ * 첫 회차 슬롯과 같은 스케줄/시작 시간의 슬롯을 종료일까지 한 트랜잭션에서 예약합니다.
+ * 회차마다 단건 예약을 반복하지 않고, 시간 중복은 기간 내 내 예약을 한 번 조회해 확인하고,
+ * 정원은 대상 슬롯을 한 번에 잠가 확인한 뒤 한 번의 UPDATE 로 늘립니다. 실패한 회차는 사유와 함께 돌려주고 나머지는 예약됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FacilityRecurringReservationService {
+
+    // 한 번에 예약할 수 있는 최대 회차 수
+    private static final int MAX_OCCURRENCES = 26;
+    private static final String SOLD_OUT_MESSAGE = "예약이 마감되었습니다.";
+
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final UserRepository userRepository;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
+    private final AlarmService alarmService;
+
+    @Transactional
+    public RecurringReservationResultDto reserveRecurring(Long userId, Long apartmentId,
+                                                          RecurringReservationRequestDto requestDto) {
+        if (requestDto.getTimeSlotId() == null || requestDto.getEndDate() == null) {
+            throw new IllegalArgumentException("첫 회차 타임슬롯과 종료일을 입력해주세요.");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+        facilityNoShowPenaltyService.checkReservable(userId);
+
+        FacilityTimeSlot first = facilityTimeSlotRepository.findById(requestDto.getTimeSlotId())
+                .filter(s -> s.getFacility().getApartment().getId().equals(apartmentId))
+                .orElseThrow(() -> new IllegalArgumentException("타임슬롯 없음"));
+        LocalDate endDate = requestDto.getEndDate();
+        if (endDate.isBefore(first.getDate())) {
+            throw new IllegalArgumentException("종료일은 첫 회차 날짜 이후여야 합니다.");
+        }
+
+        List<FacilityTimeSlot> slots = facilityTimeSlotRepository.findRecurringSlots(
+                first.getSchedule().getId(), first.getStartTime(), first.getDate(), endDate);
+        if (slots.size() > MAX_OCCURRENCES) {
+            throw new IllegalArgumentException("정기 예약은 한 번에 최대 " + MAX_OCCURRENCES + "회까지 신청할 수 있습니다.");
+        }
+
+        // 회차별 결과 (날짜순). 실패 사유가 정해진 회차는 더 확인하지 않음
+        Map<Long, String> failures = new HashMap<>();
+        List<FacilityTimeSlot> candidates = new ArrayList<>();
+        List<LocalDateTime[]> myIntervals = findMyIntervals(userId, slots);
+        LocalDateTime now = LocalDateTime.now();
+        for (FacilityTimeSlot slot : slots) {
+            LocalDateTime startTime = slot.getStartTime().atDate(slot.getDate());
+            LocalDateTime endTime = slot.getEndTime().atDate(slot.getDate());
+            if (!startTime.isAfter(now)) {
+                failures.put(slot.getId(), "이미 시작된 시간대입니다.");
+            } else if (slot.isQueueBooking()) {
+                failures.put(slot.getId(), "예약 대기열로 신청해야 하는 시간대입니다.");
+            } else if (overlaps(myIntervals, startTime, endTime)) {
+                failures.put(slot.getId(), "동일 시간대에 이미 예약이 있습니다.");
+            } else {
+                candidates.add(slot);
+            }
+        }
+
+        Map<Long, FacilityReservation> reservations = new LinkedHashMap<>();
+        if (!candidates.isEmpty()) {
+            Set<Long> seatIds = reserveSeats(candidates);
+            for (FacilityTimeSlot slot : candidates) {
+                if (!seatIds.contains(slot.getId())) {
+                    failures.put(slot.getId(), SOLD_OUT_MESSAGE);
+                    continue;
+                }
+                reservations.put(slot.getId(), FacilityReservation.builder()
+                        .facility(slot.getFacility())
+                        .user(user)
+                        .timeSlot(slot)
+                        .date(slot.getDate())
+                        .startTime(slot.getStartTime().atDate(slot.getDate()))
+                        .endTime(slot.getEndTime().atDate(slot.getDate()))
+                        .requestMessage(requestDto.getRequestMessage())
+                        .status(FacilityReservation.Status.PENDING)
+                        .build());
+            }
+            facilityReservationRepository.saveAll(reservations.values());
+            reservations.values().forEach(r ->
+                    facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(r, null)));
+        }
+
+        List<RecurringReservationResultDto.Occurrence> occurrences = slots.stream()
+                .map(slot -> {
+                    FacilityReservation reservation = reservations.get(slot.getId());
+                    return RecurringReservationResultDto.Occurrence.builder()
+                            .timeSlotId(slot.getId())
+                            .date(slot.getDate())
+                            .startTime(slot.getStartTime())
+                            .endTime(slot.getEndTime())
+                            .reserved(reservation != null)
+                            .reservationId(reservation != null ? reservation.getId() : null)
+                            .failureReason(failures.get(slot.getId()))
+                            .build();
+                })
+                .toList();
+
+        if (!reservations.isEmpty()) {
+            sendRecurringNotification(user, first, endDate, reservations.size(), slots.size() - reservations.size());
+        }
+        log.info("[FacilityRecurring] 정기 예약: userId={}, scheduleId={}, requested={}, reserved={}",
+                userId, first.getSchedule().getId(), slots.size(), reservations.size());
+
+        return RecurringReservationResultDto.builder()
+                .requestedCount(slots.size())
+                .reservedCount(reservations.size())
+                .failedCount(slots.size() - reservations.size())
+                .occurrences(occurrences)
+                .build();
+    }
+
+    // 회차 전체 기간과 겹치는 내 대기/승인 예약을 한 번에 조회
+    private List<LocalDateTime[]> findMyIntervals(Long userId, List<FacilityTimeSlot> slots) {
+        if (slots.isEmpty()) {
+            return List.of();
+        }
+        FacilityTimeSlot firstSlot = slots.get(0);
+        FacilityTimeSlot lastSlot = slots.get(slots.size() - 1);
+        List<Object[]> rows = facilityReservationRepository.findUserActiveIntervals(userId,
+                firstSlot.getStartTime().atDate(firstSlot.getDate()),
+                lastSlot.getEndTime().atDate(lastSlot.getDate()));
+        return rows.stream()
+                .map(row -> new LocalDateTime[]{(LocalDateTime) row[0], (LocalDateTime) row[1]})
+                .toList();
+    }
+
+    private static boolean overlaps(List<LocalDateTime[]> intervals, LocalDateTime startTime, LocalDateTime endTime) {
+        for (LocalDateTime[] interval : intervals) {
+            if (interval[0].isBefore(endTime) && interval[1].isAfter(startTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 대상 슬롯을 잠그고 정원이 남은 슬롯만 한 번에 예약 인원 +1, 자리를 잡은 슬롯 ID 반환
+    private Set<Long> reserveSeats(List<FacilityTimeSlot> candidates) {
+        List<Long> ids = candidates.stream().map(FacilityTimeSlot::getId).toList();
+        Set<Long> seatIds = new HashSet<>();
+        for (Object[] row : facilityTimeSlotRepository.lockCapacities(ids)) {
+            if (((Number) row[1]).longValue() < ((Number) row[2]).longValue()) {
+                seatIds.add(((Number) row[0]).longValue());
+            }
+        }
+        if (!seatIds.isEmpty() && facilityTimeSlotRepository.increaseReservedCounts(seatIds) != seatIds.size()) {
+            // 잠근 상태라 일어나지 않아야 함. 정원 초과를 막기 위해 전체 롤백
+            throw new IllegalStateException("정원 확인 중 예약 인원이 변경되었습니다. 다시 시도해주세요.");
+        }
+        return seatIds;
+    }
+
+    // 정기 예약 신청 알림 (회차별이 아닌 한 건)
+    private void sendRecurringNotification(User user, FacilityTimeSlot first, LocalDate endDate,
+                                           int reserved, int failed) {
+        Facility facility = first.getFacility();
+        Long apartmentId = facility.getApartment().getId();
+        Long userId = user.getId();
+        String timeText = first.getDate() + " ~ " + endDate + " 매주 "
+                + first.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+        String failedText = failed > 0 ? " (" + failed + "회 실패)" : "";
+
+        alarmService.notifyUser(userId, apartmentId, "시설 정기 예약 신청 완료", "info", "FACILITY_RESERVATION",
+                facility.getName() + " " + timeText + " 정기 예약 " + reserved + "회가 신청되었습니다." + failedText,
+                "/udash/facilities", userId, null, null);
+        alarmService.notifyApartmentAdmins(apartmentId, "새로운 시설 정기 예약 신청", "info", "FACILITY_RESERVATION_REQUEST",
+                user.getUserName() + "님이 " + facility.getName() + " " + timeText + " 정기 예약 " + reserved + "회를 신청하였습니다.",
+                "/admin/facilities/reservations", userId, null, null);
+    }
+}
@@ -0,0 +1,250 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.config.FacilityReminderProperties;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.global.service.AlarmService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 승인 예약의 시작 전 알림과 노쇼 처리.
+ * 예약이 승인되면 커밋 후 "알림(시작 N분 전)"과 "노쇼 확인(종료 + 유예)" 작업을 실행 시각을 점수로 하는
+ * Redis 정렬 집합(지연 큐)에 넣고, 주기적으로 실행 시각이 된 작업만 꺼내 처리합니다 (예약 테이블을 주기적으로 훑지 않음).
+ * 꺼내기는 Lua 스크립트로 조회와 삭제를 한 번에 하므로 여러 인스턴스가 같은 작업을 두 번 처리하지 않습니다.
+ * 처리에 실패한 작업은 잠시 뒤 시각으로 다시 넣어 재시도합니다.
+ * 승인이 풀리면 작업을 지우고, 기동 시 남은 승인 예약으로 큐를 다시 채웁니다 (Redis 장애/재시작 보정).
+ */
+@Slf4j
+@Service
+public class FacilityReservationReminderService {
+
+    private static final String QUEUE_KEY = "facility:reservation-jobs";
+    private static final String REMIND = "REMIND";
+    private static final String NO_SHOW = "NO_SHOW";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    // KEYS[1]=지연 큐, ARGV[1]=현재 시각(epoch ms), ARGV[2]=최대 개수
+    // 실행 시각이 된 작업을 꺼내면서 큐에서 제거
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = RedisScript.of(
+            "local jobs = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "if #jobs > 0 then redis.call('ZREM', KEYS[1], unpack(jobs)) end " +
+            "return jobs",
+            List.class);
+
+    // 알림/노쇼 처리에 쓰는 예약 요약
+    private record ReservationInfo(Long userId, Long apartmentId, String facilityName,
+                                   LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
+    private final AlarmService alarmService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FacilityReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public FacilityReservationReminderService(FacilityReservationRepository facilityReservationRepository,
+                                              FacilityNoShowPenaltyService facilityNoShowPenaltyService,
+                                              AlarmService alarmService,
+                                              RedisTemplate<String, String> redisTemplate,
+                                              FacilityReminderProperties properties,
+                                              PlatformTransactionManager transactionManager) {
+        this.facilityReservationRepository = facilityReservationRepository;
+        this.facilityNoShowPenaltyService = facilityNoShowPenaltyService;
+        this.alarmService = alarmService;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 기동 시 처리 전인 승인 예약으로 큐 재적재 (이미 있는 작업은 시각만 덮어씀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            LocalDateTime from = LocalDateTime.now().minusMinutes(properties.getNoShowGraceMinutes());
+            List<Object[]> rows = transactionTemplate.execute(status -> facilityReservationRepository.findReminderTargets(from));
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+            Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+            for (Object[] row : rows) {
+                addJobs(jobs, (Long) row[0], (LocalDateTime) row[1], (LocalDateTime) row[2]);
+            }
+            if (!jobs.isEmpty()) {
+                redisTemplate.opsForZSet().add(QUEUE_KEY, jobs);
+            }
+            log.info("[FacilityReminder] 예약 작업 큐 재적재: reservations={}, jobs={}", rows.size(), jobs.size());
+        } catch (Exception e) {
+            log.error("[FacilityReminder] 예약 작업 큐 재적재 실패: error={}", e.getMessage());
+        }
+    }
+
+    // 승인되면 작업 등록, 승인이 풀리면 작업 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChange(FacilityAvailabilityIndex.ReservationChange change) {
+        boolean agreed = change.status() == FacilityReservation.Status.AGREE;
+        boolean wasAgreed = change.previousStatus() == FacilityReservation.Status.AGREE;
+        try {
+            if (agreed && !wasAgreed) {
+                Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+                addJobs(jobs, change.reservationId(), change.startTime(), change.endTime());
+                if (!jobs.isEmpty()) {
+                    redisTemplate.opsForZSet().add(QUEUE_KEY, jobs);
+                }
+            } else if (!agreed && wasAgreed) {
+                redisTemplate.opsForZSet().remove(QUEUE_KEY,
+                        job(REMIND, change.reservationId()), job(NO_SHOW, change.reservationId()));
+            }
+        } catch (Exception e) {
+            // 처리할 때 예약 상태를 다시 확인하므로 남은 작업은 무시되고, 빠진 작업은 다음 기동 때 채워짐
+            log.warn("[FacilityReminder] 예약 작업 반영 실패: reservationId={}, error={}",
+                    change.reservationId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${facility.reminder.poll-interval-ms:10000}")
+    public void poll() {
+        List<String> jobs;
+        try {
+            jobs = popDue();
+        } catch (Exception e) {
+            log.warn("[FacilityReminder] 예약 작업 조회 실패: error={}", e.getMessage());
+            return;
+        }
+        List<String> failed = new ArrayList<>();
+        for (String job : jobs) {
+            int sep = job.indexOf(':');
+            String type = job.substring(0, sep);
+            Long reservationId = Long.valueOf(job.substring(sep + 1));
+            try {
+                if (REMIND.equals(type)) {
+                    remind(reservationId);
+                } else if (NO_SHOW.equals(type)) {
+                    markNoShow(reservationId);
+                }
+            } catch (Exception e) {
+                log.warn("[FacilityReminder] 예약 작업 처리 실패: job={}, error={}", job, e.getMessage());
+                failed.add(job);
+            }
+        }
+        if (!failed.isEmpty()) {
+            retryLater(failed);
+        }
+    }
+
+    // 꺼낸 작업은 큐에서 이미 지워졌으므로 실패한 작업은 잠시 뒤 시각으로 다시 넣음
+    // (처리할 때 예약 상태를 다시 확인하므로 이미 끝난 작업이 다시 실행돼도 알림/노쇼가 중복되지 않음)
+    private void retryLater(List<String> jobs) {
+        double retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+        Set<ZSetOperations.TypedTuple<String>> retries = new HashSet<>();
+        jobs.forEach(job -> retries.add(new DefaultTypedTuple<>(job, retryAt)));
+        try {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, retries);
+        } catch (Exception e) {
+            // 다음 기동 때 처리 전인 승인 예약으로 다시 채워짐
+            log.error("[FacilityReminder] 예약 작업 재등록 실패: jobs={}, error={}", jobs.size(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> popDue() {
+        List<String> jobs = redisTemplate.execute(POP_DUE_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(properties.getBatchSize()));
+        return jobs == null ? List.of() : jobs;
+    }
+
+    // 시작 전 알림 (아직 승인 상태이고 시작 전일 때만)
+    private void remind(Long reservationId) {
+        ReservationInfo info = transactionTemplate.execute(status -> facilityReservationRepository.findById(reservationId)
+                .filter(r -> r.getStatus() == FacilityReservation.Status.AGREE)
+                .filter(r -> r.getStartTime().isAfter(LocalDateTime.now()))
+                .map(this::toInfo)
+                .orElse(null));
+        if (info == null) {
+            return;
+        }
+        alarmService.notifyUser(info.userId(), info.apartmentId(), "시설 예약 이용 안내", "info", "FACILITY_RESERVATION",
+                info.facilityName() + " " + timeText(info) + " 예약 시작 " + properties.getRemindBeforeMinutes() + "분 전입니다.",
+                "/udash/facilities", info.userId(), reservationId, null);
+    }
+
+    // 이용 확인 없이 끝난 승인 예약을 노쇼로 표시
+    private void markNoShow(Long reservationId) {
+        if (!properties.isNoShowEnabled()) {
+            return;
+        }
+        ReservationInfo info = transactionTemplate.execute(status -> {
+            // 이용 확인을 쓰지 않는 시설은 모든 승인 예약이 노쇼가 되므로 제외
+            if (!facilityReservationRepository.facilityUsesCheckIn(reservationId)
+                    || facilityReservationRepository.markNoShow(reservationId) == 0) {
+                return null;
+            }
+            ReservationInfo marked = facilityReservationRepository.findById(reservationId).map(this::toInfo).orElse(null);
+            if (marked != null) {
+                facilityNoShowPenaltyService.evictAfterCommit(marked.userId());
+            }
+            return marked;
+        });
+        if (info == null) {
+            return;
+        }
+        log.info("[FacilityReminder] 노쇼 처리: reservationId={}, userId={}", reservationId, info.userId());
+        alarmService.notifyUser(info.userId(), info.apartmentId(), "시설 예약 노쇼 처리", "warning", "FACILITY_NO_SHOW",
+                info.facilityName() + " " + timeText(info) + " 예약이 이용 확인 없이 종료되어 노쇼로 처리되었습니다.",
+                "/udash/facilities", info.userId(), reservationId, null);
+    }
+
+    private void addJobs(Set<ZSetOperations.TypedTuple<String>> jobs, Long reservationId,
+                         LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime now = LocalDateTime.now();
+        if (startTime.isAfter(now)) {
+            // 알림 시각이 이미 지났으면(임박해서 승인) 바로 알림
+            LocalDateTime remindAt = startTime.minusMinutes(properties.getRemindBeforeMinutes());
+            jobs.add(new DefaultTypedTuple<>(job(REMIND, reservationId), epochMillis(remindAt.isAfter(now) ? remindAt : now)));
+        }
+        if (properties.isNoShowEnabled()) {
+            jobs.add(new DefaultTypedTuple<>(job(NO_SHOW, reservationId),
+                    epochMillis(endTime.plusMinutes(properties.getNoShowGraceMinutes()))));
+        }
+    }
+
+    private ReservationInfo toInfo(FacilityReservation r) {
+        return new ReservationInfo(r.getUser().getId(), r.getFacility().getApartment().getId(),
+                r.getFacility().getName(), r.getStartTime(), r.getEndTime());
+    }
+
+    private static String timeText(ReservationInfo info) {
+        return info.startTime().format(TIME_FORMAT) + " ~ "
+                + info.endTime().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+    }
+
+    private static String job(String type, Long reservationId) {
+        return type + ":" + reservationId;
+    }
+
+    private static double epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -7,47 +7,61 @@ import com.ohammer.apartner.domain.facility.dto.statistics.FacilityUsageCountDto
 import com.ohammer.apartner.domain.facility.dto.statistics.ReservationStatusCountDto;
 import com.ohammer.apartner.domain.facility.dto.statistics.TimePeriodUsageDto;
 import com.ohammer.apartner.domain.facility.dto.statistics.UserUsageCountDto;
-import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.repository.FacilityUsageDailyStatRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityUserUsageDailyStatRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+// 통계는 예약 원본 대신 일별 집계(FacilityUsageStatsService 가 유지)를 합산해 계산. 기간은 이용일 기준, apartmentId 가 null 이면 전체
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FacilityStatisticsService {
 
-    private final FacilityReservationRepository facilityReservationRepository;
+    private final FacilityUsageDailyStatRepository usageDailyStatRepository;
+    private final FacilityUserUsageDailyStatRepository userUsageDailyStatRepository;
 
     // 시설별 이용 횟수
-    public List<FacilityUsageCountDto> getTopFacilityUsage() {
-        return facilityReservationRepository.findFacilityUsageCountTop();
+    public List<FacilityUsageCountDto> getTopFacilityUsage(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return usageDailyStatRepository.sumFacilityUsage(apartmentId, startDate, endDate);
     }
 
     // 사용자별 이용 횟수
-    public List<UserUsageCountDto> getUserUsageCounts() {
-        return facilityReservationRepository.findUserUsageCounts();
+    public List<UserUsageCountDto> getUserUsageCounts(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return userUsageDailyStatRepository.sumUserUsage(apartmentId, startDate, endDate);
     }
 
     // 동별 이용 횟수
-    public List<BuildingUsageCountDto> getBuildingUsageCounts() {
-        return facilityReservationRepository.findBuildingUsageCounts();
+    public List<BuildingUsageCountDto> getBuildingUsageCounts(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return usageDailyStatRepository.sumBuildingUsage(apartmentId, startDate, endDate);
     }
 
     // 요일별 이용 횟수
-    public List<DayOfWeekUsageDto> getDayOfWeekUsageCounts() {
-        List<Object[]> rawData = facilityReservationRepository.findUsageCountGroupedByDayOfWeek();
-
-        return rawData.stream()
-                .map(obj -> {
-                    Integer dow = ((Number) obj[0]).intValue(); // 1(일) ~ 7(토)
-                    Long count = (Long) obj[1];
-                    String dayName = convertDayNumberToKorean(dow);
-                    return new DayOfWeekUsageDto(dayName, count);
-                })
+    public List<DayOfWeekUsageDto> getDayOfWeekUsageCounts(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        // 1(일) ~ 7(토)
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : usageDailyStatRepository.sumUsageByDate(apartmentId, startDate, endDate)) {
+            int dow = ((LocalDate) row[0]).getDayOfWeek().getValue() % 7 + 1;
+            counts.merge(dow, ((Number) row[1]).longValue(), Long::sum);
+        }
+
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new DayOfWeekUsageDto(convertDayNumberToKorean(e.getKey()), e.getValue()))
                 .toList();
     }
 
@@ -65,26 +79,44 @@ public class FacilityStatisticsService {
     }
 
     // 시간대별 이용 횟수
-    public List<TimePeriodUsageDto> getTimePeriodUsageCounts() {
-        List<Object[]> rawData = facilityReservationRepository.findUsageCountGroupedByTimePeriod();
-
-        return rawData.stream()
-                .map(obj -> new TimePeriodUsageDto(
-                        (String) obj[0],
-                        ((Number) obj[1]).longValue()
-                ))
+    public List<TimePeriodUsageDto> getTimePeriodUsageCounts(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : usageDailyStatRepository.sumUsageByHour(apartmentId, startDate, endDate)) {
+            counts.merge(convertHourToTimePeriod(((Number) row[0]).intValue()), ((Number) row[1]).longValue(), Long::sum);
+        }
+
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .map(e -> new TimePeriodUsageDto(e.getKey(), e.getValue()))
                 .toList();
     }
 
+    private String convertHourToTimePeriod(int hour) {
+        if (hour >= 5 && hour <= 11) {
+            return "오전";
+        }
+        if (hour >= 12 && hour <= 16) {
+            return "오후";
+        }
+        if (hour >= 17 && hour <= 22) {
+            return "저녁";
+        }
+        return "야간";
+    }
+
     // 예약 상태 비율
-    public List<ReservationStatusCountDto> getReservationStatusCounts() {
-        return facilityReservationRepository.findReservationStatusCounts();
+    public List<ReservationStatusCountDto> getReservationStatusCounts(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return usageDailyStatRepository.sumByStatus(apartmentId, startDate, endDate);
     }
 
     // 취소율
-    public CancellationRatioDto getCancellationRatio() {
-        Long total = facilityReservationRepository.countTotalReservations();
-        Long cancelled = facilityReservationRepository.countCancelledReservations();
+    public CancellationRatioDto getCancellationRatio(Long apartmentId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        Long total = usageDailyStatRepository.sumCount(null, apartmentId, startDate, endDate);
+        Long cancelled = usageDailyStatRepository.sumCount(FacilityReservation.Status.CANCEL, apartmentId, startDate, endDate);
 
         double rate = (total == 0) ? 0.0 :
                 BigDecimal.valueOf((double) cancelled / total)
@@ -94,4 +126,10 @@ public class FacilityStatisticsService {
         return new CancellationRatioDto(total, cancelled, rate);
     }
 
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+    }
+
 }
@@ -1,22 +1,34 @@
 package com.ohammer.apartner.domain.facility.service;
 
+import com.ohammer.apartner.config.FacilityTimeSlotProperties;
 import com.ohammer.apartner.domain.facility.dto.response.TimeSlotSimpleResponseDto;
 import com.ohammer.apartner.domain.facility.entity.Facility;
 import com.ohammer.apartner.domain.facility.entity.FacilityInstructor;
 import com.ohammer.apartner.domain.facility.entity.FacilityInstructorSchedule;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
 import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
 import com.ohammer.apartner.domain.facility.repository.FacilityInstructorRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotBulkRepository;
 import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityWaitlistEntryRepository;
 import jakarta.persistence.EntityNotFoundException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,47 +36,133 @@ public class FacilityTimeSlotService {
 
     private final FacilityTimeSlotRepository facilityTimeSlotRepository;
     private final FacilityInstructorRepository facilityInstructorRepository;
+    private final FacilityTimeSlotBulkRepository facilityTimeSlotBulkRepository;
+    private final FacilityTimeSlotProperties timeSlotProperties;
+    private final FacilityBookingQueueService facilityBookingQueueService;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityCalendarService facilityCalendarService;
+    private final FacilityWaitlistService facilityWaitlistService;
+    private final FacilityWaitlistEntryRepository facilityWaitlistEntryRepository;
+
+    // 생성 결과 (건너뛴 슬롯: 제외일/공휴일 또는 같은 강사의 같은 시각 슬롯이 이미 있는 경우)
+    public record SlotGenerationResult(int created, int skipped, List<LocalDate> skippedDates) {
+    }
 
     // 타임슬롯 생성
+    // 기간 내 스케줄 요일마다 슬롯을 계산해 JDBC 배치로 한 번에 INSERT (JPA save 는 IDENTITY 라 건별 INSERT)
     @Transactional
-    public void createTimeSlots(
+    public SlotGenerationResult createTimeSlots(
             Facility facility,
             FacilityInstructor instructor,
             FacilityInstructorSchedule schedule,
-            String dayOfWeek,            // 예: "MONDAY"
             LocalTime startTime,
             LocalTime endTime,
             Long slotMinutes,
             Long capacity,
             LocalDate periodStart,       // 예: 2025-06-01
-            LocalDate periodEnd          // 예: 2025-06-30
+            LocalDate periodEnd,         // 예: 2025-06-30
+            Set<LocalDate> excludedDates // 제외일 + 공휴일
     ) {
-        LocalDate current = periodStart;
-        DayOfWeek targetDay = DayOfWeek.valueOf(dayOfWeek);
-
-        while (!current.isAfter(periodEnd)) {
-            // 해당 요일에만 생성
-            if (current.getDayOfWeek() == targetDay) {
-                LocalTime cursor = startTime;
-                while (!cursor.plusMinutes(slotMinutes).isAfter(endTime.plusSeconds(1))) {
-                    FacilityTimeSlot slot = FacilityTimeSlot.builder()
-                            .facility(facility)
-                            .instructor(instructor)
-                            .schedule(schedule)
-                            .date(current)
-                            .startTime(cursor)
-                            .endTime(cursor.plusMinutes(slotMinutes))
-                            .maxCapacity(capacity)
-                            .reservedCount(0L) // 새 슬롯은 예약 0명부터 시작
-                            .build();
-                    facilityTimeSlotRepository.save(slot);
-                    cursor = cursor.plusMinutes(slotMinutes);
+        if (slotMinutes == null || slotMinutes <= 0) {
+            throw new IllegalArgumentException("예약 단위(분)는 1 이상이어야 합니다.");
+        }
+        if (periodStart == null || periodEnd == null || periodEnd.isBefore(periodStart)) {
+            throw new IllegalArgumentException("적용 기간이 올바르지 않습니다.");
+        }
+
+        // 하루 안의 슬롯 시각은 날짜와 무관하므로 한 번만 계산
+        // LocalTime 은 자정을 넘기면 00:00 으로 돌아가므로 하루 중 분 단위 정수로 비교 (끝나는 시각이 endTime 이하인 슬롯만)
+        List<LocalTime> starts = new ArrayList<>();
+        long endMinute = endTime.toSecondOfDay() / 60;
+        for (long minute = startTime.toSecondOfDay() / 60; minute + slotMinutes <= endMinute; minute += slotMinutes) {
+            starts.add(LocalTime.ofSecondOfDay(minute * 60));
+        }
+
+        // 스케줄 요일의 첫 날짜부터 7일씩
+        LocalDate first = periodStart.with(TemporalAdjusters.nextOrSame(schedule.getDayOfWeek()));
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(periodEnd); date = date.plusWeeks(1)) {
+            dates.add(date);
+        }
+        if ((long) dates.size() * starts.size() > timeSlotProperties.getMaxSlotsPerRequest()) {
+            throw new IllegalArgumentException(
+                    "한 번에 생성할 수 있는 타임슬롯은 최대 " + timeSlotProperties.getMaxSlotsPerRequest() + "개입니다.");
+        }
+
+        Set<String> existing = new HashSet<>();
+        if (instructor != null && !dates.isEmpty()) {
+            for (Object[] row : facilityTimeSlotRepository.findSlotStartsByInstructorAndDateRange(
+                    instructor.getId(), first, periodEnd)) {
+                existing.add(row[0] + " " + row[1]);
+            }
+        }
+
+        List<FacilityTimeSlot> slots = new ArrayList<>();
+        List<LocalDate> skippedDates = new ArrayList<>();
+        int skipped = 0;
+        for (LocalDate date : dates) {
+            if (excludedDates.contains(date)) {
+                skippedDates.add(date);
+                skipped += starts.size();
+                continue;
+            }
+            for (LocalTime start : starts) {
+                if (existing.contains(date + " " + start)) {
+                    skipped++;
+                    continue;
                 }
+                slots.add(FacilityTimeSlot.builder()
+                        .facility(facility)
+                        .instructor(instructor)
+                        .schedule(schedule)
+                        .date(date)
+                        .startTime(start)
+                        .endTime(start.plusMinutes(slotMinutes))
+                        .maxCapacity(capacity)
+                        .reservedCount(0L) // 새 슬롯은 예약 0명부터 시작
+                        .build());
             }
-            current = current.plusDays(1);
+        }
+
+        int created = facilityTimeSlotBulkRepository.insertAll(slots, timeSlotProperties.getInsertBatchSize());
+        if (created > 0) {
+            // JDBC 로 넣은 슬롯은 ID 를 모르므로 시설 단위로 다시 적재
+            facilityAvailabilityIndex.reloadFacilityAfterCommit(facility.getId());
+            facilityCalendarService.evictAfterCommit(facility.getId(), periodStart, periodEnd);
+        }
+        log.info("[FacilityTimeSlot] 타임슬롯 생성: scheduleId={}, created={}, skipped={}",
+                schedule.getId(), created, skipped);
+        return new SlotGenerationResult(created, skipped, skippedDates);
+    }
+
+    // 예약 상태 변경에 맞춰 슬롯 예약 인원 반영 (호출한 쪽 트랜잭션에서 함께 커밋/롤백)
+    // 자리를 새로 잡을 때 정원이 찼으면 예외, 자리를 반납하면 다음 대기자를 예약으로 승격
+    @Transactional
+    public void applySeatChange(FacilityTimeSlot slot, FacilityReservation.Status oldStatus,
+                                FacilityReservation.Status newStatus) {
+        if (slot == null) {
+            return;
+        }
+        boolean held = oldStatus != null && oldStatus.holdsSeat();
+        boolean holds = newStatus != null && newStatus.holdsSeat();
+        if (!held && holds && facilityTimeSlotRepository.increaseReservedCount(slot.getId()) == 0) {
+            throw new IllegalStateException("예약이 마감되었습니다.");
+        }
+        if (held && !holds) {
+            facilityTimeSlotRepository.decreaseReservedCount(slot.getId());
+            facilityWaitlistService.promoteNext(slot);
         }
     }
 
+    // 예약 인원을 관리하기 전에 들어온 예약을 오늘 이후 슬롯 예약 인원에 반영
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void syncReservedCounts() {
+        int updated = facilityTimeSlotRepository.syncReservedCounts(LocalDate.now(),
+                EnumSet.of(FacilityReservation.Status.PENDING, FacilityReservation.Status.AGREE));
+        log.info("[FacilityTimeSlot] 슬롯 예약 인원 보정: slots={}", updated);
+    }
+
     // 타임슬롯 목록 조회
     public List<TimeSlotSimpleResponseDto> getTimeSlots(Long facilityId, Long instructorId, Long apartmentId,
                                                         LocalDate startDate, LocalDate endDate) {
@@ -82,6 +180,21 @@ public class FacilityTimeSlotService {
                 .collect(Collectors.toList());
     }
 
+    // 타임슬롯 대기열 예약 설정 (인기 시간대는 대기열로만 신청받음)
+    @Transactional
+    public void updateQueueBooking(Long slotId, Long facilityId, Long instructorId, Long apartmentId,
+                                   boolean enabled) {
+        FacilityTimeSlot slot = facilityTimeSlotRepository.findById(slotId)
+                .orElseThrow(() -> new EntityNotFoundException("타임슬롯 없음"));
+        if (!slot.getInstructor().getId().equals(instructorId)
+                || !slot.getFacility().getId().equals(facilityId)
+                || !slot.getFacility().getApartment().getId().equals(apartmentId)) {
+            throw new IllegalArgumentException("수정 권한 없음");
+        }
+        slot.setQueueBooking(enabled);
+        facilityBookingQueueService.evictSlot(slotId);
+    }
+
     // 타임슬롯 단건 삭제
     @Transactional
     public void deleteTimeSlot(Long slotId, Long facilityId, Long instructorId, Long apartmentId) {
@@ -92,6 +205,9 @@ public class FacilityTimeSlotService {
                 || !slot.getFacility().getApartment().getId().equals(apartmentId)) {
             throw new IllegalArgumentException("삭제 권한 없음");
         }
+        facilityWaitlistEntryRepository.deleteByTimeSlotId(slotId);
         facilityTimeSlotRepository.delete(slot);
+        facilityAvailabilityIndex.removeSlotAfterCommit(slotId);
+        facilityCalendarService.evictAfterCommit(facilityId, slot.getDate(), slot.getDate());
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.entity.FacilityUsageDailyStat;
+import com.ohammer.apartner.domain.facility.repository.FacilityUsageDailyStatRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityUserUsageDailyStatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시설 이용 통계 일별 집계 유지.
+ * 예약 생성/상태 변경 이벤트를 커밋 직전(같은 트랜잭션)에 받아 이전 상태 집계는 -1, 새 상태 집계는 +1 하므로
+ * 예약이 롤백되면 집계도 함께 롤백됩니다. 집계 테이블이 비어 있으면 기동 시 예약 테이블에서 한 번 채웁니다.
+ */
+@Slf4j
+@Service
+public class FacilityUsageStatsService {
+
+    private final FacilityUsageDailyStatRepository usageDailyStatRepository;
+    private final FacilityUserUsageDailyStatRepository userUsageDailyStatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public FacilityUsageStatsService(FacilityUsageDailyStatRepository usageDailyStatRepository,
+                                     FacilityUserUsageDailyStatRepository userUsageDailyStatRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.usageDailyStatRepository = usageDailyStatRepository;
+        this.userUsageDailyStatRepository = userUsageDailyStatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (usageDailyStatRepository.count() > 0) {
+                return;
+            }
+            int rows = rebuild();
+            log.info("[FacilityUsageStats] 일별 집계 초기 적재 완료: rows={}", rows);
+        } catch (Exception e) {
+            log.error("[FacilityUsageStats] 일별 집계 초기 적재 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 예약 테이블 전체로 일별 집계를 다시 계산해 덮어씁니다.
+     */
+    public int rebuild() {
+        Integer rows = transactionTemplate.execute(status ->
+                usageDailyStatRepository.rebuildFromReservations()
+                        + userUsageDailyStatRepository.rebuildFromReservations());
+        return rows == null ? 0 : rows;
+    }
+
+    // 예약 변경과 같은 트랜잭션에서 집계 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReservationChange(FacilityAvailabilityIndex.ReservationChange change) {
+        if (change.previousStatus() == change.status()
+                || change.apartmentId() == null || change.date() == null || change.startTime() == null) {
+            return;
+        }
+        Long buildingId = change.buildingId() != null ? change.buildingId() : FacilityUsageDailyStat.NO_BUILDING;
+        int hour = change.startTime().getHour();
+
+        if (change.previousStatus() != null) {
+            usageDailyStatRepository.addCount(change.date(), change.apartmentId(), change.facilityId(),
+                    buildingId, hour, change.previousStatus().name(), -1);
+        }
+        if (change.status() != null) {
+            usageDailyStatRepository.addCount(change.date(), change.apartmentId(), change.facilityId(),
+                    buildingId, hour, change.status().name(), 1);
+        }
+
+        // 사용자별 통계는 승인 예약만 집계
+        boolean wasAgreed = change.previousStatus() == FacilityReservation.Status.AGREE;
+        boolean isAgreed = change.status() == FacilityReservation.Status.AGREE;
+        if (wasAgreed != isAgreed) {
+            userUsageDailyStatRepository.addCount(change.date(), change.apartmentId(), change.userId(),
+                    isAgreed ? 1 : -1);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.ohammer.apartner.domain.facility.service;
 
+import com.ohammer.apartner.domain.facility.dto.projection.FacilityReservationRow;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationCancelDto;
 import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityAvailabilityCalendarDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationPageDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationSimpleUserDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilityReservationUserDto;
 import com.ohammer.apartner.domain.facility.dto.response.FacilitySimpleResponseDto;
@@ -22,9 +25,13 @@ import com.ohammer.apartner.global.service.AlarmService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -35,11 +42,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FacilityUserService {
 
+    private static final int MAX_CALENDAR_DAYS = 62;
+
     private final UserRepository userRepository;
     private final FacilityRepository facilityRepository;
     private final FacilityReservationRepository facilityReservationRepository;
     private final FacilityTimeSlotRepository facilityTimeSlotRepository;
     private final FacilityInstructorRepository facilityInstructorRepository;
+    private final FacilityTimeSlotService facilityTimeSlotService;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
     private final AlarmService alarmService;
 
     // 시설 목록 보기
@@ -91,6 +103,70 @@ public class FacilityUserService {
                 .collect(Collectors.toList());
     }
 
+    // 시설 가용 캘린더 (날짜별 슬롯 남은 정원, 내 예약과 겹치는지)
+    public FacilityAvailabilityCalendarDto getAvailabilityCalendar(Long facilityId, Long apartmentId, Long userId,
+                                                                   LocalDate startDate, LocalDate endDate) {
+        facilityRepository.findByIdAndApartmentId(facilityId, apartmentId)
+                .orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("가용 캘린더는 최대 " + MAX_CALENDAR_DAYS + "일까지 조회할 수 있습니다.");
+        }
+
+        // 지난 날짜는 인덱스에 없으므로 오늘부터
+        LocalDate from = startDate.isBefore(facilityAvailabilityIndex.getCoveredFrom())
+                ? facilityAvailabilityIndex.getCoveredFrom() : startDate;
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = endDate.plusDays(1).atStartOfDay();
+
+        Set<Long> mySlotIds = facilityAvailabilityIndex.findUserReservations(userId, windowStart, windowEnd).stream()
+                .map(FacilityAvailabilityIndex.ReservationEntry::slotId)
+                .collect(Collectors.toSet());
+
+        Map<LocalDate, List<FacilityAvailabilityCalendarDto.Slot>> slotsByDate = new TreeMap<>();
+        for (FacilityAvailabilityIndex.SlotAvailability slot
+                : facilityAvailabilityIndex.findSlots(facilityId, windowStart, windowEnd)) {
+            if (slot.date().isBefore(from) || slot.date().isAfter(endDate)) {
+                continue;
+            }
+            boolean mine = mySlotIds.contains(slot.slotId());
+            LocalDateTime slotStart = slot.date().atTime(slot.startTime());
+            LocalDateTime slotEnd = slot.endTime().isAfter(slot.startTime())
+                    ? slot.date().atTime(slot.endTime()) : slot.date().plusDays(1).atTime(slot.endTime());
+            slotsByDate.computeIfAbsent(slot.date(), d -> new ArrayList<>())
+                    .add(FacilityAvailabilityCalendarDto.Slot.builder()
+                            .timeSlotId(slot.slotId())
+                            .instructorId(slot.instructorId())
+                            .startTime(slot.startTime())
+                            .endTime(slot.endTime())
+                            .maxCapacity(slot.maxCapacity())
+                            .reservedCount(slot.reservedCount())
+                            .remaining(slot.remaining())
+                            .reservedByMe(mine)
+                            .conflict(!mine && facilityAvailabilityIndex.hasUserOverlap(userId, slotStart, slotEnd))
+                            .build());
+        }
+
+        List<FacilityAvailabilityCalendarDto.Day> days = slotsByDate.entrySet().stream()
+                .map(e -> FacilityAvailabilityCalendarDto.Day.builder()
+                        .date(e.getKey())
+                        .freeCapacity(e.getValue().stream()
+                                .mapToLong(FacilityAvailabilityCalendarDto.Slot::getRemaining)
+                                .sum())
+                        .slots(e.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        return FacilityAvailabilityCalendarDto.builder()
+                .facilityId(facilityId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .days(days)
+                .build();
+    }
+
     // ------- 예약 --------
     // 예약 신청하기
     @Transactional
@@ -98,9 +174,17 @@ public class FacilityUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
 
+        // 최근 노쇼가 많으면 예약 제한 (사용자별 노쇼 횟수 캐시 조회)
+        facilityNoShowPenaltyService.checkReservable(userId);
+
         FacilityTimeSlot slot = facilityTimeSlotRepository.findById(facilityReservationRequestDto.getTimeSlotId())
                 .orElseThrow(() -> new IllegalArgumentException("타임슬롯 없음"));
 
+        // 대기열 예약 시간대는 FacilityBookingQueueService 로만 신청
+        if (slot.isQueueBooking()) {
+            throw new IllegalArgumentException("이 시간대는 예약 대기열로 신청해주세요.");
+        }
+
         Facility facility = slot.getFacility();
 
         boolean conflict = facilityReservationRepository.existsTimeConflict(
@@ -111,11 +195,8 @@ public class FacilityUserService {
             throw new IllegalArgumentException("동일 시간대에 이미 예약이 있습니다.");
         }
 
-        Long reservedCount = facilityReservationRepository.countByTimeSlot_IdAndStatus(
-                slot.getId(), FacilityReservation.Status.AGREE);
-        if (reservedCount >= slot.getMaxCapacity()) {
-            throw new IllegalStateException("예약이 마감되었습니다.");
-        }
+        // 신청(PENDING)부터 정원 한 자리를 잡음. 정원이 찼으면 예외 (예약 저장이 실패하면 함께 롤백)
+        facilityTimeSlotService.applySeatChange(slot, null, FacilityReservation.Status.PENDING);
 
         FacilityReservation facilityReservation = FacilityReservation.builder()
                 .facility(facility)
@@ -129,6 +210,7 @@ public class FacilityUserService {
                 .build();
 
         facilityReservationRepository.save(facilityReservation);
+        facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(facilityReservation, null));
         
         // 예약 신청 알림 전송
         sendReservationNotification(user, facility, facilityReservation);
@@ -151,34 +233,26 @@ public class FacilityUserService {
             throw new IllegalStateException("이미 취소/거절된 예약입니다.");
         }
 
+        // 잡고 있던 정원 반납
+        FacilityReservation.Status oldStatus = facilityReservation.getStatus();
+        facilityTimeSlotService.applySeatChange(facilityReservation.getTimeSlot(), oldStatus,
+                FacilityReservation.Status.CANCEL);
         facilityReservation.setStatus(FacilityReservation.Status.CANCEL);
         facilityReservation.setCancelReasonType(facilityReservationCancelDto.getCancelReasonType());
         facilityReservation.setCancelReasonDetail(facilityReservationCancelDto.getCancelReason());
         facilityReservation.setModifiedAt(LocalDateTime.now());
+        facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(facilityReservation, oldStatus));
         
         // 예약 취소 알림 전송
         sendCancelNotification(facilityReservation.getUser(), facilityReservation.getFacility(), facilityReservation);
     }
 
-    // 본인 예약 목록 조회
-    public List<FacilityReservationSimpleUserDto> getMyReservations(Long userId) {
-        List<FacilityReservation> list = facilityReservationRepository.findByUserIdOrderByStartTimeDesc(userId);
-
-        return list.stream().map(r -> FacilityReservationSimpleUserDto.builder()
-                        .reservationId(r.getId())
-                        .facilityName(r.getFacility().getName())
-                        .instructorName(
-                                r.getTimeSlot().getInstructor() != null ? r.getTimeSlot().getInstructor().getName() : null)
-                        .programName(
-                                r.getTimeSlot().getSchedule() != null ? r.getTimeSlot().getSchedule().getScheduleName() : null)
-                        .reservationDateTime(
-                                r.getStartTime().toLocalDate().toString() + " " +
-                                        r.getStartTime().toLocalTime().toString() + "~" +
-                                        r.getEndTime().toLocalTime().toString()
-                        )
-                        .status(r.getStatus())
-                        .build())
-                .collect(Collectors.toList());
+    // 본인 예약 목록 조회 (시작 시각 역순, 커서 기반)
+    public FacilityReservationPageDto<FacilityReservationSimpleUserDto> getMyReservations(
+            Long userId, LocalDateTime cursorStartTime, Long cursorId, int size) {
+        List<FacilityReservationRow> rows = facilityReservationRepository.findUserReservationRows(
+                userId, cursorStartTime, cursorId, FacilityReservationPageDto.fetchLimit(cursorStartTime, cursorId, size));
+        return FacilityReservationPageDto.of(rows, size, FacilityReservationSimpleUserDto::from);
     }
 
     // 본인 예약 단건 상세 조회
@@ -0,0 +1,230 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import com.ohammer.apartner.config.FacilityWaitlistProperties;
+import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityWaitlistEntryDto;
+import com.ohammer.apartner.domain.facility.entity.FacilityReservation;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.domain.facility.entity.FacilityWaitlistEntry;
+import com.ohammer.apartner.domain.facility.repository.FacilityReservationRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityWaitlistEntryRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
+import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정원이 찬 타임슬롯의 예약 대기.
+ * 예약 취소/거절로 자리가 나면(FacilityTimeSlotService.applySeatChange) 같은 트랜잭션에서 먼저 등록한 대기자를
+ * 예약(PENDING)으로 승격하고, 커밋 후 알림을 보냅니다. 취소가 롤백되면 승격도 함께 롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FacilityWaitlistService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final FacilityWaitlistEntryRepository facilityWaitlistEntryRepository;
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final FacilityReservationRepository facilityReservationRepository;
+    private final UserRepository userRepository;
+    private final FacilityAvailabilityIndex facilityAvailabilityIndex;
+    private final FacilityNoShowPenaltyService facilityNoShowPenaltyService;
+    private final AlarmService alarmService;
+    private final FacilityWaitlistProperties properties;
+
+    // 대기 등록 (정원이 찬 슬롯만)
+    @Transactional
+    public FacilityWaitlistEntryDto join(Long userId, Long apartmentId, FacilityReservationRequestDto requestDto) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+        facilityNoShowPenaltyService.checkReservable(userId);
+        FacilityTimeSlot slot = facilityTimeSlotRepository.findById(requestDto.getTimeSlotId())
+                .filter(s -> s.getFacility().getApartment().getId().equals(apartmentId))
+                .orElseThrow(() -> new IllegalArgumentException("타임슬롯 없음"));
+
+        LocalDateTime startTime = slot.getStartTime().atDate(slot.getDate());
+        LocalDateTime endTime = slot.getEndTime().atDate(slot.getDate());
+        if (!startTime.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("이미 시작된 시간대입니다.");
+        }
+        if (slot.getReservedCount() < slot.getMaxCapacity()) {
+            throw new IllegalArgumentException("남은 자리가 있습니다. 바로 예약해주세요.");
+        }
+        if (facilityReservationRepository.existsTimeConflict(userId, startTime, endTime)) {
+            throw new IllegalArgumentException("동일 시간대에 이미 예약이 있습니다.");
+        }
+        if (facilityWaitlistEntryRepository.existsByTimeSlotIdAndUserIdAndStatus(
+                slot.getId(), userId, FacilityWaitlistEntry.Status.WAITING)) {
+            throw new IllegalArgumentException("이미 대기 중인 시간대입니다.");
+        }
+        if (facilityWaitlistEntryRepository.countByTimeSlotIdAndStatus(slot.getId(), FacilityWaitlistEntry.Status.WAITING)
+                >= properties.getMaxWaitersPerSlot()) {
+            throw new IllegalArgumentException("대기 인원이 가득 찼습니다.");
+        }
+
+        String requestMessage = requestDto.getRequestMessage();
+        FacilityWaitlistEntry entry = facilityWaitlistEntryRepository.save(FacilityWaitlistEntry.builder()
+                .timeSlot(slot)
+                .user(user)
+                .startTime(startTime)
+                .requestMessage(requestMessage == null || requestMessage.isEmpty() ? null : requestMessage)
+                .status(FacilityWaitlistEntry.Status.WAITING)
+                .build());
+        return toDto(entry);
+    }
+
+    // 본인 대기 목록
+    public List<FacilityWaitlistEntryDto> getMyWaitlist(Long userId) {
+        return facilityWaitlistEntryRepository.findWaitingByUserId(userId).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    // 대기 취소
+    @Transactional
+    public void cancel(Long userId, Long waitlistId) {
+        FacilityWaitlistEntry entry = facilityWaitlistEntryRepository.findById(waitlistId)
+                .orElseThrow(() -> new IllegalArgumentException("대기 정보 없음"));
+        if (!entry.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 대기만 취소할 수 있습니다.");
+        }
+        if (facilityWaitlistEntryRepository.updateStatusIfWaiting(waitlistId, FacilityWaitlistEntry.Status.CANCELLED) == 0) {
+            throw new IllegalStateException("이미 승격/취소된 대기입니다.");
+        }
+    }
+
+    /**
+     * 자리가 난 슬롯의 다음 대기자를 예약으로 승격합니다. 호출한 쪽 트랜잭션에서 함께 커밋/롤백됩니다.
+     * 먼저 정원 한 자리를 잡고(그 사이 바로 예약한 사람이 가져갔으면 승격 없음) 등록순으로 대기자를 잠가 확인하며,
+     * 같은 시간대에 다른 예약이 생긴 대기자는 건너뜁니다. 승격할 대기자가 없으면 잡은 자리를 반납합니다.
+     * 후보는 잠금 읽기(SKIP LOCKED)로 최신 상태를 읽으므로 다른 트랜잭션이 이미 처리한 대기를 반복해서 보지 않습니다.
+     *
+     * @return 승격되어 만들어진 예약 ID, 없으면 null
+     */
+    @Transactional
+    public Long promoteNext(FacilityTimeSlot slot) {
+        LocalDateTime startTime = slot.getStartTime().atDate(slot.getDate());
+        if (!startTime.isAfter(LocalDateTime.now())) {
+            return null;
+        }
+        List<FacilityWaitlistEntry> candidates = findCandidates(slot.getId());
+        if (candidates.isEmpty() || facilityTimeSlotRepository.increaseReservedCount(slot.getId()) == 0) {
+            return null;
+        }
+
+        LocalDateTime endTime = slot.getEndTime().atDate(slot.getDate());
+        Set<Long> checked = new HashSet<>();
+        while (true) {
+            // 이번 트랜잭션에서 이미 확인한 대기는 다시 보지 않음 (확인할 대기가 없으면 종료)
+            candidates = candidates.stream().filter(entry -> checked.add(entry.getId())).toList();
+            if (candidates.isEmpty()) {
+                break;
+            }
+            for (FacilityWaitlistEntry entry : candidates) {
+                User user = entry.getUser();
+                if (facilityReservationRepository.existsTimeConflict(user.getId(), startTime, endTime)) {
+                    facilityWaitlistEntryRepository.updateStatusIfWaiting(entry.getId(), FacilityWaitlistEntry.Status.SKIPPED);
+                    continue;
+                }
+                // 잠근 대기라 실패하지 않아야 하지만, 상태가 바뀌었으면 다음 대기자
+                if (facilityWaitlistEntryRepository.updateStatusIfWaiting(entry.getId(), FacilityWaitlistEntry.Status.PROMOTED) == 0) {
+                    continue;
+                }
+                FacilityReservation reservation = facilityReservationRepository.save(FacilityReservation.builder()
+                        .facility(slot.getFacility())
+                        .user(user)
+                        .timeSlot(slot)
+                        .date(slot.getDate())
+                        .startTime(startTime)
+                        .endTime(endTime)
+                        .requestMessage(entry.getRequestMessage())
+                        .status(FacilityReservation.Status.PENDING)
+                        .build());
+                // 벌크 UPDATE 는 영속 상태에 반영되지 않으므로 엔티티에도 같은 상태를 기록 (변경 감지 시 덮어쓰지 않도록)
+                entry.setStatus(FacilityWaitlistEntry.Status.PROMOTED);
+                entry.setReservationId(reservation.getId());
+                facilityAvailabilityIndex.publish(FacilityAvailabilityIndex.ReservationChange.of(reservation, null));
+                notifyAfterCommit(slot, reservation, entry.getId());
+                log.info("[FacilityWaitlist] 대기 승격: slotId={}, waitlistId={}, reservationId={}",
+                        slot.getId(), entry.getId(), reservation.getId());
+                return reservation.getId();
+            }
+            candidates = findCandidates(slot.getId());
+        }
+
+        facilityTimeSlotRepository.decreaseReservedCount(slot.getId());
+        return null;
+    }
+
+    // 시작 시각이 지난 슬롯의 대기 만료
+    @Scheduled(cron = "${facility.waitlist.expire-cron:0 */10 * * * *}")
+    @Transactional
+    public void expireStarted() {
+        int expired = facilityWaitlistEntryRepository.expireStarted(LocalDateTime.now());
+        if (expired > 0) {
+            log.info("[FacilityWaitlist] 지난 시간대 대기 만료: count={}", expired);
+        }
+    }
+
+    private List<FacilityWaitlistEntry> findCandidates(Long slotId) {
+        return facilityWaitlistEntryRepository.lockWaiting(slotId, properties.getPromotionScanSize());
+    }
+
+    private FacilityWaitlistEntryDto toDto(FacilityWaitlistEntry entry) {
+        FacilityTimeSlot slot = entry.getTimeSlot();
+        long position = facilityWaitlistEntryRepository.countByTimeSlotIdAndStatusAndIdLessThan(
+                slot.getId(), FacilityWaitlistEntry.Status.WAITING, entry.getId()) + 1;
+        return FacilityWaitlistEntryDto.builder()
+                .waitlistId(entry.getId())
+                .timeSlotId(slot.getId())
+                .facilityName(slot.getFacility().getName())
+                .instructorName(slot.getInstructor() != null ? slot.getInstructor().getName() : null)
+                .reservationDateTime(slot.getDate() + " " + slot.getStartTime() + "~" + slot.getEndTime())
+                .position(position)
+                .status(entry.getStatus())
+                .build();
+    }
+
+    // 승격이 커밋된 뒤에만 알림 (취소가 롤백되면 알림도 없음)
+    private void notifyAfterCommit(FacilityTimeSlot slot, FacilityReservation reservation, Long waitlistId) {
+        Long userId = reservation.getUser().getId();
+        Long apartmentId = slot.getFacility().getApartment().getId();
+        String facilityName = slot.getFacility().getName();
+        String timeText = slot.getDate() + " " + slot.getStartTime().format(TIME_FORMAT)
+                + " ~ " + slot.getEndTime().format(TIME_FORMAT);
+        Long reservationId = reservation.getId();
+
+        Runnable notify = () -> {
+            Map<String, Object> extra = new HashMap<>();
+            extra.put("waitlistId", waitlistId);
+            try {
+                alarmService.notifyUser(userId, apartmentId, "시설 예약 대기 승격", "info", "FACILITY_RESERVATION",
+                        facilityName + " " + timeText + " 자리가 나서 대기하던 예약이 신청되었습니다.",
+                        "/udash/facilities", userId, reservationId, extra);
+                alarmService.notifyApartmentAdmins(apartmentId, "새로운 시설 예약 신청", "info",
+                        "FACILITY_RESERVATION_REQUEST",
+                        facilityName + " " + timeText + " 대기자가 예약으로 승격되었습니다.",
+                        "/admin/facilities/reservations", userId, reservationId, null);
+            } catch (Exception e) {
+                log.warn("[FacilityWaitlist] 승격 알림 실패: reservationId={}, error={}", reservationId, e.getMessage());
+            }
+        };
+        TransactionUtils.afterCommit(notify);
+    }
+}
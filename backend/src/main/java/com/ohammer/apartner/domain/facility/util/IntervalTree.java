@@ -0,0 +1,216 @@
+package com.ohammer.apartner.domain.facility.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구간 트리 (AVL 트리 + 서브트리 최대 종료값).
+ * 반열린 구간 [start, end) 를 (start, id) 순으로 보관하며 삽입/삭제/겹침 여부는 O(log n),
+ * 겹치는 구간 목록은 O(log n + k) 로 처리합니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화합니다.
+ */
+public class IntervalTree<T> {
+
+    private static final class Node<T> {
+        final long start;
+        final long id;
+        long end;
+        T value;
+        long maxEnd;
+        int height = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long start, long end, long id, T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 구간을 추가합니다. 같은 (start, id) 가 있으면 종료값과 값을 바꿉니다.
+     */
+    public void put(long start, long end, long id, T value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("구간 종료값은 시작값보다 커야 합니다.");
+        }
+        root = insert(root, start, end, id, value);
+    }
+
+    /**
+     * (start, id) 구간을 삭제하고, 삭제했으면 true 를 반환합니다.
+     */
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = delete(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간이 하나라도 있는지 확인합니다.
+     */
+    public boolean overlaps(long from, long to) {
+        Node<T> node = root;
+        while (node != null) {
+            if (node.start < to && node.end > from) {
+                return true;
+            }
+            // 왼쪽에 from 이후에 끝나는 구간이 있는데 겹치지 않으면, 그 구간은 to 이후에 시작하므로 오른쪽도 겹칠 수 없음
+            if (node.left != null && node.left.maxEnd > from) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간의 값을 시작 순으로 반환합니다.
+     */
+    public List<T> overlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, long from, long to, List<T> result) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start >= to) {
+            // 오른쪽 서브트리는 모두 이 구간 이후에 시작
+            return;
+        }
+        if (node.end > from) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private Node<T> insert(Node<T> node, long start, long end, long id, T value) {
+        if (node == null) {
+            size++;
+            return new Node<>(start, end, id, value);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, id, value);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, start, end, id, value);
+        } else {
+            node.end = end;
+            node.value = value;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // 오른쪽 최솟값 노드로 대체
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+}
@@ -0,0 +1,369 @@
+package com.ohammer.apartner.domain.image.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.ohammer.apartner.domain.image.entity.Image;
+import com.ohammer.apartner.domain.image.repository.ImageRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 소셜 로그인 프로필 이미지 동기화.
+ * 로그인/가입 요청은 동기화 요청 이벤트만 발행하고 바로 반환하며, 실제 다운로드와 S3 업로드는
+ * 트랜잭션 커밋 이후 별도 스레드(profileSyncExecutor)에서 수행합니다.
+ * 마지막으로 가져온 원본의 ETag/SHA-256 을 Redis에 보관해 바뀌지 않은 이미지는 다시 올리지 않고,
+ * 원본 대신 작은 아바타 크기로 줄인 이미지를 저장합니다.
+ */
+@Slf4j
+@Service
+public class SocialProfileSyncService {
+
+    // 소셜 프로필 이미지가 저장되는 S3 경로 (사용자가 직접 올린 이미지는 "profile/")
+    public static final String SOCIAL_PROFILE_KEY_PREFIX = "kakoProfile/";
+
+    private static final String STATE_KEY_PREFIX = "social:profile:";
+    private static final Duration STATE_TTL = Duration.ofDays(30);
+
+    private static final int AVATAR_MAX_SIZE = 256;
+    private static final int MAX_DOWNLOAD_BYTES = 5 * 1024 * 1024;
+    private static final Duration DOWNLOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final UserRepository userRepository;
+    private final ImageRepository imageRepository;
+    private final AmazonS3 amazonS3;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final HttpClient httpClient;
+
+    // 동기화 중인 사용자 (같은 사용자의 다운로드/업로드가 동시에 돌며 프로필을 덮어쓰지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public SocialProfileSyncService(UserRepository userRepository,
+                                    ImageRepository imageRepository,
+                                    AmazonS3 amazonS3,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.imageRepository = imageRepository;
+        this.amazonS3 = amazonS3;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(DOWNLOAD_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    // 동기화 요청 이벤트 (트랜잭션 안에서 발행되면 커밋 이후 처리)
+    public record SyncRequested(Long userId, String profileImgUrl) {
+    }
+
+    // 마지막으로 동기화한 원본 정보
+    private record SyncState(String sourceUrl, String etag, String contentHash) {
+    }
+
+    private record AvatarVariant(byte[] bytes, String contentType, String extension) {
+    }
+
+    /**
+     * 프로필 이미지 동기화를 요청합니다. 호출 스레드에서는 외부 I/O를 하지 않습니다.
+     */
+    public void requestSync(Long userId, String profileImgUrl) {
+        if (userId == null || profileImgUrl == null || profileImgUrl.isBlank()) {
+            return;
+        }
+        eventPublisher.publishEvent(new SyncRequested(userId, profileImgUrl));
+    }
+
+    @Async("profileSyncExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSyncRequested(SyncRequested event) {
+        if (!inFlight.add(event.userId())) {
+            log.debug("[ProfileSync] 이미 동기화 중, 요청 생략: userId={}", event.userId());
+            return;
+        }
+        try {
+            sync(event.userId(), event.profileImgUrl());
+        } catch (Exception e) {
+            // 동기화 실패는 로그인에 영향을 주지 않음 (다음 로그인 때 다시 시도)
+            log.error("[ProfileSync] 프로필 이미지 동기화 실패: userId={}, error={}", event.userId(), e.getMessage());
+        } finally {
+            inFlight.remove(event.userId());
+        }
+    }
+
+    private void sync(Long userId, String profileImgUrl) throws IOException, InterruptedException {
+        SyncState state = loadState(userId);
+        String currentS3Key = findCurrentProfileS3Key(userId);
+        if (currentS3Key != null && !isSocialProfileKey(currentS3Key)) {
+            // 사용자가 직접 올린 프로필 이미지는 덮어쓰지 않음
+            return;
+        }
+        // 현재 소셜 프로필 이미지를 갖고 있을 때만 조건부 요청/내용 비교로 생략 가능
+        boolean synced = state != null && isSocialProfileKey(currentS3Key);
+        boolean sameSource = synced && profileImgUrl.equals(state.sourceUrl());
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(profileImgUrl))
+                .timeout(DOWNLOAD_TIMEOUT)
+                .GET();
+        if (sameSource && state.etag() != null) {
+            requestBuilder.header("If-None-Match", state.etag());
+        }
+        HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() == 304) {
+            log.debug("[ProfileSync] 원본 변경 없음(304): userId={}", userId);
+            return;
+        }
+        if (response.statusCode() != 200) {
+            log.warn("[ProfileSync] 프로필 이미지 다운로드 실패: userId={}, status={}", userId, response.statusCode());
+            return;
+        }
+
+        byte[] original = response.body();
+        if (original == null || original.length == 0) {
+            log.info("[ProfileSync] 다운로드한 프로필 이미지가 비어 있음: userId={}", userId);
+            return;
+        }
+        if (original.length > MAX_DOWNLOAD_BYTES) {
+            log.warn("[ProfileSync] 프로필 이미지가 너무 큼: userId={}, size={}", userId, original.length);
+            return;
+        }
+
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String contentHash = sha256(original);
+
+        if (synced && contentHash.equals(state.contentHash())) {
+            log.debug("[ProfileSync] 이미지 내용 동일, 업로드 생략: userId={}", userId);
+            saveState(userId, new SyncState(profileImgUrl, etag, contentHash));
+            return;
+        }
+
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        AvatarVariant avatar = toAvatar(original, contentType);
+        String s3Key = SOCIAL_PROFILE_KEY_PREFIX + userId + "/" + UUID.randomUUID() + "." + avatar.extension();
+
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(avatar.contentType());
+            metadata.setContentLength(avatar.bytes().length);
+            amazonS3.putObject(new PutObjectRequest(bucket, s3Key, new ByteArrayInputStream(avatar.bytes()), metadata));
+        } catch (SdkClientException e) {
+            log.error("[ProfileSync] S3 업로드 실패: userId={}, s3Key={}, error={}", userId, s3Key, e.getMessage());
+            return;
+        }
+
+        String replacedS3Key;
+        try {
+            replacedS3Key = transactionTemplate.execute(status ->
+                    replaceProfileImage(userId, s3Key, originalFileName, avatar));
+        } catch (RuntimeException e) {
+            deleteS3Object(s3Key);
+            throw e;
+        }
+        if (replacedS3Key == null) {
+            // 그 사이 사용자 삭제/직접 업로드 등으로 교체하지 않은 경우 업로드한 객체 정리
+            deleteS3Object(s3Key);
+            return;
+        }
+        if (!replacedS3Key.isEmpty()) {
+            deleteS3Object(replacedS3Key);
+        }
+        saveState(userId, new SyncState(profileImgUrl, etag, contentHash));
+        log.info("[ProfileSync] 프로필 이미지 동기화 완료: userId={}, size={}", userId, avatar.bytes().length);
+    }
+
+    private String findCurrentProfileS3Key(Long userId) {
+        return transactionTemplate.execute(status -> userRepository.findById(userId)
+                .map(User::getProfileImage)
+                .map(Image::getS3Key)
+                .orElse(null));
+    }
+
+    // 교체된 기존 이미지의 S3 키(없으면 빈 문자열)를, 교체하지 않았으면 null 반환
+    private String replaceProfileImage(Long userId, String s3Key, String originalFileName, AvatarVariant avatar) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        Image existingImage = user.getProfileImage();
+        if (existingImage != null && !isSocialProfileKey(existingImage.getS3Key())) {
+            return null;
+        }
+
+        String replacedS3Key = "";
+        if (existingImage != null) {
+            replacedS3Key = existingImage.getS3Key();
+            user.setProfileImage(null);
+            userRepository.saveAndFlush(user);
+            imageRepository.delete(existingImage);
+        }
+
+        Image newImage = Image.builder()
+                .filePath(amazonS3.getUrl(bucket, s3Key).toString())
+                .isTemp(false)
+                .isTemporary(false)
+                .path(s3Key)
+                .originalName(originalFileName)
+                .storedName(s3Key)
+                .contentType(avatar.contentType())
+                .size((long) avatar.bytes().length)
+                .isDeleted(false)
+                .s3Key(s3Key)
+                .build();
+        Image savedImage = imageRepository.save(newImage);
+
+        user.setProfileImage(savedImage);
+        savedImage.setUser(user);
+        return replacedS3Key;
+    }
+
+    // 긴 변이 AVATAR_MAX_SIZE 를 넘으면 비율을 유지해 줄임. 이미 작거나 디코딩할 수 없는 형식은 원본 그대로 사용
+    private AvatarVariant toAvatar(byte[] original, String contentType) {
+        BufferedImage resized = null;
+        boolean hasAlpha = false;
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+            if (source != null && Math.max(source.getWidth(), source.getHeight()) > AVATAR_MAX_SIZE) {
+                hasAlpha = source.getColorModel().hasAlpha();
+                resized = resize(source, hasAlpha);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ProfileSync] 아바타 변환 실패, 원본 사용: error={}", e.getMessage());
+        }
+
+        if (resized != null) {
+            String format = hasAlpha ? "png" : "jpg";
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                if (ImageIO.write(resized, format, out)) {
+                    return new AvatarVariant(out.toByteArray(), hasAlpha ? "image/png" : "image/jpeg", format);
+                }
+            } catch (IOException e) {
+                log.warn("[ProfileSync] 아바타 인코딩 실패, 원본 사용: error={}", e.getMessage());
+            }
+        }
+
+        return originalVariant(original, contentType);
+    }
+
+    // 카카오 CDN 주소에는 확장자가 없는 경우가 많아 응답의 Content-Type 으로 형식을 정함 (모르면 jpg)
+    private static AvatarVariant originalVariant(byte[] original, String contentType) {
+        String mediaType = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase();
+        return switch (mediaType) {
+            case "image/png" -> new AvatarVariant(original, "image/png", "png");
+            case "image/gif" -> new AvatarVariant(original, "image/gif", "gif");
+            case "image/webp" -> new AvatarVariant(original, "image/webp", "webp");
+            case "image/bmp" -> new AvatarVariant(original, "image/bmp", "bmp");
+            default -> new AvatarVariant(original, "image/jpeg", "jpg");
+        };
+    }
+
+    private static BufferedImage resize(BufferedImage source, boolean hasAlpha) {
+        double scale = (double) AVATAR_MAX_SIZE / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private SyncState loadState(Long userId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(stateKey(userId));
+            if (entries == null || entries.isEmpty()) {
+                return null;
+            }
+            return new SyncState((String) entries.get("sourceUrl"), (String) entries.get("etag"),
+                    (String) entries.get("contentHash"));
+        } catch (Exception e) {
+            log.warn("[ProfileSync] 동기화 상태 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveState(Long userId, SyncState state) {
+        String key = stateKey(userId);
+        try {
+            redisTemplate.delete(key);
+            redisTemplate.opsForHash().put(key, "sourceUrl", state.sourceUrl());
+            redisTemplate.opsForHash().put(key, "contentHash", state.contentHash());
+            if (state.etag() != null) {
+                redisTemplate.opsForHash().put(key, "etag", state.etag());
+            }
+            redisTemplate.expire(key, STATE_TTL);
+        } catch (Exception e) {
+            log.warn("[ProfileSync] 동기화 상태 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private void deleteS3Object(String s3Key) {
+        try {
+            amazonS3.deleteObject(bucket, s3Key);
+        } catch (Exception e) {
+            log.warn("[ProfileSync] S3 객체 삭제 실패: s3Key={}, error={}", s3Key, e.getMessage());
+        }
+    }
+
+    private static boolean isSocialProfileKey(String s3Key) {
+        return s3Key != null && s3Key.startsWith(SOCIAL_PROFILE_KEY_PREFIX);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String stateKey(Long userId) {
+        return STATE_KEY_PREFIX + userId;
+    }
+}
@@ -66,9 +66,6 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private Status status; 
 
-    @Column(length = 512)
-    private String refreshToken;
-
     @Column(length = 255) 
     private String leaveReason;
 
@@ -55,9 +55,6 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Override
     Optional<User> findById(@NonNull Long id);
 
-    @EntityGraph(attributePaths = "roles")
-    Optional<User> findByRefreshToken(String refreshToken);
-
     @EntityGraph(attributePaths = {"roles", "apartment", "building", "unit", "profileImage"})
     Optional<User> findBySocialProviderAndSocialId(String socialProvider, String socialId);
 
@@ -7,6 +7,7 @@ import com.ohammer.apartner.domain.apartment.entity.Unit;
 import com.ohammer.apartner.domain.apartment.repository.ApartmentRepository;
 import com.ohammer.apartner.domain.apartment.repository.BuildingRepository;
 import com.ohammer.apartner.domain.apartment.repository.UnitRepository;
+import com.ohammer.apartner.domain.image.service.SocialProfileSyncService;
 import com.ohammer.apartner.domain.user.exception.UserErrorCode;
 import com.ohammer.apartner.domain.user.exception.UserException;
 import com.ohammer.apartner.domain.user.dto.UserRegistRequestDTO;
@@ -49,6 +50,7 @@ public class UserRegistService {
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
     private final UserLogRepository userLogRepository;
+    private final SocialProfileSyncService socialProfileSyncService;
 
     @Transactional
     public User register(UserRegistRequestDTO dto, String socialProfileImageUrl) {
@@ -108,7 +110,8 @@ public class UserRegistService {
         User savedUser = userRepository.save(newUser);
 
         if (finalProfileImageUrl != null && !finalProfileImageUrl.isEmpty()) {
-            authService.inputSocialProfileImage(savedUser, finalProfileImageUrl);
+            // 프로필 이미지는 가입 트랜잭션 커밋 후 비동기로 동기화
+            socialProfileSyncService.requestSync(savedUser.getId(), finalProfileImageUrl);
         }
         
         return userRepository.findById(savedUser.getId())
@@ -155,9 +158,9 @@ public class UserRegistService {
         Status oldStatus = user.getStatus();
         user.setStatus(Status.WITHDRAWN);
         user.setLeaveReason(requestDto.getLeaveReason());
-        user.setRefreshToken(null);
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        authService.revokeAllRefreshSessions(user.getId());
 
         // 상태 변경 로그 추가
         String description = String.format("탈퇴 처리: %s -> %s", oldStatus, Status.WITHDRAWN);
@@ -182,12 +185,9 @@ public class UserRegistService {
             throw new UserException(UserErrorCode.ACCESS_TOKEN_BLACKLIST_FAIL);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-
         try {
-            user.setRefreshToken(null);
-            userRepository.save(user);
+            // 헤더 기반 로그아웃은 기기를 특정할 수 없으므로 모든 RefreshToken 세션 폐기
+            authService.revokeAllRefreshSessions(userId);
         } catch (Exception e) {
             throw new UserException(UserErrorCode.REFRESH_TOKEN_DELETE_FAIL);
         }
@@ -1,11 +1,18 @@
 package com.ohammer.apartner.domain.vehicle.controller;
 
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordBulkStatusRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordBulkStatusResponseDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordRequestDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordResponseDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordStatusDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordStatusUpdateRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventBatchRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventBatchResponseDto;
 import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
 import com.ohammer.apartner.domain.vehicle.service.EntryRecordService;
+import com.ohammer.apartner.domain.vehicle.service.GateEventService;
+import com.ohammer.apartner.global.service.IdempotencyService;
+import com.ohammer.apartner.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +28,8 @@ import java.util.List;
 public class EntryRecordController {
 
     private final EntryRecordService entryRecordService;
+    private final GateEventService gateEventService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "주차 요청 승인/미승인 결정하는 동작")
     @PatchMapping("/{entryRecordId}/status")
@@ -32,20 +41,48 @@ public class EntryRecordController {
         return ResponseEntity.ok(dto);
     }
 
+    @Operation(summary = "주차 요청 일괄 승인/미승인 (매니저/관리자)",
+            description = "아직 입차하지 않은 출입 기록만 변경하며, 변경하지 못한 기록은 사유와 함께 반환합니다. "
+                    + "알림은 차량 주인(방문 차량은 초대한 입주민)별로 한 건씩 보냅니다.")
+    @PatchMapping("/status")
+    public ResponseEntity<EntryRecordBulkStatusResponseDto> updateEntryStatuses(
+            @RequestBody EntryRecordBulkStatusRequestDto requestDto) {
+        return ResponseEntity.ok(entryRecordService.updateStatuses(requestDto));
+    }
 
     // 🚗 입차
-    @Operation(summary = "차 몰고 주차장으로 들어가는 동작")
+    @Operation(summary = "차 몰고 주차장으로 들어가는 동작",
+            description = "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 처음 응답을 그대로 반환합니다.")
     @PostMapping("/enter")
-    public ResponseEntity<EntryRecordResponseDto> enter(@RequestBody EntryRecordRequestDto dto) {
+    public ResponseEntity<EntryRecordResponseDto> enter(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody EntryRecordRequestDto dto) {
 
-        return ResponseEntity.ok(entryRecordService.enterVehicle(dto));
+        return ResponseEntity.ok(idempotencyService.execute("entry-enter", requester(dto), idempotencyKey, dto,
+                EntryRecordResponseDto.class, () -> entryRecordService.enterVehicle(dto)));
     }
 
     // 🚙 출차
-    @Operation(summary = "주차장에서 차 빼서 나가는 동작")
+    @Operation(summary = "주차장에서 차 빼서 나가는 동작",
+            description = "Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 처음 응답을 그대로 반환합니다.")
     @PostMapping("/exit")
-    public ResponseEntity<EntryRecordResponseDto> exit(@RequestBody EntryRecordRequestDto dto) { // @RequestBody EntryRecordRequestDto dto
-        return ResponseEntity.ok(entryRecordService.exitVehicle(dto));
+    public ResponseEntity<EntryRecordResponseDto> exit(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody EntryRecordRequestDto dto) { // @RequestBody EntryRecordRequestDto dto
+        return ResponseEntity.ok(idempotencyService.execute("entry-exit", requester(dto), idempotencyKey, dto,
+                EntryRecordResponseDto.class, () -> entryRecordService.exitVehicle(dto)));
+    }
+
+    // 📷 번호판 인식 게이트 이벤트 일괄 반영
+    @Operation(summary = "번호판 인식(ANPR) 게이트 입출차 이벤트 일괄 처리",
+            description = "게이트 장비 전용. X-Gate-Key 헤더로 인증하며 이벤트별 처리 결과를 요청 순서대로 반환합니다. "
+                    + "Idempotency-Key 헤더를 보내면 재전송된 배치에는 처음 처리 결과를 그대로 반환합니다.")
+    @PostMapping("/gate-events")
+    public ResponseEntity<GateEventBatchResponseDto> ingestGateEvents(
+            @RequestHeader(value = "X-Gate-Key", required = false) String gateKey,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody GateEventBatchRequestDto requestDto) {
+        return ResponseEntity.ok(gateEventService.ingest(gateKey, idempotencyKey, requestDto));
     }
 
     // 📜 출입 기록 전체 조회
@@ -63,6 +100,12 @@ public class EntryRecordController {
         return ResponseEntity.ok(response);
     }
 
-
-
+    // 멱등 키 범위: 입출차 API 는 인증 없이 호출되므로 외부인은 전화번호, 입주민은 로그인 사용자 기준
+    private static String requester(EntryRecordRequestDto dto) {
+        if (dto != null && dto.getPhone() != null && !dto.getPhone().isBlank()) {
+            return "phone:" + dto.getPhone().replaceAll("[^0-9]", "");
+        }
+        Long userId = SecurityUtil.getCurrentUserId();
+        return userId != null ? "user:" + userId : null;
+    }
 }
@@ -2,15 +2,22 @@ package com.ohammer.apartner.domain.vehicle.controller;
 
 
 import com.ohammer.apartner.domain.vehicle.dto.*;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
 import com.ohammer.apartner.domain.vehicle.service.VehicleService;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "차량 관리 api")
@@ -49,6 +56,28 @@ public class VehicleController {
     }
 
 
+    @Operation(summary = "차량 등록 목록 페이지 조회 (관리자)",
+            description = "아파트, 출입 기록 상태, 외부 차량 여부, 현재 주차 여부, 등록 기간으로 필터링합니다. 매니저는 소속 아파트만 조회됩니다.")
+    @GetMapping("/registrations")
+    public ResponseEntity<Page<VehicleRegistrationInfoDto>> searchRegistrations(
+            @RequestParam(value = "apartmentId", required = false) Long apartmentId,
+            @RequestParam(value = "status", required = false) EntryRecord.Status status,
+            @RequestParam(value = "isForeign", required = false) Boolean isForeign,
+            @RequestParam(value = "parked", required = false) Boolean parked,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        VehicleRegistrationSearchCondition condition = VehicleRegistrationSearchCondition.builder()
+                .apartmentId(apartmentId)
+                .status(status)
+                .isForeign(isForeign)
+                .parked(parked)
+                .registeredFrom(from != null ? from.atStartOfDay() : null)
+                .registeredTo(to != null ? to.plusDays(1).atStartOfDay() : null)
+                .build();
+        return ResponseEntity.ok(vehicleService.searchVehicleRegistrations(condition, pageable));
+    }
+
     @Operation(summary = "등록된 차량을 수정")
     @PatchMapping("/update/{vehicleId}")
     public void updateVehicle(@PathVariable(value = "vehicleId") Long vehicleId,
@@ -102,12 +131,70 @@ public class VehicleController {
         return ResponseEntity.ok(list);
     }
 
+    @Operation(summary = "차량 번호 검색 (관리자)", description = "공백/하이픈/지역명 차이와 OCR 오인식(8↔B, 0↔D 등), 한 글자 오차를 허용합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<VehiclePlateSearchResultDto>> searchByPlate(
+            @RequestParam("plate") String plate,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(vehicleService.searchByPlate(plate, limit));
+    }
+
     @Operation(summary = "주차랑 수용 공간과 현재 주차된 차량 수, 그리고 남은 주차 공간")
     @GetMapping("/status")
     public ResponseEntity<ParkingStatusDto> getParkingStatus() {
         return ResponseEntity.ok(vehicleService.getParkingStatus());
     }
 
+    @Operation(summary = "주차 대시보드 (관리자)", description = "현재 현황, 오늘 5분 단위 점유 추이, 기간별 하루 통계(기본 최근 7일)를 한 번에 반환합니다.")
+    @GetMapping("/stats/dashboard")
+    public ResponseEntity<ParkingDashboardDto> getParkingDashboard(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(vehicleService.getParkingDashboard(from, to));
+    }
+
+    @Operation(summary = "하루 5분 단위 주차 점유 추이 (관리자)")
+    @GetMapping("/stats/occupancy")
+    public ResponseEntity<ParkingOccupancySeriesDto> getParkingOccupancySeries(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(vehicleService.getParkingOccupancySeries(date));
+    }
+
+    @Operation(summary = "기간별 하루 주차 통계 (관리자)", description = "최대 점유, 입/출차 수, 방문 차량 비율, 평균 주차 시간")
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<ParkingDailyStatDto>> getParkingDailyStats(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(vehicleService.getParkingDailyStats(from, to));
+    }
+
+    @Operation(summary = "주차 구역 목록 (관리자)", description = "구역별 자리 수와 현재 배정된 자리 수")
+    @GetMapping("/zones")
+    public ResponseEntity<List<ParkingZoneResponseDto>> getParkingZones() {
+        return ResponseEntity.ok(vehicleService.getParkingZones());
+    }
+
+    @Operation(summary = "주차 구역 추가 (관리자)", description = "구역이 하나라도 있으면 입차 시 구역/자리를 배정합니다. 동 전용 구역은 입주민 구역만 가능합니다.")
+    @PostMapping("/zones")
+    public ResponseEntity<ParkingZoneResponseDto> createParkingZone(@RequestBody ParkingZoneRequestDto dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(vehicleService.createParkingZone(dto));
+    }
+
+    @Operation(summary = "주차 구역 삭제 (관리자)", description = "주차 중인 차량이 있는 구역은 삭제할 수 없습니다.")
+    @DeleteMapping("/zones/{zoneId}")
+    public ResponseEntity<String> deleteParkingZone(@PathVariable(value = "zoneId") Long zoneId) {
+        vehicleService.deleteParkingZone(zoneId);
+        return ResponseEntity.ok("주차 구역이 삭제되었습니다.");
+    }
+
+    @Operation(summary = "동별 입주민 차량 배정 한도 변경 (관리자)", description = "음수를 보내면 한도를 해제합니다.")
+    @PatchMapping("/zones/quotas/{buildingId}")
+    public ResponseEntity<String> updateBuildingQuota(@PathVariable(value = "buildingId") Long buildingId,
+                                                      @RequestParam("quota") int quota) {
+        vehicleService.updateBuildingQuota(buildingId, quota);
+        return ResponseEntity.ok(quota < 0 ? "동 배정 한도가 해제되었습니다." : "동 배정 한도가 " + quota + "대로 변경되었습니다.");
+    }
+
     @Operation(summary = "입주민이 자신 앞으로 등록된 차량 리스트 조회")
     @GetMapping("/mine")
     public ResponseEntity<List<VehicleRegistrationInfoDto>> getMyVehicles() {
@@ -123,10 +210,12 @@ public class VehicleController {
     }
 
 
-    @Operation(summary = "주차장 차량 최대 수용 공간 변경")
+    @Operation(summary = "주차장 차량 최대 수용 공간 변경",
+            description = "apartmentId 를 생략하면 관리자 소속 아파트의 수용량을 변경합니다.")
     @PatchMapping("/capacity")
-    public ResponseEntity<String> updateMaxCapacity(@RequestParam("capacity") int capacity) {
-        vehicleService.updateMaxCapacity(capacity);
+    public ResponseEntity<String> updateMaxCapacity(@RequestParam("capacity") int capacity,
+                                                    @RequestParam(value = "apartmentId", required = false) Long apartmentId) {
+        vehicleService.updateMaxCapacity(apartmentId, capacity);
         return ResponseEntity.ok("주차장 최대 수용량이 " + capacity + "대로 변경되었습니다.");
     }
 
@@ -0,0 +1,15 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class EntryRecordBulkStatusRequestDto {
+
+    private List<Long> entryRecordIds;
+    private EntryRecord.Status status;
+}
@@ -0,0 +1,29 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class EntryRecordBulkStatusResponseDto {
+
+    @Schema(description = "요청한 출입 기록 수 (중복 제외)")
+    private int requested;
+
+    @Schema(description = "상태가 변경된 출입 기록")
+    private List<EntryRecordStatusDto> updated;
+
+    @Schema(description = "변경하지 않은 출입 기록과 사유")
+    private List<Skipped> skipped;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Skipped {
+        private Long id;
+        private String reason;
+    }
+}
@@ -2,14 +2,18 @@ package com.ohammer.apartner.domain.vehicle.dto;
 
 
 import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Builder;
+import lombok.NoArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Transactional
 public class EntryRecordResponseDto {
 
@@ -17,6 +21,9 @@ public class EntryRecordResponseDto {
     private LocalDateTime entryTime;
     private LocalDateTime exitTime;
     private EntryRecord.Status status;
+    private Long parkingZoneId;  // 배정된 주차 구역 (구역 미설정 아파트면 null)
+    private Integer slotNumber;  // 구역 내 자리 번호
+    private boolean archived; // 보관 테이블에서 조회한 지난 기록
 
     public static EntryRecordResponseDto from(EntryRecord record) {
         return EntryRecordResponseDto.builder()
@@ -24,6 +31,8 @@ public class EntryRecordResponseDto {
                 .entryTime(record.getEntryTime())
                 .exitTime(record.getExitTime())
                 .status(record.getStatus())
+                .parkingZoneId(record.getParkingZoneId())
+                .slotNumber(record.getSlotNumber())
                 .build();
     }
 }
@@ -0,0 +1,17 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GateEventBatchRequestDto {
+
+    @Schema(description = "게이트 장비 ID (Idempotency-Key 를 장비별로 구분)")
+    private String gateId;
+
+    @Schema(description = "번호판 인식 이벤트 목록")
+    private List<GateEventDto> events;
+}
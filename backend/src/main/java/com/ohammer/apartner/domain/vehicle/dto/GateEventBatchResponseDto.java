@@ -0,0 +1,25 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GateEventBatchResponseDto {
+
+    @Schema(description = "수신한 이벤트 수")
+    private int received;
+
+    @Schema(description = "결과별 이벤트 수")
+    private Map<GateEventResultDto.Outcome, Long> summary;
+
+    @Schema(description = "이벤트별 처리 결과 (요청 순서)")
+    private List<GateEventResultDto> results;
+}
@@ -0,0 +1,27 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GateEventDto {
+
+    public enum Direction {
+        ENTRY, EXIT
+    }
+
+    @Schema(description = "게이트 식별자", example = "B1-IN-01")
+    private String gateId;
+
+    @Schema(description = "인식된 차량 번호", example = "12가3456")
+    private String vehicleNum;
+
+    @Schema(description = "진입/진출 방향")
+    private Direction direction;
+
+    @Schema(description = "인식 시각 (없으면 서버 수신 시각)")
+    private LocalDateTime capturedAt;
+}
@@ -0,0 +1,42 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.service.VehiclePlateIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GateEventResultDto {
+
+    public enum Outcome {
+        ENTERED,         // 입차 처리
+        EXITED,          // 출차 처리
+        DUPLICATE,       // 중복 인식으로 무시
+        UNKNOWN_VEHICLE, // 등록되지 않은 번호판
+        NEEDS_REVIEW,    // 한 글자만 다른 차량만 있음 (다른 차량일 수 있어 반영하지 않고 관리자 확인 필요)
+        NOT_APPROVED,    // 승인된 출입 기록 없음
+        ALREADY_PARKED,  // 이미 입차한 차량
+        NOT_PARKED,      // 주차 중이 아닌 차량의 출차
+        PARKING_FULL,    // 만차
+        INVALID,         // 번호/방향 누락
+        FAILED           // 저장 실패
+    }
+
+    @Schema(description = "인식된 차량 번호")
+    private String vehicleNum;
+
+    @Schema(description = "진입/진출 방향")
+    private GateEventDto.Direction direction;
+
+    @Schema(description = "처리 결과")
+    private Outcome outcome;
+
+    @Schema(description = "매칭된 차량 ID (NEEDS_REVIEW 면 확인이 필요한 후보 차량)")
+    private Long vehicleId;
+
+    @Schema(description = "번호판 일치 정도 (EXACT/OCR_CONFUSION/EDIT_DISTANCE)")
+    private VehiclePlateIndex.MatchType matchType;
+}
@@ -0,0 +1,29 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ParkingDailyStatDto {
+
+    @Schema(description = "날짜")
+    private LocalDate date;
+
+    @Schema(description = "최대 동시 주차 대수")
+    private int peakOccupancy;
+
+    @Schema(description = "입차 수")
+    private int entryCount;
+
+    @Schema(description = "출차 수")
+    private int exitCount;
+
+    @Schema(description = "입차 중 방문 차량 비율 (0~1)")
+    private double visitorShare;
+
+    @Schema(description = "평균 주차 시간(분)")
+    private double averageDwellMinutes;
+}
@@ -0,0 +1,20 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ParkingDashboardDto {
+
+    @Schema(description = "현재 주차장 현황")
+    private ParkingStatusDto status;
+
+    @Schema(description = "오늘 5분 단위 점유 추이와 통계")
+    private ParkingOccupancySeriesDto today;
+
+    @Schema(description = "기간별 하루 통계 (오래된 날짜부터)")
+    private List<ParkingDailyStatDto> daily;
+}
@@ -0,0 +1,24 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ParkingOccupancySeriesDto {
+
+    @Schema(description = "날짜")
+    private LocalDate date;
+
+    @Schema(description = "구간 길이(분)", example = "5")
+    private int bucketMinutes;
+
+    @Schema(description = "구간별 최대 주차 대수 (00:00부터 순서대로, 아직 오지 않은 구간은 제외)")
+    private List<Integer> occupancy;
+
+    @Schema(description = "하루 통계")
+    private ParkingDailyStatDto daily;
+}
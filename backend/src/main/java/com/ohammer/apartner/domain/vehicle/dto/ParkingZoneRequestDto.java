@@ -0,0 +1,15 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingZone;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ParkingZoneRequestDto {
+
+    private String name;
+    private Long buildingId;               // 동 전용 구역이면 동 ID, 공용이면 비움
+    private ParkingZone.SlotType slotType;
+    private int slotCount;
+}
@@ -0,0 +1,29 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingZone;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ParkingZoneResponseDto {
+
+    @Schema(description = "구역 ID")
+    private Long id;
+
+    @Schema(description = "구역 이름")
+    private String name;
+
+    @Schema(description = "전용 동 ID (공용 구역이면 null)")
+    private Long buildingId;
+
+    @Schema(description = "구역 유형")
+    private ParkingZone.SlotType slotType;
+
+    @Schema(description = "자리 수")
+    private int slotCount;
+
+    @Schema(description = "현재 배정된 자리 수")
+    private long occupied;
+}
@@ -0,0 +1,24 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+
+// 번호판 인덱스에 보관하는 차량 요약 (엔티티를 메모리에 들고 있지 않기 위함)
+public record VehiclePlateEntry(
+        Long vehicleId,
+        String vehicleNum,
+        Long ownerId,
+        Long apartmentId,
+        Boolean isForeign
+) {
+
+    public static VehiclePlateEntry from(Vehicle vehicle) {
+        User owner = vehicle.getUser();
+        return new VehiclePlateEntry(
+                vehicle.getId(),
+                vehicle.getVehicleNum(),
+                owner != null ? owner.getId() : null,
+                owner != null && owner.getApartment() != null ? owner.getApartment().getId() : null,
+                vehicle.getIsForeign());
+    }
+}
@@ -0,0 +1,37 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.service.VehiclePlateIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class VehiclePlateSearchResultDto {
+
+    @Schema(description = "차량 ID")
+    private Long vehicleId;
+
+    @Schema(description = "등록된 차량 번호")
+    private String vehicleNum;
+
+    @Schema(description = "외부 차량 여부")
+    private Boolean isForeign;
+
+    @Schema(description = "소유자(초대한 입주민) ID")
+    private Long ownerId;
+
+    @Schema(description = "일치 방식 (EXACT, OCR_CONFUSION, EDIT_DISTANCE)")
+    private VehiclePlateIndex.MatchType matchType;
+
+    public static VehiclePlateSearchResultDto from(VehiclePlateIndex.PlateMatch match) {
+        VehiclePlateEntry vehicle = match.vehicle();
+        return VehiclePlateSearchResultDto.builder()
+                .vehicleId(vehicle.vehicleId())
+                .vehicleNum(vehicle.vehicleNum())
+                .isForeign(vehicle.isForeign())
+                .ownerId(vehicle.ownerId())
+                .matchType(match.matchType())
+                .build();
+    }
+}
@@ -103,4 +103,36 @@ public class VehicleRegistrationInfoDto {
                 .vehicleStatus(vehicleStatus) // ✅ 여기에 추가
                 .build();
     }
+
+    // 목록 조회 프로젝션 변환 (연관 엔티티 접근 없음)
+    public static VehicleRegistrationInfoDto from(VehicleRegistrationRow row) {
+        boolean isForeign = Boolean.TRUE.equals(row.isForeign());
+        String phone;
+        String applicantName;
+        if (isForeign) {
+            applicantName = row.reason();
+            phone = row.vehiclePhone();
+        } else {
+            applicantName = row.userId() != null && row.userName() != null ? row.userName() : "탈퇴한 사용자";
+            phone = row.userPhone();
+        }
+
+        return VehicleRegistrationInfoDto.builder()
+                .id(row.vehicleId())
+                .entryRecordId(row.entryRecordId())
+                .registerType(isForeign ? "방문자" : "거주자")
+                .applicantName(applicantName)
+                .apartmentName(row.apartmentName())
+                .buildingName(row.buildingNumber())
+                .unitName(row.unitNumber())
+                .vehicleNum(row.vehicleNum())
+                .type(row.type())
+                .phone(phone)
+                .createdAt(row.registeredAt())
+                .reason(isForeign ? row.reason() : null)
+                .userPhone(phone)
+                .status(row.entryStatus() != null ? row.entryStatus().name() : null)
+                .vehicleStatus(row.vehicleStatus() != null ? row.vehicleStatus().name() : null)
+                .build();
+    }
 }
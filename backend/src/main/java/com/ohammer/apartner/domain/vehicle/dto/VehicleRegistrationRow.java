@@ -0,0 +1,26 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import java.time.LocalDateTime;
+
+// 차량 등록 목록 조회용 프로젝션 (출입 기록 + 차량 + 소유자/초대자 + 아파트/동/호 한 번의 조인)
+public record VehicleRegistrationRow(
+        Long vehicleId,
+        Long entryRecordId,
+        EntryRecord.Status entryStatus,
+        String vehicleNum,
+        String type,
+        Vehicle.Status vehicleStatus,
+        Boolean isForeign,
+        String reason,
+        String vehiclePhone,
+        LocalDateTime registeredAt,
+        Long userId,
+        String userName,
+        String userPhone,
+        String apartmentName,
+        String buildingNumber,
+        String unitNumber
+) {
+}
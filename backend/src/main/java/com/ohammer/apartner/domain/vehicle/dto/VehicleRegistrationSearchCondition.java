@@ -0,0 +1,31 @@
+package com.ohammer.apartner.domain.vehicle.dto;
+
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+// 관리자 차량 등록 목록 검색 조건 (null 인 항목은 조건에서 제외)
+@Getter
+@Builder(toBuilder = true)
+public class VehicleRegistrationSearchCondition {
+
+    @Schema(description = "아파트 ID (관리자가 아니면 소속 아파트로 고정)")
+    private Long apartmentId;
+
+    @Schema(description = "출입 기록 상태")
+    private EntryRecord.Status status;
+
+    @Schema(description = "외부 차량 여부")
+    private Boolean isForeign;
+
+    @Schema(description = "현재 주차 중(승인 + 입차 + 미출차)인 기록만")
+    private Boolean parked;
+
+    @Schema(description = "차량 등록일 시작 (포함)")
+    private LocalDateTime registeredFrom;
+
+    @Schema(description = "차량 등록일 끝 (미포함)")
+    private LocalDateTime registeredTo;
+}
@@ -9,7 +9,16 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "entry_records")
+@Table(name = "entry_records", indexes = {
+        // 차량별 미출차/최근 기록 조회 (입차/출차, 게이트 처리)
+        @Index(name = "idx_entry_records_vehicle_status_exit", columnList = "vehicle_id, status, exit_time, created_at"),
+        // 차량별 출입 이력 조회
+        @Index(name = "idx_entry_records_vehicle_entry", columnList = "vehicle_id, entry_time"),
+        // 보관 테이블 이관 대상 조회
+        @Index(name = "idx_entry_records_exit_time", columnList = "exit_time"),
+        // 구역별 배정 자리 복구
+        @Index(name = "idx_entry_records_zone_exit", columnList = "parking_zone_id, exit_time")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +40,13 @@ public class EntryRecord extends BaseEntity {
     @Column(name = "exit_time")
     private LocalDateTime exitTime;
 
+    // 입차 시 배정된 주차 구역/자리 (구역이 설정되지 않은 아파트면 null)
+    @Column(name = "parking_zone_id")
+    private Long parkingZoneId;
+
+    @Column(name = "slot_number")
+    private Integer slotNumber;
+
     // Enum for status
     public enum Status {
         AGREE, INAGREE, PENDING, INVITER_AGREE
@@ -0,0 +1,26 @@
+package com.ohammer.apartner.domain.vehicle.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 동별 입주민 차량 배정 한도 (행이 없는 동은 제한 없음, 주차 구역이 설정된 아파트에만 적용)
+@Entity
+@Table(name = "parking_building_quotas",
+        uniqueConstraints = @UniqueConstraint(name = "uk_parking_building_quotas_building", columnNames = "building_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingBuildingQuota extends BaseEntity {
+
+    @Column(name = "apartment_id", nullable = false)
+    private Long apartmentId;
+
+    @Column(name = "building_id", nullable = false)
+    private Long buildingId;
+
+    @Column(name = "slot_quota", nullable = false)
+    private int slotQuota;
+}
@@ -0,0 +1,49 @@
+package com.ohammer.apartner.domain.vehicle.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 아파트별 하루 주차 통계 (전날 Redis 집계를 새벽에 옮겨 보관)
+@Entity
+@Table(name = "parking_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_parking_daily_stats_apartment_date",
+                columnNames = {"apartment_id", "stat_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingDailyStat extends BaseEntity {
+
+    @Column(name = "apartment_id")
+    private Long apartmentId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "peak_occupancy", nullable = false)
+    private int peakOccupancy;
+
+    @Column(name = "entry_count", nullable = false)
+    private int entryCount;
+
+    @Column(name = "visitor_entry_count", nullable = false)
+    private int visitorEntryCount;
+
+    @Column(name = "exit_count", nullable = false)
+    private int exitCount;
+
+    // 입차 시각을 아는 출차들의 주차 시간 합계/건수 (평균 주차 시간 계산용)
+    @Column(name = "total_dwell_seconds", nullable = false)
+    private long totalDwellSeconds;
+
+    @Column(name = "dwell_count", nullable = false)
+    private int dwellCount;
+
+    // 5분 단위 점유 대수 288개를 쉼표로 이어 붙인 값
+    @Column(name = "occupancy_series", columnDefinition = "TEXT")
+    private String occupancySeries;
+}
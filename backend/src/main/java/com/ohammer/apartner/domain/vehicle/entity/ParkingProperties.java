@@ -11,5 +11,74 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "parking")
 public class ParkingProperties {
 
+    // 아파트별 설정(parking_settings)이 없을 때 사용하는 기본 수용량
     private int maxCapacity;
+
+    // Redis 점유 카운터를 출입 기록과 맞추는 주기
+    private long reconcileIntervalMs = 60_000L;
+
+    // 번호판 인덱스 전체 재적재 주기 (다른 인스턴스의 차량 변경 반영)
+    private long plateIndexRefreshMs = 600_000L;
+
+    // 번호판 인식(ANPR) 게이트 연동 설정
+    private Gate gate = new Gate();
+
+    // 방문 차량 승인 만료/장기 주차 설정
+    private Visitor visitor = new Visitor();
+
+    // 지난 출입 기록 보관 테이블 이관 설정
+    private Archive archive = new Archive();
+
+    @Getter
+    @Setter
+    public static class Gate {
+
+        // 게이트 장비가 X-Gate-Key 헤더로 보내는 키 (비어 있으면 게이트 API 비활성)
+        private String apiKey;
+
+        // 같은 번호판/방향이 이 시간 안에 다시 인식되면 중복으로 버림
+        private int dedupeWindowSeconds = 30;
+
+        // 한 트랜잭션에서 처리할 이벤트 수
+        private int batchSize = 100;
+
+        // 요청 한 번에 받을 수 있는 최대 이벤트 수
+        private int maxEventsPerRequest = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Visitor {
+
+        // 등록 후 이 시간 안에 입차하지 않으면 방문 승인 만료
+        private long approvalTtlMinutes = 1440;
+
+        // 입차 후 이 시간을 넘기면 장기 주차로 초대자/관리자에게 알림
+        private long overstayMinutes = 240;
+
+        // 입차 후 이 시간을 넘기면 출차 처리 (0 이면 자동 출차하지 않음)
+        private long autoExitMinutes = 2880;
+
+        // 만료 대기열 확인 주기
+        private long pollIntervalMs = 10_000L;
+
+        // 한 번에 처리할 만료 건수
+        private int batchSize = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        private boolean enabled = true;
+
+        // 출차(또는 미승인 종료) 후 이 개월 수가 지난 기록을 보관 테이블로 이관
+        private int retentionMonths = 6;
+
+        // 한 트랜잭션에서 옮길 기록 수
+        private int batchSize = 1000;
+
+        // 이관 작업 실행 시각 (@Scheduled 에서 parking.archive.cron 으로 참조)
+        private String cron = "0 30 3 * * *";
+    }
 }
@@ -0,0 +1,23 @@
+package com.ohammer.apartner.domain.vehicle.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 아파트별 주차장 설정 (설정이 없는 아파트는 parking.max-capacity 사용)
+@Entity
+@Table(name = "parking_settings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_parking_settings_apartment", columnNames = "apartment_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingSetting extends BaseEntity {
+
+    @Column(name = "apartment_id", nullable = false)
+    private Long apartmentId;
+
+    @Column(name = "max_capacity", nullable = false)
+    private int maxCapacity;
+}
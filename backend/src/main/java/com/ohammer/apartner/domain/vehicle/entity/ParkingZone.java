@@ -0,0 +1,40 @@
+package com.ohammer.apartner.domain.vehicle.entity;
+
+import com.ohammer.apartner.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 주차 구역 (구역마다 0 ~ slotCount-1 번 자리를 가짐)
+@Entity
+@Table(name = "parking_zones",
+        indexes = @Index(name = "idx_parking_zones_apartment", columnList = "apartment_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkingZone extends BaseEntity {
+
+    @Column(name = "apartment_id", nullable = false)
+    private Long apartmentId;
+
+    // 특정 동 전용 구역이면 동 ID, 아파트 공용이면 null
+    @Column(name = "building_id")
+    private Long buildingId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "slot_type", nullable = false)
+    private SlotType slotType;
+
+    @Column(name = "slot_count", nullable = false)
+    private int slotCount;
+
+    public enum SlotType {
+        RESIDENT,   // 입주민 전용
+        VISITOR,    // 방문 차량 전용
+        SHARED      // 전용 구역이 차면 누구나 사용
+    }
+}
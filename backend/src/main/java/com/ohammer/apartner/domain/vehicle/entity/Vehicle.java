@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", indexes = {
+        @Index(name = "idx_vehicles_phone_foreign", columnList = "phone, is_foreign, created_at"),
+        @Index(name = "idx_vehicles_vehicle_num", columnList = "vehicle_num")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
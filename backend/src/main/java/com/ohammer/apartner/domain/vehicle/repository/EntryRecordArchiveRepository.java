@@ -0,0 +1,171 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordResponseDto;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 지난 출입 기록 보관 테이블 (entry_records_archive).
+ * 월(archive_month = yyyyMM, 출차 시각 기준) 단위 RANGE 파티션 테이블이라 JPA 엔티티로 매핑하지 않고
+ * (ddl-auto 가 파티션 없이 만들어 버리므로) JDBC 로 직접 생성/조회합니다.
+ * MySQL 이 아닌 DB(H2 등)에서는 파티션 없이 같은 구조로 만듭니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EntryRecordArchiveRepository {
+
+    private static final String TABLE = "entry_records_archive";
+    private static final String MAX_PARTITION = "p_max";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void createTableIfNotExists() {
+        String ddl = "CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                "id BIGINT NOT NULL, " +
+                "vehicle_id BIGINT, " +
+                "status VARCHAR(20), " +
+                "entry_time DATETIME(6), " +
+                "exit_time DATETIME(6), " +
+                "created_at DATETIME(6), " +
+                "modified_at DATETIME(6), " +
+                "archived_at DATETIME(6) NOT NULL, " +
+                "archive_month INT NOT NULL, " +
+                "PRIMARY KEY (id, archive_month)" +
+                ")";
+        if (isMySql()) {
+            ddl += " PARTITION BY RANGE (archive_month) (PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)";
+        }
+        jdbcTemplate.execute(ddl);
+        if (!indexExists("idx_entry_records_archive_vehicle")) {
+            jdbcTemplate.execute("CREATE INDEX idx_entry_records_archive_vehicle ON " + TABLE + " (vehicle_id, entry_time)");
+        }
+    }
+
+    /**
+     * until 월까지 월별 파티션이 있도록 p_max 를 나눕니다.
+     * 파티션은 뒤에만 붙일 수 있으므로 기존 마지막 파티션 다음 달(없으면 from)부터 추가하고,
+     * 그보다 오래된 달은 가장 앞 파티션에 함께 담깁니다.
+     */
+    public void ensurePartitions(YearMonth from, YearMonth until) {
+        if (!isMySql()) {
+            return;
+        }
+        Integer lastBound = jdbcTemplate.queryForObject(
+                "SELECT MAX(CAST(partition_description AS UNSIGNED)) FROM information_schema.partitions " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name <> ?",
+                Integer.class, TABLE, MAX_PARTITION);
+        // 파티션 경계는 "다음 달" 값 (p202610 VALUES LESS THAN (202611))
+        YearMonth next = lastBound != null ? fromValue(lastBound) : from;
+        while (!next.isAfter(until)) {
+            YearMonth bound = next.plusMonths(1);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                    "PARTITION p" + toValue(next) + " VALUES LESS THAN (" + toValue(bound) + "), " +
+                    "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            log.info("[EntryRecordArchive] 보관 테이블 파티션 추가: p{}", toValue(next));
+            next = bound;
+        }
+    }
+
+    /**
+     * 이관 대상 ID (cutoff 이전에 출차했거나, 입차 없이 미승인으로 끝난 기록). 보관 달이 오래된 순.
+     */
+    public List<Long> findArchivableIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM entry_records " +
+                        "WHERE (exit_time IS NOT NULL AND exit_time < ?) " +
+                        "OR (exit_time IS NULL AND entry_time IS NULL AND status = ? AND created_at < ?) " +
+                        "ORDER BY id LIMIT ?",
+                Long.class, cutoff, EntryRecord.Status.INAGREE.name(), cutoff, limit);
+    }
+
+    public YearMonth findOldestArchiveMonth(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        LocalDateTime oldest = namedParameterJdbcTemplate.queryForObject(
+                "SELECT MIN(COALESCE(exit_time, created_at)) FROM entry_records WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), LocalDateTime.class);
+        return oldest != null ? YearMonth.from(oldest) : null;
+    }
+
+    /**
+     * 주어진 기록을 보관 테이블로 복사한 뒤 원본에서 삭제합니다. 호출하는 쪽 트랜잭션에서 실행됩니다.
+     */
+    public int moveToArchive(List<Long> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("archivedAt", archivedAt);
+        namedParameterJdbcTemplate.update(
+                "INSERT INTO " + TABLE + " (id, vehicle_id, status, entry_time, exit_time, created_at, modified_at, " +
+                        "archived_at, archive_month) " +
+                        "SELECT id, vehicle_id, status, entry_time, exit_time, created_at, modified_at, :archivedAt, " +
+                        "YEAR(COALESCE(exit_time, created_at)) * 100 + MONTH(COALESCE(exit_time, created_at)) " +
+                        "FROM entry_records WHERE id IN (:ids)",
+                params);
+        return namedParameterJdbcTemplate.update("DELETE FROM entry_records WHERE id IN (:ids)", params);
+    }
+
+    // 차량의 보관된 출입 이력 (최근 입차순)
+    public List<EntryRecordResponseDto> findByVehicleId(Long vehicleId) {
+        return jdbcTemplate.query(
+                "SELECT vehicle_id, status, entry_time, exit_time FROM " + TABLE + " " +
+                        "WHERE vehicle_id = ? ORDER BY entry_time DESC, id DESC",
+                (rs, rowNum) -> EntryRecordResponseDto.builder()
+                        .vehicleId(rs.getLong("vehicle_id"))
+                        .status(rs.getString("status") != null ? EntryRecord.Status.valueOf(rs.getString("status")) : null)
+                        .entryTime(rs.getObject("entry_time", LocalDateTime.class))
+                        .exitTime(rs.getObject("exit_time", LocalDateTime.class))
+                        .archived(true)
+                        .build(),
+                vehicleId);
+    }
+
+    public int deleteByVehicleId(Long vehicleId) {
+        return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE vehicle_id = ?", vehicleId);
+    }
+
+    private boolean indexExists(String indexName) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : List.of(TABLE, TABLE.toUpperCase())) {
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+                    while (rs.next()) {
+                        if (indexName.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    private static int toValue(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static YearMonth fromValue(int value) {
+        // 저장된 값은 파티션 상한(다음 달)이므로 그 달이 다음에 추가할 달
+        return YearMonth.of(value / 100, value % 100);
+    }
+}
@@ -4,29 +4,21 @@ import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
 import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EntryRecordRepository extends JpaRepository<EntryRecord, Long> {
+public interface EntryRecordRepository extends JpaRepository<EntryRecord, Long>, EntryRecordRepositoryCustom {
 
 
     Optional<EntryRecord> findById(Long id);
 
 
-    @Query("SELECT er FROM EntryRecord er " +
-            "JOIN FETCH er.vehicle v " +
-            "LEFT JOIN FETCH v.user")
-    List<EntryRecord> findAllWithVehicleAndUser();
-
-    @Query("SELECT er FROM EntryRecord er " +
-            "JOIN FETCH er.vehicle v " +
-            "LEFT JOIN FETCH v.user " +
-            "WHERE v.isForeign = :isForeign")
-    List<EntryRecord> findByVehicleIsForeignWithVehicleAndUser(@Param("isForeign") Boolean isForeign);
-
     void deleteAllByVehicle(Vehicle vehicle);
 
 
@@ -52,12 +44,73 @@ public interface EntryRecordRepository extends JpaRepository<EntryRecord, Long>
     Optional<EntryRecord> findFirstByVehicleIdAndStatusAndExitTimeIsNullOrderByCreatedAtDesc(
             Long vehicleId, EntryRecord.Status status);
 
-    // 🚙 출차용: 가장 최근에 승인(AGREE)되고, exitTime이 NULL인 레코드 한 건만
-    Optional<EntryRecord> findFirstByVehicleIdAndStatusAndExitTimeIsNullOrderByEntryTimeDesc(
+    // 🚙 출차용: 가장 최근에 승인(AGREE)되어 입차했고, exitTime이 NULL인 레코드 한 건만
+    Optional<EntryRecord> findFirstByVehicleIdAndStatusAndEntryTimeIsNotNullAndExitTimeIsNullOrderByEntryTimeDesc(
             Long vehicleId, EntryRecord.Status status);
 
+    // 출차 확정: 입차했고 아직 출차하지 않은 기록만 닫음 (동시 출차 중 한 건만 1 을 반환)
+    @Modifying
+    @Query("UPDATE EntryRecord er SET er.exitTime = :exitTime " +
+            "WHERE er.id = :id AND er.entryTime IS NOT NULL AND er.exitTime IS NULL")
+    int closeIfParked(@Param("id") Long id, @Param("exitTime") LocalDateTime exitTime);
+
+    // 현재 주차 중(승인 + 입차 + 미출차)인 기록 수를 아파트별로 집계 (주차 점유 카운터 보정용)
+    @Query("SELECT a.id, COUNT(er) FROM EntryRecord er " +
+            "JOIN er.vehicle v " +
+            "LEFT JOIN v.user u " +
+            "LEFT JOIN u.apartment a " +
+            "WHERE er.status = :status AND er.entryTime IS NOT NULL AND er.exitTime IS NULL " +
+            "GROUP BY a.id")
+    List<Object[]> countParkedGroupByApartment(@Param("status") EntryRecord.Status status);
+
+    @Query("SELECT COUNT(er) FROM EntryRecord er " +
+            "JOIN er.vehicle v " +
+            "LEFT JOIN v.user u " +
+            "LEFT JOIN u.apartment a " +
+            "WHERE er.status = :status AND er.entryTime IS NOT NULL AND er.exitTime IS NULL " +
+            "AND ((:apartmentId IS NULL AND a.id IS NULL) OR a.id = :apartmentId)")
+    long countParkedByApartmentId(@Param("apartmentId") Long apartmentId,
+                                  @Param("status") EntryRecord.Status status);
+
+    // 게이트 일괄 처리용: 여러 차량의 승인된 미출차 기록을 한 번에 조회 (최신순)
+    @Query("SELECT er FROM EntryRecord er " +
+            "JOIN FETCH er.vehicle v " +
+            "LEFT JOIN FETCH v.user " +
+            "WHERE v.id IN :vehicleIds AND er.status = :status AND er.exitTime IS NULL " +
+            "ORDER BY er.createdAt DESC")
+    List<EntryRecord> findOpenRecordsByVehicleIds(@Param("vehicleIds") Collection<Long> vehicleIds,
+                                                  @Param("status") EntryRecord.Status status);
 
-
-
-
+    // 방문 차량 만료 처리용: 출입 기록과 차량/초대자를 한 번에 조회
+    @Query("SELECT er FROM EntryRecord er " +
+            "JOIN FETCH er.vehicle v " +
+            "LEFT JOIN FETCH v.user " +
+            "WHERE er.id IN :ids")
+    List<EntryRecord> findAllWithVehicleAndUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 방문 차량 만료 대기열 복구용: 아직 끝나지 않은 방문 차량 기록의 [id, createdAt, entryTime]
+    @Query("SELECT er.id, er.createdAt, er.entryTime FROM EntryRecord er " +
+            "JOIN er.vehicle v " +
+            "WHERE v.isForeign = true AND er.exitTime IS NULL AND er.status IN :statuses")
+    List<Object[]> findOpenVisitorRecordTimes(@Param("statuses") Collection<EntryRecord.Status> statuses);
+
+    // 주차 구역 배정 복구용: 구역 자리를 차지하고 있는 기록의 [zoneId, slotNumber, isForeign, 차량 소유자 동 ID]
+    @Query("SELECT er.parkingZoneId, er.slotNumber, v.isForeign, b.id FROM EntryRecord er " +
+            "JOIN er.vehicle v " +
+            "LEFT JOIN v.user u " +
+            "LEFT JOIN u.building b " +
+            "WHERE er.parkingZoneId IN :zoneIds AND er.entryTime IS NOT NULL AND er.exitTime IS NULL")
+    List<Object[]> findOccupiedSlots(@Param("zoneIds") Collection<Long> zoneIds);
+
+    @Query("SELECT COUNT(er) FROM EntryRecord er WHERE er.parkingZoneId = :zoneId AND er.exitTime IS NULL")
+    long countOpenByParkingZoneId(@Param("zoneId") Long zoneId);
+
+    // 일괄 승인/미승인: 아직 입차하지 않은 기록만 변경 (검증 이후 입차한 기록은 건너뜀)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EntryRecord er SET er.status = :status " +
+            "WHERE er.id IN :ids AND er.entryTime IS NULL AND er.exitTime IS NULL")
+    int updateStatusOfUnenteredByIdIn(@Param("ids") Collection<Long> ids, @Param("status") EntryRecord.Status status);
+
+    @Query("SELECT er.id FROM EntryRecord er WHERE er.id IN :ids AND er.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") EntryRecord.Status status);
 }
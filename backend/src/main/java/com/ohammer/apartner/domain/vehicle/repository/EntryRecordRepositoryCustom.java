@@ -0,0 +1,12 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.dto.VehicleRegistrationRow;
+import com.ohammer.apartner.domain.vehicle.dto.VehicleRegistrationSearchCondition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface EntryRecordRepositoryCustom {
+
+    // 조건에 맞는 차량 등록(출입 기록) 목록을 페이지 단위로 조회
+    Page<VehicleRegistrationRow> searchRegistrations(VehicleRegistrationSearchCondition condition, Pageable pageable);
+}
@@ -0,0 +1,134 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import static com.ohammer.apartner.domain.apartment.entity.QApartment.apartment;
+import static com.ohammer.apartner.domain.apartment.entity.QBuilding.building;
+import static com.ohammer.apartner.domain.apartment.entity.QUnit.unit;
+import static com.ohammer.apartner.domain.user.entity.QUser.user;
+import static com.ohammer.apartner.domain.vehicle.entity.QEntryRecord.entryRecord;
+import static com.ohammer.apartner.domain.vehicle.entity.QVehicle.vehicle;
+
+import com.ohammer.apartner.domain.vehicle.dto.VehicleRegistrationRow;
+import com.ohammer.apartner.domain.vehicle.dto.VehicleRegistrationSearchCondition;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * 관리자 차량 등록 목록 조회.
+ * 출입 기록, 차량, 소유자(외부 차량은 초대자), 아파트/동/호를 한 번의 조인으로 읽어 필요한 컬럼만 프로젝션하므로
+ * 행마다 연관 엔티티를 지연 로딩하지 않습니다.
+ * 개수 조회는 필터에 필요한 조인만 사용하고, 마지막 페이지처럼 개수가 자명하면 생략합니다.
+ */
+@RequiredArgsConstructor
+public class EntryRecordRepositoryImpl implements EntryRecordRepositoryCustom {
+
+    // 정렬 가능한 속성 (그 외 속성은 무시)
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+            "id", entryRecord.id,
+            "entryTime", entryRecord.entryTime,
+            "exitTime", entryRecord.exitTime,
+            "createdAt", vehicle.createdAt,
+            "registeredAt", vehicle.createdAt,
+            "vehicleNum", vehicle.vehicleNum
+    );
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<VehicleRegistrationRow> searchRegistrations(VehicleRegistrationSearchCondition condition, Pageable pageable) {
+        List<VehicleRegistrationRow> content = selectRows(condition)
+                .orderBy(orderBy(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(entryRecord.count())
+                .from(entryRecord)
+                .join(entryRecord.vehicle, vehicle);
+        if (condition.getApartmentId() != null) {
+            countQuery.leftJoin(vehicle.user, user);
+        }
+        countQuery.where(where(condition));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private JPAQuery<VehicleRegistrationRow> selectRows(VehicleRegistrationSearchCondition condition) {
+        return queryFactory
+                .select(Projections.constructor(VehicleRegistrationRow.class,
+                        vehicle.id,
+                        entryRecord.id,
+                        entryRecord.status,
+                        vehicle.vehicleNum,
+                        vehicle.type,
+                        vehicle.status,
+                        vehicle.isForeign,
+                        vehicle.reason,
+                        vehicle.phone,
+                        vehicle.createdAt,
+                        user.id,
+                        user.userName,
+                        user.phoneNum,
+                        apartment.name,
+                        building.buildingNumber,
+                        unit.unitNumber))
+                .from(entryRecord)
+                .join(entryRecord.vehicle, vehicle)
+                .leftJoin(vehicle.user, user)
+                .leftJoin(user.apartment, apartment)
+                .leftJoin(user.building, building)
+                .leftJoin(user.unit, unit)
+                .where(where(condition));
+    }
+
+    private static BooleanBuilder where(VehicleRegistrationSearchCondition condition) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (condition.getApartmentId() != null) {
+            where.and(user.apartment.id.eq(condition.getApartmentId()));
+        }
+        if (condition.getStatus() != null) {
+            where.and(entryRecord.status.eq(condition.getStatus()));
+        }
+        if (condition.getIsForeign() != null) {
+            where.and(vehicle.isForeign.eq(condition.getIsForeign()));
+        }
+        if (Boolean.TRUE.equals(condition.getParked())) {
+            where.and(entryRecord.status.eq(EntryRecord.Status.AGREE))
+                    .and(entryRecord.entryTime.isNotNull())
+                    .and(entryRecord.exitTime.isNull());
+        }
+        if (condition.getRegisteredFrom() != null) {
+            where.and(vehicle.createdAt.goe(condition.getRegisteredFrom()));
+        }
+        if (condition.getRegisteredTo() != null) {
+            where.and(vehicle.createdAt.lt(condition.getRegisteredTo()));
+        }
+        return where;
+    }
+
+    private static OrderSpecifier<?>[] orderBy(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = SORTABLE.get(order.getProperty());
+            if (path != null) {
+                orders.add(order.isAscending() ? path.asc() : path.desc());
+            }
+        }
+        // 같은 값이 많은 컬럼으로 정렬해도 페이지 경계가 흔들리지 않도록 ID를 마지막 기준으로 추가
+        orders.add(entryRecord.id.desc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingBuildingQuota;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ParkingBuildingQuotaRepository extends JpaRepository<ParkingBuildingQuota, Long> {
+
+    Optional<ParkingBuildingQuota> findByBuildingId(Long buildingId);
+
+    // 한도 행이 없으면 만들고 있으면 한도만 변경 (MySQL upsert)
+    @Modifying
+    @Query(value = "INSERT INTO parking_building_quotas (apartment_id, building_id, slot_quota, created_at, modified_at) " +
+            "VALUES (:apartmentId, :buildingId, :slotQuota, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE slot_quota = VALUES(slot_quota), modified_at = NOW()",
+            nativeQuery = true)
+    int upsertQuota(@Param("apartmentId") Long apartmentId, @Param("buildingId") Long buildingId,
+                    @Param("slotQuota") int slotQuota);
+
+    @Modifying
+    @Query("DELETE FROM ParkingBuildingQuota q WHERE q.buildingId = :buildingId")
+    int deleteByBuildingId(@Param("buildingId") Long buildingId);
+}
@@ -0,0 +1,15 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ParkingDailyStatRepository extends JpaRepository<ParkingDailyStat, Long> {
+
+    List<ParkingDailyStat> findByApartmentIdAndStatDateBetweenOrderByStatDateAsc(Long apartmentId, LocalDate from, LocalDate to);
+
+    Optional<ParkingDailyStat> findByApartmentIdAndStatDate(Long apartmentId, LocalDate statDate);
+}
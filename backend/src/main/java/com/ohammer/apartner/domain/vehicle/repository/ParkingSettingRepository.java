@@ -0,0 +1,22 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ParkingSettingRepository extends JpaRepository<ParkingSetting, Long> {
+
+    Optional<ParkingSetting> findByApartmentId(Long apartmentId);
+
+    // 설정 행이 없으면 만들고 있으면 수용량만 변경 (MySQL upsert)
+    @Modifying
+    @Query(value = "INSERT INTO parking_settings (apartment_id, max_capacity, created_at, modified_at) " +
+            "VALUES (:apartmentId, :maxCapacity, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE max_capacity = VALUES(max_capacity), modified_at = NOW()",
+            nativeQuery = true)
+    int upsertMaxCapacity(@Param("apartmentId") Long apartmentId, @Param("maxCapacity") int maxCapacity);
+}
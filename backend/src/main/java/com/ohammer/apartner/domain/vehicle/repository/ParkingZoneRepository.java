@@ -0,0 +1,11 @@
+package com.ohammer.apartner.domain.vehicle.repository;
+
+import com.ohammer.apartner.domain.vehicle.entity.ParkingZone;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ParkingZoneRepository extends JpaRepository<ParkingZone, Long> {
+
+    List<ParkingZone> findByApartmentIdOrderByIdAsc(Long apartmentId);
+}
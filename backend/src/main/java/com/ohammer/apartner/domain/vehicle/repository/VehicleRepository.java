@@ -1,7 +1,9 @@
 package com.ohammer.apartner.domain.vehicle.repository;
 
+import com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry;
 import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
 import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +13,10 @@ import java.util.Optional;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
 
+    @EntityGraph(attributePaths = {"user"})
     List<Vehicle> findByIsForeignTrue();
 
+    @EntityGraph(attributePaths = {"user", "user.building", "user.unit"})
     List<Vehicle> findByIsForeignFalse();
 
 
@@ -53,13 +57,18 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
 
     List<Vehicle> findByUserId(Long userId);
 
+    // 번호판 인덱스 적재용 (차량/소유자/아파트 ID만 조회)
+    @Query("SELECT new com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry(v.id, v.vehicleNum, u.id, a.id, v.isForeign) " +
+            "FROM Vehicle v LEFT JOIN v.user u LEFT JOIN u.apartment a")
+    List<VehiclePlateEntry> findAllPlateEntries();
 
+    @Query("SELECT new com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry(v.id, v.vehicleNum, u.id, a.id, v.isForeign) " +
+            "FROM Vehicle v LEFT JOIN v.user u LEFT JOIN u.apartment a " +
+            "WHERE v.vehicleNum = :vehicleNum ORDER BY v.id DESC")
+    List<VehiclePlateEntry> findPlateEntriesByVehicleNum(@Param("vehicleNum") String vehicleNum);
 
-
-
-
-
-
-
-
+    @Query("SELECT new com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry(v.id, v.vehicleNum, u.id, a.id, v.isForeign) " +
+            "FROM Vehicle v LEFT JOIN v.user u LEFT JOIN u.apartment a " +
+            "WHERE v.id = :vehicleId")
+    Optional<VehiclePlateEntry> findPlateEntryById(@Param("vehicleId") Long vehicleId);
 }
@@ -0,0 +1,134 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordResponseDto;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
+import com.ohammer.apartner.domain.vehicle.repository.EntryRecordArchiveRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지난 출입 기록 이관.
+ * entry_records 에는 진행 중인 기록과 최근 기록만 남기고, 출차(또는 입차 없이 미승인 종료) 후
+ * retentionMonths 가 지난 기록은 월별 파티션 보관 테이블로 옮깁니다.
+ * 기준 시각은 달의 첫날로 맞춰 한 달 치 기록이 한 번에 같은 파티션으로 옮겨지도록 합니다.
+ * 이관은 batchSize 단위 트랜잭션(복사 후 삭제)으로 나눠 진행하며, 여러 인스턴스 중 한 곳에서만 실행합니다.
+ */
+@Slf4j
+@Service
+public class EntryRecordArchiveService {
+
+    private static final String LOCK_KEY = "parking:archive:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final EntryRecordArchiveRepository entryRecordArchiveRepository;
+    private final ParkingProperties parkingProperties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 보관 테이블 생성 여부 (생성 실패 시 이관/조회를 건너뜀)
+    private volatile boolean ready;
+
+    public EntryRecordArchiveService(EntryRecordArchiveRepository entryRecordArchiveRepository,
+                                     ParkingProperties parkingProperties,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     PlatformTransactionManager transactionManager) {
+        this.entryRecordArchiveRepository = entryRecordArchiveRepository;
+        this.parkingProperties = parkingProperties;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            entryRecordArchiveRepository.createTableIfNotExists();
+            ready = true;
+        } catch (Exception e) {
+            log.error("[EntryRecordArchive] 보관 테이블 생성 실패: error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${parking.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        ParkingProperties.Archive config = parkingProperties.getArchive();
+        if (!config.isEnabled() || !ready || !acquireLock()) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDate.now()
+                    .minusMonths(config.getRetentionMonths())
+                    .withDayOfMonth(1)
+                    .atStartOfDay();
+            YearMonth lastArchivedMonth = YearMonth.from(cutoff).minusMonths(1);
+            int batchSize = Math.max(1, config.getBatchSize());
+
+            int total = 0;
+            while (true) {
+                List<Long> ids = entryRecordArchiveRepository.findArchivableIds(cutoff, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                YearMonth oldest = entryRecordArchiveRepository.findOldestArchiveMonth(ids);
+                // 파티션 변경(DDL)은 트랜잭션 밖에서
+                entryRecordArchiveRepository.ensurePartitions(oldest != null ? oldest : lastArchivedMonth, lastArchivedMonth);
+
+                LocalDateTime archivedAt = LocalDateTime.now();
+                Integer moved = transactionTemplate.execute(status ->
+                        entryRecordArchiveRepository.moveToArchive(ids, archivedAt));
+                total += moved != null ? moved : 0;
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+            log.info("[EntryRecordArchive] 출입 기록 이관 완료: cutoff={}, moved={}", cutoff, total);
+        } catch (Exception e) {
+            log.error("[EntryRecordArchive] 출입 기록 이관 실패: error={}", e.getMessage());
+        } finally {
+            releaseLock();
+        }
+    }
+
+    // 차량의 보관된 출입 이력
+    public List<EntryRecordResponseDto> findArchivedHistory(Long vehicleId) {
+        if (!ready) {
+            return List.of();
+        }
+        return entryRecordArchiveRepository.findByVehicleId(vehicleId);
+    }
+
+    // 차량 삭제 시 보관된 이력도 함께 삭제
+    public void deleteByVehicleId(Long vehicleId) {
+        if (ready) {
+            entryRecordArchiveRepository.deleteByVehicleId(vehicleId);
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시에도 실행 (동시 실행되면 한쪽 배치가 키 충돌로 롤백됨)
+            log.warn("[EntryRecordArchive] 이관 잠금 실패, 잠금 없이 실행: error={}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("[EntryRecordArchive] 이관 잠금 해제 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -3,50 +3,68 @@ package com.ohammer.apartner.domain.vehicle.service;
 
 import com.ohammer.apartner.domain.user.entity.Role;
 import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordBulkStatusRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.EntryRecordBulkStatusResponseDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordRequestDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordResponseDto;
 import com.ohammer.apartner.domain.vehicle.dto.EntryRecordStatusDto;
 import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
-import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
 import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
 import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
+import com.ohammer.apartner.domain.vehicle.service.ParkingStatsService.ParkingMovement;
 import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.security.CurrentPrincipal;
 import com.ohammer.apartner.security.utils.SecurityUtil;
+import com.ohammer.apartner.security.utils.checkRoleUtils;
+import com.ohammer.apartner.global.util.TransactionUtils;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EntryRecordService {
 
+    // 일괄 상태 변경 한 번에 받을 수 있는 최대 기록 수
+    private static final int MAX_BULK_STATUS_UPDATE = 500;
+
     private final EntryRecordRepository entryRecordRepository;
     private final VehicleService vehicleService;
     private final AlarmService alarmService;
-    private static final int MAX_CAPACITY = 30; // 총 주차 가능 수
-    private final ParkingProperties parkingProperties;
+    private final ParkingOccupancyService parkingOccupancyService;
+    private final ParkingSlotService parkingSlotService;
+    private final ParkingStatsService parkingStatsService;
+    private final VisitorExpiryService visitorExpiryService;
+    private final EntryRecordArchiveService entryRecordArchiveService;
 
     @Transactional
     public EntryRecordStatusDto updateStatus(Long entryRecordId, EntryRecord.Status newStatus) {
         EntryRecord record = entryRecordRepository.findById(entryRecordId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 출입기록이 없습니다."));
 
-        User currentUser = SecurityUtil.getCurrentUser();
+        CurrentPrincipal currentUser = SecurityUtil.getCurrentPrincipal();
         if (currentUser == null) {
             throw new IllegalStateException("로그인한 사용자 정보를 불러올 수 없습니다.");
         }
 
         // 유저가 가진 역할들
-        Set<Role> roles = currentUser.getRoles();
+        Set<Role> roles = currentUser.roles();
         boolean isMG = roles.contains(Role.MANAGER) || roles.contains(Role.MODERATOR);
         boolean isAD = roles.contains(Role.ADMIN);
 
-        if (!isMG && !isAD && !record.getVehicle().getUser().getId().equals(currentUser.getId())) {
+        if (!isMG && !isAD && !record.getVehicle().getUser().getId().equals(currentUser.id())) {
             throw new IllegalArgumentException("본인의 차량에 대한 요청만 처리할 수 있습니다.");
         }
 
@@ -111,21 +129,88 @@ public class EntryRecordService {
                     vehicle.getVehicleNum(), getStatusKoreanName(newStatus));
 
             alarmService.notifyApartmentAdmins(apartmentId, "차량 출입 상태 변경", "info", "vehicle", adminMessage, null,
-                    currentUser.getId(), null, null);
+                    currentUser.id(), null, null);
         }
 
         return new EntryRecordStatusDto(record.getId(), record.getStatus().name());
     }
 
-    // 🚗 입차
-    public EntryRecordResponseDto enterVehicle(EntryRecordRequestDto dto) {
+    // 여러 출입 요청을 한 번에 승인/미승인 (매니저/관리자)
+    // 한 번의 조회로 검증하고 한 번의 UPDATE 로 반영한 뒤, 커밋되면 차량 주인(방문 차량은 초대자)별로 알림 한 건씩 보냄
+    @Transactional
+    public EntryRecordBulkStatusResponseDto updateStatuses(EntryRecordBulkStatusRequestDto dto) {
+        checkRoleUtils.validateManagerAccess();
+        CurrentPrincipal currentUser = SecurityUtil.getCurrentPrincipal();
+
+        EntryRecord.Status newStatus = dto != null ? dto.getStatus() : null;
+        if (newStatus != EntryRecord.Status.AGREE && newStatus != EntryRecord.Status.INAGREE) {
+            throw new IllegalArgumentException("일괄 변경은 최종 승인 또는 미승인으로만 할 수 있습니다.");
+        }
+        List<Long> ids = dto.getEntryRecordIds() == null ? List.of() : dto.getEntryRecordIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("변경할 출입 기록을 선택해주세요.");
+        }
+        if (ids.size() > MAX_BULK_STATUS_UPDATE) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 출입 기록은 최대 " + MAX_BULK_STATUS_UPDATE + "건입니다.");
+        }
 
-        long activeCount = vehicleService.countActiveVehicles();
+        // 관리자(ADMIN)가 아니면 소속 아파트 기록만
+        Long scopeApartmentId = currentUser.isAdmin() ? null : currentUser.apartmentId();
+        Map<Long, EntryRecord> records = entryRecordRepository.findAllWithVehicleAndUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(EntryRecord::getId, Function.identity()));
+
+        List<EntryRecordBulkStatusResponseDto.Skipped> skipped = new ArrayList<>();
+        List<EntryRecord> targets = new ArrayList<>();
+        for (Long id : ids) {
+            EntryRecord record = records.get(id);
+            if (record == null) {
+                skipped.add(new EntryRecordBulkStatusResponseDto.Skipped(id, "출입 기록이 없습니다."));
+            } else if (scopeApartmentId != null && !scopeApartmentId.equals(apartmentIdOf(record.getVehicle().getUser()))) {
+                skipped.add(new EntryRecordBulkStatusResponseDto.Skipped(id, "소속 아파트의 출입 기록이 아닙니다."));
+            } else if (record.getEntryTime() != null || record.getExitTime() != null) {
+                skipped.add(new EntryRecordBulkStatusResponseDto.Skipped(id, "이미 입차했거나 종료된 기록입니다."));
+            } else if (record.getStatus() == newStatus) {
+                skipped.add(new EntryRecordBulkStatusResponseDto.Skipped(id, "이미 요청한 상태입니다."));
+            } else {
+                targets.add(record);
+            }
+        }
 
-        if (activeCount >= parkingProperties.getMaxCapacity()) {
-            throw new IllegalStateException("주차장이 꽉 찼습니다.");
+        List<EntryRecord> updated = new ArrayList<>();
+        if (!targets.isEmpty()) {
+            List<Long> targetIds = targets.stream().map(EntryRecord::getId).toList();
+            int count = entryRecordRepository.updateStatusOfUnenteredByIdIn(targetIds, newStatus);
+            // 검증 이후 그사이 입차한 기록은 UPDATE 조건에서 빠짐
+            Set<Long> updatedIds = count == targetIds.size()
+                    ? new HashSet<>(targetIds)
+                    : new HashSet<>(entryRecordRepository.findIdsByIdInAndStatus(targetIds, newStatus));
+            for (EntryRecord record : targets) {
+                if (updatedIds.contains(record.getId())) {
+                    updated.add(record);
+                } else {
+                    skipped.add(new EntryRecordBulkStatusResponseDto.Skipped(record.getId(), "처리 중 기록 상태가 바뀌었습니다."));
+                }
+            }
         }
 
+        TransactionUtils.afterCommit(() -> sendBulkStatusNotices(updated, newStatus));
+
+        return EntryRecordBulkStatusResponseDto.builder()
+                .requested(ids.size())
+                .updated(updated.stream()
+                        .map(record -> new EntryRecordStatusDto(record.getId(), newStatus.name()))
+                        .toList())
+                .skipped(skipped)
+                .build();
+    }
+
+    // 🚗 입차
+    @Transactional
+    public EntryRecordResponseDto enterVehicle(EntryRecordRequestDto dto) {
+
         Vehicle vehicle;
 
         // ── 1) 외부인 분기 ───────────────────────────────────
@@ -156,6 +241,29 @@ public class EntryRecordService {
             throw new IllegalStateException("이미 주차된 차량입니다.");
         }
 
+        User vehicleOwner = vehicle.getUser();
+        Long apartmentId = vehicleOwner.getApartment() != null ? vehicleOwner.getApartment().getId() : null;
+
+        // 아파트별 점유 카운터에서 한 자리 확보 (수용량 확인과 증가를 한 번에 처리)
+        if (!parkingOccupancyService.tryOccupy(apartmentId)) {
+            throw new IllegalStateException("주차장이 꽉 찼습니다.");
+        }
+        // 입차 트랜잭션이 롤백되면 확보한 자리 반납
+        parkingOccupancyService.releaseOnRollback(apartmentId);
+
+        // 구역이 설정된 아파트면 자리 배정 (롤백되면 배정한 자리도 반납)
+        ParkingSlotService.Allocation allocation = parkingSlotService.allocate(apartmentId, vehicle);
+        if (allocation.status() == ParkingSlotService.AllocationStatus.QUOTA_EXCEEDED) {
+            throw new IllegalStateException("해당 동에 배정된 주차 자리를 모두 사용 중입니다.");
+        }
+        if (allocation.rejected()) {
+            throw new IllegalStateException("배정할 수 있는 주차 자리가 없습니다.");
+        }
+        if (allocation.allocated()) {
+            latestApprovedRecord.setParkingZoneId(allocation.zoneId());
+            latestApprovedRecord.setSlotNumber(allocation.slotNumber());
+        }
+
         // 입차 시간 세팅
         latestApprovedRecord.setEntryTime(LocalDateTime.now());
 
@@ -165,9 +273,15 @@ public class EntryRecordService {
         entryRecordRepository.save(latestApprovedRecord);
         vehicleService.save(vehicle);
 
+        // 커밋 후 주차 통계 반영
+        parkingStatsService.publish(ParkingMovement.entered(apartmentId, vehicle.getIsForeign(),
+                latestApprovedRecord.getEntryTime()));
+        if (vehicle.getIsForeign()) {
+            // 방문 차량 장기 주차 알림/자동 출차 예약
+            visitorExpiryService.scheduleParked(latestApprovedRecord.getId(), latestApprovedRecord.getEntryTime());
+        }
+
         // 실시간 알림 추가
-        User vehicleOwner = vehicle.getUser();
-        Long apartmentId = vehicleOwner.getApartment() != null ? vehicleOwner.getApartment().getId() : null;
 
         // 차량 주인에게 알림
         String message = String.format("차량 [%s]이(가) 주차장에 입차했습니다.", vehicle.getVehicleNum());
@@ -211,21 +325,33 @@ public class EntryRecordService {
         }
 
         EntryRecord activeRecord = entryRecordRepository
-                .findFirstByVehicleIdAndStatusAndExitTimeIsNullOrderByEntryTimeDesc(
+                .findFirstByVehicleIdAndStatusAndEntryTimeIsNotNullAndExitTimeIsNullOrderByEntryTimeDesc(
                         vehicle.getId(), EntryRecord.Status.AGREE)
                 .orElseThrow(() -> new IllegalStateException("현재 주차 중인 기록이 없습니다."));
 
-        activeRecord.setExitTime(LocalDateTime.now());
+        // 게이트/자동 출차와 동시에 처리되면 먼저 닫은 쪽만 자리를 반납
+        LocalDateTime exitTime = LocalDateTime.now();
+        if (entryRecordRepository.closeIfParked(activeRecord.getId(), exitTime) == 0) {
+            throw new IllegalStateException("현재 주차 중인 기록이 없습니다.");
+        }
+        // 벌크 UPDATE 는 영속 상태에 반영되지 않으므로 엔티티에도 같은 값을 기록
+        activeRecord.setExitTime(exitTime);
 
         vehicle.setStatus(Vehicle.Status.INACTIVE);
 
-        entryRecordRepository.save(activeRecord);
         vehicleService.save(vehicle);
 
         // 실시간 알림 추가
         User vehicleOwner = vehicle.getUser();
         Long apartmentId = vehicleOwner.getApartment() != null ? vehicleOwner.getApartment().getId() : null;
 
+        // 출차 트랜잭션 커밋 후 점유 카운터 반납
+        parkingOccupancyService.release(apartmentId);
+        parkingSlotService.release(activeRecord);
+        // 반납 이후 주차 통계 반영 (커밋 후 등록 순서대로 실행)
+        parkingStatsService.publish(ParkingMovement.exited(apartmentId, vehicle.getIsForeign(),
+                activeRecord.getEntryTime(), activeRecord.getExitTime()));
+
         // 차량 주인에게 알림
         String message = String.format("차량 [%s]이(가) 주차장에서 출차했습니다.", vehicle.getVehicleNum());
         alarmService.notifyUser(vehicleOwner.getId(), apartmentId, "차량 출차", "info", "vehicle", message, null, null,
@@ -250,13 +376,16 @@ public class EntryRecordService {
         return EntryRecordResponseDto.from(activeRecord);
     }
 
-    // 📜 출입 기록 조회
+    // 📜 출입 기록 조회 (최근 기록 뒤에 보관 테이블의 지난 기록을 이어 붙임)
+    @Transactional(readOnly = true)
     public List<EntryRecordResponseDto> getEntryRecords(Long vehicleId) {
 
-        return entryRecordRepository.findByVehicleIdOrderByEntryTimeDesc(vehicleId)
+        List<EntryRecordResponseDto> records = entryRecordRepository.findByVehicleIdOrderByEntryTimeDesc(vehicleId)
                 .stream()
                 .map(EntryRecordResponseDto::from)
                 .collect(Collectors.toList());
+        records.addAll(entryRecordArchiveService.findArchivedHistory(vehicleId));
+        return records;
     }
 
     // 차량이 다시 주차 허가를 받고 싶을 때
@@ -279,6 +408,35 @@ public class EntryRecordService {
         return EntryRecordResponseDto.from(entryRecord);
     }
 
+    // 차량 주인별로 변경된 차량 번호를 모아 알림 한 건씩 전송
+    private void sendBulkStatusNotices(List<EntryRecord> updated, EntryRecord.Status newStatus) {
+        Map<Long, List<EntryRecord>> byOwner = new LinkedHashMap<>();
+        for (EntryRecord record : updated) {
+            User owner = record.getVehicle().getUser();
+            if (owner != null) {
+                byOwner.computeIfAbsent(owner.getId(), k -> new ArrayList<>()).add(record);
+            }
+        }
+        String notificationType = newStatus == EntryRecord.Status.AGREE ? "success" : "warning";
+        byOwner.forEach((ownerId, ownerRecords) -> {
+            try {
+                String vehicles = ownerRecords.stream()
+                        .map(record -> "[" + record.getVehicle().getVehicleNum() + "]")
+                        .collect(Collectors.joining(", "));
+                String message = String.format("차량 %s 출입 요청 %d건이 %s 상태로 변경되었습니다.",
+                        vehicles, ownerRecords.size(), getStatusKoreanName(newStatus));
+                alarmService.notifyUser(ownerId, apartmentIdOf(ownerRecords.get(0).getVehicle().getUser()),
+                        "차량 출입 상태 변경", notificationType, "vehicle", message, null, null, null, null);
+            } catch (Exception e) {
+                log.warn("[EntryRecord] 일괄 상태 변경 알림 실패: userId={}, error={}", ownerId, e.getMessage());
+            }
+        });
+    }
+
+    private static Long apartmentIdOf(User user) {
+        return user != null && user.getApartment() != null ? user.getApartment().getId() : null;
+    }
+
     // 출입 상태 한글명 반환 헬퍼 메서드
     private String getStatusKoreanName(EntryRecord.Status status) {
         switch (status) {
@@ -294,5 +452,4 @@ public class EntryRecordService {
                 return status.name();
         }
     }
-
 }
\ No newline at end of file
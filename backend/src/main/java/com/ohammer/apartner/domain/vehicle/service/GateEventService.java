@@ -0,0 +1,370 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.vehicle.dto.GateEventBatchRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventBatchResponseDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventResultDto;
+import com.ohammer.apartner.domain.vehicle.dto.GateEventResultDto.Outcome;
+import com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
+import com.ohammer.apartner.domain.vehicle.service.ParkingStatsService.ParkingMovement;
+import com.ohammer.apartner.domain.vehicle.util.PlateNumberUtils;
+import com.ohammer.apartner.global.exception.ForbiddenAccessException;
+import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.global.service.IdempotencyService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 번호판 인식(ANPR) 게이트 이벤트 일괄 처리.
+ * 같은 번호판/방향의 반복 인식은 시간 창 안에서 한 번만 반영하고, 번호판은 인메모리 인덱스로 차량을 찾습니다.
+ * (정확히 일치하지 않으면 OCR 혼동 문자 후보가 하나일 때만 매칭하고, 한 글자만 다른 후보는 다른 차량일 수 있으므로
+ * 반영하지 않고 NEEDS_REVIEW 로 알려줍니다)
+ * 유효한 이벤트는 인식 시각 순으로 batchSize 단위로 나눠 각각 한 트랜잭션에서 반영합니다.
+ * 출입 기록은 청크마다 한 번의 쿼리로 조회하고, 입차 변경은 JDBC 배치 UPDATE 로 반영됩니다.
+ * 출차는 "입차했고 아직 출차하지 않은 기록만" 닫는 조건부 UPDATE 로 확정해, 다른 경로와 동시에 출차해도 자리는 한 번만 반납합니다.
+ * 관리자 알림은 요청 단위로 아파트별 한 건으로 묶어 보냅니다.
+ */
+@Slf4j
+@Service
+public class GateEventService {
+
+    // 중복 판정 기록이 이 크기를 넘으면 만료된 항목을 정리
+    private static final int DEDUPE_PURGE_THRESHOLD = 10_000;
+
+    private final EntryRecordRepository entryRecordRepository;
+    private final VehiclePlateIndex vehiclePlateIndex;
+    private final ParkingOccupancyService parkingOccupancyService;
+    private final ParkingSlotService parkingSlotService;
+    private final ParkingStatsService parkingStatsService;
+    private final VisitorExpiryService visitorExpiryService;
+    private final ParkingProperties parkingProperties;
+    private final AlarmService alarmService;
+    private final IdempotencyService idempotencyService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 번호판+방향 -> 마지막으로 반영한 인식 시각(ms)
+    private final Map<String, Long> recentReads = new ConcurrentHashMap<>();
+
+    public GateEventService(EntryRecordRepository entryRecordRepository,
+                            VehiclePlateIndex vehiclePlateIndex,
+                            ParkingOccupancyService parkingOccupancyService,
+                            ParkingSlotService parkingSlotService,
+                            ParkingStatsService parkingStatsService,
+                            VisitorExpiryService visitorExpiryService,
+                            ParkingProperties parkingProperties,
+                            AlarmService alarmService,
+                            IdempotencyService idempotencyService,
+                            PlatformTransactionManager transactionManager) {
+        this.entryRecordRepository = entryRecordRepository;
+        this.vehiclePlateIndex = vehiclePlateIndex;
+        this.parkingOccupancyService = parkingOccupancyService;
+        this.parkingSlotService = parkingSlotService;
+        this.parkingStatsService = parkingStatsService;
+        this.visitorExpiryService = visitorExpiryService;
+        this.parkingProperties = parkingProperties;
+        this.alarmService = alarmService;
+        this.idempotencyService = idempotencyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 반영 대기 중인 이벤트 (index = 요청 내 위치)
+    private record PendingEvent(int index, GateEventDto event, VehiclePlateEntry vehicle,
+                                VehiclePlateIndex.MatchType matchType, LocalDateTime capturedAt) {
+    }
+
+    // 커밋 후 보낼 입출차 알림
+    private record GateNotice(VehiclePlateEntry vehicle, GateEventDto.Direction direction) {
+    }
+
+    public GateEventBatchResponseDto ingest(String gateKey, String idempotencyKey, GateEventBatchRequestDto request) {
+        validateGateKey(gateKey);
+        // 게이트가 응답을 받지 못해 같은 배치를 재전송하면 처음 결과를 그대로 반환
+        String gateId = request != null && request.getGateId() != null && !request.getGateId().isBlank()
+                ? request.getGateId().trim() : "default";
+        return idempotencyService.execute("gate-events", "gate:" + gateId, idempotencyKey, request,
+                GateEventBatchResponseDto.class, () -> process(request));
+    }
+
+    private GateEventBatchResponseDto process(GateEventBatchRequestDto request) {
+        List<GateEventDto> events = request != null ? request.getEvents() : null;
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("게이트 이벤트가 비어 있습니다.");
+        }
+        ParkingProperties.Gate gate = parkingProperties.getGate();
+        if (events.size() > gate.getMaxEventsPerRequest()) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 이벤트는 최대 " + gate.getMaxEventsPerRequest() + "건입니다.");
+        }
+
+        GateEventResultDto[] results = new GateEventResultDto[events.size()];
+        List<PendingEvent> pending = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < events.size(); i++) {
+            GateEventDto event = events.get(i);
+            if (event == null || event.getVehicleNum() == null || event.getVehicleNum().isBlank()
+                    || event.getDirection() == null) {
+                results[i] = result(event, Outcome.INVALID, null, null);
+                continue;
+            }
+            // 장비 시계가 앞서 있는 경우 서버 시각으로 맞춤
+            LocalDateTime capturedAt = event.getCapturedAt() == null || event.getCapturedAt().isAfter(now)
+                    ? now : event.getCapturedAt();
+            if (isDuplicate(event, capturedAt)) {
+                results[i] = result(event, Outcome.DUPLICATE, null, null);
+                continue;
+            }
+            VehiclePlateIndex.PlateMatch match = vehiclePlateIndex.resolve(event.getVehicleNum()).orElse(null);
+            if (match == null) {
+                results[i] = result(event, Outcome.UNKNOWN_VEHICLE, null, null);
+                continue;
+            }
+            if (match.matchType() == VehiclePlateIndex.MatchType.EDIT_DISTANCE) {
+                // 12가3457 -> 12가3456 처럼 한 글자 차이는 대개 다른 차량이므로 입출차를 반영하지 않음
+                log.info("[GateEvent] 번호판 확인 필요: read={}, candidate={}", event.getVehicleNum(), match.vehicle().vehicleNum());
+                results[i] = result(event, Outcome.NEEDS_REVIEW, match.vehicle().vehicleId(), match.matchType());
+                continue;
+            }
+            pending.add(new PendingEvent(i, event, match.vehicle(), match.matchType(), capturedAt));
+        }
+
+        pending.sort(Comparator.comparing(PendingEvent::capturedAt));
+
+        List<GateNotice> notices = new ArrayList<>();
+        int batchSize = Math.max(1, gate.getBatchSize());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<PendingEvent> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            applyChunk(chunk, results, notices);
+        }
+
+        sendNotices(notices);
+
+        List<GateEventResultDto> resultList = Arrays.asList(results);
+        Map<Outcome, Long> summary = resultList.stream()
+                .collect(Collectors.groupingBy(GateEventResultDto::getOutcome,
+                        () -> new EnumMap<>(Outcome.class), Collectors.counting()));
+        log.info("[GateEvent] 게이트 이벤트 처리: received={}, summary={}", events.size(), summary);
+
+        return GateEventBatchResponseDto.builder()
+                .received(events.size())
+                .summary(summary)
+                .results(resultList)
+                .build();
+    }
+
+    private void applyChunk(List<PendingEvent> chunk, GateEventResultDto[] results, List<GateNotice> notices) {
+        List<Long> occupiedApartments = new ArrayList<>();
+        List<ParkingMovement> movements = new ArrayList<>();
+        List<GateNotice> chunkNotices = new ArrayList<>();
+        Map<Integer, GateEventResultDto> chunkResults = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> vehicleIds = chunk.stream()
+                        .map(p -> p.vehicle().vehicleId())
+                        .collect(Collectors.toSet());
+                // 차량별 승인된 미출차 기록 (최신 생성순)
+                Map<Long, List<EntryRecord>> openRecords = entryRecordRepository
+                        .findOpenRecordsByVehicleIds(vehicleIds, EntryRecord.Status.AGREE)
+                        .stream()
+                        .collect(Collectors.groupingBy(er -> er.getVehicle().getId()));
+
+                for (PendingEvent pendingEvent : chunk) {
+                    VehiclePlateEntry vehicle = pendingEvent.vehicle();
+                    List<EntryRecord> records = openRecords.getOrDefault(vehicle.vehicleId(), List.of());
+                    Outcome outcome = pendingEvent.event().getDirection() == GateEventDto.Direction.ENTRY
+                            ? applyEntry(records, pendingEvent, occupiedApartments, movements)
+                            : applyExit(records, pendingEvent, movements);
+                    chunkResults.put(pendingEvent.index(),
+                            result(pendingEvent.event(), outcome, vehicle.vehicleId(), pendingEvent.matchType()));
+                    if (outcome == Outcome.ENTERED || outcome == Outcome.EXITED) {
+                        chunkNotices.add(new GateNotice(vehicle, pendingEvent.event().getDirection()));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("[GateEvent] 게이트 이벤트 반영 실패: events={}, error={}", chunk.size(), e.getMessage());
+            // 롤백된 입차가 확보한 자리 반납
+            occupiedApartments.forEach(parkingOccupancyService::release);
+            for (PendingEvent pendingEvent : chunk) {
+                // 게이트가 재전송하면 다시 처리되도록 중복 판정 기록 제거
+                recentReads.remove(dedupeKey(pendingEvent.event()));
+                results[pendingEvent.index()] = result(pendingEvent.event(), Outcome.FAILED,
+                        pendingEvent.vehicle().vehicleId(), pendingEvent.matchType());
+            }
+            return;
+        }
+
+        // 커밋된 출차만큼 자리 반납하고 인식 시각 순으로 주차 통계에 반영
+        for (ParkingMovement movement : movements) {
+            if (!movement.entry()) {
+                parkingOccupancyService.release(movement.apartmentId());
+            }
+            parkingStatsService.publish(movement);
+        }
+        chunkResults.forEach((index, result) -> results[index] = result);
+        notices.addAll(chunkNotices);
+    }
+
+    private Outcome applyEntry(List<EntryRecord> records, PendingEvent pendingEvent, List<Long> occupiedApartments,
+                               List<ParkingMovement> movements) {
+        // enterVehicle 과 같이 가장 최근 승인 기록 기준
+        EntryRecord latest = records.stream()
+                .filter(er -> er.getExitTime() == null)
+                .findFirst()
+                .orElse(null);
+        if (latest == null) {
+            return Outcome.NOT_APPROVED;
+        }
+        if (latest.getEntryTime() != null) {
+            return Outcome.ALREADY_PARKED;
+        }
+        Long apartmentId = pendingEvent.vehicle().apartmentId();
+        if (!parkingOccupancyService.tryOccupy(apartmentId)) {
+            return Outcome.PARKING_FULL;
+        }
+        // 구역이 설정된 아파트면 자리 배정 (청크가 롤백되면 배정한 자리도 반납)
+        ParkingSlotService.Allocation allocation = parkingSlotService.allocate(apartmentId, latest.getVehicle());
+        if (allocation.rejected()) {
+            // 입차하지 못했으므로 청크 결과와 관계없이 점유한 자리 반납
+            parkingOccupancyService.releaseAfterCompletion(apartmentId);
+            return Outcome.PARKING_FULL;
+        }
+        occupiedApartments.add(apartmentId);
+
+        if (allocation.allocated()) {
+            latest.setParkingZoneId(allocation.zoneId());
+            latest.setSlotNumber(allocation.slotNumber());
+        }
+        latest.setEntryTime(pendingEvent.capturedAt());
+        latest.getVehicle().setStatus(Vehicle.Status.ACTIVE);
+        movements.add(ParkingMovement.entered(apartmentId, pendingEvent.vehicle().isForeign(), pendingEvent.capturedAt()));
+        if (Boolean.TRUE.equals(pendingEvent.vehicle().isForeign())) {
+            // 청크가 커밋되면 방문 차량 장기 주차 알림/자동 출차 예약
+            visitorExpiryService.scheduleParked(latest.getId(), pendingEvent.capturedAt());
+        }
+        return Outcome.ENTERED;
+    }
+
+    private Outcome applyExit(List<EntryRecord> records, PendingEvent pendingEvent, List<ParkingMovement> movements) {
+        EntryRecord parked = records.stream()
+                .filter(er -> er.getEntryTime() != null && er.getExitTime() == null)
+                .max(Comparator.comparing(EntryRecord::getEntryTime))
+                .orElse(null);
+        if (parked == null) {
+            return Outcome.NOT_PARKED;
+        }
+        // 수동 출차/자동 출차가 먼저 닫았으면 자리를 다시 반납하지 않음
+        if (entryRecordRepository.closeIfParked(parked.getId(), pendingEvent.capturedAt()) == 0) {
+            return Outcome.NOT_PARKED;
+        }
+        parked.setExitTime(pendingEvent.capturedAt());
+        parked.getVehicle().setStatus(Vehicle.Status.INACTIVE);
+        // 청크가 커밋되면 배정된 자리 반납
+        parkingSlotService.release(parked);
+        movements.add(ParkingMovement.exited(pendingEvent.vehicle().apartmentId(), pendingEvent.vehicle().isForeign(),
+                parked.getEntryTime(), pendingEvent.capturedAt()));
+        return Outcome.EXITED;
+    }
+
+    // 같은 번호판/방향이 중복 창 안에 이미 반영되었으면 true, 아니면 이번 인식을 기록
+    private boolean isDuplicate(GateEventDto event, LocalDateTime capturedAt) {
+        long windowMillis = parkingProperties.getGate().getDedupeWindowSeconds() * 1000L;
+        long capturedMillis = capturedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (recentReads.size() > DEDUPE_PURGE_THRESHOLD) {
+            long threshold = System.currentTimeMillis() - windowMillis;
+            recentReads.values().removeIf(lastSeen -> lastSeen < threshold);
+        }
+
+        String key = dedupeKey(event);
+        boolean[] duplicate = {false};
+        recentReads.compute(key, (k, lastSeen) -> {
+            if (lastSeen != null && Math.abs(capturedMillis - lastSeen) < windowMillis) {
+                duplicate[0] = true;
+                return lastSeen;
+            }
+            return capturedMillis;
+        });
+        return duplicate[0];
+    }
+
+    private static String dedupeKey(GateEventDto event) {
+        return PlateNumberUtils.key(event.getVehicleNum()) + ":" + event.getDirection();
+    }
+
+    private void sendNotices(List<GateNotice> notices) {
+        if (notices.isEmpty()) {
+            return;
+        }
+        Map<Long, int[]> countsByApartment = new HashMap<>();
+        for (GateNotice notice : notices) {
+            VehiclePlateEntry vehicle = notice.vehicle();
+            boolean entry = notice.direction() == GateEventDto.Direction.ENTRY;
+            if (vehicle.apartmentId() != null) {
+                countsByApartment.computeIfAbsent(vehicle.apartmentId(), k -> new int[2])[entry ? 0 : 1]++;
+            }
+            if (vehicle.ownerId() == null) {
+                continue;
+            }
+            try {
+                String title = Boolean.TRUE.equals(vehicle.isForeign())
+                        ? (entry ? "방문차량 입차" : "방문차량 출차")
+                        : (entry ? "차량 입차" : "차량 출차");
+                String message = String.format("%s [%s]이(가) 주차장%s했습니다.",
+                        Boolean.TRUE.equals(vehicle.isForeign()) ? "초대한 방문차량" : "차량",
+                        vehicle.vehicleNum(), entry ? "에 입차" : "에서 출차");
+                alarmService.notifyUser(vehicle.ownerId(), vehicle.apartmentId(), title, "info", "vehicle", message,
+                        null, null, null, null);
+            } catch (Exception e) {
+                log.warn("[GateEvent] 입출차 알림 실패: vehicleId={}, error={}", vehicle.vehicleId(), e.getMessage());
+            }
+        }
+
+        countsByApartment.forEach((apartmentId, counts) -> {
+            try {
+                String adminMessage = String.format("게이트 입출차 처리: 입차 %d대, 출차 %d대", counts[0], counts[1]);
+                alarmService.notifyApartmentAdmins(apartmentId, "게이트 입출차", "info", "vehicle", adminMessage,
+                        null, null, null, null);
+            } catch (Exception e) {
+                log.warn("[GateEvent] 관리자 알림 실패: apartmentId={}, error={}", apartmentId, e.getMessage());
+            }
+        });
+    }
+
+    private void validateGateKey(String gateKey) {
+        String expected = parkingProperties.getGate().getApiKey();
+        if (expected == null || expected.isBlank() || gateKey == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), gateKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new ForbiddenAccessException("게이트 인증에 실패했습니다.");
+        }
+    }
+
+    private static GateEventResultDto result(GateEventDto event, Outcome outcome, Long vehicleId,
+                                             VehiclePlateIndex.MatchType matchType) {
+        return new GateEventResultDto(
+                event != null ? event.getVehicleNum() : null,
+                event != null ? event.getDirection() : null,
+                outcome,
+                vehicleId,
+                matchType);
+    }
+}
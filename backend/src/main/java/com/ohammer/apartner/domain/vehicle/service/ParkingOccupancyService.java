@@ -0,0 +1,254 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingSetting;
+import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
+import com.ohammer.apartner.domain.vehicle.repository.ParkingSettingRepository;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 아파트별 주차 점유 카운터.
+ * 입차 시 "수용량 미만이면 +1" 을 Redis Lua 스크립트 한 번으로 처리해 동시 입차에도 수용량을 넘지 않습니다.
+ * 수용량은 parking_settings 에 저장하고(설정이 없으면 parking.max-capacity), 카운터 옆 Redis 키에 캐시해
+ * 모든 인스턴스가 같은 값으로 확인합니다. 변경 시 커밋 후 캐시를 바로 바꾸고, 캐시는 일정 시간 뒤 DB 에서 다시 읽습니다.
+ * 카운터는 처음 사용할 때 출입 기록으로 초기화되고, 주기적으로 출입 기록과 비교해 보정됩니다.
+ * 카운터가 출입 기록보다 작으면 바로 올리지만, 크면 두 번 연속 확인될 때만 내립니다.
+ * (카운터를 올린 뒤 아직 커밋되지 않은 입차는 집계에 빠지므로 한 번만 보고 내리면 수용량을 넘겨 받게 됨)
+ * Redis 장애 시에는 출입 기록 집계로 수용량을 확인합니다. (이 경우 동시 입차는 보장하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkingOccupancyService {
+
+    private static final String COUNTER_KEY_PREFIX = "parking:occupancy:";
+    private static final String CAPACITY_KEY_PREFIX = "parking:capacity:";
+    private static final String TRACKED_KEY = "parking:occupancy:apartments";
+    // 기본 수용량(yml) 변경이 설정 없는 아파트에 반영되는 주기
+    private static final Duration CAPACITY_CACHE_TTL = Duration.ofMinutes(10);
+    private static final String NO_APARTMENT = "none";
+
+    // KEYS[1]=counter, KEYS[2]=capacity
+    // 카운터/수용량 없음 -1, 만차 0, 점유 성공 1
+    private static final RedisScript<Long> OCCUPY_SCRIPT = RedisScript.of(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "local capacity = redis.call('GET', KEYS[2]) " +
+            "if not current or not capacity then return -1 end " +
+            "if tonumber(current) >= tonumber(capacity) then return 0 end " +
+            "redis.call('INCR', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1]=counter
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current > 0 then return redis.call('DECR', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=counter, ARGV[1]=집계 전에 읽은 값('' = 없음), ARGV[2]=집계 값
+    // 집계하는 사이 입/출차로 값이 바뀌었으면 덮어쓰지 않고 다음 보정에 맡김
+    private static final RedisScript<Long> RECONCILE_SCRIPT = RedisScript.of(
+            "local current = redis.call('GET', KEYS[1]) or '' " +
+            "if current ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EntryRecordRepository entryRecordRepository;
+    private final ParkingSettingRepository parkingSettingRepository;
+    private final ParkingProperties parkingProperties;
+
+    // 지난 보정에서 카운터가 출입 기록보다 컸던 키 -> 그때의 집계 값
+    private final Map<String, Long> pendingDecreases = new ConcurrentHashMap<>();
+
+    /**
+     * 아파트 주차장에 자리가 있으면 한 자리를 점유하고 true 를 반환합니다.
+     */
+    public boolean tryOccupy(Long apartmentId) {
+        List<String> keys = List.of(counterKey(apartmentId), capacityKey(apartmentId));
+        try {
+            Long result = redisTemplate.execute(OCCUPY_SCRIPT, keys);
+            if (result != null && result == -1L) {
+                seed(apartmentId, keys.get(0));
+                seedCapacity(apartmentId);
+                result = redisTemplate.execute(OCCUPY_SCRIPT, keys);
+            }
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("[ParkingOccupancy] Redis 점유 실패, 출입 기록으로 확인: apartmentId={}, error={}", apartmentId, e.getMessage());
+            return countParked(apartmentId) < loadCapacity(apartmentId);
+        }
+    }
+
+    /**
+     * 점유한 자리를 반납합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반납합니다.
+     */
+    public void release(Long apartmentId) {
+        TransactionUtils.afterCommit(() -> releaseNow(apartmentId));
+    }
+
+    /**
+     * 방금 점유한 자리를 트랜잭션이 롤백되면 반납하도록 예약합니다. 트랜잭션 밖이면 아무것도 하지 않습니다.
+     */
+    public void releaseOnRollback(Long apartmentId) {
+        TransactionUtils.afterRollback(() -> releaseNow(apartmentId));
+    }
+
+    /**
+     * 점유한 자리를 트랜잭션이 끝나면(커밋/롤백 모두) 반납합니다. 점유 후 입차를 진행하지 못한 경우에 사용합니다.
+     */
+    public void releaseAfterCompletion(Long apartmentId) {
+        TransactionUtils.afterCompletion(() -> releaseNow(apartmentId));
+    }
+
+    public long getOccupancy(Long apartmentId) {
+        String key = counterKey(apartmentId);
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return seed(apartmentId, key);
+            }
+            return Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("[ParkingOccupancy] Redis 조회 실패, 출입 기록으로 집계: apartmentId={}, error={}", apartmentId, e.getMessage());
+            return countParked(apartmentId);
+        }
+    }
+
+    public int getCapacity(Long apartmentId) {
+        try {
+            String value = redisTemplate.opsForValue().get(capacityKey(apartmentId));
+            return value != null ? Integer.parseInt(value) : seedCapacity(apartmentId);
+        } catch (Exception e) {
+            log.warn("[ParkingOccupancy] Redis 수용량 조회 실패, DB 로 확인: apartmentId={}, error={}", apartmentId, e.getMessage());
+            return loadCapacity(apartmentId);
+        }
+    }
+
+    /**
+     * 아파트 수용량을 저장합니다. 트랜잭션 안에서 호출되면 커밋 이후에 모든 인스턴스가 보는 캐시를 바꿉니다.
+     */
+    public void updateCapacity(Long apartmentId, int capacity) {
+        parkingSettingRepository.upsertMaxCapacity(apartmentId, capacity);
+        Runnable refresh = () -> {
+            try {
+                redisTemplate.opsForValue().set(capacityKey(apartmentId), String.valueOf(capacity), CAPACITY_CACHE_TTL);
+            } catch (Exception e) {
+                // 캐시 시간이 지나면 DB 값으로 갱신됨
+                log.warn("[ParkingOccupancy] Redis 수용량 갱신 실패: apartmentId={}, error={}", apartmentId, e.getMessage());
+            }
+        };
+        TransactionUtils.afterCommit(refresh);
+    }
+
+    // 카운터를 출입 기록 기준으로 보정 (놓친 출차, 장애 중 입출차 등)
+    @Scheduled(fixedDelayString = "${parking.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Set<String> trackedKeys = redisTemplate.opsForSet().members(TRACKED_KEY);
+            if (trackedKeys == null || trackedKeys.isEmpty()) {
+                return;
+            }
+            List<String> keys = new ArrayList<>(trackedKeys);
+            List<String> observed = redisTemplate.opsForValue().multiGet(keys);
+
+            Map<String, Long> parkedByKey = new HashMap<>();
+            for (Object[] row : entryRecordRepository.countParkedGroupByApartment(EntryRecord.Status.AGREE)) {
+                parkedByKey.put(counterKey((Long) row[0]), (Long) row[1]);
+            }
+
+            int corrected = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                String before = observed != null && observed.get(i) != null ? observed.get(i) : "";
+                long parked = parkedByKey.getOrDefault(key, 0L);
+                String actual = String.valueOf(parked);
+                if (actual.equals(before)) {
+                    pendingDecreases.remove(key);
+                    continue;
+                }
+                if (!before.isEmpty() && Long.parseLong(before) > parked) {
+                    // 진행 중인 입차일 수 있으므로 다음 보정에서도 크면 내림
+                    if (pendingDecreases.put(key, parked) == null) {
+                        continue;
+                    }
+                }
+                pendingDecreases.remove(key);
+                Long updated = redisTemplate.execute(RECONCILE_SCRIPT, List.of(key), before, actual);
+                if (updated != null && updated == 1L) {
+                    corrected++;
+                    log.info("[ParkingOccupancy] 점유 카운터 보정: key={}, {} -> {}", key, before, actual);
+                }
+            }
+            if (corrected > 0) {
+                log.info("[ParkingOccupancy] 점유 카운터 보정 완료: {}건", corrected);
+            }
+        } catch (Exception e) {
+            log.warn("[ParkingOccupancy] 점유 카운터 보정 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void releaseNow(Long apartmentId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(counterKey(apartmentId)));
+        } catch (Exception e) {
+            // 다음 보정 주기에 출입 기록 기준으로 맞춰짐
+            log.warn("[ParkingOccupancy] Redis 반납 실패: apartmentId={}, error={}", apartmentId, e.getMessage());
+        }
+    }
+
+    // 카운터가 없을 때 출입 기록으로 초기화 (동시에 초기화되면 먼저 쓴 값을 사용)
+    private long seed(Long apartmentId, String key) {
+        long parked = countParked(apartmentId);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(parked));
+        redisTemplate.opsForSet().add(TRACKED_KEY, key);
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? Long.parseLong(value) : parked;
+    }
+
+    // 수용량 캐시가 없을 때 DB 값으로 채움 (그사이 변경으로 채워졌으면 그 값을 사용)
+    private int seedCapacity(Long apartmentId) {
+        int capacity = loadCapacity(apartmentId);
+        String key = capacityKey(apartmentId);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(capacity), CAPACITY_CACHE_TTL);
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? Integer.parseInt(value) : capacity;
+    }
+
+    private int loadCapacity(Long apartmentId) {
+        if (apartmentId == null) {
+            return parkingProperties.getMaxCapacity();
+        }
+        return parkingSettingRepository.findByApartmentId(apartmentId)
+                .map(ParkingSetting::getMaxCapacity)
+                .orElse(parkingProperties.getMaxCapacity());
+    }
+
+    private long countParked(Long apartmentId) {
+        return entryRecordRepository.countParkedByApartmentId(apartmentId, EntryRecord.Status.AGREE);
+    }
+
+    static String counterKey(Long apartmentId) {
+        return COUNTER_KEY_PREFIX + (apartmentId == null ? NO_APARTMENT : apartmentId);
+    }
+
+    private static String capacityKey(Long apartmentId) {
+        return CAPACITY_KEY_PREFIX + (apartmentId == null ? NO_APARTMENT : apartmentId);
+    }
+}
@@ -0,0 +1,518 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.apartment.entity.Building;
+import com.ohammer.apartner.domain.apartment.repository.BuildingRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.vehicle.dto.ParkingZoneRequestDto;
+import com.ohammer.apartner.domain.vehicle.dto.ParkingZoneResponseDto;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingBuildingQuota;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingZone;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
+import com.ohammer.apartner.domain.vehicle.repository.ParkingBuildingQuotaRepository;
+import com.ohammer.apartner.domain.vehicle.repository.ParkingZoneRepository;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 구역/자리 단위 주차 배정.
+ * 구역마다 Redis 비트맵 하나(비트 하나 = 자리 하나, 1 = 사용 중)를 두고, 비어 있는 첫 자리 찾기(BITPOS)와 점유(SETBIT)를
+ * Lua 스크립트 한 번으로 처리해 여러 인스턴스에서 동시에 입차해도 같은 자리가 두 번 배정되지 않습니다.
+ * 반납은 해당 비트만 되돌리므로 구역 크기와 관계없이 일정한 비용입니다.
+ * 구역 우선순위: 방문 차량은 방문 전용 → 공용, 입주민은 자기 동 전용 → 아파트 입주민 전용 → 공용.
+ * 입주민 차량은 동별 한도(parking_building_quotas)까지만 배정받습니다. 한도는 DB 에 저장하고 Redis 에 캐시해
+ * 모든 인스턴스가 같은 값으로 확인하며, 변경 시 커밋 후 캐시를 바로 바꿉니다.
+ * 구역이 설정되지 않은 아파트는 지금처럼 수용량만 확인합니다.
+ * 비트맵은 아파트별로 처음 사용할 때 출입 기록으로 채우고, Redis 장애 시에는 출입 기록으로 빈 자리를 찾습니다. (이 경우 동시 배정은 보장하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkingSlotService {
+
+    private static final String SLOT_KEY_PREFIX = "parking:slots:zone:";
+    private static final String BUILDING_KEY_PREFIX = "parking:slots:building:";
+    private static final String READY_KEY_PREFIX = "parking:slots:ready:";
+    private static final String QUOTA_KEY_PREFIX = "parking:slots:quota:";
+    private static final String NO_QUOTA = "-1";
+    private static final Duration QUOTA_CACHE_TTL = Duration.ofMinutes(10);
+    private static final String NO_BUILDING_KEY = BUILDING_KEY_PREFIX + "none";
+    private static final int MAX_SLOTS_PER_ZONE = 10_000;
+    // 다른 인스턴스에서 바뀐 구역 설정을 반영하는 주기
+    private static final long ZONE_CACHE_MILLIS = 60_000L;
+
+    // KEYS[1]=초기화 표시, KEYS[2]=동 카운터, KEYS[3..]=우선순위 순 구역 비트맵
+    // ARGV[1]=동 한도(-1 = 없음), ARGV[2]=동 카운터 증가 여부, ARGV[3..]=구역별 자리 수
+    // 초기화 필요 {-2}, 동 한도 초과 {-3}, 빈 자리 없음 {-1}, 배정 성공 {구역 순번, 자리 번호}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ALLOCATE_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-2} end " +
+            "local quota = tonumber(ARGV[1]) " +
+            "if quota >= 0 and tonumber(redis.call('GET', KEYS[2]) or '0') >= quota then return {-3} end " +
+            "for i = 3, #KEYS do " +
+            "  local pos = redis.call('BITPOS', KEYS[i], 0) " +
+            "  if pos >= 0 and pos < tonumber(ARGV[i]) then " +
+            "    redis.call('SETBIT', KEYS[i], pos, 1) " +
+            "    if ARGV[2] == '1' then redis.call('INCR', KEYS[2]) end " +
+            "    return {i - 3, pos} " +
+            "  end " +
+            "end " +
+            "return {-1}",
+            List.class);
+
+    // KEYS[1]=구역 비트맵, KEYS[2]=동 카운터, ARGV[1]=자리 번호, ARGV[2]=동 카운터 감소 여부
+    // 이미 비어 있는 자리면 아무것도 하지 않으므로 같은 자리를 여러 번 반납해도 안전
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GETBIT', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "redis.call('SETBIT', KEYS[1], ARGV[1], 0) " +
+            "if ARGV[2] == '1' then " +
+            "  local count = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "  if count > 0 then redis.call('DECR', KEYS[2]) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1]=초기화 표시, KEYS[2..ARGV[1]+1]=구역 비트맵, 그 뒤=동 카운터
+    // ARGV[2..]="키 순번:값" (구역 비트맵이면 자리 번호, 동 카운터면 배정 수)
+    // 먼저 초기화한 인스턴스가 있으면 덮어쓰지 않음
+    private static final RedisScript<Long> SEED_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local zones = tonumber(ARGV[1]) " +
+            "for i = 2, zones + 1 do redis.call('DEL', KEYS[i]) end " +
+            "for i = 2, #ARGV do " +
+            "  local sep = string.find(ARGV[i], ':', 1, true) " +
+            "  local k = tonumber(string.sub(ARGV[i], 1, sep - 1)) " +
+            "  local v = tonumber(string.sub(ARGV[i], sep + 1)) " +
+            "  if k <= zones + 1 then redis.call('SETBIT', KEYS[k], v, 1) else redis.call('SET', KEYS[k], v) end " +
+            "end " +
+            "redis.call('SET', KEYS[1], '1') " +
+            "return 1",
+            Long.class);
+
+    public enum AllocationStatus {
+        UNMANAGED,      // 구역이 설정되지 않은 아파트
+        ALLOCATED,
+        FULL,
+        QUOTA_EXCEEDED
+    }
+
+    /**
+     * 자리 배정 결과. quotaBuildingId 는 동 한도에 포함된 경우의 동 ID 입니다.
+     */
+    public record Allocation(AllocationStatus status, Long zoneId, Integer slotNumber, Long quotaBuildingId) {
+
+        static Allocation of(AllocationStatus status) {
+            return new Allocation(status, null, null, null);
+        }
+
+        public boolean allocated() {
+            return status == AllocationStatus.ALLOCATED;
+        }
+
+        public boolean rejected() {
+            return status == AllocationStatus.FULL || status == AllocationStatus.QUOTA_EXCEEDED;
+        }
+    }
+
+    private record ZoneSlots(Long id, Long buildingId, ParkingZone.SlotType slotType, int slotCount) {
+
+        static ZoneSlots from(ParkingZone zone) {
+            return new ZoneSlots(zone.getId(), zone.getBuildingId(), zone.getSlotType(), zone.getSlotCount());
+        }
+    }
+
+    private record CachedZones(List<ZoneSlots> zones, long loadedAt) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ParkingZoneRepository parkingZoneRepository;
+    private final EntryRecordRepository entryRecordRepository;
+    private final BuildingRepository buildingRepository;
+    private final ParkingBuildingQuotaRepository parkingBuildingQuotaRepository;
+
+    // 아파트 ID -> 구역 목록
+    private final Map<Long, CachedZones> zoneCache = new ConcurrentHashMap<>();
+
+    /**
+     * 입차 차량에 자리를 배정합니다. 트랜잭션 안에서 호출되면 트랜잭션이 롤백될 때 배정한 자리를 반납합니다.
+     */
+    public Allocation allocate(Long apartmentId, Vehicle vehicle) {
+        if (apartmentId == null) {
+            return Allocation.of(AllocationStatus.UNMANAGED);
+        }
+        List<ZoneSlots> zones = zones(apartmentId);
+        if (zones.isEmpty()) {
+            return Allocation.of(AllocationStatus.UNMANAGED);
+        }
+        boolean visitor = Boolean.TRUE.equals(vehicle.getIsForeign());
+        Long quotaBuildingId = quotaBuildingId(vehicle);
+        List<ZoneSlots> candidates = candidates(zones, visitor, quotaBuildingId);
+        if (candidates.isEmpty()) {
+            return Allocation.of(AllocationStatus.FULL);
+        }
+
+        Allocation allocation;
+        try {
+            allocation = allocateInRedis(apartmentId, zones, candidates, quotaBuildingId);
+        } catch (Exception e) {
+            log.warn("[ParkingSlot] Redis 자리 배정 실패, 출입 기록으로 확인: apartmentId={}, error={}", apartmentId, e.getMessage());
+            allocation = allocateFromRecords(zones, candidates, quotaBuildingId);
+        }
+        if (allocation.allocated()) {
+            releaseOnRollback(allocation);
+        }
+        return allocation;
+    }
+
+    /**
+     * 출차한 기록의 자리를 반납합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반납합니다.
+     */
+    public void release(EntryRecord record) {
+        if (record.getParkingZoneId() == null || record.getSlotNumber() == null) {
+            return;
+        }
+        Allocation allocation = new Allocation(AllocationStatus.ALLOCATED, record.getParkingZoneId(),
+                record.getSlotNumber(), quotaBuildingId(record.getVehicle()));
+        TransactionUtils.afterCommit(() -> releaseNow(allocation));
+    }
+
+    /**
+     * 배정 직후 입차를 진행하지 못한 경우 자리를 바로 반납합니다.
+     */
+    public void releaseNow(Allocation allocation) {
+        if (!allocation.allocated()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT,
+                    List.of(slotKey(allocation.zoneId()), buildingKey(allocation.quotaBuildingId())),
+                    String.valueOf(allocation.slotNumber()), allocation.quotaBuildingId() != null ? "1" : "0");
+        } catch (Exception e) {
+            log.warn("[ParkingSlot] Redis 자리 반납 실패: zoneId={}, slot={}, error={}",
+                    allocation.zoneId(), allocation.slotNumber(), e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParkingZoneResponseDto> getZones(Long apartmentId) {
+        List<ParkingZone> zones = parkingZoneRepository.findByApartmentIdOrderByIdAsc(apartmentId);
+        if (zones.isEmpty()) {
+            return List.of();
+        }
+        boolean fromRedis = ensureSeeded(apartmentId, zones.stream().map(ZoneSlots::from).toList());
+        return zones.stream()
+                .map(zone -> ParkingZoneResponseDto.builder()
+                        .id(zone.getId())
+                        .name(zone.getName())
+                        .buildingId(zone.getBuildingId())
+                        .slotType(zone.getSlotType())
+                        .slotCount(zone.getSlotCount())
+                        .occupied(fromRedis ? countOccupied(zone.getId())
+                                : entryRecordRepository.countOpenByParkingZoneId(zone.getId()))
+                        .build())
+                .toList();
+    }
+
+    @Transactional
+    public ParkingZoneResponseDto createZone(Long apartmentId, ParkingZoneRequestDto dto) {
+        if (apartmentId == null) {
+            throw new IllegalArgumentException("아파트 정보가 없습니다.");
+        }
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            throw new IllegalArgumentException("구역 이름을 입력해주세요.");
+        }
+        if (dto.getSlotType() == null) {
+            throw new IllegalArgumentException("구역 유형을 선택해주세요.");
+        }
+        if (dto.getSlotCount() < 1 || dto.getSlotCount() > MAX_SLOTS_PER_ZONE) {
+            throw new IllegalArgumentException("구역 자리 수는 1 이상 " + MAX_SLOTS_PER_ZONE + " 이하여야 합니다.");
+        }
+        if (dto.getBuildingId() != null) {
+            if (dto.getSlotType() != ParkingZone.SlotType.RESIDENT) {
+                throw new IllegalArgumentException("동 전용 구역은 입주민 구역만 지정할 수 있습니다.");
+            }
+            validateBuilding(apartmentId, dto.getBuildingId());
+        }
+
+        ParkingZone zone = parkingZoneRepository.save(ParkingZone.builder()
+                .apartmentId(apartmentId)
+                .buildingId(dto.getBuildingId())
+                .name(dto.getName().trim())
+                .slotType(dto.getSlotType())
+                .slotCount(dto.getSlotCount())
+                .build());
+        TransactionUtils.afterCommit(() -> zoneCache.remove(apartmentId));
+
+        return ParkingZoneResponseDto.builder()
+                .id(zone.getId())
+                .name(zone.getName())
+                .buildingId(zone.getBuildingId())
+                .slotType(zone.getSlotType())
+                .slotCount(zone.getSlotCount())
+                .occupied(0)
+                .build();
+    }
+
+    @Transactional
+    public void deleteZone(Long apartmentId, Long zoneId) {
+        ParkingZone zone = parkingZoneRepository.findById(zoneId)
+                .filter(z -> z.getApartmentId().equals(apartmentId))
+                .orElseThrow(() -> new IllegalArgumentException("해당 주차 구역이 없습니다."));
+        if (entryRecordRepository.countOpenByParkingZoneId(zoneId) > 0) {
+            throw new IllegalStateException("주차 중인 차량이 있는 구역은 삭제할 수 없습니다.");
+        }
+        parkingZoneRepository.delete(zone);
+        TransactionUtils.afterCommit(() -> {
+            zoneCache.remove(apartmentId);
+            try {
+                redisTemplate.delete(slotKey(zoneId));
+            } catch (Exception e) {
+                log.warn("[ParkingSlot] 구역 비트맵 삭제 실패: zoneId={}, error={}", zoneId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 동별 배정 한도를 변경합니다. quota 가 음수면 한도를 없앱니다.
+     */
+    @Transactional
+    public void updateBuildingQuota(Long apartmentId, Long buildingId, int quota) {
+        validateBuilding(apartmentId, buildingId);
+        if (quota < 0) {
+            parkingBuildingQuotaRepository.deleteByBuildingId(buildingId);
+        } else {
+            parkingBuildingQuotaRepository.upsertQuota(apartmentId, buildingId, quota);
+        }
+        String value = quota < 0 ? NO_QUOTA : String.valueOf(quota);
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(quotaKey(buildingId), value, QUOTA_CACHE_TTL);
+            } catch (Exception e) {
+                // 캐시 시간이 지나면 DB 값으로 갱신됨
+                log.warn("[ParkingSlot] 동 배정 한도 캐시 갱신 실패: buildingId={}, error={}", buildingId, e.getMessage());
+            }
+        });
+    }
+
+    // 입주민 차량이면 소유자의 동 ID (동 한도 계산용)
+    static Long quotaBuildingId(Vehicle vehicle) {
+        if (vehicle == null || Boolean.TRUE.equals(vehicle.getIsForeign())) {
+            return null;
+        }
+        User owner = vehicle.getUser();
+        return owner != null && owner.getBuilding() != null ? owner.getBuilding().getId() : null;
+    }
+
+    private Allocation allocateInRedis(Long apartmentId, List<ZoneSlots> zones, List<ZoneSlots> candidates,
+                                       Long quotaBuildingId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(readyKey(apartmentId));
+        keys.add(buildingKey(quotaBuildingId));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(cachedQuota(quotaBuildingId)));
+        args.add(quotaBuildingId != null ? "1" : "0");
+        for (ZoneSlots zone : candidates) {
+            keys.add(slotKey(zone.id()));
+            args.add(String.valueOf(zone.slotCount()));
+        }
+
+        List<?> result = redisTemplate.execute(ALLOCATE_SCRIPT, keys, args.toArray());
+        if (code(result) == -2L) {
+            seed(apartmentId, zones);
+            result = redisTemplate.execute(ALLOCATE_SCRIPT, keys, args.toArray());
+        }
+        long code = code(result);
+        if (code == -3L) {
+            return Allocation.of(AllocationStatus.QUOTA_EXCEEDED);
+        }
+        if (code < 0) {
+            return Allocation.of(AllocationStatus.FULL);
+        }
+        ZoneSlots zone = candidates.get((int) code);
+        int slotNumber = ((Number) result.get(1)).intValue();
+        return new Allocation(AllocationStatus.ALLOCATED, zone.id(), slotNumber, quotaBuildingId);
+    }
+
+    // Redis 장애 시 출입 기록 기준으로 빈 자리 탐색
+    private Allocation allocateFromRecords(List<ZoneSlots> zones, List<ZoneSlots> candidates, Long quotaBuildingId) {
+        Map<Long, BitSet> used = new HashMap<>();
+        int buildingCount = 0;
+        for (Object[] row : entryRecordRepository.findOccupiedSlots(zones.stream().map(ZoneSlots::id).toList())) {
+            if (row[1] != null) {
+                used.computeIfAbsent((Long) row[0], k -> new BitSet()).set((Integer) row[1]);
+            }
+            if (quotaBuildingId != null && !Boolean.TRUE.equals(row[2]) && quotaBuildingId.equals(row[3])) {
+                buildingCount++;
+            }
+        }
+        int quota = loadQuota(quotaBuildingId);
+        if (quota >= 0 && buildingCount >= quota) {
+            return Allocation.of(AllocationStatus.QUOTA_EXCEEDED);
+        }
+        for (ZoneSlots zone : candidates) {
+            int free = used.getOrDefault(zone.id(), new BitSet()).nextClearBit(0);
+            if (free < zone.slotCount()) {
+                return new Allocation(AllocationStatus.ALLOCATED, zone.id(), free, quotaBuildingId);
+            }
+        }
+        return Allocation.of(AllocationStatus.FULL);
+    }
+
+    // 동 배정 한도 (없으면 -1). 캐시가 없으면 DB 값으로 채움 (그사이 변경으로 채워졌으면 그 값을 사용)
+    private int cachedQuota(Long buildingId) {
+        if (buildingId == null) {
+            return -1;
+        }
+        String key = quotaKey(buildingId);
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(loadQuota(buildingId)), QUOTA_CACHE_TTL);
+            value = redisTemplate.opsForValue().get(key);
+        }
+        return value != null ? Integer.parseInt(value) : loadQuota(buildingId);
+    }
+
+    private int loadQuota(Long buildingId) {
+        if (buildingId == null) {
+            return -1;
+        }
+        return parkingBuildingQuotaRepository.findByBuildingId(buildingId)
+                .map(ParkingBuildingQuota::getSlotQuota)
+                .orElse(-1);
+    }
+
+    // 비트맵이 초기화되어 있으면 true (Redis 장애면 false)
+    private boolean ensureSeeded(Long apartmentId, List<ZoneSlots> zones) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(apartmentId)))) {
+                seed(apartmentId, zones);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("[ParkingSlot] Redis 조회 실패, 출입 기록으로 집계: apartmentId={}, error={}", apartmentId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 아파트의 구역 비트맵과 동 카운터를 출입 기록으로 채움
+    private void seed(Long apartmentId, List<ZoneSlots> zones) {
+        List<String> keys = new ArrayList<>();
+        keys.add(readyKey(apartmentId));
+        Map<Long, Integer> keyIndexByZone = new HashMap<>();
+        for (ZoneSlots zone : zones) {
+            keys.add(slotKey(zone.id()));
+            keyIndexByZone.put(zone.id(), keys.size()); // Lua KEYS 는 1부터 시작
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(zones.size()));
+        Map<Long, Integer> countsByBuilding = new HashMap<>();
+        List<Object[]> rows = entryRecordRepository.findOccupiedSlots(keyIndexByZone.keySet());
+        for (Object[] row : rows) {
+            Integer keyIndex = keyIndexByZone.get((Long) row[0]);
+            if (keyIndex == null || row[1] == null) {
+                continue;
+            }
+            args.add(keyIndex + ":" + row[1]);
+            if (!Boolean.TRUE.equals(row[2]) && row[3] != null) {
+                countsByBuilding.merge((Long) row[3], 1, Integer::sum);
+            }
+        }
+        countsByBuilding.forEach((buildingId, count) -> {
+            keys.add(buildingKey(buildingId));
+            args.add(keys.size() + ":" + count);
+        });
+
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, keys, args.toArray());
+        if (seeded != null && seeded == 1L) {
+            log.info("[ParkingSlot] 구역 자리 배정 복구: apartmentId={}, zones={}, occupied={}", apartmentId, zones.size(), rows.size());
+        }
+    }
+
+    private long countOccupied(Long zoneId) {
+        byte[] key = slotKey(zoneId).getBytes(StandardCharsets.UTF_8);
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key));
+        return count != null ? count : 0L;
+    }
+
+    private List<ZoneSlots> zones(Long apartmentId) {
+        CachedZones cached = zoneCache.get(apartmentId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < ZONE_CACHE_MILLIS) {
+            return cached.zones();
+        }
+        List<ZoneSlots> zones = parkingZoneRepository.findByApartmentIdOrderByIdAsc(apartmentId).stream()
+                .map(ZoneSlots::from)
+                .toList();
+        zoneCache.put(apartmentId, new CachedZones(zones, System.currentTimeMillis()));
+        return zones;
+    }
+
+    // 배정을 시도할 구역 (우선순위 순)
+    private static List<ZoneSlots> candidates(List<ZoneSlots> zones, boolean visitor, Long buildingId) {
+        List<ZoneSlots> result = new ArrayList<>();
+        if (visitor) {
+            zones.stream().filter(z -> z.slotType() == ParkingZone.SlotType.VISITOR).forEach(result::add);
+        } else {
+            if (buildingId != null) {
+                zones.stream()
+                        .filter(z -> z.slotType() == ParkingZone.SlotType.RESIDENT && buildingId.equals(z.buildingId()))
+                        .forEach(result::add);
+            }
+            zones.stream()
+                    .filter(z -> z.slotType() == ParkingZone.SlotType.RESIDENT && z.buildingId() == null)
+                    .forEach(result::add);
+        }
+        zones.stream().filter(z -> z.slotType() == ParkingZone.SlotType.SHARED).forEach(result::add);
+        return result;
+    }
+
+    private void validateBuilding(Long apartmentId, Long buildingId) {
+        Building building = buildingRepository.findById(buildingId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 동이 없습니다."));
+        if (building.getApartment() == null || !building.getApartment().getId().equals(apartmentId)) {
+            throw new IllegalArgumentException("소속 아파트의 동만 지정할 수 있습니다.");
+        }
+    }
+
+    private void releaseOnRollback(Allocation allocation) {
+        TransactionUtils.afterRollback(() -> releaseNow(allocation));
+    }
+
+    private static long code(List<?> result) {
+        if (result == null || result.isEmpty()) {
+            return -1L;
+        }
+        return ((Number) result.get(0)).longValue();
+    }
+
+    private static String slotKey(Long zoneId) {
+        return SLOT_KEY_PREFIX + zoneId;
+    }
+
+    private static String buildingKey(Long buildingId) {
+        return buildingId == null ? NO_BUILDING_KEY : BUILDING_KEY_PREFIX + buildingId;
+    }
+
+    private static String quotaKey(Long buildingId) {
+        return QUOTA_KEY_PREFIX + buildingId;
+    }
+
+    private static String readyKey(Long apartmentId) {
+        return READY_KEY_PREFIX + apartmentId;
+    }
+}
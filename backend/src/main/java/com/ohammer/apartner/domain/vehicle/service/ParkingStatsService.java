@@ -0,0 +1,337 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.vehicle.dto.ParkingDailyStatDto;
+import com.ohammer.apartner.domain.vehicle.dto.ParkingOccupancySeriesDto;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingDailyStat;
+import com.ohammer.apartner.domain.vehicle.repository.ParkingDailyStatRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아파트별 주차 점유 추이(5분 구간)와 하루 통계.
+ * 입/출차가 커밋될 때마다 Redis 해시 두 개(구간별 점유, 하루 카운터)를 Lua 스크립트 한 번으로 갱신하고,
+ * 지난 날짜는 새벽에 parking_daily_stats 에 한 행(구간 288개 포함)으로 옮깁니다.
+ * 대시보드는 기간 통계 한 번의 조회와 오늘 해시 조회만으로 구성됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkingStatsService {
+
+    public static final int BUCKET_MINUTES = 5;
+    private static final int BUCKETS_PER_DAY = 24 * 60 / BUCKET_MINUTES;
+
+    private static final String SERIES_KEY_PREFIX = "parking:ts:";
+    private static final String DAILY_KEY_PREFIX = "parking:daily:";
+    // 아직 DB로 옮기지 않은 "아파트ID:yyyyMMdd" 목록
+    private static final String PENDING_ROLLUP_KEY = "parking:stats:pending";
+    // 새벽 이관은 여러 인스턴스 중 한 곳에서만 실행
+    private static final String ROLLUP_LOCK_KEY = "parking:stats:rollup:lock";
+    private static final Duration ROLLUP_LOCK_TTL = Duration.ofMinutes(30);
+    // 새벽 이관이 며칠 밀려도 데이터가 남아 있도록 여유를 둠
+    private static final Duration REDIS_TTL = Duration.ofDays(7);
+    private static final DateTimeFormatter KEY_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // KEYS[1]=구간 해시, KEYS[2]=하루 해시, KEYS[3]=점유 카운터
+    // ARGV[1]=구간 번호, ARGV[2]=증감(1/-1), ARGV[3]=방문 차량(1/0), ARGV[4]=주차 시간(초, 모르면 -1), ARGV[5]=TTL(초)
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of(
+            "local occupancy = tonumber(redis.call('GET', KEYS[3]) or '0') " +
+            "local function raisePeak(value) " +
+            "  local peak = tonumber(redis.call('HGET', KEYS[2], 'peak') or '-1') " +
+            "  if value > peak then redis.call('HSET', KEYS[2], 'peak', value) end " +
+            "end " +
+            "local before = math.max(occupancy - tonumber(ARGV[2]), 0) " +
+            "if redis.call('HSETNX', KEYS[1], 'start', before) == 1 then raisePeak(before) end " +
+            "local maxField = 'm:' .. ARGV[1] " +
+            "local bucketMax = tonumber(redis.call('HGET', KEYS[1], maxField) or '-1') " +
+            "if occupancy > bucketMax then redis.call('HSET', KEYS[1], maxField, occupancy) end " +
+            "redis.call('HSET', KEYS[1], 'l:' .. ARGV[1], occupancy) " +
+            "raisePeak(occupancy) " +
+            "if ARGV[2] == '1' then " +
+            "  redis.call('HINCRBY', KEYS[2], 'entries', 1) " +
+            "  if ARGV[3] == '1' then redis.call('HINCRBY', KEYS[2], 'visitorEntries', 1) end " +
+            "else " +
+            "  redis.call('HINCRBY', KEYS[2], 'exits', 1) " +
+            "  if tonumber(ARGV[4]) >= 0 then " +
+            "    redis.call('HINCRBY', KEYS[2], 'dwellSeconds', ARGV[4]) " +
+            "    redis.call('HINCRBY', KEYS[2], 'dwellCount', 1) " +
+            "  end " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[5]) " +
+            "return occupancy",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ParkingDailyStatRepository parkingDailyStatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 입/출차 이벤트 (트랜잭션 안에서 발행되면 커밋 이후 집계)
+    public record ParkingMovement(Long apartmentId, boolean entry, boolean visitor,
+                                  LocalDateTime entryTime, LocalDateTime exitTime) {
+
+        public static ParkingMovement entered(Long apartmentId, Boolean visitor, LocalDateTime entryTime) {
+            return new ParkingMovement(apartmentId, true, Boolean.TRUE.equals(visitor), entryTime, null);
+        }
+
+        public static ParkingMovement exited(Long apartmentId, Boolean visitor, LocalDateTime entryTime,
+                                             LocalDateTime exitTime) {
+            return new ParkingMovement(apartmentId, false, Boolean.TRUE.equals(visitor), entryTime, exitTime);
+        }
+    }
+
+    public void publish(ParkingMovement movement) {
+        if (movement.apartmentId() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(movement);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovement(ParkingMovement movement) {
+        try {
+            record(movement);
+        } catch (Exception e) {
+            // 통계 집계 실패가 입/출차를 막지 않도록 로그만 남김
+            log.warn("[ParkingStats] 주차 통계 집계 실패: apartmentId={}, error={}", movement.apartmentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 하루의 5분 구간별 최대 주차 대수와 통계. 오늘이면 현재 구간까지만 반환합니다.
+     */
+    public ParkingOccupancySeriesDto getOccupancySeries(Long apartmentId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        int bucketCount = date.equals(today) ? bucketOf(LocalDateTime.now()) + 1 : BUCKETS_PER_DAY;
+
+        if (date.isBefore(today)) {
+            ParkingDailyStat stat = parkingDailyStatRepository.findByApartmentIdAndStatDate(apartmentId, date).orElse(null);
+            if (stat != null) {
+                return ParkingOccupancySeriesDto.builder()
+                        .date(date)
+                        .bucketMinutes(BUCKET_MINUTES)
+                        .occupancy(parseSeries(stat.getOccupancySeries()))
+                        .daily(toDto(stat))
+                        .build();
+            }
+        }
+
+        Map<Object, Object> series = redisTemplate.opsForHash().entries(seriesKey(apartmentId, date));
+        Map<Object, Object> daily = redisTemplate.opsForHash().entries(dailyKey(apartmentId, date));
+        return ParkingOccupancySeriesDto.builder()
+                .date(date)
+                .bucketMinutes(BUCKET_MINUTES)
+                .occupancy(buildSeries(series, bucketCount))
+                .daily(toDto(date, daily))
+                .build();
+    }
+
+    /**
+     * 기간별 하루 통계. 이관된 날짜는 DB 한 번 조회, 아직 이관되지 않은 최근 날짜는 Redis에서 채웁니다.
+     */
+    public List<ParkingDailyStatDto> getDailyStats(Long apartmentId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        Map<LocalDate, ParkingDailyStatDto> byDate = new TreeMap<>();
+        parkingDailyStatRepository.findByApartmentIdAndStatDateBetweenOrderByStatDateAsc(apartmentId, from, to)
+                .forEach(stat -> byDate.put(stat.getStatDate(), toDto(stat)));
+
+        LocalDate today = LocalDate.now();
+        LocalDate redisFrom = from.isAfter(today.minusDays(REDIS_TTL.toDays())) ? from : today.minusDays(REDIS_TTL.toDays());
+        for (LocalDate date = redisFrom; !date.isAfter(to) && !date.isAfter(today); date = date.plusDays(1)) {
+            if (byDate.containsKey(date)) {
+                continue;
+            }
+            Map<Object, Object> daily = redisTemplate.opsForHash().entries(dailyKey(apartmentId, date));
+            if (!daily.isEmpty()) {
+                byDate.put(date, toDto(date, daily));
+            }
+        }
+        return new ArrayList<>(byDate.values());
+    }
+
+    // 지난 날짜의 Redis 집계를 DB로 이관
+    @Scheduled(cron = "0 5 0 * * *")
+    public void rollUp() {
+        if (!acquireRollUpLock()) {
+            log.info("[ParkingStats] 다른 인스턴스에서 주차 통계 이관 중");
+            return;
+        }
+        try {
+            Set<String> pending = redisTemplate.opsForSet().members(PENDING_ROLLUP_KEY);
+            if (pending == null || pending.isEmpty()) {
+                return;
+            }
+            LocalDate today = LocalDate.now();
+            int rolled = 0;
+            for (String member : pending) {
+                try {
+                    String[] parts = member.split(":");
+                    Long apartmentId = Long.valueOf(parts[0]);
+                    LocalDate date = LocalDate.parse(parts[1], KEY_DATE);
+                    if (!date.isBefore(today)) {
+                        continue;
+                    }
+                    rollUp(apartmentId, date);
+                    redisTemplate.opsForSet().remove(PENDING_ROLLUP_KEY, member);
+                    rolled++;
+                } catch (Exception e) {
+                    log.warn("[ParkingStats] 주차 통계 이관 실패: member={}, error={}", member, e.getMessage());
+                }
+            }
+            log.info("[ParkingStats] 주차 통계 이관 완료: {}건", rolled);
+        } finally {
+            releaseRollUpLock();
+        }
+    }
+
+    private boolean acquireRollUpLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(ROLLUP_LOCK_KEY, "1", ROLLUP_LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시에는 이관할 목록도 읽을 수 없으므로 건너뜀 (다음 날 함께 이관)
+            log.warn("[ParkingStats] 이관 잠금 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseRollUpLock() {
+        try {
+            redisTemplate.delete(ROLLUP_LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("[ParkingStats] 이관 잠금 해제 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void rollUp(Long apartmentId, LocalDate date) {
+        Map<Object, Object> series = redisTemplate.opsForHash().entries(seriesKey(apartmentId, date));
+        Map<Object, Object> daily = redisTemplate.opsForHash().entries(dailyKey(apartmentId, date));
+        if (series.isEmpty() && daily.isEmpty()) {
+            return;
+        }
+
+        ParkingDailyStat stat = parkingDailyStatRepository.findByApartmentIdAndStatDate(apartmentId, date)
+                .orElseGet(() -> ParkingDailyStat.builder().apartmentId(apartmentId).statDate(date).build());
+        stat.setPeakOccupancy(intField(daily, "peak"));
+        stat.setEntryCount(intField(daily, "entries"));
+        stat.setVisitorEntryCount(intField(daily, "visitorEntries"));
+        stat.setExitCount(intField(daily, "exits"));
+        stat.setTotalDwellSeconds(longField(daily, "dwellSeconds"));
+        stat.setDwellCount(intField(daily, "dwellCount"));
+        stat.setOccupancySeries(buildSeries(series, BUCKETS_PER_DAY).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        parkingDailyStatRepository.save(stat);
+    }
+
+    private void record(ParkingMovement movement) {
+        LocalDateTime at = movement.entry() ? movement.entryTime() : movement.exitTime();
+        if (at == null) {
+            at = LocalDateTime.now();
+        }
+        LocalDate date = at.toLocalDate();
+        long dwellSeconds = !movement.entry() && movement.entryTime() != null
+                ? Math.max(Duration.between(movement.entryTime(), at).getSeconds(), 0)
+                : -1;
+
+        redisTemplate.execute(RECORD_SCRIPT,
+                List.of(seriesKey(movement.apartmentId(), date),
+                        dailyKey(movement.apartmentId(), date),
+                        ParkingOccupancyService.counterKey(movement.apartmentId())),
+                String.valueOf(bucketOf(at)),
+                movement.entry() ? "1" : "-1",
+                movement.visitor() ? "1" : "0",
+                String.valueOf(dwellSeconds),
+                String.valueOf(REDIS_TTL.getSeconds()));
+        redisTemplate.opsForSet().add(PENDING_ROLLUP_KEY, movement.apartmentId() + ":" + date.format(KEY_DATE));
+    }
+
+    // 구간별 최대값. 이벤트가 없는 구간은 직전 구간 마지막 값으로 채움
+    private static List<Integer> buildSeries(Map<Object, Object> hash, int bucketCount) {
+        List<Integer> result = new ArrayList<>(bucketCount);
+        int carried = intField(hash, "start");
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            Object max = hash.get("m:" + bucket);
+            if (max == null) {
+                result.add(carried);
+                continue;
+            }
+            result.add(Math.max(carried, Integer.parseInt(max.toString())));
+            carried = intField(hash, "l:" + bucket);
+        }
+        return result;
+    }
+
+    private static List<Integer> parseSeries(String series) {
+        if (series == null || series.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(series.split(","))
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private static ParkingDailyStatDto toDto(ParkingDailyStat stat) {
+        return toDto(stat.getStatDate(), stat.getPeakOccupancy(), stat.getEntryCount(), stat.getVisitorEntryCount(),
+                stat.getExitCount(), stat.getTotalDwellSeconds(), stat.getDwellCount());
+    }
+
+    private static ParkingDailyStatDto toDto(LocalDate date, Map<Object, Object> daily) {
+        return toDto(date, intField(daily, "peak"), intField(daily, "entries"), intField(daily, "visitorEntries"),
+                intField(daily, "exits"), longField(daily, "dwellSeconds"), intField(daily, "dwellCount"));
+    }
+
+    private static ParkingDailyStatDto toDto(LocalDate date, int peak, int entries, int visitorEntries, int exits,
+                                             long dwellSeconds, int dwellCount) {
+        return ParkingDailyStatDto.builder()
+                .date(date)
+                .peakOccupancy(peak)
+                .entryCount(entries)
+                .exitCount(exits)
+                .visitorShare(entries == 0 ? 0 : (double) visitorEntries / entries)
+                .averageDwellMinutes(dwellCount == 0 ? 0 : dwellSeconds / 60.0 / dwellCount)
+                .build();
+    }
+
+    private static int intField(Map<Object, Object> hash, String field) {
+        Object value = hash.get(field);
+        return value == null ? 0 : Integer.parseInt(value.toString());
+    }
+
+    private static long longField(Map<Object, Object> hash, String field) {
+        Object value = hash.get(field);
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private static int bucketOf(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / BUCKET_MINUTES;
+    }
+
+    private static String seriesKey(Long apartmentId, LocalDate date) {
+        return SERIES_KEY_PREFIX + apartmentId + ":" + date.format(KEY_DATE);
+    }
+
+    private static String dailyKey(Long apartmentId, LocalDate date) {
+        return DAILY_KEY_PREFIX + apartmentId + ":" + date.format(KEY_DATE);
+    }
+}
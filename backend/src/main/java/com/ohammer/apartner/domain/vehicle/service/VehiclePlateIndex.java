@@ -0,0 +1,287 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.vehicle.dto.VehiclePlateEntry;
+import com.ohammer.apartner.domain.vehicle.repository.VehicleRepository;
+import com.ohammer.apartner.domain.vehicle.util.PlateNumberUtils;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 번호판 -> 차량 인메모리 인덱스.
+ * 번호판은 {@link PlateNumberUtils#key(String)} 로 정규화해 보관하므로 공백/하이픈/지역명 유무와 관계없이 찾을 수 있고,
+ * OCR 혼동 문자(8/B, 0/D 등)를 대표 문자로 바꾼 형태와 한 글자 삭제 형태를 함께 색인해
+ * 편집 거리 1 이내의 오인식도 전체 탐색 없이 찾습니다.
+ * 차량 등록/수정/삭제는 트랜잭션 커밋 후 반영되며, 다른 인스턴스의 변경은 주기적 재적재로 맞춥니다.
+ * 같은 번호판으로 여러 차량이 등록된 경우(방문 차량 재등록 등) 단건 조회는 가장 최근 차량을 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehiclePlateIndex {
+
+    public enum MatchType {
+        EXACT,          // 정규화한 번호판 일치
+        OCR_CONFUSION,  // 혼동 문자만 다름
+        EDIT_DISTANCE   // 한 글자 삽입/삭제/치환
+    }
+
+    public record PlateMatch(VehiclePlateEntry vehicle, MatchType matchType) {
+    }
+
+    private final VehicleRepository vehicleRepository;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // 색인 구조 (쓰기는 synchronized, 읽기는 잠금 없이)
+    private static final class Snapshot {
+        final Map<Long, VehiclePlateEntry> byId = new ConcurrentHashMap<>();
+        final Map<Long, String> keyById = new ConcurrentHashMap<>();
+        final Map<String, NavigableSet<Long>> idsByKey = new ConcurrentHashMap<>();
+        final Map<String, Set<String>> keysBySkeleton = new ConcurrentHashMap<>();
+        final Map<String, Set<String>> skeletonsByDeletion = new ConcurrentHashMap<>();
+
+        void add(VehiclePlateEntry entry) {
+            String key = PlateNumberUtils.key(entry.vehicleNum());
+            if (key.isEmpty()) {
+                return;
+            }
+            remove(entry.vehicleId());
+            byId.put(entry.vehicleId(), entry);
+            keyById.put(entry.vehicleId(), key);
+            idsByKey.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(entry.vehicleId());
+
+            String skeleton = PlateNumberUtils.skeletonKey(key);
+            Set<String> keys = keysBySkeleton.computeIfAbsent(skeleton, s -> ConcurrentHashMap.newKeySet());
+            if (keys.add(key) && keys.size() == 1) {
+                for (String deletion : deletions(skeleton)) {
+                    skeletonsByDeletion.computeIfAbsent(deletion, d -> ConcurrentHashMap.newKeySet()).add(skeleton);
+                }
+            }
+        }
+
+        void remove(Long vehicleId) {
+            String key = keyById.remove(vehicleId);
+            byId.remove(vehicleId);
+            if (key == null) {
+                return;
+            }
+            NavigableSet<Long> ids = idsByKey.get(key);
+            if (ids == null) {
+                return;
+            }
+            ids.remove(vehicleId);
+            if (!ids.isEmpty()) {
+                return;
+            }
+            idsByKey.remove(key);
+
+            String skeleton = PlateNumberUtils.skeletonKey(key);
+            Set<String> keys = keysBySkeleton.get(skeleton);
+            if (keys == null) {
+                return;
+            }
+            keys.remove(key);
+            if (!keys.isEmpty()) {
+                return;
+            }
+            keysBySkeleton.remove(skeleton);
+            for (String deletion : deletions(skeleton)) {
+                Set<String> skeletons = skeletonsByDeletion.get(deletion);
+                if (skeletons != null) {
+                    skeletons.remove(skeleton);
+                    if (skeletons.isEmpty()) {
+                        skeletonsByDeletion.remove(deletion);
+                    }
+                }
+            }
+        }
+
+        VehiclePlateEntry latest(String key) {
+            NavigableSet<Long> ids = idsByKey.get(key);
+            if (ids == null || ids.isEmpty()) {
+                return null;
+            }
+            return byId.get(ids.last());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 등록/수정된 차량 반영
+    @Scheduled(fixedDelayString = "${parking.plate-index-refresh-ms:600000}",
+            initialDelayString = "${parking.plate-index-refresh-ms:600000}")
+    public void reload() {
+        List<VehiclePlateEntry> entries = vehicleRepository.findAllPlateEntries();
+        Snapshot fresh = new Snapshot();
+        entries.forEach(fresh::add);
+        synchronized (this) {
+            snapshot = fresh;
+        }
+        log.info("[PlateIndex] 번호판 인덱스 적재 완료: vehicles={}, plates={}", fresh.byId.size(), fresh.idsByKey.size());
+    }
+
+    /**
+     * 정규화한 번호판이 정확히 일치하는 가장 최근 차량을 찾습니다. 인덱스에 없으면 DB를 확인합니다.
+     */
+    public Optional<VehiclePlateEntry> find(String vehicleNum) {
+        String key = PlateNumberUtils.key(vehicleNum);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        VehiclePlateEntry entry = snapshot.latest(key);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        // 인덱스 적재 이후 다른 인스턴스에서 등록된 차량
+        Optional<VehiclePlateEntry> loaded = vehicleRepository.findPlateEntriesByVehicleNum(vehicleNum.trim())
+                .stream()
+                .findFirst();
+        loaded.ifPresent(this::upsert);
+        return loaded;
+    }
+
+    /**
+     * 게이트 인식용 조회. 정확히 일치하는 차량이 없으면 OCR 혼동/한 글자 오인식 후보 중
+     * 번호판이 하나로 좁혀지는 경우에만 그 차량을 일치 정도와 함께 반환합니다.
+     * 편집 거리 일치(한 글자 치환 등)는 다른 차량일 수 있으므로 호출하는 쪽에서 바로 반영하지 않아야 합니다.
+     */
+    public Optional<PlateMatch> resolve(String vehicleNum) {
+        Optional<VehiclePlateEntry> exact = find(vehicleNum);
+        if (exact.isPresent()) {
+            return Optional.of(new PlateMatch(exact.get(), MatchType.EXACT));
+        }
+        String key = PlateNumberUtils.key(vehicleNum);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        Snapshot current = snapshot;
+        Map<String, MatchType> candidates = fuzzyKeys(current, key);
+        for (MatchType type : List.of(MatchType.OCR_CONFUSION, MatchType.EDIT_DISTANCE)) {
+            List<String> keys = candidates.entrySet().stream()
+                    .filter(e -> e.getValue() == type)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (keys.size() == 1) {
+                return Optional.ofNullable(current.latest(keys.get(0))).map(entry -> new PlateMatch(entry, type));
+            }
+            if (keys.size() > 1) {
+                // 후보가 여럿이면 잘못 매칭하지 않도록 미인식 처리
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 관리자 검색용. 일치 정도(정확 > 혼동 문자 > 편집 거리 1), 최근 등록 순으로 최대 limit 건을 반환합니다.
+     */
+    public List<PlateMatch> search(String query, int limit) {
+        String key = PlateNumberUtils.key(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        Map<String, MatchType> keys = new LinkedHashMap<>();
+        if (current.idsByKey.containsKey(key)) {
+            keys.put(key, MatchType.EXACT);
+        }
+        fuzzyKeys(current, key).forEach(keys::putIfAbsent);
+
+        List<PlateMatch> matches = new ArrayList<>();
+        keys.forEach((candidate, type) -> {
+            NavigableSet<Long> ids = current.idsByKey.get(candidate);
+            if (ids == null) {
+                return;
+            }
+            for (Long id : ids.descendingSet()) {
+                VehiclePlateEntry entry = current.byId.get(id);
+                if (entry != null) {
+                    matches.add(new PlateMatch(entry, type));
+                }
+            }
+        });
+        return matches.stream()
+                .sorted(Comparator.comparing((PlateMatch m) -> m.matchType().ordinal())
+                        .thenComparing(m -> m.vehicle().vehicleId(), Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized void upsert(VehiclePlateEntry entry) {
+        snapshot.add(entry);
+    }
+
+    public synchronized void remove(Long vehicleId) {
+        snapshot.remove(vehicleId);
+    }
+
+    // 차량 등록/수정 트랜잭션이 커밋된 뒤 반영 (롤백되면 반영하지 않음)
+    public void upsertAfterCommit(VehiclePlateEntry entry) {
+        TransactionUtils.afterCommit(() -> upsert(entry));
+    }
+
+    public void removeAfterCommit(Long vehicleId) {
+        TransactionUtils.afterCommit(() -> remove(vehicleId));
+    }
+
+    public int size() {
+        return snapshot.idsByKey.size();
+    }
+
+    // 정확히 일치하는 키를 제외한 혼동 문자/편집 거리 1 후보 키
+    private static Map<String, MatchType> fuzzyKeys(Snapshot current, String key) {
+        Map<String, MatchType> result = new LinkedHashMap<>();
+        String skeleton = PlateNumberUtils.skeletonKey(key);
+
+        for (String candidate : current.keysBySkeleton.getOrDefault(skeleton, Set.of())) {
+            if (!candidate.equals(key)) {
+                result.put(candidate, MatchType.OCR_CONFUSION);
+            }
+        }
+
+        // 편집 거리 1: 저장된 형태 또는 조회 형태에서 한 글자를 지운 형태가 서로 겹치는 후보만 검증
+        Set<String> skeletons = new HashSet<>(current.skeletonsByDeletion.getOrDefault(skeleton, Set.of()));
+        for (String deletion : deletions(skeleton)) {
+            if (current.keysBySkeleton.containsKey(deletion)) {
+                skeletons.add(deletion);
+            }
+            skeletons.addAll(current.skeletonsByDeletion.getOrDefault(deletion, Set.of()));
+        }
+        for (String candidateSkeleton : skeletons) {
+            if (candidateSkeleton.equals(skeleton) || !PlateNumberUtils.withinOneEdit(skeleton, candidateSkeleton)) {
+                continue;
+            }
+            for (String candidate : current.keysBySkeleton.getOrDefault(candidateSkeleton, Set.of())) {
+                result.putIfAbsent(candidate, MatchType.EDIT_DISTANCE);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> deletions(String value) {
+        List<String> result = new ArrayList<>(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            result.add(value.substring(0, i) + value.substring(i + 1));
+        }
+        return result;
+    }
+}
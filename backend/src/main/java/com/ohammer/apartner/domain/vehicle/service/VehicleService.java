@@ -4,22 +4,27 @@ import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.domain.user.repository.UserRepository;
 import com.ohammer.apartner.domain.vehicle.dto.*;
 import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
-import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
 import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
 //import jakarta.transaction.Transactional;
 import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
 import com.ohammer.apartner.domain.vehicle.repository.VehicleRepository;
 import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.security.CurrentPrincipal;
 import com.ohammer.apartner.security.utils.SecurityUtil;
 
 import com.ohammer.apartner.security.utils.checkRoleUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,15 +32,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VehicleService {
 
+    // 페이지 없는 기존 목록 API 가 한 번에 반환하는 최대 건수
+    private static final int LEGACY_LIST_LIMIT = 500;
+
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
     private final EntryRecordRepository entryRecordRepository;
     private final AlarmService alarmService;
-    private static final int MAX_CAPACITY = 30; // 총 주차 가능 수
-
-    private final ParkingProperties parkingProperties;
-    // 최근에 입력한 maxCapacity를 저장할 필드
-    private Integer currentMaxCapacity = null;
+    private final ParkingOccupancyService parkingOccupancyService;
+    private final ParkingSlotService parkingSlotService;
+    private final VehiclePlateIndex vehiclePlateIndex;
+    private final ParkingStatsService parkingStatsService;
+    private final VisitorExpiryService visitorExpiryService;
+    private final EntryRecordArchiveService entryRecordArchiveService;
 
 
     // 입주민 차량 등록
@@ -61,6 +70,7 @@ public class VehicleService {
                 .build();
 
         vehicleRepository.save(vehicle);
+        vehiclePlateIndex.upsertAfterCommit(VehiclePlateEntry.from(vehicle));
 
         // EntryRecord 생성
         EntryRecord entryRecord = EntryRecord.builder()
@@ -108,6 +118,7 @@ public class VehicleService {
                 .build();
 
         vehicleRepository.save(vehicle);
+        vehiclePlateIndex.upsertAfterCommit(VehiclePlateEntry.from(vehicle));
 
         // EntryRecord 생성
         EntryRecord entryRecord = EntryRecord.builder()
@@ -116,6 +127,8 @@ public class VehicleService {
                 .build();
 
         entryRecordRepository.save(entryRecord);
+        // 기한 안에 입차하지 않으면 방문 승인 만료
+        visitorExpiryService.scheduleRegistration(entryRecord.getId(), entryRecord.getCreatedAt());
 
         // 실시간 알림 추가
         Long apartmentId = inviter.getApartment() != null ? inviter.getApartment().getId() : null;
@@ -157,20 +170,39 @@ public class VehicleService {
     @Transactional(readOnly = true)
     public List<VehicleRegistrationInfoDto> getVehicleRegistrationInfo(Boolean isForeign) {
 
-
         checkRoleUtils.validateAdminAccess();
 
-        List<EntryRecord> entryRecords;
+        return findRegistrations(VehicleRegistrationSearchCondition.builder()
+                .isForeign(isForeign)
+                .build());
+    }
 
-        if (isForeign == null) {
-            entryRecords = entryRecordRepository.findAllWithVehicleAndUser();
-        } else {
-            entryRecords = entryRecordRepository.findByVehicleIsForeignWithVehicleAndUser(isForeign);
+    // 관리자용 차량 등록 목록 (아파트/상태/외부 차량 여부/등록 기간 필터, 페이지 조회)
+    @Transactional(readOnly = true)
+    public Page<VehicleRegistrationInfoDto> searchVehicleRegistrations(VehicleRegistrationSearchCondition condition,
+                                                                       Pageable pageable) {
+        checkRoleUtils.validateManagerAccess();
+        if (condition.getRegisteredFrom() != null && condition.getRegisteredTo() != null
+                && !condition.getRegisteredFrom().isBefore(condition.getRegisteredTo())) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
         }
 
-        return entryRecords.stream()
-                .map(er -> VehicleRegistrationInfoDto.from(er.getVehicle(), er))
-                .collect(Collectors.toList());
+        // 관리자(ADMIN)가 아니면 소속 아파트만
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        if (!principal.isAdmin()) {
+            condition = condition.toBuilder().apartmentId(principal.apartmentId()).build();
+        }
+
+        return entryRecordRepository.searchRegistrations(condition, pageable)
+                .map(VehicleRegistrationInfoDto::from);
+    }
+
+    // 기존 목록 API 호환용: 응답 형태(목록)는 유지하고 최신 출입 기록 LEGACY_LIST_LIMIT 건까지만 반환
+    // (그 이상은 페이지 조회 API 사용)
+    private List<VehicleRegistrationInfoDto> findRegistrations(VehicleRegistrationSearchCondition condition) {
+        return entryRecordRepository.searchRegistrations(condition, PageRequest.of(0, LEGACY_LIST_LIMIT))
+                .map(VehicleRegistrationInfoDto::from)
+                .getContent();
     }
 
 
@@ -188,6 +220,7 @@ public class VehicleService {
 
         vehicle.setVehicleNum(dto.getVehicleNum());
         vehicle.setType(dto.getType());
+        vehiclePlateIndex.upsertAfterCommit(VehiclePlateEntry.from(vehicle));
 
 
         User user = vehicle.getUser();
@@ -223,7 +256,9 @@ public class VehicleService {
         
         // 차량 삭제
         entryRecordRepository.deleteAllByVehicle(vehicle);
+        entryRecordArchiveService.deleteByVehicleId(vehicleId);
         vehicleRepository.delete(vehicle);
+        vehiclePlateIndex.removeAfterCommit(vehicleId);
         
         // 실시간 알림 추가 - 삭제는 vehicle 엔티티가 제거된 후 처리
         
@@ -243,11 +278,9 @@ public class VehicleService {
 
     @Transactional(readOnly = true)
     public List<VehicleRegistrationInfoDto> getApprovedVehicles() {
-        List<EntryRecord> approvedRecords = entryRecordRepository.findByStatus(EntryRecord.Status.AGREE);
-
-        return approvedRecords.stream()
-                .map(record -> VehicleRegistrationInfoDto.from(record.getVehicle(), record))
-                .collect(Collectors.toList());
+        return findRegistrations(VehicleRegistrationSearchCondition.builder()
+                .status(EntryRecord.Status.AGREE)
+                .build());
     }
 
     public Vehicle findById(Long vehicleId) {
@@ -324,13 +357,11 @@ public class VehicleService {
 
     @Transactional(readOnly = true)
     public List<VehicleRegistrationInfoDto> getInvitedApprovedVehicles() {
-        List<EntryRecord> approvedRecords = entryRecordRepository.findByStatus(EntryRecord.Status.INVITER_AGREE);
-
         checkRoleUtils.validateManagerAccess();
 
-        return approvedRecords.stream()
-                .map(record -> VehicleRegistrationInfoDto.from(record.getVehicle(), record))
-                .collect(Collectors.toList());
+        return findRegistrations(VehicleRegistrationSearchCondition.builder()
+                .status(EntryRecord.Status.INVITER_AGREE)
+                .build());
     }
 
     @Transactional(readOnly = true)
@@ -338,17 +369,10 @@ public class VehicleService {
 
         checkRoleUtils.validateManagerAccess();
 
-
-
-        // 1) ACTIVE 차량 엔티티 조회
-        List<Vehicle> activeVehicles = vehicleRepository.findAllByStatus(Vehicle.Status.ACTIVE);
-
-        // 2) 필요한 DTO로 변환
-        return activeVehicles.stream()
-                .map(v -> VehicleRegistrationInfoDto.from(v,
-                        /* 여기 EntryRecord는 필요 없으면 더미나 null 처리 */
-                        EntryRecord.builder().status(null).build()))
-                .collect(Collectors.toList());
+        // 현재 주차 중인 출입 기록 기준 (출입 기록 ID도 함께 반환)
+        return findRegistrations(VehicleRegistrationSearchCondition.builder()
+                .parked(true)
+                .build());
     }
 
     // 현재 주차 중인 차량 수
@@ -356,24 +380,114 @@ public class VehicleService {
         return vehicleRepository.countByStatus(Vehicle.Status.ACTIVE);
     }
 
-    // 남은 주차 공간 수
-    public int getRemainingSpace() {
-        long activeCount = countActiveVehicles();
-        return parkingProperties.getMaxCapacity() - (int) activeCount;
+    // 남은 주차 공간 수 (아파트별)
+    public int getRemainingSpace(Long apartmentId) {
+        long activeCount = parkingOccupancyService.getOccupancy(apartmentId);
+        return parkingOccupancyService.getCapacity(apartmentId) - (int) activeCount;
     }
 
-    // 전체 주차장 현황 반환 DTO
+    // 관리자 소속 아파트의 주차장 현황 반환 DTO
     public ParkingStatusDto getParkingStatus() {
 
         checkRoleUtils.validateAdminAccess();
-        long activeCount = countActiveVehicles();
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        Long apartmentId = principal != null ? principal.apartmentId() : null;
+
+        int capacity = parkingOccupancyService.getCapacity(apartmentId);
+        long activeCount = parkingOccupancyService.getOccupancy(apartmentId);
         return ParkingStatusDto.builder()
-                .totalCapacity(parkingProperties.getMaxCapacity())
+                .totalCapacity(capacity)
                 .activeCount(activeCount)
-                .remainingSpace(parkingProperties.getMaxCapacity() - (int) activeCount)
+                .remainingSpace(capacity - (int) activeCount)
+                .build();
+    }
+
+    // 관리자 소속 아파트의 주차 대시보드 (현황 + 오늘 점유 추이 + 기간 통계)
+    public ParkingDashboardDto getParkingDashboard(LocalDate from, LocalDate to) {
+        ParkingStatusDto status = getParkingStatus();
+        Long apartmentId = SecurityUtil.getCurrentPrincipal().apartmentId();
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        validateStatsRange(start, end);
+
+        return ParkingDashboardDto.builder()
+                .status(status)
+                .today(parkingStatsService.getOccupancySeries(apartmentId, LocalDate.now()))
+                .daily(parkingStatsService.getDailyStats(apartmentId, start, end))
                 .build();
     }
 
+    // 하루 5분 단위 점유 추이
+    public ParkingOccupancySeriesDto getParkingOccupancySeries(LocalDate date) {
+        checkRoleUtils.validateAdminAccess();
+        Long apartmentId = SecurityUtil.getCurrentPrincipal().apartmentId();
+        LocalDate target = date != null ? date : LocalDate.now();
+        if (target.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("미래 날짜는 조회할 수 없습니다.");
+        }
+        return parkingStatsService.getOccupancySeries(apartmentId, target);
+    }
+
+    // 기간별 하루 통계
+    public List<ParkingDailyStatDto> getParkingDailyStats(LocalDate from, LocalDate to) {
+        checkRoleUtils.validateAdminAccess();
+        Long apartmentId = SecurityUtil.getCurrentPrincipal().apartmentId();
+        validateStatsRange(from, to);
+        return parkingStatsService.getDailyStats(apartmentId, from, to);
+    }
+
+    // 관리자 소속 아파트의 주차 구역과 구역별 배정 현황
+    public List<ParkingZoneResponseDto> getParkingZones() {
+        checkRoleUtils.validateAdminAccess();
+        return parkingSlotService.getZones(SecurityUtil.getCurrentPrincipal().apartmentId());
+    }
+
+    public ParkingZoneResponseDto createParkingZone(ParkingZoneRequestDto dto) {
+        checkRoleUtils.validateAdminAccess();
+        return parkingSlotService.createZone(SecurityUtil.getCurrentPrincipal().apartmentId(), dto);
+    }
+
+    public void deleteParkingZone(Long zoneId) {
+        checkRoleUtils.validateAdminAccess();
+        parkingSlotService.deleteZone(SecurityUtil.getCurrentPrincipal().apartmentId(), zoneId);
+    }
+
+    // 동별 입주민 차량 배정 한도 변경 (음수면 한도 해제)
+    public void updateBuildingQuota(Long buildingId, int quota) {
+        checkRoleUtils.validateAdminAccess();
+        parkingSlotService.updateBuildingQuota(SecurityUtil.getCurrentPrincipal().apartmentId(), buildingId, quota);
+    }
+
+    private static void validateStatsRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간을 입력해주세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > 366) {
+            throw new IllegalArgumentException("통계는 최대 1년까지 조회할 수 있습니다.");
+        }
+    }
+
+    // 관리자용 번호판 검색 (정규화/오인식 허용, 인메모리 인덱스 조회)
+    public List<VehiclePlateSearchResultDto> searchByPlate(String plate, int limit) {
+        checkRoleUtils.validateManagerAccess();
+        if (plate == null || plate.isBlank()) {
+            throw new IllegalArgumentException("검색할 차량 번호를 입력해주세요.");
+        }
+
+        // 관리자(ADMIN)가 아니면 소속 아파트 차량만
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        Long apartmentId = principal.isAdmin() ? null : principal.apartmentId();
+
+        return vehiclePlateIndex.search(plate, Math.min(Math.max(limit, 1), 50)).stream()
+                .filter(match -> apartmentId == null || apartmentId.equals(match.vehicle().apartmentId()))
+                .map(VehiclePlateSearchResultDto::from)
+                .collect(Collectors.toList());
+    }
+
     public List<Vehicle> getVehiclesByUserId(Long userId) {
         return vehicleRepository.findByUserId(userId);
     }
@@ -405,26 +519,28 @@ public class VehicleService {
     @Transactional(readOnly = true)
     public List<VehicleRegistrationInfoDto> getForeignsVehicleRegistrationInfo() {
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime yesterday = now.minusHours(24);
-
-
-        List<EntryRecord> entryRecords = entryRecordRepository.findByVehicleIsForeignWithVehicleAndUser(true);
-
-
-        return entryRecords.stream()
-                .filter(er -> er.getVehicle().getCreatedAt() != null
-                        && er.getVehicle().getCreatedAt().isAfter(yesterday))
-                .map(er -> VehicleRegistrationInfoDto.from(er.getVehicle(), er))
-                .collect(Collectors.toList());
+        // 최근 24시간 이내 등록된 외부 차량
+        return findRegistrations(VehicleRegistrationSearchCondition.builder()
+                .isForeign(true)
+                .registeredFrom(LocalDateTime.now().minusHours(24))
+                .build());
     }
 
 
-    //  런타임에 maxCapacity를 변경하고 싶을 때 호출할 메서드
-    public void updateMaxCapacity(int newCapacity) {
+    //  아파트 주차장 수용량 변경 (DB 에 저장되어 재시작/다른 인스턴스에도 유지)
+    //  apartmentId가 없으면 관리자 소속 아파트의 수용량을 변경한다 (기본 수용량은 parking.max-capacity 설정)
+    @Transactional
+    public void updateMaxCapacity(Long apartmentId, int newCapacity) {
         checkRoleUtils.validateAdminAccess();
-        // yml에서 주입된 기본값을 덮어쓴다
-        parkingProperties.setMaxCapacity(newCapacity);
+        if (newCapacity < 0) {
+            throw new IllegalArgumentException("주차장 수용량은 0 이상이어야 합니다.");
+        }
+        CurrentPrincipal principal = SecurityUtil.getCurrentPrincipal();
+        Long targetApartmentId = apartmentId != null ? apartmentId : principal != null ? principal.apartmentId() : null;
+        if (targetApartmentId == null) {
+            throw new IllegalArgumentException("아파트 정보가 없습니다.");
+        }
+        parkingOccupancyService.updateCapacity(targetApartmentId, newCapacity);
     }
 
 
@@ -0,0 +1,389 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.vehicle.entity.EntryRecord;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingProperties;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import com.ohammer.apartner.domain.vehicle.repository.EntryRecordRepository;
+import com.ohammer.apartner.domain.vehicle.service.ParkingStatsService.ParkingMovement;
+import com.ohammer.apartner.global.service.AlarmService;
+import com.ohammer.apartner.global.util.TransactionUtils;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방문 차량 승인 만료와 장기 주차 처리.
+ * 방문 차량을 등록하거나 입차할 때 처리할 시각을 점수로 하는 Redis 정렬 집합(지연 큐)에 작업을 넣어 두고,
+ * 시각이 지난 작업만 꺼내 처리하므로 출입 기록 전체를 주기적으로 훑지 않습니다.
+ * 꺼내기는 Lua 스크립트로 조회와 삭제를 한 번에 하므로 여러 인스턴스가 같은 작업을 두 번 처리하지 않습니다.
+ * 처리 시점에 출입 기록을 다시 확인하므로 그사이 입차/출차/거절된 기록은 건너뜁니다.
+ * - 등록 후 approvalTtlMinutes 안에 입차하지 않은 방문 요청은 거절(INAGREE)로 만료
+ * - 입차 후 overstayMinutes 를 넘기면 장기 주차로 한 번 알림
+ * - 입차 후 autoExitMinutes 를 넘기면 출차 처리하고 점유 자리를 반납
+ * 알림은 처리 주기마다 초대자별/아파트별로 한 건씩 묶어 보냅니다.
+ * 시작 시 끝나지 않은 방문 기록으로 큐를 다시 채웁니다 (같은 작업은 시각만 덮어쓰므로 인스턴스 수와 관계없이 한 건).
+ * 처리에 실패한 작업은 잠시 뒤의 시각으로 큐에 다시 넣습니다.
+ */
+@Slf4j
+@Service
+public class VisitorExpiryService {
+
+    // 장기 주차 알림을 이미 보낸 출입 기록 (재시작/다중 인스턴스에서 중복 알림 방지)
+    private static final String OVERSTAY_NOTIFIED_KEY_PREFIX = "parking:visitor:overstay:";
+    private static final String QUEUE_KEY = "parking:visitor:jobs";
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    private static final Set<EntryRecord.Status> OPEN_STATUSES =
+            EnumSet.of(EntryRecord.Status.PENDING, EntryRecord.Status.INVITER_AGREE, EntryRecord.Status.AGREE);
+
+    // 같은 기록에 여러 작업이 함께 꺼내지면 선언 순서대로 처리 (자동 출차가 장기 주차 알림보다 우선)
+    enum Kind {
+        APPROVAL_EXPIRY,
+        AUTO_EXIT,
+        OVERSTAY
+    }
+
+    // KEYS[1]=지연 큐, ARGV[1]=현재 시각(epoch ms), ARGV[2]=최대 개수
+    // 실행 시각이 된 작업을 꺼내면서 큐에서 제거
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = RedisScript.of(
+            "local jobs = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "if #jobs > 0 then redis.call('ZREM', KEYS[1], unpack(jobs)) end " +
+            "return jobs",
+            List.class);
+
+    // 큐 항목 "작업 종류:출입 기록 ID"
+    private record ExpiryTask(Long entryRecordId, Kind kind) {
+
+        String member() {
+            return kind.name() + ":" + entryRecordId;
+        }
+
+        static ExpiryTask parse(String member) {
+            int sep = member.indexOf(':');
+            return new ExpiryTask(Long.valueOf(member.substring(sep + 1)), Kind.valueOf(member.substring(0, sep)));
+        }
+    }
+
+    private record VisitorNotice(Long inviterId, Long apartmentId, String vehicleNum, Kind kind) {
+    }
+
+    private final EntryRecordRepository entryRecordRepository;
+    private final ParkingOccupancyService parkingOccupancyService;
+    private final ParkingSlotService parkingSlotService;
+    private final ParkingStatsService parkingStatsService;
+    private final ParkingProperties parkingProperties;
+    private final AlarmService alarmService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public VisitorExpiryService(EntryRecordRepository entryRecordRepository,
+                                ParkingOccupancyService parkingOccupancyService,
+                                ParkingSlotService parkingSlotService,
+                                ParkingStatsService parkingStatsService,
+                                ParkingProperties parkingProperties,
+                                AlarmService alarmService,
+                                RedisTemplate<String, String> redisTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.entryRecordRepository = entryRecordRepository;
+        this.parkingOccupancyService = parkingOccupancyService;
+        this.parkingSlotService = parkingSlotService;
+        this.parkingStatsService = parkingStatsService;
+        this.parkingProperties = parkingProperties;
+        this.alarmService = alarmService;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 끝나지 않은 방문 기록으로 대기열 복구 (이미 있는 작업은 시각만 덮어씀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            List<Object[]> rows = transactionTemplate.execute(status ->
+                    entryRecordRepository.findOpenVisitorRecordTimes(OPEN_STATUSES));
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+            Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+            for (Object[] row : rows) {
+                Long entryRecordId = (Long) row[0];
+                LocalDateTime createdAt = (LocalDateTime) row[1];
+                LocalDateTime entryTime = (LocalDateTime) row[2];
+                if (entryTime == null) {
+                    addRegistrationJob(jobs, entryRecordId, createdAt);
+                } else {
+                    addParkedJobs(jobs, entryRecordId, entryTime);
+                }
+            }
+            redisTemplate.opsForZSet().add(QUEUE_KEY, jobs);
+            log.info("[VisitorExpiry] 방문 차량 만료 대기열 복구: records={}, tasks={}", rows.size(), jobs.size());
+        } catch (Exception e) {
+            log.error("[VisitorExpiry] 방문 차량 만료 대기열 복구 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 방문 차량 등록 시 승인 만료를 예약합니다. 트랜잭션 안에서 호출되면 커밋 이후에 예약합니다.
+     */
+    public void scheduleRegistration(Long entryRecordId, LocalDateTime registeredAt) {
+        TransactionUtils.afterCommit(() -> {
+            Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+            addRegistrationJob(jobs, entryRecordId, registeredAt);
+            offer(entryRecordId, jobs);
+        });
+    }
+
+    /**
+     * 방문 차량 입차 시 장기 주차 알림과 자동 출차를 예약합니다. 트랜잭션 안에서 호출되면 커밋 이후에 예약합니다.
+     */
+    public void scheduleParked(Long entryRecordId, LocalDateTime entryTime) {
+        TransactionUtils.afterCommit(() -> {
+            Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+            addParkedJobs(jobs, entryRecordId, entryTime);
+            offer(entryRecordId, jobs);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${parking.visitor.poll-interval-ms:10000}")
+    public void processDue() {
+        int batchSize = Math.max(1, parkingProperties.getVisitor().getBatchSize());
+        while (true) {
+            List<ExpiryTask> due;
+            try {
+                // 기한이 지난 작업만 꺼내짐 (꺼낸 작업은 다른 인스턴스가 다시 꺼내지 않음)
+                due = popDue(batchSize);
+            } catch (Exception e) {
+                log.warn("[VisitorExpiry] 방문 차량 만료 대기열 조회 실패: error={}", e.getMessage());
+                return;
+            }
+            if (due.isEmpty()) {
+                return;
+            }
+            try {
+                process(due);
+            } catch (Exception e) {
+                log.error("[VisitorExpiry] 방문 차량 만료 처리 실패, 잠시 후 재시도: tasks={}, error={}", due.size(), e.getMessage());
+                retryLater(due);
+                return;
+            }
+            if (due.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ExpiryTask> popDue(int batchSize) {
+        List<String> members = redisTemplate.execute(POP_DUE_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(batchSize));
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(ExpiryTask::parse).toList();
+    }
+
+    private void retryLater(List<ExpiryTask> tasks) {
+        double retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+        Set<ZSetOperations.TypedTuple<String>> jobs = new HashSet<>();
+        tasks.forEach(task -> jobs.add(new DefaultTypedTuple<>(task.member(), retryAt)));
+        try {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, jobs);
+        } catch (Exception e) {
+            // 다음 기동 때 끝나지 않은 방문 기록으로 다시 채워짐
+            log.error("[VisitorExpiry] 방문 차량 만료 작업 재등록 실패: tasks={}, error={}", tasks.size(), e.getMessage());
+        }
+    }
+
+    private void process(List<ExpiryTask> tasks) {
+        Map<Long, List<Kind>> kindsByRecord = tasks.stream()
+                .collect(Collectors.groupingBy(ExpiryTask::entryRecordId,
+                        Collectors.mapping(ExpiryTask::kind, Collectors.toList())));
+        List<VisitorNotice> notices = new ArrayList<>();
+        List<ParkingMovement> exits = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (EntryRecord record : entryRecordRepository.findAllWithVehicleAndUserByIdIn(kindsByRecord.keySet())) {
+                Vehicle vehicle = record.getVehicle();
+                if (!Boolean.TRUE.equals(vehicle.getIsForeign()) || record.getExitTime() != null) {
+                    continue;
+                }
+                User inviter = vehicle.getUser();
+                Long inviterId = inviter != null ? inviter.getId() : null;
+                Long apartmentId = inviter != null && inviter.getApartment() != null ? inviter.getApartment().getId() : null;
+
+                List<Kind> kinds = kindsByRecord.get(record.getId()).stream()
+                        .distinct()
+                        .sorted(Comparator.naturalOrder())
+                        .toList();
+                for (Kind kind : kinds) {
+                    if (apply(record, kind, now, apartmentId, exits)) {
+                        notices.add(new VisitorNotice(inviterId, apartmentId, vehicle.getVehicleNum(), kind));
+                    }
+                }
+            }
+        });
+
+        // 커밋된 자동 출차만큼 자리 반납 후 통계 반영
+        for (ParkingMovement exit : exits) {
+            parkingOccupancyService.release(exit.apartmentId());
+            parkingStatsService.publish(exit);
+        }
+        sendNotices(notices);
+    }
+
+    private boolean apply(EntryRecord record, Kind kind, LocalDateTime now, Long apartmentId,
+                          List<ParkingMovement> exits) {
+        boolean parked = record.getStatus() == EntryRecord.Status.AGREE
+                && record.getEntryTime() != null
+                && record.getExitTime() == null;
+        switch (kind) {
+            case APPROVAL_EXPIRY:
+                if (record.getEntryTime() != null || !OPEN_STATUSES.contains(record.getStatus())) {
+                    return false;
+                }
+                record.setStatus(EntryRecord.Status.INAGREE);
+                return true;
+            case AUTO_EXIT:
+                // 수동 출차/게이트 출차가 먼저 닫았으면 자리를 다시 반납하지 않음
+                if (!parked || entryRecordRepository.closeIfParked(record.getId(), now) == 0) {
+                    return false;
+                }
+                record.setExitTime(now);
+                record.getVehicle().setStatus(Vehicle.Status.INACTIVE);
+                // 커밋되면 배정된 자리 반납
+                parkingSlotService.release(record);
+                exits.add(ParkingMovement.exited(apartmentId, true, record.getEntryTime(), now));
+                return true;
+            case OVERSTAY:
+                return parked && markOverstayNotified(record.getId());
+            default:
+                return false;
+        }
+    }
+
+    // 처음 알리는 경우에만 true
+    // 트랜잭션이 롤백되면 알림도 나가지 않으므로 기록을 지워 다음 처리에서 다시 알림
+    private boolean markOverstayNotified(Long entryRecordId) {
+        String key = OVERSTAY_NOTIFIED_KEY_PREFIX + entryRecordId;
+        try {
+            ParkingProperties.Visitor visitor = parkingProperties.getVisitor();
+            long ttlMinutes = Math.max(visitor.getAutoExitMinutes(), visitor.getOverstayMinutes()) + 1440;
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(key, "1", Duration.ofMinutes(ttlMinutes));
+            if (!Boolean.TRUE.equals(first)) {
+                return false;
+            }
+            TransactionUtils.afterRollback(() -> clearOverstayNotified(key));
+            return true;
+        } catch (Exception e) {
+            // Redis 장애 시에는 중복 알림을 감수
+            log.warn("[VisitorExpiry] 장기 주차 알림 기록 실패: entryRecordId={}, error={}", entryRecordId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void clearOverstayNotified(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("[VisitorExpiry] 장기 주차 알림 기록 삭제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void sendNotices(List<VisitorNotice> notices) {
+        if (notices.isEmpty()) {
+            return;
+        }
+        Map<Long, List<VisitorNotice>> byInviter = new LinkedHashMap<>();
+        Map<Long, int[]> countsByApartment = new HashMap<>();
+        for (VisitorNotice notice : notices) {
+            if (notice.inviterId() != null) {
+                byInviter.computeIfAbsent(notice.inviterId(), k -> new ArrayList<>()).add(notice);
+            }
+            if (notice.apartmentId() != null && notice.kind() != Kind.APPROVAL_EXPIRY) {
+                countsByApartment.computeIfAbsent(notice.apartmentId(), k -> new int[2])[notice.kind() == Kind.OVERSTAY ? 0 : 1]++;
+            }
+        }
+
+        byInviter.forEach((inviterId, inviterNotices) -> {
+            try {
+                String details = inviterNotices.stream()
+                        .map(n -> String.format("[%s] %s", n.vehicleNum(), describe(n.kind())))
+                        .collect(Collectors.joining(", "));
+                String message = String.format("초대한 방문차량 %d건: %s", inviterNotices.size(), details);
+                alarmService.notifyUser(inviterId, inviterNotices.get(0).apartmentId(), "방문차량 알림", "warning",
+                        "vehicle", message, null, null, null, null);
+            } catch (Exception e) {
+                log.warn("[VisitorExpiry] 초대자 알림 실패: inviterId={}, error={}", inviterId, e.getMessage());
+            }
+        });
+
+        countsByApartment.forEach((apartmentId, counts) -> {
+            try {
+                String adminMessage = String.format("방문차량 장기 주차 %d대, 자동 출차 %d대", counts[0], counts[1]);
+                alarmService.notifyApartmentAdmins(apartmentId, "방문차량 장기 주차", "warning", "vehicle", adminMessage,
+                        null, null, null, null);
+            } catch (Exception e) {
+                log.warn("[VisitorExpiry] 관리자 알림 실패: apartmentId={}, error={}", apartmentId, e.getMessage());
+            }
+        });
+    }
+
+    private static String describe(Kind kind) {
+        return switch (kind) {
+            case APPROVAL_EXPIRY -> "입차하지 않아 방문 승인 만료";
+            case OVERSTAY -> "장기 주차 중";
+            case AUTO_EXIT -> "장기 주차로 출차 처리";
+        };
+    }
+
+    private void addRegistrationJob(Set<ZSetOperations.TypedTuple<String>> jobs, Long entryRecordId,
+                                    LocalDateTime registeredAt) {
+        LocalDateTime base = registeredAt != null ? registeredAt : LocalDateTime.now();
+        addJob(jobs, entryRecordId, Kind.APPROVAL_EXPIRY, base.plusMinutes(parkingProperties.getVisitor().getApprovalTtlMinutes()));
+    }
+
+    private void addParkedJobs(Set<ZSetOperations.TypedTuple<String>> jobs, Long entryRecordId, LocalDateTime entryTime) {
+        ParkingProperties.Visitor visitor = parkingProperties.getVisitor();
+        addJob(jobs, entryRecordId, Kind.OVERSTAY, entryTime.plusMinutes(visitor.getOverstayMinutes()));
+        if (visitor.getAutoExitMinutes() > 0) {
+            addJob(jobs, entryRecordId, Kind.AUTO_EXIT, entryTime.plusMinutes(visitor.getAutoExitMinutes()));
+        }
+    }
+
+    private static void addJob(Set<ZSetOperations.TypedTuple<String>> jobs, Long entryRecordId, Kind kind,
+                               LocalDateTime dueAt) {
+        double dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        jobs.add(new DefaultTypedTuple<>(new ExpiryTask(entryRecordId, kind).member(), dueAtMillis));
+    }
+
+    private void offer(Long entryRecordId, Set<ZSetOperations.TypedTuple<String>> jobs) {
+        try {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, jobs);
+        } catch (Exception e) {
+            // 다음 기동 때 끝나지 않은 방문 기록으로 다시 채워짐
+            log.warn("[VisitorExpiry] 방문 차량 만료 작업 등록 실패: entryRecordId={}, error={}", entryRecordId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ohammer.apartner.domain.vehicle.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PlateNumberUtils {
+
+    // (지역명)? 앞자리 2~3자리 + 한글 1자 + 뒷자리 4자리 (예: 12가3456, 123가4567, 서울12가3456)
+    private static final Pattern KOREAN_PLATE = Pattern.compile("^([가-힣]{2})?(\\d{2,3})([가-힣])(\\d{4})$");
+    private static final Pattern NON_PLATE_CHARS = Pattern.compile("[^0-9A-Z가-힣]");
+
+    private PlateNumberUtils() {
+    }
+
+    // 전각 문자/공백/하이픈 등을 정리한 표기 (예: "서울 12-가 3456" -> "서울12가3456")
+    public static String canonical(String vehicleNum) {
+        if (vehicleNum == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(vehicleNum, Normalizer.Form.NFKC).toUpperCase(Locale.ROOT);
+        return NON_PLATE_CHARS.matcher(normalized).replaceAll("");
+    }
+
+    // 인덱스 키: 번호판 형식이면 지역명을 뗀 "숫자+한글+숫자", 아니면 정리한 표기 그대로
+    public static String key(String vehicleNum) {
+        String canonical = canonical(vehicleNum);
+        Matcher matcher = KOREAN_PLATE.matcher(canonical);
+        if (matcher.matches()) {
+            return matcher.group(2) + matcher.group(3) + matcher.group(4);
+        }
+        return canonical;
+    }
+
+    // OCR 이 자주 혼동하는 문자를 대표 문자로 바꾼 형태 (8/B, 0/D/O/Q, 1/I/L, 2/Z, 5/S, 6/G)
+    public static String skeleton(String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            sb.append(switch (c) {
+                case 'B' -> '8';
+                case 'D', 'O', 'Q' -> '0';
+                case 'I', 'L' -> '1';
+                case 'Z' -> '2';
+                case 'S' -> '5';
+                case 'G' -> '6';
+                default -> c;
+            });
+        }
+        return sb.toString();
+    }
+
+    // 혼동 문자를 바꾼 뒤 다시 키로 정리 (예: "서울12가345B" -> "12가3458")
+    public static String skeletonKey(String key) {
+        return key(skeleton(key));
+    }
+
+    // 두 문자열의 편집 거리(삽입/삭제/치환)가 1 이하인지
+    public static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1) {
+            return false;
+        }
+        String shorter = lengthDiff <= 0 ? a : b;
+        String longer = lengthDiff <= 0 ? b : a;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < shorter.length() && j < longer.length()) {
+            if (shorter.charAt(i) == longer.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (edited) {
+                return false;
+            }
+            edited = true;
+            if (shorter.length() == longer.length()) {
+                i++;
+            }
+            j++;
+        }
+        return !edited || j == longer.length();
+    }
+}
@@ -0,0 +1,248 @@
+package com.ohammer.apartner.global.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohammer.apartner.config.IdempotencyProperties;
+import com.ohammer.apartner.global.exception.DuplicateResourceException;
+import com.ohammer.apartner.global.exception.ServiceUnavailableException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 멱등 키 기반 요청 중복 제거.
+ * 클라이언트가 Idempotency-Key 헤더를 보내면 (범위, 요청 주체, 키) 단위로 첫 요청만 실행하고 응답을 짧게 보관해,
+ * 재전송(더블 탭, 게이트 네트워크 재시도)에는 DB 조회나 알림 없이 보관한 응답을 그대로 돌려줍니다.
+ * 같은 키로 내용이 다른 요청이 오면 거절하고, 첫 요청이 실패하면 키를 지워 다시 시도할 수 있게 합니다.
+ * 요청 주체는 호출하는 쪽이 정합니다 (인증 없이 호출되는 입출차/게이트 API 는 전화번호, 게이트 ID 등).
+ * 응답은 Redis 에 JSON 으로 보관하며, 처음부터 Redis 를 쓸 수 없으면 인스턴스 메모리에 보관합니다.
+ * 다른 요청이 이미 키를 잡은 뒤에 Redis 오류가 나면 첫 요청이 아직 실행 중일 수 있으므로 메모리로 다시 실행하지 않고 503 으로 거절합니다.
+ * 트랜잭션이 커밋된 뒤의 응답을 보관하도록 트랜잭션 밖(컨트롤러 등)에서 호출해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_\\-:.]{1,100}");
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    // 메모리 보관 항목이 이 크기를 넘으면 만료된 항목을 정리
+    private static final int LOCAL_PURGE_THRESHOLD = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final Map<String, LocalEntry> localEntries = new ConcurrentHashMap<>();
+
+    // Redis 보관 형식 (response 는 응답 JSON, 처리 중이면 null). Jackson 역직렬화를 위해 private 아님
+    record StoredEntry(String fingerprint, String response) {
+    }
+
+    private record LocalEntry(String fingerprint, Object response, long expiresAtMillis) {
+
+        boolean expired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+
+    /**
+     * idempotencyKey 가 없으면 command 를 그대로 실행합니다.
+     * 있으면 처음 한 번만 실행하고, 이후 같은 키의 요청에는 보관한 응답을 반환합니다.
+     */
+    public <T> T execute(String scope, String subject, String idempotencyKey, Object request, Class<T> responseType,
+                         Supplier<T> command) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return command.get();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new IllegalArgumentException("Idempotency-Key 는 100자 이하의 영문, 숫자, -, _, :, . 만 사용할 수 있습니다.");
+        }
+        // 전화번호 등이 키에 그대로 남지 않도록 요청 주체는 해시해서 사용
+        String key = KEY_PREFIX + scope + ":" + hash(subject != null ? subject : "anonymous") + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        try {
+            return executeWithRedis(key, fingerprint, responseType, command, true);
+        } catch (RedisUnavailableException e) {
+            log.warn("[Idempotency] Redis 사용 불가, 메모리로 처리: key={}, error={}", key, e.getMessage());
+            return executeLocally(key, fingerprint, responseType, command);
+        }
+    }
+
+    // firstAttempt 가 아니면 다른 요청이 키를 잡았던 뒤이므로 Redis 오류를 메모리 처리로 넘기지 않음
+    private <T> T executeWithRedis(String key, String fingerprint, Class<T> responseType, Supplier<T> command,
+                                   boolean firstAttempt) {
+        Duration inProgressTtl = Duration.ofSeconds(idempotencyProperties.getInProgressTtlSeconds());
+        String pending = write(new StoredEntry(fingerprint, null));
+        Supplier<Boolean> claim = () -> redisTemplate.opsForValue().setIfAbsent(key, pending, inProgressTtl);
+        if (Boolean.TRUE.equals(firstAttempt ? redis(claim) : unavailableOnError(claim))) {
+            // 여기부터는 명령이 실행되므로 Redis 오류가 나도 메모리 처리로 넘기지 않음 (중복 실행 방지)
+            T result;
+            try {
+                result = command.get();
+            } catch (RuntimeException e) {
+                deleteQuietly(key);
+                throw e;
+            }
+            try {
+                redisTemplate.opsForValue().set(key, write(new StoredEntry(fingerprint, write(result))),
+                        Duration.ofSeconds(idempotencyProperties.getTtlSeconds()));
+            } catch (RuntimeException e) {
+                log.warn("[Idempotency] 응답 보관 실패: key={}, error={}", key, e.getMessage());
+            }
+            return result;
+        }
+
+        long deadline = System.currentTimeMillis() + idempotencyProperties.getWaitMillis();
+        while (true) {
+            String value = unavailableOnError(() -> redisTemplate.opsForValue().get(key));
+            if (value == null) {
+                // 첫 요청이 실패해 키가 지워졌으면 이번 요청을 새로 처리
+                return executeWithRedis(key, fingerprint, responseType, command, false);
+            }
+            StoredEntry entry = read(value, StoredEntry.class);
+            checkFingerprint(entry.fingerprint(), fingerprint);
+            if (entry.response() != null) {
+                return read(entry.response(), responseType);
+            }
+            waitOrGiveUp(deadline);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            // 처리 중 표시는 inProgressTtlSeconds 뒤에 만료됨
+            log.warn("[Idempotency] 키 삭제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private <T> T executeLocally(String key, String fingerprint, Class<T> responseType, Supplier<T> command) {
+        if (localEntries.size() > LOCAL_PURGE_THRESHOLD) {
+            localEntries.values().removeIf(LocalEntry::expired);
+        }
+        long inProgressExpiry = System.currentTimeMillis() + idempotencyProperties.getInProgressTtlSeconds() * 1000;
+        LocalEntry pending = new LocalEntry(fingerprint, null, inProgressExpiry);
+        LocalEntry existing = localEntries.compute(key, (k, current) ->
+                current == null || current.expired() ? pending : current);
+
+        if (existing == pending) {
+            T result;
+            try {
+                result = command.get();
+            } catch (RuntimeException e) {
+                localEntries.remove(key, pending);
+                throw e;
+            }
+            long expiry = System.currentTimeMillis() + idempotencyProperties.getTtlSeconds() * 1000;
+            localEntries.put(key, new LocalEntry(fingerprint, result, expiry));
+            return result;
+        }
+
+        long deadline = System.currentTimeMillis() + idempotencyProperties.getWaitMillis();
+        while (true) {
+            LocalEntry entry = localEntries.get(key);
+            if (entry == null || entry.expired()) {
+                return executeLocally(key, fingerprint, responseType, command);
+            }
+            checkFingerprint(entry.fingerprint(), fingerprint);
+            if (entry.response() != null) {
+                return responseType.cast(entry.response());
+            }
+            waitOrGiveUp(deadline);
+        }
+    }
+
+    private static void checkFingerprint(String stored, String current) {
+        if (!stored.equals(current)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private static void waitOrGiveUp(long deadline) {
+        if (System.currentTimeMillis() >= deadline) {
+            throw new DuplicateResourceException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateResourceException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청 식별값을 만들 수 없습니다.", e);
+        }
+    }
+
+    private static String hash(String subject) {
+        return sha256(subject.getBytes(StandardCharsets.UTF_8)).substring(0, 32);
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 식별값을 만들 수 없습니다.", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T read(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 명령 실행 전 Redis 호출 실패를 구분해 메모리 처리로 넘기기 위한 래퍼
+    private static <R> R redis(Supplier<R> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            throw new RedisUnavailableException(e);
+        }
+    }
+
+    // 다른 요청이 키를 잡은 뒤의 Redis 호출 실패 (첫 요청이 실행 중일 수 있으므로 중복 실행하지 않고 거절)
+    private static <R> R unavailableOnError(Supplier<R> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            log.warn("[Idempotency] 처리 중인 요청 확인 실패: error={}", e.getMessage());
+            throw new ServiceUnavailableException("요청 상태를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    private static class RedisUnavailableException extends RuntimeException {
+
+        RedisUnavailableException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
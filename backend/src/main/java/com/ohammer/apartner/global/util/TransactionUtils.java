@@ -0,0 +1,54 @@
+package com.ohammer.apartner.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 결과에 맞춰 Redis 캐시/카운터, 알림 같은 트랜잭션 밖 작업을 실행하는 유틸리티
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    // 트랜잭션 안이면 커밋 이후에 실행 (롤백되면 실행하지 않음), 밖이면 바로 실행
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    // 트랜잭션이 롤백되면 실행, 트랜잭션 밖이면 아무것도 하지 않음
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    // 트랜잭션이 끝나면(커밋/롤백 모두) 실행, 트랜잭션 밖이면 바로 실행
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.ohammer.apartner.security;
+
+import com.ohammer.apartner.domain.apartment.entity.Apartment;
+import com.ohammer.apartner.domain.apartment.entity.Building;
+import com.ohammer.apartner.domain.user.entity.Role;
+import com.ohammer.apartner.domain.user.entity.User;
+import java.util.Set;
+
+/**
+ * 요청 단위로 한 번만 만들어지는 현재 로그인 사용자의 불변 요약 정보.
+ * 인증 시점(JwtAuthFilter)에 생성되어 SecurityContext 에 보관되므로,
+ * 서비스에서 반복 호출해도 DB 접근이나 지연 로딩이 발생하지 않습니다.
+ */
+public record CurrentPrincipal(
+        Long id,
+        String email,
+        String userName,
+        Set<Role> roles,
+        Long apartmentId,
+        Long buildingId
+) {
+
+    public CurrentPrincipal {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    // 아파트/동은 LAZY 연관이지만 프록시의 식별자 조회는 초기화를 일으키지 않음
+    public static CurrentPrincipal from(User user) {
+        Apartment apartment = user.getApartment();
+        Building building = user.getBuilding();
+        return new CurrentPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getUserName(),
+                user.getRoles(),
+                apartment != null ? apartment.getId() : null,
+                building != null ? building.getId() : null
+        );
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    public boolean isAdmin() {
+        return roles.contains(Role.ADMIN);
+    }
+
+    public boolean isAdminOrManager() {
+        return roles.contains(Role.ADMIN) || roles.contains(Role.MANAGER);
+    }
+}
@@ -14,10 +14,11 @@ import java.util.stream.Collectors;
 @Getter
 public class CustomUserDetails implements UserDetails {
     private final User user;
+    private final CurrentPrincipal principal;
 
     public CustomUserDetails(User user) {
         this.user = user;
-        System.out.println("💡 [DEBUG] 유저 생성됨: roles = " + user.getRoles());
+        this.principal = CurrentPrincipal.from(user);
     }
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -1,5 +1,6 @@
 package com.ohammer.apartner.security.OAuth;
 
+import com.ohammer.apartner.domain.image.service.SocialProfileSyncService;
 import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.domain.user.entity.UserLog;
 import com.ohammer.apartner.domain.user.repository.UserLogRepository;
@@ -32,6 +33,7 @@ public class CustomOAuth2SuccessHandler extends SavedRequestAwareAuthenticationS
     private final AuthService authService;
     private final CustomRequest customRequest;
     private final UserLogRepository userLogRepository;
+    private final SocialProfileSyncService socialProfileSyncService;
 
     @SneakyThrows
     @Override
@@ -115,6 +117,8 @@ public class CustomOAuth2SuccessHandler extends SavedRequestAwareAuthenticationS
             switch (existingUser.getStatus()) {
                 case ACTIVE:
                     customRequest.makeAuthCookies(existingUser);
+                    // 프로필 이미지 갱신은 리다이렉트를 기다리게 하지 않도록 비동기로 처리
+                    socialProfileSyncService.requestSync(existingUser.getId(), profileImage);
                     log.info("[KakaoLogin] 기존 ACTIVE 사용자 로그인. JWT 쿠키 생성: {}. 이메일: {}",
                             existingUser.getSocialId(), existingUser.getEmail() != null ? existingUser.getEmail() : "N/A");
                     
@@ -168,7 +168,7 @@ public class CustomRequest {
         // JWT 토큰 발급 및 쿠키에 저장
         String accessToken = authService.genAccessToken(user);
         String refreshToken = authService.genRefreshToken(user);
-        authService.addRefreshToken(user, refreshToken); // 리프레시 토큰 DB에 저장
+        authService.updateLastLoginAt(user); // 리프레시 토큰 세션은 Redis에 저장
         
         // accessToken 쿠키 설정
         setCookie("accessToken", accessToken, JwtTokenizer.ACCESS_TOKEN_EXPIRE_COUNT);
@@ -0,0 +1,23 @@
+package com.ohammer.apartner.security.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 로그인 실패 제한(슬라이딩 윈도우) 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.login-attempt")
+public class LoginAttemptProperties {
+
+    // 윈도우 내 계정(이메일)별 최대 실패 횟수
+    private int maxFailuresPerAccount = 5;
+
+    // 윈도우 내 IP별 최대 실패 횟수
+    private int maxFailuresPerIp = 20;
+
+    // 슬라이딩 윈도우 크기 (초)
+    private long windowSeconds = 600;
+}
@@ -0,0 +1,141 @@
+package com.ohammer.apartner.security.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+/**
+ * 신뢰하는 프록시에서 온 요청에만 {@link ForwardedHeaderFilter} 를 적용해 getRemoteAddr() 를 원래 클라이언트 주소로 바꿉니다.
+ * 클라이언트가 직접 보낸 X-Forwarded-For 는 무시하고, 프록시가 덧붙인 주소를 오른쪽부터 확인해
+ * 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 봅니다. (맨 왼쪽 값은 클라이언트가 임의로 넣을 수 있음)
+ * Forwarded(RFC 7239) 헤더는 프록시가 설정하지 않으므로 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TrustedProxyForwardedHeaderFilter extends ForwardedHeaderFilter {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String FORWARDED = "Forwarded";
+
+    // 호스트 이름 조회(DNS)를 막기 위해 IP 리터럴만 허용
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F.:]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public TrustedProxyForwardedHeaderFilter(TrustedProxyProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        log.info("[ForwardedHeader] 신뢰하는 프록시: {}", properties.getTrustedProxies());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isTrusted(request.getRemoteAddr());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        super.doFilterInternal(new ClientAddressRequest(request, clientAddress(request)), response, filterChain);
+    }
+
+    // X-Forwarded-For 를 오른쪽(가까운 프록시)부터 확인해 신뢰하지 않는 첫 주소. 없으면 null
+    private String clientAddress(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(X_FORWARDED_FOR);
+        if (headers == null || !headers.hasMoreElements()) {
+            return null;
+        }
+        List<String> hops = Collections.list(headers).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i);
+            if (!IP_LITERAL.matcher(hop).matches()) {
+                // 형식이 맞지 않으면 더 왼쪽 값은 믿을 수 없음
+                return null;
+            }
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        return null;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // X-Forwarded-For 를 확인한 클라이언트 주소 하나로 바꾸고 Forwarded 헤더는 숨김
+    private static class ClientAddressRequest extends HttpServletRequestWrapper {
+
+        private final String clientAddress;
+
+        ClientAddressRequest(HttpServletRequest request, String clientAddress) {
+            super(request);
+            this.clientAddress = clientAddress;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (X_FORWARDED_FOR.equalsIgnoreCase(name)) {
+                return clientAddress;
+            }
+            if (FORWARDED.equalsIgnoreCase(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (X_FORWARDED_FOR.equalsIgnoreCase(name)) {
+                return clientAddress != null ? Collections.enumeration(List.of(clientAddress)) : Collections.emptyEnumeration();
+            }
+            if (FORWARDED.equalsIgnoreCase(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !FORWARDED.equalsIgnoreCase(name))
+                    .filter(name -> clientAddress != null || !X_FORWARDED_FOR.equalsIgnoreCase(name))
+                    .toList();
+            return Collections.enumeration(names);
+        }
+    }
+}
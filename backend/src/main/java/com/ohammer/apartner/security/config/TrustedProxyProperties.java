@@ -0,0 +1,19 @@
+package com.ohammer.apartner.security.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// X-Forwarded-* 헤더를 믿을 프록시 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.forwarded-headers")
+public class TrustedProxyProperties {
+
+    // 리버스 프록시 주소 또는 CIDR (예: 127.0.0.1, 172.16.0.0/12). 여기서 온 요청만 전달 헤더를 반영
+    private List<String> trustedProxies = new ArrayList<>(List.of("127.0.0.1", "::1"));
+}
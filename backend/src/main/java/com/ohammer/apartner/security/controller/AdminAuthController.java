@@ -11,7 +11,9 @@ import com.ohammer.apartner.security.dto.AdminRegistrationRequest;
 import com.ohammer.apartner.security.dto.LoginResponseDto;
 import com.ohammer.apartner.security.dto.MeDto;
 import com.ohammer.apartner.security.jwt.JwtTokenizer;
+import com.ohammer.apartner.security.jwt.TokenCookies;
 import com.ohammer.apartner.security.service.AuthService;
+import com.ohammer.apartner.security.service.LoginAttemptService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +29,7 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import com.ohammer.apartner.security.dto.AdminDto;
@@ -57,27 +60,47 @@ public class AdminAuthController {
     private final UserRegistService userRegistService;
     private final CustomRequest customRequest;
     private final UserLogRepository userLogRepository;
+    private final LoginAttemptService loginAttemptService;
 
     @Operation(summary = "관리자 로그인", description = "관리자 아이디(이메일)와 비밀번호로 로그인하고 JWT 토큰을 발급받습니다.")
     @PostMapping("/login")
-    public ResponseEntity<?> adminLogin(@RequestBody AdminLoginRequest loginRequest, HttpServletResponse httpServletResponse) {
+    public ResponseEntity<?> adminLogin(@RequestBody AdminLoginRequest loginRequest, HttpServletRequest httpServletRequest,
+                                        HttpServletResponse httpServletResponse) {
         log.info("Admin login attempt for username/email: {}", loginRequest.getUsername());
+        String clientIp = getClientIp();
+
+        // 비밀번호 검증(BCrypt) 전에 계정/IP 실패 횟수 제한 확인과 이번 시도 기록을 한 번에 처리
+        LoginAttemptService.Attempt attempt = loginAttemptService.tryAcquire(loginRequest.getUsername(), clientIp);
+        if (attempt.blocked()) {
+            log.warn("[AdminLogin] Too many failed attempts: username={}, ip={}, retryAfter={}s",
+                    loginRequest.getUsername(), clientIp, attempt.retryAfterSeconds());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(attempt.retryAfterSeconds()))
+                    .body("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
         try {
             User adminUser = authService.findByEmail(loginRequest.getUsername());
 
             if (adminUser == null) {
-                authService.logLoginFailure(null, getClientIp());
+                authService.logLoginFailure(null, clientIp);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("존재하지 않는 관리자 계정입니다.");
             }
 
             if (!passwordEncoder.matches(loginRequest.getPassword(), adminUser.getPassword())) {
-                authService.logLoginFailure(adminUser, getClientIp());
+                authService.logLoginFailure(adminUser, clientIp);
+                // 실패 집계는 tryAcquire 에서 기록한 시도를 그대로 유지
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비밀번호가 틀렸습니다.");
             }
 
-            if (!(adminUser.getRoles().contains(Role.ADMIN) || adminUser.getRoles().contains(Role.MANAGER))) {
+            // 비밀번호는 맞았으므로 권한/상태로 거절하는 경우 이번 시도는 실패 집계에서 뺌
+            boolean admin = adminUser.getRoles().contains(Role.ADMIN) || adminUser.getRoles().contains(Role.MANAGER);
+            if (!admin || adminUser.getStatus() != Status.ACTIVE) {
+                loginAttemptService.release(attempt);
+            }
+            if (!admin) {
 
-                authService.logLoginFailure(adminUser, getClientIp());
+                authService.logLoginFailure(adminUser, clientIp);
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 없는 계정입니다.");
             }
             
@@ -103,9 +126,10 @@ public class AdminAuthController {
 
             String accessToken = authService.genAccessToken(adminUser);
             String refreshToken = authService.genRefreshToken(adminUser);
-            authService.addRefreshToken(adminUser, refreshToken);
+            authService.updateLastLoginAt(adminUser);
 
-            authService.logLoginSuccess(adminUser, getClientIp());
+            authService.logLoginSuccess(adminUser, clientIp);
+            loginAttemptService.succeed(attempt);
 
             LoginResponseDto loginResponseDto = new LoginResponseDto(accessToken, refreshToken, adminUser.getId(), adminUser.getUserName());
 
@@ -115,21 +139,9 @@ public class AdminAuthController {
                     accessToken.substring(0, Math.min(10, accessToken.length())) + "...",
                     refreshToken.substring(0, Math.min(10, refreshToken.length())) + "...");
 
-            ResponseCookie accessTokenCookie = ResponseCookie.from("accessToken", accessToken)
-                .httpOnly(true)
-                .secure(false)  // 개발 환경에서는 false, 프로덕션에서는 true로 설정
-                .path("/")
-                .maxAge(JwtTokenizer.ACCESS_TOKEN_EXPIRE_COUNT / 1000)
-                .sameSite("Lax") 
-                .build();
-
-            ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
-                .httpOnly(true)
-                .secure(false)  // 개발 환경에서는 false, 프로덕션에서는 true로 설정
-                .path("/") 
-                .maxAge(JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT / 1000)
-                .sameSite("Lax")
-                .build();
+            // 토큰 재발급(JwtAuthFilter)과 같은 속성의 쿠키
+            ResponseCookie accessTokenCookie = TokenCookies.accessToken(accessToken, httpServletRequest.isSecure());
+            ResponseCookie refreshTokenCookie = TokenCookies.refreshToken(refreshToken, httpServletRequest.isSecure());
 
             log.info("[AdminLogin] Cookies created: accessToken={}, refreshToken={}", 
                     accessTokenCookie.toString(), refreshTokenCookie.toString());
@@ -139,6 +151,10 @@ public class AdminAuthController {
                 .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
                 .body(loginResponseDto);
 
+        } catch (UsernameNotFoundException e) {
+            // 존재하지 않는 계정도 실패로 집계 (계정 탐색 공격 방지, 기록한 시도를 유지)
+            log.warn("[AdminLogin] Login attempt for unknown account: {}", loginRequest.getUsername());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("존재하지 않는 관리자 계정입니다.");
         } catch (Exception e) {
             log.error("[AdminLogin] Unexpected error during admin login for {}: {}", loginRequest.getUsername(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("관리자 로그인 중 오류가 발생했습니다.");
@@ -192,9 +208,10 @@ public class AdminAuthController {
     @DeleteMapping("/logout")
     public ResponseEntity<?> adminLogout(HttpServletRequest request, HttpServletResponse response, @AuthenticationPrincipal CustomUserDetails principal) {
         String accessToken = customRequest.getCookieValue("accessToken");
+        String refreshToken = customRequest.getCookieValue("refreshToken");
         String ipAddress = getClientIp();
         if (accessToken != null && !accessToken.isEmpty()) {
-            authService.logout(accessToken, ipAddress);
+            authService.logout(accessToken, refreshToken, ipAddress);
         } else {
             log.warn("[AdminLogout] AccessToken cookie not found during logout attempt");
         }
@@ -315,18 +332,11 @@ public class AdminAuthController {
         }
     }
 
-    // 클라이언트 IP 주소 가져오는 유틸리티 메서드 추가
+    // 클라이언트 IP 주소 (신뢰하는 프록시를 거친 요청은 TrustedProxyForwardedHeaderFilter 가 원래 주소로 바꿔 둠)
     private String getClientIp() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            HttpServletRequest request = attributes.getRequest();
-            
-            String forwardedHeader = request.getHeader("X-Forwarded-For");
-            if (forwardedHeader != null && !forwardedHeader.isEmpty()) {
-                return forwardedHeader.split(",")[0].trim();
-            }
-            
-            return request.getRemoteAddr();
+            return attributes.getRequest().getRemoteAddr();
         } catch (Exception e) {
             log.warn("Failed to get client IP: {}", e.getMessage());
             return "unknown";
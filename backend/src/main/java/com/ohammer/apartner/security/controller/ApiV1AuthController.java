@@ -9,6 +9,7 @@ import com.ohammer.apartner.domain.user.dto.PasswordResetRequestDTO;
 import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.domain.user.service.UserFindService;
 import com.ohammer.apartner.domain.user.service.UserRegistService;
+import com.ohammer.apartner.global.Status;
 import com.ohammer.apartner.security.OAuth.CustomRequest;
 import com.ohammer.apartner.security.dto.FindEmailRequest;
 import com.ohammer.apartner.security.dto.FindEmailResponse;
@@ -16,7 +17,9 @@ import com.ohammer.apartner.security.dto.LoginRequestDto;
 import com.ohammer.apartner.security.dto.LoginResponseDto;
 import com.ohammer.apartner.security.dto.MeDto;
 import com.ohammer.apartner.security.jwt.JwtTokenizer;
+import com.ohammer.apartner.security.jwt.TokenCookies;
 import com.ohammer.apartner.security.service.AuthService;
+import com.ohammer.apartner.security.service.LoginAttemptService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +35,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -55,6 +59,7 @@ public class ApiV1AuthController {
     private final UserRegistService userRegistService; // UserRegistService 주입
     private final ApartmentService apartmentService;
     private final UserFindService userFindService;
+    private final LoginAttemptService loginAttemptService;
 
     //테스트용이라서 배포 전에 삭제할꺼임
     @GetMapping("/home")
@@ -160,7 +165,20 @@ public class ApiV1AuthController {
 
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequestDto req, HttpServletResponse httpServletResponse) {
+    public ResponseEntity<?> login(@RequestBody LoginRequestDto req, HttpServletRequest httpServletRequest,
+                                   HttpServletResponse httpServletResponse) {
+        String clientIp = getClientIp();
+
+        // 비밀번호 검증(BCrypt) 전에 계정/IP 실패 횟수 제한 확인과 이번 시도 기록을 한 번에 처리
+        LoginAttemptService.Attempt attempt = loginAttemptService.tryAcquire(req.getEmail(), clientIp);
+        if (attempt.blocked()) {
+            log.warn("[/login] Too many failed attempts: email={}, ip={}, retryAfter={}s", req.getEmail(), clientIp,
+                    attempt.retryAfterSeconds());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(attempt.retryAfterSeconds()))
+                    .body("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
         try {
             User user = authService.findByEmail(req.getEmail());
 
@@ -169,12 +187,17 @@ public class ApiV1AuthController {
             }
             if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
                 // 로그인 실패 로그 추가
-                authService.logLoginFailure(user, getClientIp());
+                authService.logLoginFailure(user, clientIp);
+                // 실패 집계는 tryAcquire 에서 기록한 시도를 그대로 유지
 
                 return ResponseEntity.status(401).body("비밀번호가 틀렸습니다.");
             }
 
             // 사용자 상태 확인 - ACTIVE 상태가 아니면 로그인 불가, 상태별 메시지 처리
+            // 비밀번호는 맞았으므로 이번 시도는 실패 집계에서 뺌
+            if (user.getStatus() != Status.ACTIVE) {
+                loginAttemptService.release(attempt);
+            }
             switch (user.getStatus()) {
                 case ACTIVE:
                     // 활성 상태이면 정상 진행
@@ -205,28 +228,17 @@ public class ApiV1AuthController {
 
             String accessToken = authService.genAccessToken(user);
             String refreshToken = authService.genRefreshToken(user);
-            authService.addRefreshToken(user, refreshToken);
+            authService.updateLastLoginAt(user);
 
-            authService.logLoginSuccess(user, getClientIp());
+            authService.logLoginSuccess(user, clientIp);
+            loginAttemptService.succeed(attempt);
 
             LoginResponseDto loginResponseDto = new LoginResponseDto(accessToken, refreshToken, user.getId(),
                     user.getUserName());
 
-            ResponseCookie accessTokenCookie = ResponseCookie.from("accessToken", accessToken)
-                    .httpOnly(true)
-                    .secure(false)
-                    .path("/")
-                    .maxAge(JwtTokenizer.ACCESS_TOKEN_EXPIRE_COUNT / 1000)
-                    .sameSite("Lax")
-                    .build();
-
-            ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
-                    .httpOnly(true)
-                    .secure(false)
-                    .path("/")
-                    .maxAge(JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT / 1000)
-                    .sameSite("Lax")
-                    .build();
+            // 토큰 재발급(JwtAuthFilter)과 같은 속성의 쿠키
+            ResponseCookie accessTokenCookie = TokenCookies.accessToken(accessToken, httpServletRequest.isSecure());
+            ResponseCookie refreshTokenCookie = TokenCookies.refreshToken(refreshToken, httpServletRequest.isSecure());
 
             log.info("[/login] User logged in successfully: {}", user.getEmail());
             return ResponseEntity.ok()
@@ -234,6 +246,10 @@ public class ApiV1AuthController {
                     .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
                     .body(loginResponseDto);
 
+        } catch (UsernameNotFoundException e) {
+            // 존재하지 않는 이메일도 실패로 집계 (계정 탐색 공격 방지, 기록한 시도를 유지)
+            log.warn("[/login] Login attempt for unknown email: {}", req.getEmail());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 올바르지 않습니다.");
         } catch (Exception e) {
             log.error("[/login] Unexpected error during login for email {}: {}", req.getEmail(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 올바르지 않습니다.");
@@ -245,9 +261,10 @@ public class ApiV1AuthController {
     public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
         // 1. Access Token 가져오기 (쿠키에서)
         String accessToken = customRequest.getCookieValue("accessToken");
+        String refreshToken = customRequest.getCookieValue("refreshToken");
         String ipAddress = getClientIp();
         if (accessToken != null && !accessToken.isEmpty()) {
-            authService.logout(accessToken, ipAddress);
+            authService.logout(accessToken, refreshToken, ipAddress);
         } else {
             log.warn("[/logout] AccessToken cookie not found during logout attempt");
         }
@@ -316,18 +333,11 @@ public class ApiV1AuthController {
         }
     }
 
-    // 클라이언트 IP 주소 가져오는 유틸리티 메서드 추가
+    // 클라이언트 IP 주소 (신뢰하는 프록시를 거친 요청은 TrustedProxyForwardedHeaderFilter 가 원래 주소로 바꿔 둠)
     private String getClientIp() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            HttpServletRequest request = attributes.getRequest();
-
-            String forwardedHeader = request.getHeader("X-Forwarded-For");
-            if (forwardedHeader != null && !forwardedHeader.isEmpty()) {
-                return forwardedHeader.split(",")[0].trim();
-            }
-
-            return request.getRemoteAddr();
+            return attributes.getRequest().getRemoteAddr();
         } catch (Exception e) {
             log.warn("Failed to get client IP: {}", e.getMessage());
             return "unknown";
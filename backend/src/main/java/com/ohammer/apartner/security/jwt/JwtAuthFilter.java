@@ -8,8 +8,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.ohammer.apartner.security.service.AuthService.RefreshedTokens;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -54,6 +56,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             requestURI.startsWith("/sse/") ||  // SSE API 제외
             requestURI.startsWith("/stomp/") ||  // STOMP API 제외
             requestURI.startsWith("/api/v1/entry-records/enter") ||  //
+            requestURI.startsWith("/api/v1/entry-records/gate-events") ||  // 게이트 장비 (X-Gate-Key 인증)
             requestURI.startsWith("/api/v1/vehicles/foreigns") ||
             requestURI.startsWith("/api/v1/entry-records/exit")) {  //
             log.info("[JwtAuthFilter] Skipping authentication for public endpoint: {}", requestURI);
@@ -75,18 +78,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         // AccessToken 없고 RefreshToken만 있으면 AccessToken 재발급 시도
         if (accessToken == null && refreshToken != null) {
             try {
-                accessToken = jwtAuthenticationProvider.genNewAccessToken(refreshToken); // 새 AccessToken 생성
-
-                // 새로 발급된 AccessToken을 쿠키에 설정
-                Cookie newAccessTokenCookie = new Cookie("accessToken", accessToken);
-                newAccessTokenCookie.setHttpOnly(true); // JavaScript 접근 방지
-                newAccessTokenCookie.setPath("/"); // 모든 경로에서 사용 가능
-                newAccessTokenCookie.setMaxAge(Math.toIntExact(JwtTokenizer.ACCESS_TOKEN_EXPIRE_COUNT / 1000)); // 만료 시간 설정 (초 단위)
-                response.addCookie(newAccessTokenCookie);
+                RefreshedTokens refreshed = jwtAuthenticationProvider.refreshTokens(refreshToken); // 새 AccessToken 생성 (RefreshToken 회전)
+                accessToken = refreshed.accessToken();
+
+                // 새로 발급된 AccessToken을 쿠키에 설정 (로그인과 같은 속성: HttpOnly, SameSite, Secure)
+                response.addHeader(HttpHeaders.SET_COOKIE,
+                        TokenCookies.accessToken(accessToken, request.isSecure()).toString());
+
+                // 회전된 RefreshToken을 쿠키에 설정 (동시 요청 유예 구간에서는 null)
+                if (refreshed.refreshToken() != null) {
+                    response.addHeader(HttpHeaders.SET_COOKIE,
+                            TokenCookies.refreshToken(refreshed.refreshToken(), request.isSecure()).toString());
+                }
                 response.setHeader("X-Token-Refreshed", "true"); // 응답 헤더에 토큰 재발급 플래그 설정
             } catch (Exception e) {
                 // RefreshToken이 유효하지 않거나 재발급 실패 시, 로그만 남기고 다음으로 진행 (AccessToken이 여전히 null인 상태)
-                log.warn("Failed to refresh access token with refresh token: {}", refreshToken, e);
+                log.warn("Failed to refresh access token with refresh token: {}", e.getMessage());
             }
         }
 
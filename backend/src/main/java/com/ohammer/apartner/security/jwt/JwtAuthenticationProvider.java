@@ -5,6 +5,7 @@ import com.ohammer.apartner.domain.user.entity.User;
 import com.ohammer.apartner.global.Status;
 import com.ohammer.apartner.security.CustomUserDetails;
 import com.ohammer.apartner.security.service.AuthService;
+import com.ohammer.apartner.security.service.AuthService.RefreshedTokens;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
@@ -57,17 +58,13 @@ public class JwtAuthenticationProvider {
         return user;
     }
 
-    // RefreshToken으로 새로운 AccessToken 생성
-    public String genNewAccessToken(String refreshToken) {
-        Claims claims;
+    // RefreshToken으로 새로운 AccessToken 생성 (RefreshToken 회전 포함, DB 조회 없음)
+    public RefreshedTokens refreshTokens(String refreshToken) {
         try {
-            // RefreshToken 파싱 및 유효성 검증
-            claims = jwtTokenizer.parseRefreshToken(refreshToken);
+            return authService.refreshTokens(refreshToken);
         } catch (Exception e) {
             throw new RuntimeException("유효하지 않은 토큰입니다", e);
         }
-        User user = getUserFromClaims(claims); // 클레임 기반 User 조회
-        return authService.genAccessToken(user); // 새 AccessToken 생성
     }
 
     // AccessToken을 검증하고 Authentication 객체 생성
@@ -25,6 +25,8 @@ public class JwtTokenizer {
     public static Long ACCESS_TOKEN_EXPIRE_COUNT= 1000 * 60 * 60 * 24L;
     // RefreshToken 만료 시간: 7일
     public static Long REFRESH_TOKEN_EXPIRE_COUNT=7*24*60*60*1000L;
+    // 로그인 세션 최대 수명: 30일 (RefreshToken 을 재발급해도 로그인 시각부터 이 시간이 지나면 다시 로그인)
+    public static Long REFRESH_SESSION_MAX_AGE=30*24*60*60*1000L;
 
     // 생성자: application.yml에서 JWT secretKey, refreshKey 주입
     public JwtTokenizer(@Value("${jwt.secretKey}") String accessSecret, @Value("${jwt.refreshKey}") String refreshSecret) {
@@ -35,14 +37,21 @@ public class JwtTokenizer {
     // 내부 토큰 생성 로직
     private String createToken(Long id, String email, Status status // Status import 필요
     , Long expire, byte[] secretKey, Set<Role> roles) { // Role import 필요
+        return signToken(createClaims(id, email, status, roles), expire, secretKey);
+    }
 
+    // 공통 클레임 생성
+    private Claims createClaims(Long id, String email, Status status, Set<Role> roles) {
         Claims claims = Jwts.claims().setSubject(email); // Subject: email
         claims.put("status", status);
         claims.put("userId", id);
         claims.put("roles", roles); // 사용자 권한
         // email을 넣었으니 phoneNum도 claims에 추가해줄 수 있음 (선택 사항)
         // claims.put("phoneNum", phoneNum);
+        return claims;
+    }
 
+    private String signToken(Claims claims, Long expire, byte[] secretKey) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date()) // 발행 시간
@@ -56,9 +65,13 @@ public class JwtTokenizer {
         return createToken(id, email, status, ACCESS_TOKEN_EXPIRE_COUNT, accessSecret, roles);
     }
 
-    // RefreshToken 생성
-    public String createRefreshToken(Long id, String email, Status status, Set<Role> roles) {
-        return createToken(id, email, status, REFRESH_TOKEN_EXPIRE_COUNT, refreshSecret, roles);
+    // RefreshToken 생성 (sid: 기기별 세션 ID, jti: 회전 시 교체되는 토큰 ID)
+    public String createRefreshToken(Long id, String email, Status status, Set<Role> roles,
+                                     String sessionId, String tokenId) {
+        Claims claims = createClaims(id, email, status, roles);
+        claims.put("sid", sessionId);
+        claims.setId(tokenId);
+        return signToken(claims, REFRESH_TOKEN_EXPIRE_COUNT, refreshSecret);
     }
 
     // JWT 서명 키 생성
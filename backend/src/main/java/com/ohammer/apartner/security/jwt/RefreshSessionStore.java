@@ -0,0 +1,136 @@
+package com.ohammer.apartner.security.jwt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기기(로그인)별 RefreshToken 세션을 Redis에 저장합니다.
+ * 세션은 현재 유효한 토큰 ID(jti)만 보관하며, 재발급 때마다 토큰 ID를 교체(rotation)합니다.
+ * 이미 교체된 토큰이 다시 사용되면 탈취로 간주하고 해당 세션을 폐기합니다.
+ * 재발급으로 세션이 끝없이 연장되지 않도록, 처음 로그인한 시각(createdAt)부터
+ * {@link JwtTokenizer#REFRESH_SESSION_MAX_AGE} 가 지나면 교체를 거부하고 다시 로그인하게 합니다.
+ * users 테이블에는 쓰지 않으므로 재발급/로그아웃이 사용자 row 와 경합하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionStore {
+
+    private static final String SESSION_KEY_PREFIX = "refresh:session:";
+    private static final String USER_SESSIONS_KEY_PREFIX = "refresh:user:";
+
+    // 동시 요청(여러 탭/병렬 API 호출)으로 직전 토큰이 한 번 더 도착하는 경우를 허용하는 시간
+    private static final long ROTATION_GRACE_MILLIS = 10_000L;
+
+    // KEYS[1]=session, KEYS[2]=user sessions
+    // ARGV[1]=presentedTokenId, ARGV[2]=newTokenId, ARGV[3]=now, ARGV[4]=ttlMs, ARGV[5]=graceMs, ARGV[6]=sessionId,
+    // ARGV[7]=maxAgeMs (로그인 시각부터 세션 최대 수명)
+    private static final RedisScript<String> ROTATE_SCRIPT = RedisScript.of(
+            "local current = redis.call('HGET', KEYS[1], 'tokenId') " +
+            "if not current then return 'EXPIRED' end " +
+            "local createdAt = tonumber(redis.call('HGET', KEYS[1], 'createdAt') or ARGV[3]) " +
+            "local remaining = createdAt + tonumber(ARGV[7]) - tonumber(ARGV[3]) " +
+            "if remaining <= 0 then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[6]) " +
+            "  return 'EXPIRED' " +
+            "end " +
+            "if current == ARGV[1] then " +
+            "  local ttl = math.min(tonumber(ARGV[4]), remaining) " +
+            "  redis.call('HSET', KEYS[1], 'tokenId', ARGV[2], 'previousTokenId', ARGV[1], 'rotatedAt', ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ttl) " +
+            "  if redis.call('PTTL', KEYS[2]) < ttl then redis.call('PEXPIRE', KEYS[2], ttl) end " +
+            "  return 'ROTATED' " +
+            "end " +
+            "local previous = redis.call('HGET', KEYS[1], 'previousTokenId') " +
+            "local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotatedAt') or '0') " +
+            "if previous == ARGV[1] and tonumber(ARGV[3]) - rotatedAt <= tonumber(ARGV[5]) then return 'GRACE' end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SREM', KEYS[2], ARGV[6]) " +
+            "return 'REUSED'",
+            String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum RotationResult {
+        ROTATED,  // 정상 교체: 새 RefreshToken 발급
+        GRACE,    // 직전 토큰의 동시 요청: AccessToken만 발급
+        EXPIRED,  // 세션 없음(만료/로그아웃) 또는 최대 수명 초과
+        REUSED    // 교체된 토큰 재사용 감지: 세션 폐기
+    }
+
+    public record RefreshSession(String sessionId, String tokenId) {
+    }
+
+    // 새 로그인 세션 생성
+    public RefreshSession open(Long userId) {
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = newTokenId();
+        Duration ttl = Duration.ofMillis(JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT);
+
+        String sessionKey = sessionKey(sessionId);
+        String userKey = userSessionsKey(userId);
+        redisTemplate.opsForHash().putAll(sessionKey, Map.of(
+                "userId", String.valueOf(userId),
+                "tokenId", tokenId,
+                "createdAt", String.valueOf(System.currentTimeMillis())));
+        redisTemplate.expire(sessionKey, ttl);
+        redisTemplate.opsForSet().add(userKey, sessionId);
+        redisTemplate.expire(userKey, ttl);
+        return new RefreshSession(sessionId, tokenId);
+    }
+
+    // 제시된 토큰 ID가 현재 토큰이면 새 토큰 ID로 교체
+    public RotationResult rotate(Long userId, String sessionId, String presentedTokenId, String newTokenId) {
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(sessionKey(sessionId), userSessionsKey(userId)),
+                presentedTokenId,
+                newTokenId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT),
+                String.valueOf(ROTATION_GRACE_MILLIS),
+                sessionId,
+                String.valueOf(JwtTokenizer.REFRESH_SESSION_MAX_AGE));
+        RotationResult rotation = result == null ? RotationResult.EXPIRED : RotationResult.valueOf(result);
+        if (rotation == RotationResult.REUSED) {
+            log.warn("[RefreshSession] 교체된 RefreshToken 재사용 감지, 세션 폐기: userId={}, sessionId={}", userId, sessionId);
+        }
+        return rotation;
+    }
+
+    // 단일 기기 세션 폐기 (로그아웃)
+    public void revoke(Long userId, String sessionId) {
+        redisTemplate.delete(sessionKey(sessionId));
+        redisTemplate.opsForSet().remove(userSessionsKey(userId), sessionId);
+    }
+
+    // 사용자의 모든 기기 세션 폐기 (탈퇴 등)
+    public void revokeAll(Long userId) {
+        String userKey = userSessionsKey(userId);
+        Set<String> sessionIds = redisTemplate.opsForSet().members(userKey);
+        if (sessionIds != null && !sessionIds.isEmpty()) {
+            redisTemplate.delete(sessionIds.stream().map(RefreshSessionStore::sessionKey).toList());
+        }
+        redisTemplate.delete(userKey);
+    }
+
+    public String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static String sessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    private static String userSessionsKey(Long userId) {
+        return USER_SESSIONS_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ohammer.apartner.security.jwt;
+
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 로그인과 토큰 재발급 응답에 내려주는 인증 쿠키.
+ * 어느 경로에서 발급하든 같은 속성(HttpOnly, SameSite=Lax, HTTPS 요청이면 Secure)을 사용합니다.
+ */
+public final class TokenCookies {
+
+    public static final String ACCESS_TOKEN = "accessToken";
+    public static final String REFRESH_TOKEN = "refreshToken";
+
+    private TokenCookies() {
+    }
+
+    public static ResponseCookie accessToken(String token, boolean secure) {
+        return build(ACCESS_TOKEN, token, JwtTokenizer.ACCESS_TOKEN_EXPIRE_COUNT, secure);
+    }
+
+    public static ResponseCookie refreshToken(String token, boolean secure) {
+        return build(REFRESH_TOKEN, token, JwtTokenizer.REFRESH_TOKEN_EXPIRE_COUNT, secure);
+    }
+
+    private static ResponseCookie build(String name, String value, long maxAgeMillis, boolean secure) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(secure)
+                .path("/")
+                .maxAge(maxAgeMillis / 1000)
+                .sameSite("Lax")
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.ohammer.apartner.security.service;
+
+import com.ohammer.apartner.security.config.LoginAttemptProperties;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 실패를 계정/IP 단위 슬라이딩 윈도우로 집계하여 무차별 대입 시도를 차단합니다.
+ * Redis Sorted Set(score = 시도 시각)을 사용하며, Redis 장애 시 인메모리 카운터로 대체합니다.
+ * 비밀번호 해시 검증 전에 {@link #tryAcquire(String, String)} 로 한도 확인과 시도 기록을 한 번에 처리합니다.
+ * 기록된 시도는 실패로 집계되고, 비밀번호가 맞으면 {@link #succeed(Attempt)} 또는 {@link #release(Attempt)} 로 되돌립니다.
+ * 확인과 기록 사이에 다른 요청이 끼어들 수 없어, 동시에 보낸 요청으로 한도를 넘길 수 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptService {
+
+    private static final String ACCOUNT_KEY_PREFIX = "login:fail:account:";
+    private static final String IP_KEY_PREFIX = "login:fail:ip:";
+
+    // 인메모리 대체 저장소가 이 크기를 넘으면 만료된 키를 정리
+    private static final int LOCAL_PURGE_THRESHOLD = 10_000;
+
+    // KEYS[1]=account, KEYS[2]=ip, ARGV[1]=now, ARGV[2]=windowStart, ARGV[3]=windowMs,
+    // ARGV[4]=accountLimit, ARGV[5]=ipLimit, ARGV[6]=member
+    // 둘 다 한도 미만이면 두 윈도우에 시도를 기록하고 0, 아니면 기록 없이 다시 시도 가능할 때까지 남은 밀리초 반환
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+            "local wait = 0 " +
+            "for i = 1, 2 do " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', ARGV[2]) " +
+            "  local count = redis.call('ZCARD', KEYS[i]) " +
+            "  local limit = tonumber(ARGV[3 + i]) " +
+            "  if limit > 0 and count >= limit then " +
+            "    local entry = redis.call('ZRANGE', KEYS[i], count - limit, count - limit, 'WITHSCORES') " +
+            "    wait = math.max(wait, tonumber(entry[2]) + tonumber(ARGV[3]) - tonumber(ARGV[1])) " +
+            "  end " +
+            "end " +
+            "if wait > 0 then return wait end " +
+            "for i = 1, 2 do " +
+            "  redis.call('ZADD', KEYS[i], ARGV[1], ARGV[6]) " +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[3]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * 로그인 시도 기록. blocked() 이면 기록되지 않았고 retryAfterSeconds 후에 다시 시도할 수 있습니다.
+     */
+    public record Attempt(String accountKey, String ipKey, String member, long acquiredAt, long retryAfterSeconds) {
+
+        public boolean blocked() {
+            return retryAfterSeconds > 0;
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LoginAttemptProperties properties;
+
+    // Redis 장애 시 사용하는 인메모리 슬라이딩 윈도우 (key -> 실패 시각 목록)
+    private final Map<String, Deque<Long>> localFailures = new ConcurrentHashMap<>();
+
+    /**
+     * 계정/IP 한도를 확인하고, 한도 안이면 같은 원자적 연산에서 시도를 기록합니다.
+     */
+    public Attempt tryAcquire(String email, String ipAddress) {
+        String accountKey = accountKey(email);
+        String ipKey = ipKey(ipAddress);
+        long now = System.currentTimeMillis();
+        long windowMillis = windowMillis();
+        String member = now + ":" + UUID.randomUUID();
+        long retryAfterMillis;
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(accountKey, ipKey),
+                    String.valueOf(now), String.valueOf(now - windowMillis), String.valueOf(windowMillis),
+                    String.valueOf(properties.getMaxFailuresPerAccount()),
+                    String.valueOf(properties.getMaxFailuresPerIp()), member);
+            retryAfterMillis = result == null ? 0 : result;
+        } catch (Exception e) {
+            log.warn("[LoginAttempt] Redis 확인 실패, 인메모리 카운터 사용: account={}, error={}", accountKey, e.getMessage());
+            retryAfterMillis = localTryAcquire(accountKey, ipKey, now, windowMillis);
+        }
+        long retryAfterSeconds = retryAfterMillis <= 0 ? 0 : (retryAfterMillis + 999) / 1000;
+        return new Attempt(accountKey, ipKey, member, now, retryAfterSeconds);
+    }
+
+    /**
+     * 로그인 성공 시 해당 계정의 실패 기록을 초기화하고 IP 윈도우에서 이번 시도를 뺍니다. (IP 의 다른 실패 기록은 유지)
+     */
+    public void succeed(Attempt attempt) {
+        if (attempt.blocked()) {
+            return;
+        }
+        localFailures.remove(attempt.accountKey());
+        removeLocal(attempt.ipKey(), attempt.acquiredAt());
+        try {
+            redisTemplate.delete(attempt.accountKey());
+            redisTemplate.opsForZSet().remove(attempt.ipKey(), attempt.member());
+        } catch (Exception e) {
+            log.warn("[LoginAttempt] Redis 실패 기록 초기화 실패: key={}, error={}", attempt.accountKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * 비밀번호는 맞았지만 로그인할 수 없는 계정(비활성, 권한 없음 등)이면 이번 시도를 실패에서 뺍니다.
+     */
+    public void release(Attempt attempt) {
+        if (attempt.blocked()) {
+            return;
+        }
+        removeLocal(attempt.accountKey(), attempt.acquiredAt());
+        removeLocal(attempt.ipKey(), attempt.acquiredAt());
+        try {
+            redisTemplate.opsForZSet().remove(attempt.accountKey(), attempt.member());
+            redisTemplate.opsForZSet().remove(attempt.ipKey(), attempt.member());
+        } catch (Exception e) {
+            log.warn("[LoginAttempt] Redis 시도 기록 해제 실패: key={}, error={}", attempt.accountKey(), e.getMessage());
+        }
+    }
+
+    // 인메모리 대체 경로도 확인과 기록을 한 잠금 안에서 처리
+    private long localTryAcquire(String accountKey, String ipKey, long now, long windowMillis) {
+        synchronized (localFailures) {
+            if (localFailures.size() > LOCAL_PURGE_THRESHOLD) {
+                purgeLocal(now - windowMillis);
+            }
+            Deque<Long> accountFailures = localFailures.computeIfAbsent(accountKey, k -> new ArrayDeque<>());
+            Deque<Long> ipFailures = localFailures.computeIfAbsent(ipKey, k -> new ArrayDeque<>());
+            long retryAfterMillis = Math.max(
+                    localRetryAfterMillis(accountFailures, properties.getMaxFailuresPerAccount(), now, windowMillis),
+                    localRetryAfterMillis(ipFailures, properties.getMaxFailuresPerIp(), now, windowMillis));
+            if (retryAfterMillis <= 0) {
+                accountFailures.addLast(now);
+                ipFailures.addLast(now);
+            }
+            return retryAfterMillis;
+        }
+    }
+
+    private static long localRetryAfterMillis(Deque<Long> failures, int limit, long now, long windowMillis) {
+        evictExpired(failures, now - windowMillis);
+        if (limit <= 0 || failures.size() < limit) {
+            return 0;
+        }
+        // 한도를 넘긴 만큼 오래된 기록이 윈도우를 벗어나야 다시 시도 가능
+        int skip = failures.size() - limit;
+        long target = failures.peekFirst();
+        for (Long failedAt : failures) {
+            if (skip-- == 0) {
+                target = failedAt;
+                break;
+            }
+        }
+        return target + windowMillis - now;
+    }
+
+    private void removeLocal(String key, long acquiredAt) {
+        synchronized (localFailures) {
+            Deque<Long> failures = localFailures.get(key);
+            if (failures != null) {
+                failures.removeLastOccurrence(acquiredAt);
+            }
+        }
+    }
+
+    // localFailures 잠금 안에서 호출
+    private void purgeLocal(long windowStart) {
+        localFailures.entrySet().removeIf(entry -> {
+            evictExpired(entry.getValue(), windowStart);
+            return entry.getValue().isEmpty();
+        });
+    }
+
+    private static void evictExpired(Deque<Long> failures, long windowStart) {
+        while (!failures.isEmpty() && failures.peekFirst() <= windowStart) {
+            failures.pollFirst();
+        }
+    }
+
+    private long windowMillis() {
+        return properties.getWindowSeconds() * 1000L;
+    }
+
+    private static String accountKey(String email) {
+        return ACCOUNT_KEY_PREFIX + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String ipAddress) {
+        return IP_KEY_PREFIX + (ipAddress == null ? "unknown" : ipAddress);
+    }
+}
@@ -2,6 +2,7 @@ package com.ohammer.apartner.security.utils;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import com.ohammer.apartner.security.CurrentPrincipal;
 import com.ohammer.apartner.security.CustomUserDetails;
 import com.ohammer.apartner.security.CustomUserDetailsService;
 import com.ohammer.apartner.domain.user.entity.User;
@@ -60,16 +61,28 @@ public class SecurityUtil {
 
     /**
      * 현재 로그인한 User 엔티티 반환
+     * 영속성 컨텍스트와 분리된 엔티티이므로 연관관계(아파트 등) 탐색이 필요 없다면 getCurrentPrincipal() 사용
      */
     public static User getCurrentUser() {
         if (!isLoggedIn()) return null;
         Object principal = getAuthentication().getPrincipal();
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        System.out.println("@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@@" + authentication);
         if (principal instanceof CustomUserDetails) {
             return ((CustomUserDetails) principal).getUser();
         }
         return null;
     }
+
+    /**
+     * 현재 로그인한 사용자의 요약 정보(id, 권한, 아파트/동 id) 반환
+     * 인증 시점에 한 번 만들어진 불변 객체이므로 DB 접근 및 지연 로딩이 없음
+     */
+    public static CurrentPrincipal getCurrentPrincipal() {
+        if (!isLoggedIn()) return null;
+        Object principal = getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails) {
+            return ((CustomUserDetails) principal).getPrincipal();
+        }
+        return null;
+    }
 }
 
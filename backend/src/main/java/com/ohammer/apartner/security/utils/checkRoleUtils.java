@@ -1,7 +1,7 @@
 package com.ohammer.apartner.security.utils;
 
 import com.ohammer.apartner.domain.user.entity.Role;
-import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.security.CurrentPrincipal;
 
 import java.util.Set;
 
@@ -9,16 +9,12 @@ import java.util.Set;
 public class checkRoleUtils {
 
     public static void validateManagerAccess() {
-        User currentUser = SecurityUtil.getCurrentUser();
+        CurrentPrincipal currentUser = SecurityUtil.getCurrentPrincipal();
         if (currentUser == null) {
             throw new IllegalArgumentException("로그인이 필요합니다.");
         }
 
-        Set<Role> roles = currentUser.getRoles();
-
-        System.out.println("현재 유저 role들: ");
-        roles.forEach(role -> System.out.println(" - " + role.getValue()));
-
+        Set<Role> roles = currentUser.roles();
 
         boolean isManagerOrModerator = roles.stream().anyMatch(role ->
                 role.equals(Role.MANAGER) || role.equals(Role.MODERATOR) || role.equals(Role.ADMIN));
@@ -30,16 +26,12 @@ public class checkRoleUtils {
 
 
     public static void validateAdminAccess() {
-        User currentUser = SecurityUtil.getCurrentUser();
+        CurrentPrincipal currentUser = SecurityUtil.getCurrentPrincipal();
         if (currentUser == null) {
             throw new IllegalArgumentException("로그인이 필요합니다.");
         }
 
-        Set<Role> roles = currentUser.getRoles();
-
-        System.out.println("현재 유저 역할들: ");
-        roles.forEach(role -> System.out.println(" - " + role.getValue()));
-
+        Set<Role> roles = currentUser.roles();
 
         boolean isManagerOrModerator = roles.stream().anyMatch(role ->
                 role.equals(Role.ADMIN));
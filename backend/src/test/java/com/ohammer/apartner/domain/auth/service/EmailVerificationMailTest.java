@@ -0,0 +1,118 @@
+package com.ohammer.apartner.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.ohammer.apartner.domain.auth.dto.VerificationCodeResponseDto;
+import com.ohammer.apartner.domain.auth.dto.VerifyCodeResponseDto;
+import com.ohammer.apartner.support.IntegrationTestSupport;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// 인증번호 메일을 GreenMail SMTP 서버로 실제 발송해 발송 큐, 인증번호 확인, 실패 시 정리를 확인
+class EmailVerificationMailTest extends IntegrationTestSupport {
+
+    private static final Pattern CODE = Pattern.compile("\\d{6}");
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("test@apartner.site", "test"))
+            .withPerMethodLifecycle(true);
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "127.0.0.1");
+        registry.add("spring.mail.port", () -> ServerSetupTest.SMTP.getPort());
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+    }
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    void sentCodeVerifiesOnce() throws Exception {
+        String email = uniqueEmail();
+
+        VerificationCodeResponseDto sent = emailService.sendVerificationCode(email);
+        assertThat(sent.isSuccess()).isTrue();
+
+        String code = receivedCode(email);
+        VerifyCodeResponseDto verified = emailService.verifyCode(email, code);
+        assertThat(verified.isVerified()).isTrue();
+        assertThat(emailService.isEmailVerified(email)).isTrue();
+
+        // 사용한 인증번호는 다시 쓸 수 없음
+        assertThat(emailService.verifyCode(email, code).isVerified()).isFalse();
+    }
+
+    @Test
+    void resendIsBlockedDuringCooldown() throws Exception {
+        String email = uniqueEmail();
+
+        assertThat(emailService.sendVerificationCode(email).isSuccess()).isTrue();
+        VerificationCodeResponseDto resent = emailService.sendVerificationCode(email);
+
+        assertThat(resent.isSuccess()).isFalse();
+        assertThat(resent.getRetryAfterSeconds()).isPositive();
+    }
+
+    @Test
+    void codeIsDiscardedAfterTooManyWrongEntries() throws Exception {
+        String email = uniqueEmail();
+        emailService.sendVerificationCode(email);
+        String code = receivedCode(email);
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(emailService.verifyCode(email, wrong).getMessage()).isEqualTo("인증번호가 일치하지 않습니다.");
+        }
+        assertThat(emailService.verifyCode(email, wrong).getMessage()).contains("입력 횟수를 초과");
+
+        // 맞는 번호라도 폐기된 뒤에는 인증되지 않음
+        assertThat(emailService.verifyCode(email, code).isVerified()).isFalse();
+        assertThat(emailService.isEmailVerified(email)).isFalse();
+    }
+
+    @Test
+    void undeliverableCodeReleasesCooldown() {
+        String email = uniqueEmail();
+        GREEN_MAIL.stop();
+
+        assertThat(emailService.sendVerificationCode(email).isSuccess()).isTrue();
+
+        // 워커가 발송에 실패하면 인증번호와 재발송 제한을 지워 바로 다시 요청할 수 있음
+        await().atMost(Duration.ofSeconds(30)).until(() ->
+                !Boolean.TRUE.equals(redisTemplate.hasKey("verification:" + email))
+                        && !Boolean.TRUE.equals(redisTemplate.hasKey("verification:cooldown:" + email)));
+    }
+
+    private String receivedCode(String email) throws Exception {
+        assertThat(GREEN_MAIL.waitForIncomingEmail(10_000, 1)).isTrue();
+        for (MimeMessage message : GREEN_MAIL.getReceivedMessagesForDomain(email.substring(email.indexOf('@') + 1))) {
+            if (GreenMailUtil.getAddressList(message.getAllRecipients()).contains(email)) {
+                Matcher matcher = CODE.matcher(GreenMailUtil.getBody(message));
+                assertThat(matcher.find()).isTrue();
+                return matcher.group();
+            }
+        }
+        throw new AssertionError("인증번호 메일을 받지 못했습니다: " + email);
+    }
+
+    private static String uniqueEmail() {
+        return "user" + System.nanoTime() + "@apartner.test";
+    }
+}
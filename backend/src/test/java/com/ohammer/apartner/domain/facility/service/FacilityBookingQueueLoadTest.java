@@ -0,0 +1,72 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.ohammer.apartner.domain.apartment.entity.Apartment;
+import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityBookingTicketDto;
+import com.ohammer.apartner.domain.facility.dto.response.FacilityBookingTicketDto.TicketStatus;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.support.ConcurrentRunner;
+import com.ohammer.apartner.support.FacilityFixture;
+import com.ohammer.apartner.support.IntegrationTestSupport;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 예약이 열리는 순간처럼 많은 신청이 한꺼번에 대기열에 들어와도 정원만큼만 예약되고 모든 신청에 결과가 남는지 확인
+@Import(FacilityFixture.class)
+class FacilityBookingQueueLoadTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 200;
+    private static final int MAX_CAPACITY = 30;
+
+    @Autowired
+    private FacilityBookingQueueService facilityBookingQueueService;
+    @Autowired
+    private FacilityFixture fixture;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void queuedBookingsFillCapacityExactlyAndResolveEveryTicket() throws Exception {
+        Apartment apartment = fixture.apartment("대기열 아파트");
+        FacilityTimeSlot slot = fixture.slot(apartment, MAX_CAPACITY, true);
+        List<Long> userIds = fixture.residents(apartment, THREADS);
+
+        Map<Long, String> tickets = new ConcurrentHashMap<>();
+        ConcurrentRunner.run(userIds, userId -> {
+            FacilityReservationRequestDto dto = new FacilityReservationRequestDto();
+            dto.setTimeSlotId(slot.getId());
+            FacilityBookingTicketDto ticket = facilityBookingQueueService.enqueue(userId, apartment.getId(), dto);
+            tickets.put(userId, ticket.getTicketId());
+        });
+        assertThat(tickets).hasSize(THREADS);
+
+        // 예약 처리는 스케줄러가 하므로 모든 신청이 대기 상태를 벗어날 때까지 기다림
+        await().atMost(Duration.ofSeconds(60)).until(() -> tickets.entrySet().stream()
+                .allMatch(entry -> facilityBookingQueueService.getTicket(entry.getKey(), entry.getValue()).getStatus()
+                        != TicketStatus.QUEUED));
+
+        List<FacilityBookingTicketDto> results = tickets.entrySet().stream()
+                .map(entry -> facilityBookingQueueService.getTicket(entry.getKey(), entry.getValue()))
+                .toList();
+        assertThat(results).filteredOn(result -> result.getStatus() == TicketStatus.RESERVED)
+                .hasSize(MAX_CAPACITY)
+                .allSatisfy(result -> assertThat(result.getReservationId()).isNotNull());
+        assertThat(results).filteredOn(result -> result.getStatus() == TicketStatus.FAILED)
+                .hasSize(THREADS - MAX_CAPACITY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT reserved_count FROM facility_time_slots WHERE id = ?", Integer.class, slot.getId()))
+                .isEqualTo(MAX_CAPACITY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM facility_reservations WHERE facility_time_slot_id = ?", Integer.class, slot.getId()))
+                .isEqualTo(MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ohammer.apartner.domain.facility.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ohammer.apartner.domain.apartment.entity.Apartment;
+import com.ohammer.apartner.domain.facility.dto.request.FacilityReservationRequestDto;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.support.ConcurrentRunner;
+import com.ohammer.apartner.support.FacilityFixture;
+import com.ohammer.apartner.support.IntegrationTestSupport;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 같은 슬롯에 정원보다 많은 사용자가 동시에 예약해도 정원만큼만 예약되는지 확인
+@Import(FacilityFixture.class)
+class FacilityReservationConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 32;
+    private static final int MAX_CAPACITY = 5;
+
+    @Autowired
+    private FacilityUserService facilityUserService;
+    @Autowired
+    private FacilityFixture fixture;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentReservationsNeverExceedSlotCapacity() throws Exception {
+        Apartment apartment = fixture.apartment("동시성 아파트");
+        FacilityTimeSlot slot = fixture.slot(apartment, MAX_CAPACITY, false);
+        List<Long> userIds = fixture.residents(apartment, THREADS);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentRunner.run(userIds, userId -> {
+            FacilityReservationRequestDto dto = new FacilityReservationRequestDto();
+            dto.setTimeSlotId(slot.getId());
+            try {
+                facilityUserService.reservationFacility(userId, dto);
+                succeeded.incrementAndGet();
+            } catch (IllegalStateException e) {
+                soldOut.incrementAndGet();
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(MAX_CAPACITY);
+        assertThat(soldOut.get()).isEqualTo(THREADS - MAX_CAPACITY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT reserved_count FROM facility_time_slots WHERE id = ?", Integer.class, slot.getId()))
+                .isEqualTo(MAX_CAPACITY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM facility_reservations WHERE facility_time_slot_id = ?", Integer.class, slot.getId()))
+                .isEqualTo(MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ohammer.apartner.domain.vehicle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ohammer.apartner.domain.apartment.entity.Apartment;
+import com.ohammer.apartner.domain.apartment.entity.Building;
+import com.ohammer.apartner.domain.apartment.repository.ApartmentRepository;
+import com.ohammer.apartner.domain.apartment.repository.BuildingRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.vehicle.entity.ParkingZone;
+import com.ohammer.apartner.domain.vehicle.entity.Vehicle;
+import com.ohammer.apartner.domain.vehicle.repository.ParkingZoneRepository;
+import com.ohammer.apartner.support.ConcurrentRunner;
+import com.ohammer.apartner.support.IntegrationTestSupport;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 여러 스레드가 동시에 자리를 배정받아도 같은 자리가 두 번 배정되지 않고 동 한도를 넘지 않는지 확인
+class ParkingSlotAllocationConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 40;
+
+    @Autowired
+    private ParkingSlotService parkingSlotService;
+    @Autowired
+    private ApartmentRepository apartmentRepository;
+    @Autowired
+    private BuildingRepository buildingRepository;
+    @Autowired
+    private ParkingZoneRepository parkingZoneRepository;
+
+    @Test
+    void concurrentAllocationsNeverShareASlot() throws Exception {
+        Apartment apartment = apartmentRepository.save(Apartment.builder().name("배정 아파트").build());
+        ParkingZone zone = saveZone(apartment.getId(), ParkingZone.SlotType.RESIDENT, 10);
+
+        List<ParkingSlotService.Allocation> allocations = allocateConcurrently(apartment.getId(), null);
+
+        List<String> slots = allocations.stream()
+                .filter(ParkingSlotService.Allocation::allocated)
+                .map(a -> a.zoneId() + ":" + a.slotNumber())
+                .toList();
+        assertThat(slots).hasSize(zone.getSlotCount());
+        assertThat(slots).doesNotHaveDuplicates();
+        assertThat(allocations)
+                .filteredOn(a -> a.status() == ParkingSlotService.AllocationStatus.FULL)
+                .hasSize(THREADS - zone.getSlotCount());
+    }
+
+    @Test
+    void concurrentAllocationsRespectPersistedBuildingQuota() throws Exception {
+        Apartment apartment = apartmentRepository.save(Apartment.builder().name("한도 아파트").build());
+        Building building = buildingRepository.save(Building.builder()
+                .apartment(apartment)
+                .buildingNumber("101")
+                .build());
+        saveZone(apartment.getId(), ParkingZone.SlotType.RESIDENT, 20);
+        parkingSlotService.updateBuildingQuota(apartment.getId(), building.getId(), 3);
+
+        List<ParkingSlotService.Allocation> allocations = allocateConcurrently(apartment.getId(), building);
+
+        assertThat(allocations).filteredOn(ParkingSlotService.Allocation::allocated).hasSize(3);
+        assertThat(allocations)
+                .filteredOn(a -> a.status() == ParkingSlotService.AllocationStatus.QUOTA_EXCEEDED)
+                .hasSize(THREADS - 3);
+    }
+
+    private ParkingZone saveZone(Long apartmentId, ParkingZone.SlotType slotType, int slotCount) {
+        return parkingZoneRepository.save(ParkingZone.builder()
+                .apartmentId(apartmentId)
+                .name("A 구역")
+                .slotType(slotType)
+                .slotCount(slotCount)
+                .build());
+    }
+
+    private List<ParkingSlotService.Allocation> allocateConcurrently(Long apartmentId, Building building)
+            throws InterruptedException {
+        List<ParkingSlotService.Allocation> allocations = Collections.synchronizedList(new ArrayList<>());
+        List<Vehicle> vehicles = IntStream.range(0, THREADS)
+                .mapToObj(i -> Vehicle.builder()
+                        .vehicleNum("12가" + (1000 + i))
+                        .isForeign(false)
+                        .user(User.builder().building(building).build())
+                        .build())
+                .toList();
+        ConcurrentRunner.run(vehicles, vehicle -> allocations.add(parkingSlotService.allocate(apartmentId, vehicle)));
+        assertThat(allocations).hasSize(THREADS);
+        return allocations;
+    }
+}
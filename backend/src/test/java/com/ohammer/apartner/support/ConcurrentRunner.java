@@ -0,0 +1,48 @@
+package com.ohammer.apartner.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 입력마다 스레드 하나씩 띄워, 모든 스레드가 준비된 뒤 한 번에 작업을 시작합니다.
+ */
+public final class ConcurrentRunner {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ConcurrentRunner() {
+    }
+
+    public static <T> void run(List<T> inputs, Consumer<T> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(inputs.size());
+        CountDownLatch ready = new CountDownLatch(inputs.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(inputs.size());
+        try {
+            for (T input : inputs) {
+                executor.submit(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                        task.accept(input);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ohammer.apartner.support;
+
+import com.ohammer.apartner.domain.apartment.entity.Apartment;
+import com.ohammer.apartner.domain.apartment.repository.ApartmentRepository;
+import com.ohammer.apartner.domain.facility.entity.Facility;
+import com.ohammer.apartner.domain.facility.entity.FacilityInstructorSchedule;
+import com.ohammer.apartner.domain.facility.entity.FacilityTimeSlot;
+import com.ohammer.apartner.domain.facility.repository.FacilityInstructorScheduleRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityRepository;
+import com.ohammer.apartner.domain.facility.repository.FacilityTimeSlotRepository;
+import com.ohammer.apartner.domain.user.entity.User;
+import com.ohammer.apartner.domain.user.repository.UserRepository;
+import com.ohammer.apartner.global.Status;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 시설 예약 테스트용 데이터 (아파트, 내일 10~11시 슬롯, 입주민).
+ * 테스트 클래스에서 @Import 로 등록해 사용합니다.
+ */
+@TestComponent
+public class FacilityFixture {
+
+    private static final LocalTime START = LocalTime.of(10, 0);
+    private static final LocalTime END = LocalTime.of(11, 0);
+
+    private final ApartmentRepository apartmentRepository;
+    private final FacilityRepository facilityRepository;
+    private final FacilityInstructorScheduleRepository facilityInstructorScheduleRepository;
+    private final FacilityTimeSlotRepository facilityTimeSlotRepository;
+    private final UserRepository userRepository;
+
+    public FacilityFixture(ApartmentRepository apartmentRepository,
+                           FacilityRepository facilityRepository,
+                           FacilityInstructorScheduleRepository facilityInstructorScheduleRepository,
+                           FacilityTimeSlotRepository facilityTimeSlotRepository,
+                           UserRepository userRepository) {
+        this.apartmentRepository = apartmentRepository;
+        this.facilityRepository = facilityRepository;
+        this.facilityInstructorScheduleRepository = facilityInstructorScheduleRepository;
+        this.facilityTimeSlotRepository = facilityTimeSlotRepository;
+        this.userRepository = userRepository;
+    }
+
+    public Apartment apartment(String name) {
+        return apartmentRepository.save(Apartment.builder().name(name).build());
+    }
+
+    // 내일 10~11시, 정원 maxCapacity 인 슬롯 (queueBooking 이면 대기열 예약 슬롯)
+    public FacilityTimeSlot slot(Apartment apartment, long maxCapacity, boolean queueBooking) {
+        Facility facility = facilityRepository.save(Facility.builder()
+                .name("헬스장")
+                .description("동시성 테스트")
+                .openTime(LocalTime.of(6, 0))
+                .closeTime(LocalTime.of(22, 0))
+                .apartment(apartment)
+                .status(Status.ACTIVE)
+                .build());
+        LocalDate date = LocalDate.now().plusDays(1);
+        FacilityInstructorSchedule schedule = facilityInstructorScheduleRepository.save(FacilityInstructorSchedule.builder()
+                .scheduleName("오전")
+                .dayOfWeek(date.getDayOfWeek())
+                .startTime(START)
+                .endTime(END)
+                .capacity(maxCapacity)
+                .slotMinutes(60L)
+                .build());
+        return facilityTimeSlotRepository.save(FacilityTimeSlot.builder()
+                .facility(facility)
+                .schedule(schedule)
+                .date(date)
+                .startTime(START)
+                .endTime(END)
+                .maxCapacity(maxCapacity)
+                .reservedCount(0L)
+                .queueBooking(queueBooking)
+                .build());
+    }
+
+    // 아파트 입주민 count 명의 ID
+    public List<Long> residents(Apartment apartment, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .apartment(apartment)
+                    .userName("입주민" + i)
+                    .email("resident" + i + "-" + System.nanoTime() + "@apartner.site")
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+}
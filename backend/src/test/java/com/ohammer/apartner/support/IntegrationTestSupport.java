@@ -0,0 +1,47 @@
+package com.ohammer.apartner.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySQL, Redis 컨테이너를 띄워 실제 쿼리(네이티브 upsert, 잠금 읽기)와 Lua 스크립트로 확인하는 통합 테스트의 공통 설정.
+ * 컨테이너는 테스트 클래스 전체에서 한 번만 띄웁니다.
+ * 저장소에 없는 application-secret.yml 대신 테스트용 값(메일, S3)을 여기서 넣습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("apartnerdb");
+
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    static {
+        MYSQL.start();
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.mail.username", () -> "test@apartner.site");
+        registry.add("spring.mail.password", () -> "test");
+        registry.add("cloud.aws.credentials.access-key", () -> "test");
+        registry.add("cloud.aws.credentials.secret-key", () -> "test");
+        registry.add("cloud.aws.region.static", () -> "ap-northeast-2");
+        registry.add("cloud.aws.s3.bucket", () -> "apartner-test");
+        registry.add("cloud.aws.stack.auto", () -> "false");
+    }
+}
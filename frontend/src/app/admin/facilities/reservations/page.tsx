@@ -71,7 +71,15 @@ export default function ReservationsPage() {
     'ALL'
   );
   const [facilityFilter, setFacilityFilter] = useState('ALL');
-  const [uniqueFacilities, setUniqueFacilities] = useState<string[]>([]);
+  const [facilities, setFacilities] = useState<
+    { facilityId: number; facilityName: string }[]
+  >([]);
+  // 다음 페이지 커서 (없으면 마지막 페이지)
+  const [nextCursor, setNextCursor] = useState<{
+    startTime: string;
+    id: number;
+  } | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
   const [isDetailModalOpen, setIsDetailModalOpen] = useState(false);
   const [selectedReservation, setSelectedReservation] =
     useState<ReservationDetail | null>(null);
@@ -130,32 +138,70 @@ export default function ReservationsPage() {
     }
   };
 
-  // 예약 목록 조회
-  const fetchReservations = async () => {
+  // 시설 필터 목록 조회 (불러온 예약 페이지와 무관하게 전체 시설)
+  const fetchFacilities = async () => {
     try {
+      const { data } = await client.GET('/api/v1/admin/facilities');
+      if (data) {
+        setFacilities(
+          data.map((item) => ({
+            facilityId: item.facilityId || 0,
+            facilityName: item.facilityName || '',
+          }))
+        );
+      }
+    } catch (error) {
+      toast({
+        variant: 'destructive',
+        title: '오류',
+        description: '시설 목록을 불러오는데 실패했습니다.',
+      });
+    }
+  };
+
+  // 예약 목록 조회 (시설/상태 필터는 서버에서 적용)
+  // cursor 가 없으면 첫 페이지부터 다시, 있으면 다음 페이지를 이어 붙임
+  const fetchReservations = async (cursor?: {
+    startTime: string;
+    id: number;
+  }) => {
+    try {
+      if (cursor) {
+        setIsLoadingMore(true);
+      }
       const { data } = await client.GET(
-        '/api/v1/admin/facilities/reservations' as any,
+        '/api/v1/admin/facilities/reservations',
         {
           params: {
             query: {
-              page: '0',
-              size: '100',
-              sort: 'desc',
+              facilityId:
+                facilityFilter === 'ALL' ? undefined : Number(facilityFilter),
+              status: statusFilter === 'ALL' ? undefined : statusFilter,
+              cursorStartTime: cursor?.startTime,
+              cursorId: cursor?.id,
+              size: 50,
             },
           },
         }
       );
 
       if (data) {
-        setReservations(data);
-        // 고유한 시설명 목록 추출
-        const facilities = [
-          'ALL',
-          ...Array.from(
-            new Set(data.map((item: Reservation) => item.facilityName))
-          ),
-        ] as string[];
-        setUniqueFacilities(facilities);
+        const content: Reservation[] = (data.content ?? []).map((item) => ({
+          reservationId: item.reservationId || 0,
+          applicantName: item.applicantName || '',
+          building: item.building || '',
+          unit: item.unit || '',
+          facilityName: item.facilityName || '',
+          instructorName: item.instructorName || '',
+          reservationDateTime: item.reservationDateTime || '',
+          status: item.status || 'PENDING',
+        }));
+        setReservations((prev) => (cursor ? [...prev, ...content] : content));
+        setNextCursor(
+          data.hasNext && data.nextCursorStartTime && data.nextCursorId
+            ? { startTime: data.nextCursorStartTime, id: data.nextCursorId }
+            : null
+        );
       }
     } catch (error) {
       toast({
@@ -163,6 +209,8 @@ export default function ReservationsPage() {
         title: '오류',
         description: '예약 목록을 불러오는데 실패했습니다.',
       });
+    } finally {
+      setIsLoadingMore(false);
     }
   };
 
@@ -231,7 +279,19 @@ export default function ReservationsPage() {
         description: '예약 상태가 변경되었습니다.',
         duration: 2000,
       });
-      fetchReservations();
+      // 불러온 페이지를 유지하고 바뀐 예약만 갱신 (상태 필터와 맞지 않게 되면 목록에서 제외)
+      setReservations((prev) =>
+        prev
+          .map((reservation) =>
+            reservation.reservationId === reservationId
+              ? { ...reservation, status: newStatus }
+              : reservation
+          )
+          .filter(
+            (reservation) =>
+              statusFilter === 'ALL' || reservation.status === statusFilter
+          )
+      );
     } catch (error) {
       toast({
         variant: 'destructive',
@@ -242,11 +302,15 @@ export default function ReservationsPage() {
     }
   };
 
-  // useEffect 수정
   useEffect(() => {
-    fetchReservations();
+    fetchFacilities();
   }, []);
 
+  // 필터가 바뀌면 첫 페이지부터 다시 조회
+  useEffect(() => {
+    fetchReservations();
+  }, [facilityFilter, statusFilter]);
+
   return (
     <div className="container-fluid p-6 max-w-[2000px] mx-auto">
       {/* 페이지 헤더 */}
@@ -299,13 +363,14 @@ export default function ReservationsPage() {
                 onChange={(e) => setFacilityFilter(e.target.value)}
               >
                 <option value="ALL">전체 시설</option>
-                {uniqueFacilities
-                  .filter((facility) => facility !== 'ALL')
-                  .map((facility) => (
-                    <option key={facility} value={facility}>
-                      {facility}
-                    </option>
-                  ))}
+                {facilities.map((facility) => (
+                  <option
+                    key={facility.facilityId}
+                    value={String(facility.facilityId)}
+                  >
+                    {facility.facilityName}
+                  </option>
+                ))}
               </select>
               <select
                 className="flex h-9 w-[200px] rounded-md border border-input bg-transparent px-3 py-1 text-sm shadow-sm transition-colors placeholder:text-muted-foreground focus:outline-none focus:ring-1 focus:ring-ring disabled:cursor-not-allowed disabled:opacity-50"
@@ -342,20 +407,15 @@ export default function ReservationsPage() {
                 {reservations
                   .filter((reservation) => {
                     const searchLower = reservationSearchTerm.toLowerCase();
-                    const matchesSearch =
+                    // 시설/상태 필터는 서버에서 적용되므로 검색어만 확인
+                    return (
                       reservation.applicantName
                         .toLowerCase()
                         .includes(searchLower) ||
                       formatAddress(reservation.building, reservation.unit)
                         .toLowerCase()
-                        .includes(searchLower);
-                    const matchesStatus =
-                      statusFilter === 'ALL' ||
-                      reservation.status === statusFilter;
-                    const matchesFacility =
-                      facilityFilter === 'ALL' ||
-                      reservation.facilityName === facilityFilter;
-                    return matchesSearch && matchesStatus && matchesFacility;
+                        .includes(searchLower)
+                    );
                   })
                   .map((reservation, index) => (
                     <TableRow key={reservation.reservationId}>
@@ -472,6 +532,17 @@ export default function ReservationsPage() {
               </TableBody>
             </Table>
           </div>
+          {nextCursor && (
+            <div className="flex justify-center mt-4">
+              <Button
+                variant="outline"
+                onClick={() => fetchReservations(nextCursor)}
+                disabled={isLoadingMore}
+              >
+                더 보기
+              </Button>
+            </div>
+          )}
         </CardContent>
       </Card>
 
@@ -140,6 +140,12 @@ export default function FacilitiesPage() {
   const [searchKeyword, setSearchKeyword] = useState('');
   const [loading, setLoading] = useState(false);
   const [reservationsLoading, setReservationsLoading] = useState(false);
+  const [reservationsLoadingMore, setReservationsLoadingMore] = useState(false);
+  // 다음 페이지 커서 (없으면 마지막 페이지)
+  const [reservationsCursor, setReservationsCursor] = useState<{
+    startTime: string;
+    id: number;
+  } | null>(null);
   const [error, setError] = useState<string | null>(null);
   const [reservationsError, setReservationsError] = useState<string | null>(
     null
@@ -207,30 +213,66 @@ export default function FacilitiesPage() {
     }
   }, []);
 
-  const fetchReservations = useCallback(async () => {
-    try {
-      setReservationsLoading(true);
-      setReservationsError(null);
-      const response = await client.GET('/api/v1/facilities/reservations');
-      if (response.data) {
-        const formattedReservations = (response.data as any[]).map((item) => ({
-          reservationId: item.reservationId || 0,
-          facilityName: item.facilityName || '',
-          instructorName: item.instructorName || '',
-          programName: item.programName || '',
-          reservationDateTime: item.reservationDateTime || '',
-          status: item.status || 'PENDING',
-        }));
-        setReservations(formattedReservations);
+  // cursor 가 없으면 첫 페이지부터 다시, 있으면 다음 페이지를 이어 붙임
+  const fetchReservations = useCallback(
+    async (cursor?: { startTime: string; id: number }) => {
+      const setPageLoading = cursor
+        ? setReservationsLoadingMore
+        : setReservationsLoading;
+      try {
+        setPageLoading(true);
+        setReservationsError(null);
+        const response = await client.GET('/api/v1/facilities/reservations', {
+          params: {
+            query: {
+              cursorStartTime: cursor?.startTime,
+              cursorId: cursor?.id,
+              size: 20,
+            },
+          },
+        });
+        if (response.data) {
+          const page = response.data;
+          const formattedReservations: FacilityReservationSimpleUserDto[] = (
+            page.content ?? []
+          ).map((item) => ({
+            reservationId: item.reservationId || 0,
+            facilityName: item.facilityName || '',
+            instructorName: item.instructorName || '',
+            programName: item.programName || '',
+            reservationDateTime: item.reservationDateTime || '',
+            status: item.status || 'PENDING',
+          }));
+          setReservations((prev) =>
+            cursor ? [...prev, ...formattedReservations] : formattedReservations
+          );
+          setReservationsCursor(
+            page.hasNext && page.nextCursorStartTime && page.nextCursorId
+              ? { startTime: page.nextCursorStartTime, id: page.nextCursorId }
+              : null
+          );
+        }
+      } catch (err) {
+        setReservationsError(
+          '예약 내역을 불러오는데 실패했습니다. 잠시 후 다시 시도해주세요.'
+        );
+      } finally {
+        setPageLoading(false);
       }
-    } catch (err) {
-      setReservationsError(
-        '예약 내역을 불러오는데 실패했습니다. 잠시 후 다시 시도해주세요.'
-      );
-    } finally {
-      setReservationsLoading(false);
-    }
-  }, []);
+    },
+    []
+  );
+
+  // 취소한 예약만 상태를 바꿔 불러온 페이지를 유지
+  const markReservationCancelled = (reservationId: number) => {
+    setReservations((prev) =>
+      prev.map((reservation) =>
+        reservation.reservationId === reservationId
+          ? { ...reservation, status: 'CANCEL' }
+          : reservation
+      )
+    );
+  };
 
   const fetchReservationDetail = async (reservationId: number) => {
     try {
@@ -277,7 +319,7 @@ export default function FacilitiesPage() {
       );
 
       setIsCancelModalOpen(false);
-      fetchReservations();
+      markReservationCancelled(cancelReservationId);
 
       // 상태 초기화
       setSelectedCancelReasonType('');
@@ -700,6 +742,21 @@ export default function FacilitiesPage() {
             </table>
           </div>
         )}
+
+        {!reservationsLoading && reservationsCursor && (
+          <div className="flex justify-center mt-4">
+            <Button
+              variant="outline"
+              onClick={() => fetchReservations(reservationsCursor)}
+              disabled={reservationsLoadingMore}
+            >
+              {reservationsLoadingMore && (
+                <Loader2 className="w-4 h-4 mr-2 animate-spin" />
+              )}
+              더 보기
+            </Button>
+          </div>
+        )}
       </div>
     );
   };
@@ -815,7 +872,7 @@ export default function FacilitiesPage() {
         );
 
         setIsCancelModalOpen(false);
-        fetchReservations(); // 예약 목록 새로고침
+        markReservationCancelled(cancelReservationId); // 예약 목록 갱신
 
         // 상태 초기화
         setLocalCancelReasonType('');